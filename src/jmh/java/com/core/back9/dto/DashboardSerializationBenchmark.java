@@ -0,0 +1,103 @@
+package com.core.back9.dto;
+
+import com.core.back9.entity.constant.ContractStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 대시보드 응답 DTO의 JSON 직렬화 비용 (Spring Boot 기본 ObjectMapper 설정과 동일하게 날짜는 문자열로 직렬화)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class DashboardSerializationBenchmark {
+
+	private static final YearMonth SELECTED_MONTH = YearMonth.of(2024, 5);
+
+	@Param({"10", "1000"})
+	private int size; // 호실 수 / 계약 수
+
+	private final ObjectMapper objectMapper = JsonMapper.builder()
+	  .findAndAddModules()
+	  .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+	  .build();
+
+	private ScoreDTO.ListOfYearAvgWithMeAndOthers yearAvgWithMeAndOthers;
+	private List<ScoreDTO.AllAvgByRoom> allAvgByRooms;
+	private ContractDTO.InfoList contractInfoList;
+
+	@Setup
+	public void setUp() {
+		yearAvgWithMeAndOthers = ScoreDTO.ListOfYearAvgWithMeAndOthers.builder()
+		  .my(yearlyAvg())
+		  .others(yearlyAvg())
+		  .build();
+
+		allAvgByRooms = new ArrayList<>(size);
+		List<ContractDTO.Info> infoList = new ArrayList<>(size);
+		LocalDate startDate = LocalDate.of(2024, 1, 1);
+		for (long i = 0; i < size; i++) {
+			allAvgByRooms.add(ScoreDTO.AllAvgByRoom.builder()
+			  .roomId(i)
+			  .roomName("room " + i)
+			  .allAvgByMonthList(yearlyAvg())
+			  .build());
+			infoList.add(ContractDTO.Info.builder()
+			  .id(i)
+			  .startDate(startDate)
+			  .endDate(startDate.plusYears(1).minusDays(1))
+			  .checkOut(startDate.plusYears(1).minusDays(1))
+			  .deposit(100_000_000L)
+			  .rentalPrice(2_000_000L)
+			  .contractStatus(ContractStatus.IN_PROGRESS)
+			  .createdAt(LocalDateTime.of(2023, 12, 1, 10, 0))
+			  .updatedAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+			  .build());
+		}
+		contractInfoList = ContractDTO.InfoList.builder()
+		  .count((long) size)
+		  .infoList(infoList)
+		  .build();
+	}
+
+	@Benchmark
+	public String yearScoresIntervalMonth() throws JsonProcessingException {
+		return objectMapper.writeValueAsString(yearAvgWithMeAndOthers);
+	}
+
+	@Benchmark
+	public String yearScoresOfMyRooms() throws JsonProcessingException {
+		return objectMapper.writeValueAsString(allAvgByRooms);
+	}
+
+	@Benchmark
+	public String contractInfoList() throws JsonProcessingException {
+		return objectMapper.writeValueAsString(contractInfoList);
+	}
+
+	private List<ScoreDTO.AllAvgByMonth> yearlyAvg() {
+		List<ScoreDTO.AllAvgByMonth> allAvgByMonthList = new ArrayList<>(12);
+		for (int i = 0; i < 12; i++) {
+			allAvgByMonthList.add(ScoreDTO.AllAvgByMonth.builder()
+			  .selectedMonth(SELECTED_MONTH.minusMonths(i))
+			  .totalAvg(72.5f)
+			  .evaluationProgress(80f)
+			  .facilityAvg(70f)
+			  .managementAvg(75f)
+			  .complaintAvg(68f)
+			  .build());
+		}
+		return allAvgByMonthList;
+	}
+
+}
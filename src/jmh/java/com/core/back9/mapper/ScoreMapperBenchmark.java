@@ -0,0 +1,81 @@
+package com.core.back9.mapper;
+
+import com.core.back9.dto.ScoreDTO;
+import com.core.back9.entity.Score;
+import com.core.back9.entity.constant.RatingType;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 월별 평균 매핑(toAllAvgWithMonth) - 기존 스트림 5회 순회 방식과 단일 패스 집계 비교
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ScoreMapperBenchmark {
+
+	private static final YearMonth SELECTED_MONTH = YearMonth.of(2024, 5);
+
+	@Param({"1000", "100000"})
+	private int size;
+
+	private final ScoreMapper scoreMapper = Mappers.getMapper(ScoreMapper.class);
+	private List<Score> scores;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		RatingType[] ratingTypes = RatingType.values();
+		scores = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			scores.add(Score.builder()
+			  .score(random.nextInt(4) == 0 ? -1 : random.nextInt(101))
+			  .ratingType(ratingTypes[random.nextInt(ratingTypes.length)])
+			  .build());
+		}
+	}
+
+	@Benchmark
+	public ScoreDTO.AllAvgByMonth singlePass() {
+		return scoreMapper.toAllAvgWithMonth(SELECTED_MONTH, scores);
+	}
+
+	@Benchmark
+	public ScoreDTO.AllAvgByMonth streamPerField() {
+		return ScoreDTO.AllAvgByMonth.builder()
+		  .selectedMonth(SELECTED_MONTH)
+		  .totalAvg(streamTotalAvg(scores))
+		  .evaluationProgress(streamEvaluationProgress(scores))
+		  .facilityAvg(streamScoreTypeAvg(scores, RatingType.FACILITY))
+		  .managementAvg(streamScoreTypeAvg(scores, RatingType.MANAGEMENT))
+		  .complaintAvg(streamScoreTypeAvg(scores, RatingType.COMPLAINT))
+		  .build();
+	}
+
+	/* 이하 단일 패스 집계 도입 이전의 ScoreMapper 계산식 */
+	private static float streamTotalAvg(List<Score> scores) {
+		return (float) scores.stream()
+		  .filter(score -> score.getScore() >= 0)
+		  .mapToInt(Score::getScore).average().orElse(0);
+	}
+
+	private static float streamEvaluationProgress(List<Score> scores) {
+		float completed = scores.stream().filter(score -> score.getScore() >= 0).count();
+		return completed > 0 ? completed / scores.size() * 100 : 0;
+	}
+
+	private static float streamScoreTypeAvg(List<Score> scores, RatingType ratingType) {
+		return (float) scores.stream()
+		  .filter(score -> score.getRatingType() == ratingType)
+		  .mapToInt(Score::getScore)
+		  .average()
+		  .orElse(0);
+	}
+
+}
@@ -0,0 +1,61 @@
+package com.core.back9.service;
+
+import com.core.back9.dto.ScoreDTO;
+import com.core.back9.entity.Score;
+import com.core.back9.entity.constant.RatingType;
+import com.core.back9.mapper.ScoreMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 호실 상세 "나 vs 타호실" 1년 월별 집계 (getYearlyScoreListOfMyOrOthers) - DB 조회를 제외한 집계 비용만 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ScoreServiceBenchmark {
+
+	private static final YearMonth SELECTED_MONTH = YearMonth.of(2024, 5);
+
+	@Param({"100", "10000", "100000"})
+	private int size;
+
+	private ScoreService scoreService;
+	private List<Score> scores;
+
+	@Setup
+	public void setUp() {
+		// 집계 메서드는 mapper만 사용하므로 repository 등은 주입하지 않음
+		scoreService = new ScoreService(null, null, null, null, Mappers.getMapper(ScoreMapper.class), null);
+
+		Random random = new Random(42);
+		RatingType[] ratingTypes = RatingType.values();
+		LocalDateTime from = SELECTED_MONTH.atDay(1).atStartOfDay().minusMonths(14); // 일부는 12개월 범위 밖
+		Field createdAt = ReflectionUtils.findField(Score.class, "createdAt"); // auditing 필드라 setter 없음
+		ReflectionUtils.makeAccessible(createdAt);
+		scores = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			Score score = Score.builder()
+			  .score(random.nextInt(4) == 0 ? -1 : random.nextInt(101))
+			  .ratingType(ratingTypes[random.nextInt(ratingTypes.length)])
+			  .build();
+			ReflectionUtils.setField(createdAt, score, from.plusMinutes(random.nextInt(15 * 31 * 24 * 60)));
+			scores.add(score);
+		}
+	}
+
+	@Benchmark
+	public List<ScoreDTO.AllAvgByMonth> yearlyScoreList() {
+		return scoreService.getYearlyScoreListOfMyOrOthers(SELECTED_MONTH, scores);
+	}
+
+}
@@ -0,0 +1,75 @@
+package com.core.back9.util;
+
+import com.core.back9.entity.Contract;
+import com.core.back9.entity.Room;
+import com.core.back9.entity.constant.ContractType;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 계약 통계(공실률/재계약률) 계산 - 빌딩 내 호실 수에 따른 비용 측정 (호실당 계약 5건)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ContractStatisticsBenchmark {
+
+	private static final int CONTRACTS_PER_ROOM = 5;
+	private static final LocalDate LAST_DATE = LocalDate.of(2024, 12, 31);
+	private static final LocalDate START_DATE = LAST_DATE.minusYears(1).plusDays(1);
+
+	@Param({"10", "100", "1000"})
+	private int roomCount;
+
+	private List<Contract> buildingContracts;
+	private List<Contract> roomContracts;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		buildingContracts = new ArrayList<>(roomCount * CONTRACTS_PER_ROOM);
+		for (int r = 0; r < roomCount; r++) {
+			Room room = Room.builder().name("room " + r).build();
+			LocalDate startDate = LAST_DATE.minusYears(CONTRACTS_PER_ROOM).plusDays(random.nextInt(60));
+			for (int c = 0; c < CONTRACTS_PER_ROOM; c++) {
+				LocalDate endDate = startDate.plusYears(1).minusDays(1);
+				Contract contract = Contract.builder()
+				  .startDate(startDate)
+				  .endDate(endDate)
+				  .deposit(100_000_000L)
+				  .rentalPrice(2_000_000L)
+				  .room(room)
+				  .contractType(c == 0 || random.nextInt(3) == 0 ? ContractType.INITIAL : ContractType.RENEWAL)
+				  .build();
+				contract.contractComplete().contractInProgress();
+				if (c < CONTRACTS_PER_ROOM - 1) {
+					contract.contractExpire();
+				}
+				buildingContracts.add(contract);
+				startDate = endDate.plusDays(1 + random.nextInt(30)); // 공실 기간
+			}
+		}
+		roomContracts = buildingContracts.subList(0, CONTRACTS_PER_ROOM);
+	}
+
+	@Benchmark
+	public double vacancyRate() {
+		return ContractStatistics.vacancyRate(roomContracts, START_DATE, LAST_DATE);
+	}
+
+	@Benchmark
+	public double averageVacancyRate() {
+		return ContractStatistics.averageVacancyRate(buildingContracts, START_DATE, LAST_DATE);
+	}
+
+	@Benchmark
+	public double averageRenewalRate() {
+		return ContractStatistics.averageRenewalRate(buildingContracts, 0L);
+	}
+
+}
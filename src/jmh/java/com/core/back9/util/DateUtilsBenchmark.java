@@ -0,0 +1,46 @@
+package com.core.back9.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 분기 계산 (평가 생성 가능 여부 확인, 분기별 평균 조회 구간 산출에서 요청마다 호출)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class DateUtilsBenchmark {
+
+	private final DateUtils dateUtils = new DateUtils(LocalDate.of(2024, 5, 15));
+	private final LocalDate[] dates = new LocalDate[366];
+
+	@Setup
+	public void setUp() {
+		LocalDate date = LocalDate.of(2024, 1, 1);
+		for (int i = 0; i < dates.length; i++) {
+			dates[i] = date.plusDays(i);
+		}
+	}
+
+	@Benchmark
+	public void quarterOfDate(Blackhole blackhole) {
+		for (LocalDate date : dates) {
+			blackhole.consume(dateUtils.getQuarter(date));
+		}
+	}
+
+	@Benchmark
+	public int quarterOfToday() {
+		return dateUtils.getQuarter();
+	}
+
+	@Benchmark
+	public LocalDateTime[] startDayAndEndDayOfQuarter() {
+		return dateUtils.getStartDayAndEndDayByYearAndQuarter(2024, dateUtils.getQuarter());
+	}
+
+}
@@ -0,0 +1,50 @@
+package com.core.back9.loadtest;
+
+import java.util.Arrays;
+
+/*
+ * 경로별 응답 시간 수집 (nano 단위 원본 값을 보관하여 종료 시 정렬 후 백분위 계산)
+ */
+class LatencyRecorder {
+
+	private long[] samples = new long[1_024];
+	private int count;
+	private int errors;
+
+	synchronized void record(long elapsedNanos, boolean success) {
+		if (count == samples.length) {
+			samples = Arrays.copyOf(samples, samples.length * 2);
+		}
+		samples[count++] = elapsedNanos;
+		if (!success) {
+			errors++;
+		}
+	}
+
+	synchronized Summary summarize() {
+		long[] sorted = Arrays.copyOf(samples, count);
+		Arrays.sort(sorted);
+		return new Summary(count, errors,
+		  percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 95), percentile(sorted, 99),
+		  count == 0 ? 0 : toMillis(sorted[count - 1]));
+	}
+
+	/*
+	 * nearest-rank 방식
+	 */
+	private static double percentile(long[] sorted, int percentile) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+		return toMillis(sorted[Math.max(rank, 1) - 1]);
+	}
+
+	private static double toMillis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+
+	record Summary(int count, int errors, double p50, double p90, double p95, double p99, double max) {
+	}
+
+}
@@ -0,0 +1,45 @@
+package com.core.back9.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * --key=value 형식의 실행 인자
+ */
+class LoadTestArguments {
+
+	private final Map<String, String> values = new HashMap<>();
+
+	LoadTestArguments(String[] args) {
+		for (String arg : args) {
+			if (!arg.startsWith("--") || !arg.contains("=")) {
+				throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다: " + arg);
+			}
+			int separator = arg.indexOf('=');
+			values.put(arg.substring(2, separator), arg.substring(separator + 1));
+		}
+	}
+
+	String getString(String key, String defaultValue) {
+		return values.getOrDefault(key, defaultValue);
+	}
+
+	int getInt(String key, int defaultValue) {
+		return values.containsKey(key) ? Integer.parseInt(values.get(key)) : defaultValue;
+	}
+
+	long getLong(String key, long defaultValue) {
+		return values.containsKey(key) ? Long.parseLong(values.get(key)) : defaultValue;
+	}
+
+	Duration getDuration(String key, Duration defaultValue) {
+		return values.containsKey(key) ? Duration.parse(values.get(key)) : defaultValue;
+	}
+
+	Path getPath(String key, String defaultValue) {
+		return Path.of(getString(key, defaultValue));
+	}
+
+}
@@ -0,0 +1,18 @@
+package com.core.back9.loadtest;
+
+import java.util.List;
+
+/*
+ * 데이터 생성 결과 - 부하 발생기가 로그인 계정과 조회 대상 id를 알 수 있도록 JSON 파일로 저장
+ */
+record LoadTestManifest(
+  long seed,
+  String password,
+  List<Owner> owners,
+  List<String> userEmails
+) {
+
+	record Owner(String email, long buildingId, List<Long> roomIds) {
+	}
+
+}
@@ -0,0 +1,251 @@
+package com.core.back9.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/*
+ * 부하 발생기
+ * - SyntheticDataGenerator가 만든 manifest의 계정으로 로그인한 뒤, 실제 엔드포인트를 가중치 비율로 호출
+ * - warmup 이후 구간만 집계하여 경로별 처리량 / 오류 수 / 응답 시간 백분위(p50, p90, p95, p99, max)를 출력
+ */
+public class LoadTestRunner {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private final HttpClient httpClient;
+	private final String baseUrl;
+	private final List<Route> routes;
+	private final Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+
+	LoadTestRunner(HttpClient httpClient, String baseUrl) {
+		this.httpClient = httpClient;
+		this.baseUrl = baseUrl;
+		this.routes = routes();
+		routes.forEach(route -> recorders.put(route.name(), new LatencyRecorder()));
+	}
+
+	public static void main(String[] args) throws Exception {
+		LoadTestArguments arguments = new LoadTestArguments(args);
+		String baseUrl = arguments.getString("base-url", "http://localhost:8080");
+		int concurrency = arguments.getInt("concurrency", 16);
+		Duration warmup = arguments.getDuration("warmup", Duration.ofSeconds(10));
+		Duration duration = arguments.getDuration("duration", Duration.ofMinutes(1));
+		long seed = arguments.getLong("seed", 42L);
+		int maxSessions = arguments.getInt("max-sessions", 200);
+
+		LoadTestManifest manifest = OBJECT_MAPPER.readValue(
+		  arguments.getPath("manifest", SyntheticDataGenerator.DEFAULT_MANIFEST).toFile(), LoadTestManifest.class);
+
+		HttpClient httpClient = HttpClient.newBuilder()
+		  .connectTimeout(Duration.ofSeconds(5))
+		  .build();
+
+		LoadTestRunner runner = new LoadTestRunner(httpClient, baseUrl);
+		List<Session> owners = runner.signIn(manifest, true, maxSessions);
+		List<Session> users = runner.signIn(manifest, false, maxSessions);
+		System.out.printf("로그인 완료: owner=%d, user=%d%n", owners.size(), users.size());
+		if (owners.isEmpty() && users.isEmpty()) {
+			throw new IllegalStateException("로그인 가능한 계정이 없습니다. manifest와 서버 데이터베이스를 확인하세요.");
+		}
+
+		ExecutorService workers = Executors.newFixedThreadPool(concurrency); // HttpClient 내부 executor와 분리 (블로킹 send 교착 방지)
+		runner.run(workers, owners, users, concurrency, seed, warmup, duration);
+		workers.shutdownNow();
+		runner.report(duration);
+	}
+
+	/*
+	 * 대시보드 진입 시 한꺼번에 호출되는 조회 API 비중을 높게, 입주자 앱 조회는 그 다음 비중으로 설정
+	 */
+	private static List<Route> routes() {
+		LocalDate today = LocalDate.now();
+		int quarter = (today.getMonthValue() - 1) / 3 + 1;
+		String yearAndQuarter = "?year=" + today.getYear() + "&quarter=" + quarter;
+		YearMonth yearMonth = YearMonth.from(today);
+
+		return List.of(
+		  Route.owner("GET /api/buildings/{b}/my-quarterly-score", 10, s -> "/api/buildings/" + s.buildingId() + "/my-quarterly-score" + yearAndQuarter),
+		  Route.owner("GET /api/buildings/{b}/my-rooms-quarterly-score", 10, s -> "/api/buildings/" + s.buildingId() + "/my-rooms-quarterly-score" + yearAndQuarter),
+		  Route.owner("GET /api/buildings/{b}/my-rooms-year-score", 8, s -> "/api/buildings/" + s.buildingId() + "/my-rooms-year-score"),
+		  Route.owner("GET /api/buildings/{b}/dashboard", 8, s -> "/api/buildings/" + s.buildingId() + "/dashboard"),
+		  Route.owner("GET /api/buildings/{b}/rooms", 6, s -> "/api/buildings/" + s.buildingId() + "/rooms"),
+		  Route.owner("GET /api/buildings/{b}/rooms/{r}/yearly-score-interval-month", 8,
+		    s -> "/api/buildings/" + s.buildingId() + "/rooms/" + s.randomRoomId() + "/yearly-score-interval-month?yearMonth=" + yearMonth),
+		  Route.owner("GET /api/buildings/{b}/rooms/{r}/contracts/statistic", 6,
+		    s -> "/api/buildings/" + s.buildingId() + "/rooms/" + s.randomRoomId() + "/contracts/statistic"),
+		  Route.owner("GET /api/buildings/{b}/complaint-analytics", 5, s -> "/api/buildings/" + s.buildingId() + "/complaint-analytics"),
+		  Route.owner("GET /app/complaints/received/cursor", 5, s -> "/app/complaints/received/cursor?buildingId=" + s.buildingId() + "&size=20"),
+		  Route.user("GET /app/alarms/is-new", 15, s -> "/app/alarms/is-new"),
+		  Route.user("GET /app/alarms", 8, s -> "/app/alarms"),
+		  Route.user("GET /app/members/info", 6, s -> "/app/members/info"),
+		  Route.user("GET /app/scores", 8, s -> "/app/scores"),
+		  Route.user("GET /app/complaints", 7, s -> "/app/complaints")
+		);
+	}
+
+	List<Session> signIn(LoadTestManifest manifest, boolean owner, int maxSessions) throws InterruptedException {
+		List<Session> sessions = new ArrayList<>();
+		if (owner) {
+			for (LoadTestManifest.Owner account : manifest.owners()) {
+				if (sessions.size() == maxSessions) {
+					break;
+				}
+				signIn("/public-api/sign-in/owner", account.email(), manifest.password())
+				  .ifPresent(token -> sessions.add(new Session(token, account.buildingId(), account.roomIds())));
+			}
+			return sessions;
+		}
+
+		for (String email : manifest.userEmails()) {
+			if (sessions.size() == maxSessions) {
+				break;
+			}
+			// 계약이 만료된 입주사의 사용자는 로그인에 실패할 수 있으므로 건너뜀
+			signIn("/public-api/sign-in/user", email, manifest.password())
+			  .ifPresent(token -> sessions.add(new Session(token, 0L, List.of())));
+		}
+		return sessions;
+	}
+
+	private Optional<String> signIn(String path, String email, String password) throws InterruptedException {
+		try {
+			String body = OBJECT_MAPPER.writeValueAsString(Map.of("email", email, "password", password));
+			HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+			  .header("Content-Type", "application/json")
+			  .POST(HttpRequest.BodyPublishers.ofString(body))
+			  .build(), HttpResponse.BodyHandlers.ofString());
+			if (response.statusCode() != 200) {
+				return Optional.empty();
+			}
+			JsonNode token = OBJECT_MAPPER.readTree(response.body()).get("token");
+			return Optional.ofNullable(token).map(JsonNode::asText);
+		} catch (IOException e) {
+			return Optional.empty();
+		}
+	}
+
+	void run(ExecutorService executor, List<Session> owners, List<Session> users, int concurrency, long seed,
+	         Duration warmup, Duration duration) throws InterruptedException {
+		long measureFrom = System.nanoTime() + warmup.toNanos();
+		long deadline = measureFrom + duration.toNanos();
+
+		List<Route> available = routes.stream()
+		  .filter(route -> !(route.owner() ? owners : users).isEmpty())
+		  .toList();
+		int availableWeight = available.stream().mapToInt(Route::weight).sum();
+
+		for (int worker = 0; worker < concurrency; worker++) {
+			Random random = new Random(seed + worker); // 워커별 시드 고정 -> 같은 요청 순서 재현
+			executor.execute(() -> {
+				while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+					Route route = pick(available, availableWeight, random);
+					List<Session> sessions = route.owner() ? owners : users;
+					Session session = sessions.get(random.nextInt(sessions.size()));
+					call(route, session.withRandom(random), measureFrom);
+				}
+			});
+		}
+
+		long waitMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()) + 30_000;
+		executor.shutdown();
+		if (!executor.awaitTermination(waitMillis, TimeUnit.MILLISECONDS)) {
+			System.out.println("제한 시간 내 종료되지 않은 요청이 있습니다.");
+		}
+	}
+
+	private static Route pick(List<Route> routes, int totalWeight, Random random) {
+		int point = random.nextInt(totalWeight);
+		for (Route route : routes) {
+			point -= route.weight();
+			if (point < 0) {
+				return route;
+			}
+		}
+		return routes.get(routes.size() - 1);
+	}
+
+	private void call(Route route, Session session, long measureFrom) {
+		HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + route.path().apply(session)))
+		  .header("Authorization", "Bearer " + session.token())
+		  .timeout(Duration.ofSeconds(30))
+		  .GET()
+		  .build();
+
+		long startedAt = System.nanoTime();
+		boolean success;
+		try {
+			int statusCode = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+			success = statusCode < 400; // 304 Not Modified 포함
+		} catch (IOException e) {
+			success = false;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+
+		if (startedAt >= measureFrom) {
+			recorders.get(route.name()).record(System.nanoTime() - startedAt, success);
+		}
+	}
+
+	void report(Duration duration) {
+		double seconds = duration.toMillis() / 1_000.0;
+		System.out.printf("%n%-64s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+		  "route", "count", "errors", "rps", "p50(ms)", "p90(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+
+		int totalCount = 0;
+		int totalErrors = 0;
+		for (Map.Entry<String, LatencyRecorder> entry : recorders.entrySet()) {
+			LatencyRecorder.Summary summary = entry.getValue().summarize();
+			totalCount += summary.count();
+			totalErrors += summary.errors();
+			System.out.printf("%-64s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+			  entry.getKey(), summary.count(), summary.errors(), summary.count() / seconds,
+			  summary.p50(), summary.p90(), summary.p95(), summary.p99(), summary.max());
+		}
+		System.out.printf("%-64s %9d %7d %9.1f%n", "total", totalCount, totalErrors, totalCount / seconds);
+	}
+
+	record Route(String name, int weight, boolean owner, Function<Session, String> path) {
+
+		static Route owner(String name, int weight, Function<Session, String> path) {
+			return new Route(name, weight, true, path);
+		}
+
+		static Route user(String name, int weight, Function<Session, String> path) {
+			return new Route(name, weight, false, path);
+		}
+
+	}
+
+	record Session(String token, long buildingId, List<Long> roomIds, Random random) {
+
+		Session(String token, long buildingId, List<Long> roomIds) {
+			this(token, buildingId, roomIds, null);
+		}
+
+		Session withRandom(Random random) {
+			return new Session(token, buildingId, roomIds, random);
+		}
+
+		long randomRoomId() {
+			return roomIds.get(random.nextInt(roomIds.size()));
+		}
+
+	}
+
+}
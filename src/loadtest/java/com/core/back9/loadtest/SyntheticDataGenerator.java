@@ -0,0 +1,413 @@
+package com.core.back9.loadtest;
+
+import com.core.back9.entity.constant.*;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.*;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+
+/*
+ * 시드 기반 합성 데이터 생성기
+ * - 빌딩 N개 x 호실 M개 x K년 분량의 계약 / 입주사 / 사용자 / 평가 / 민원 / 알림을 batch insert
+ * - 애플리케이션이 증분 갱신하는 값(미확인 알림 수, 민원 집계)은 생성한 데이터 기준으로 함께 계산
+ * - 같은 시드와 같은 기준일이면 같은 데이터가 생성된다 (--today 로 기준일 고정)
+ * - 스키마는 Flyway 마이그레이션으로 미리 생성되어 있어야 한다
+ * - MySQL은 rewriteBatchedStatements=true 옵션을 권장
+ */
+public class SyntheticDataGenerator {
+
+	static final String DEFAULT_MANIFEST = "build/loadtest/manifest.json";
+	static final String DEFAULT_PASSWORD = "loadtest1234";
+
+	private static final int USERS_PER_TENANT = 2;
+	private static final double RENEWAL_PROBABILITY = 0.6;
+	private static final double COMPLAINT_PROBABILITY_PER_MONTH = 0.3;
+	// 민원 집계 누적 배열의 위치 (complaint_metrics 컬럼 순서)
+	private static final int RECEIVED_COUNT = 0;
+	private static final int COMPLETED_COUNT = 1;
+	private static final int REJECTED_COUNT = 2;
+	private static final int RESOLUTION_SECONDS_SUM = 3;
+	private static final int LE_1H_COUNT = 4;
+	private static final int LE_1D_COUNT = 5;
+	private static final int LE_3D_COUNT = 6;
+	private static final int LE_7D_COUNT = 7;
+	private static final int OVER_7D_COUNT = 8;
+	private static final int METRIC_COLUMNS = 9;
+	private static final String[] TABLES = {
+	  "buildings", "members", "tenants", "settings", "rooms", "contracts", "scores", "complaints", "alarms", "complaint_metrics"
+	};
+
+	private final Connection connection;
+	private final Random random;
+	private final long seed;
+	private final int batchSize;
+	private final LocalDate today;
+	private final String passwordHash;
+	private final Map<String, Long> nextIds = new HashMap<>();
+	private final Map<String, BatchInsert> inserts = new LinkedHashMap<>();
+
+	private final List<LoadTestManifest.Owner> owners = new ArrayList<>();
+	private final List<String> userEmails = new ArrayList<>();
+	private final Map<Long, Long> roomBuildingIds = new HashMap<>();
+	private final Map<RoomMonth, long[]> complaintMetrics = new LinkedHashMap<>();
+
+	SyntheticDataGenerator(Connection connection, long seed, int batchSize, LocalDate today) throws SQLException {
+		this.connection = connection;
+		this.random = new Random(seed);
+		this.seed = seed;
+		this.batchSize = batchSize;
+		this.today = today;
+		this.passwordHash = new BCryptPasswordEncoder().encode(DEFAULT_PASSWORD); // 해시 비용이 크므로 모든 계정이 같은 해시를 공유
+
+		for (String table : TABLES) {
+			nextIds.put(table, selectMaxId(table) + 1);
+		}
+		prepare("buildings", "id, created_at, updated_at, name, address, zip_code, status");
+		prepare("building_dashboard_versions", "building_id, version");
+		prepare("tenants", "id, created_at, updated_at, name, company_number, status");
+		prepare("members", "id, created_at, updated_at, email, role, phone_number, status, tenant_id, password");
+		prepare("settings", "id, created_at, updated_at, rating_toggle, status, encourage_message");
+		prepare("rooms", "id, created_at, updated_at, name, floor, area, rating, building_id, member_id, status, room_usage, setting_id, represent");
+		prepare("buildings_room_list", "building_id, room_list_id");
+		prepare("contracts", "id, created_at, updated_at, start_date, end_date, check_out, deposit, rental_price, contract_status, room_id, tenant_id, status, contract_type");
+		prepare("scores", "id, created_at, updated_at, score, comment, bookmark, rating_type, room_id, tenant_member_id, status");
+		prepare("complaints", "id, created_at, updated_at, room_id, member_id, complaint_message, status, complaint_status, completed_message");
+		prepare("alarms", "id, created_at, updated_at, received_id, alarm_type, read_status, status, alarm_title, alarm_message");
+		prepare("complaint_metrics", "id, created_at, updated_at, room_id, building_id, metric_month, received_count, completed_count, "
+		  + "rejected_count, resolution_seconds_sum, le_1h_count, le_1d_count, le_3d_count, le_7d_count, over_7d_count");
+	}
+
+	public static void main(String[] args) throws Exception {
+		LoadTestArguments arguments = new LoadTestArguments(args);
+		String url = arguments.getString("url", "jdbc:h2:file:./build/loadtest/back9;MODE=MySQL");
+		int buildings = arguments.getInt("buildings", 10);
+		int rooms = arguments.getInt("rooms", 20);
+		int years = arguments.getInt("years", 3);
+		long seed = arguments.getLong("seed", 42L);
+		int batchSize = arguments.getInt("batch-size", 1_000);
+		LocalDate today = LocalDate.parse(arguments.getString("today", LocalDate.now().toString()));
+		Path manifestPath = arguments.getPath("manifest", DEFAULT_MANIFEST);
+
+		long startedAt = System.nanoTime();
+		try (Connection connection = DriverManager.getConnection(url, arguments.getString("username", "sa"), arguments.getString("password", ""))) {
+			connection.setAutoCommit(false);
+			SyntheticDataGenerator generator = new SyntheticDataGenerator(connection, seed, batchSize, today);
+			LoadTestManifest manifest = generator.generate(buildings, rooms, years);
+			if (url.startsWith("jdbc:h2:")) {
+				generator.restartH2Identities();
+			}
+			connection.commit();
+			generator.writeManifest(manifest, manifestPath);
+		}
+
+		System.out.printf("데이터 생성 완료: buildings=%d, rooms=%d, years=%d, seed=%d (%d ms), manifest=%s%n",
+		  buildings, rooms, years, seed, (System.nanoTime() - startedAt) / 1_000_000, manifestPath.toAbsolutePath());
+	}
+
+	LoadTestManifest generate(int buildingCount, int roomCount, int years) throws SQLException {
+		for (int b = 0; b < buildingCount; b++) {
+			generateBuilding(b, roomCount, years);
+		}
+		insertComplaintMetrics();
+		flushAll();
+		updateUnreadAlarmCounts();
+		for (BatchInsert insert : inserts.values()) {
+			System.out.printf("  %-20s %,d rows%n", insert.table, insert.total);
+		}
+		return new LoadTestManifest(seed, DEFAULT_PASSWORD, owners, userEmails);
+	}
+
+	private void generateBuilding(int b, int roomCount, int years) throws SQLException {
+		LocalDateTime createdAt = today.minusYears(years).atStartOfDay().minusDays(30);
+		long buildingId = nextId("buildings");
+		insert("buildings", buildingId, createdAt, createdAt,
+		  "building-" + seed + "-" + b, "서울특별시 가상구 부하로 " + (b + 1), String.format("%05d", random.nextInt(100_000)),
+		  Status.REGISTER.name());
+		insert("building_dashboard_versions", buildingId, 0L);
+
+		String ownerEmail = "owner-" + seed + "-" + b + "@loadtest.back9";
+		long ownerId = nextId("members");
+		insert("members", ownerId, createdAt, createdAt, ownerEmail, Role.OWNER.name(), phoneNumber(), Status.REGISTER.name(), null, passwordHash);
+
+		List<Long> roomIds = new ArrayList<>(roomCount);
+		for (int r = 0; r < roomCount; r++) {
+			long settingId = nextId("settings");
+			insert("settings", settingId, createdAt, createdAt, random.nextBoolean(), Status.REGISTER.name(), null);
+
+			long roomId = nextId("rooms");
+			Usage usage = Usage.values()[random.nextInt(Usage.values().length)];
+			insert("rooms", roomId, createdAt, createdAt, (r / 10 + 1) + "0" + (r % 10 + 1) + "호", String.valueOf(r / 10 + 1),
+			  30f + random.nextInt(200), 0f, buildingId, ownerId, Status.REGISTER.name(), usage.name(), settingId, r == 0);
+			insert("buildings_room_list", buildingId, roomId);
+			roomIds.add(roomId);
+			roomBuildingIds.put(roomId, buildingId);
+
+			generateContracts(roomId, ownerId, years);
+		}
+		owners.add(new LoadTestManifest.Owner(ownerEmail, buildingId, roomIds));
+	}
+
+	/*
+	 * 호실 계약 이력: 최초 계약 -> (확률적으로) 재계약 반복 -> 공실 기간 후 새로운 입주사
+	 */
+	private void generateContracts(long roomId, long ownerId, int years) throws SQLException {
+		LocalDate startDate = today.minusYears(years).plusDays(random.nextInt(60));
+		long tenantId = 0;
+		List<Long> memberIds = List.of();
+		boolean renewal = false;
+
+		while (!startDate.isAfter(today)) {
+			if (!renewal) {
+				tenantId = nextId("tenants");
+				LocalDateTime tenantCreatedAt = startDate.minusDays(7).atStartOfDay();
+				insert("tenants", tenantId, tenantCreatedAt, tenantCreatedAt, "tenant-" + seed + "-" + tenantId,
+				  String.format("%03d-%02d-%05d", random.nextInt(1000), random.nextInt(100), random.nextInt(100_000)), Status.REGISTER.name());
+				memberIds = generateUsers(tenantId, tenantCreatedAt);
+			}
+
+			LocalDate endDate = startDate.plusYears(1).minusDays(1);
+			ContractStatus contractStatus = endDate.isBefore(today) ? ContractStatus.EXPIRED : ContractStatus.IN_PROGRESS;
+			LocalDateTime contractCreatedAt = startDate.minusDays(7).atStartOfDay();
+			long deposit = (50 + random.nextInt(150)) * 1_000_000L;
+			insert("contracts", nextId("contracts"), contractCreatedAt, contractCreatedAt, startDate, endDate, endDate,
+			  deposit, deposit / 50, contractStatus.name(), roomId, tenantId, Status.REGISTER.name(),
+			  (renewal ? ContractType.RENEWAL : ContractType.INITIAL).name());
+
+			generateActivities(roomId, ownerId, memberIds, startDate, endDate.isBefore(today) ? endDate : today);
+
+			renewal = random.nextDouble() < RENEWAL_PROBABILITY;
+			startDate = renewal ? endDate.plusDays(1) : endDate.plusDays(1 + random.nextInt(90)); // 재계약이 아니면 공실 기간 후 새로운 입주사
+		}
+	}
+
+	private List<Long> generateUsers(long tenantId, LocalDateTime createdAt) throws SQLException {
+		List<Long> memberIds = new ArrayList<>(USERS_PER_TENANT);
+		for (int u = 0; u < USERS_PER_TENANT; u++) {
+			long memberId = nextId("members");
+			String email = "user-" + seed + "-" + memberId + "@loadtest.back9";
+			insert("members", memberId, createdAt, createdAt, email, Role.USER.name(), phoneNumber(), Status.REGISTER.name(), tenantId, passwordHash);
+			memberIds.add(memberId);
+			userEmails.add(email);
+		}
+		return memberIds;
+	}
+
+	/*
+	 * 계약 기간 동안의 평가 / 민원 / 알림
+	 * - 관리 평가는 매월, 시설 평가는 분기 첫 달, 민원 평가는 민원이 있었던 달에 생성
+	 * - 이번 달 평가는 아직 진행 전(-1)으로 남겨 평가 진행률이 100%가 되지 않도록 함
+	 */
+	private void generateActivities(long roomId, long ownerId, List<Long> memberIds, LocalDate from, LocalDate to) throws SQLException {
+		YearMonth currentMonth = YearMonth.from(today);
+		for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1)) {
+			LocalDateTime at = month.atDay(1 + random.nextInt(month.lengthOfMonth())).atTime(9 + random.nextInt(9), random.nextInt(60));
+			if (at.toLocalDate().isAfter(today)) {
+				at = today.atTime(9, 0);
+			}
+			boolean pending = month.equals(currentMonth);
+
+			boolean complained = random.nextDouble() < COMPLAINT_PROBABILITY_PER_MONTH;
+			if (complained) {
+				generateComplaint(roomId, ownerId, memberIds.get(random.nextInt(memberIds.size())), at, pending);
+			}
+
+			for (long memberId : memberIds) {
+				insertScore(RatingType.MANAGEMENT, roomId, memberId, at, pending);
+				if ((month.getMonthValue() - 1) % 3 == 0) {
+					insertScore(RatingType.FACILITY, roomId, memberId, at, pending);
+				}
+				if (complained) {
+					insertScore(RatingType.COMPLAINT, roomId, memberId, at, pending);
+				}
+			}
+		}
+	}
+
+	private void insertScore(RatingType ratingType, long roomId, long memberId, LocalDateTime at, boolean pending) throws SQLException {
+		int score = pending ? -1 : Math.min(100, Math.max(0, (int) Math.round(70 + random.nextGaussian() * 15)));
+		insert("scores", nextId("scores"), at, at, score, pending ? "" : "평가 " + score, random.nextInt(20) == 0,
+		  ratingType.name(), roomId, memberId, Status.REGISTER.name());
+	}
+
+	private void generateComplaint(long roomId, long ownerId, long memberId, LocalDateTime at, boolean recent) throws SQLException {
+		ComplaintStatus complaintStatus = recent
+		  ? ComplaintStatus.values()[random.nextInt(3)] // PENDING, RECEIVED, IN_PROGRESS
+		  : (random.nextInt(10) == 0 ? ComplaintStatus.REJECTED : ComplaintStatus.COMPLETED);
+		LocalDateTime updatedAt = recent ? at : at.plusDays(1 + random.nextInt(5));
+		String completedMessage = complaintStatus == ComplaintStatus.COMPLETED ? "처리 완료되었습니다." : null;
+		insert("complaints", nextId("complaints"), at, updatedAt, roomId, memberId, "민원 내용 " + random.nextInt(1000),
+		  Status.REGISTER.name(), complaintStatus.name(), completedMessage);
+		recordComplaintMetric(roomId, complaintStatus, at, updatedAt);
+
+		insertAlarm(ownerId, AlarmType.COMPLAINT_PENDING, at, !recent);
+		if (complaintStatus != ComplaintStatus.PENDING) {
+			insertAlarm(memberId, AlarmType.valueOf("COMPLAINT_" + complaintStatus.name()), updatedAt, !recent && random.nextBoolean());
+		}
+	}
+
+	/*
+	 * ComplaintMetricService와 같은 기준으로 호실 / 월 집계 누적
+	 * - 접수 : 등록한 월, 완료 / 반려 : 처리한 월(updated_at)에 처리 시간(초)과 분포 구간을 함께 집계
+	 */
+	private void recordComplaintMetric(long roomId, ComplaintStatus complaintStatus, LocalDateTime createdAt, LocalDateTime updatedAt) {
+		metric(roomId, createdAt)[RECEIVED_COUNT]++;
+		if (complaintStatus != ComplaintStatus.COMPLETED && complaintStatus != ComplaintStatus.REJECTED) {
+			return;
+		}
+
+		long seconds = Duration.between(createdAt, updatedAt).getSeconds();
+		long[] resolved = metric(roomId, updatedAt);
+		resolved[complaintStatus == ComplaintStatus.COMPLETED ? COMPLETED_COUNT : REJECTED_COUNT]++;
+		resolved[RESOLUTION_SECONDS_SUM] += seconds;
+		if (seconds <= 3_600) {
+			resolved[LE_1H_COUNT]++;
+		} else if (seconds <= 86_400) {
+			resolved[LE_1D_COUNT]++;
+		} else if (seconds <= 259_200) {
+			resolved[LE_3D_COUNT]++;
+		} else if (seconds <= 604_800) {
+			resolved[LE_7D_COUNT]++;
+		} else {
+			resolved[OVER_7D_COUNT]++;
+		}
+	}
+
+	private long[] metric(long roomId, LocalDateTime at) {
+		return complaintMetrics.computeIfAbsent(new RoomMonth(roomId, at.getYear() * 100 + at.getMonthValue()), key -> new long[METRIC_COLUMNS]);
+	}
+
+	/* 민원을 직접 insert 했으므로 애플리케이션이 민원 등록 / 처리 시 갱신하는 민원 집계(complaint_metrics)를 함께 저장 */
+	private void insertComplaintMetrics() throws SQLException {
+		LocalDateTime now = today.atStartOfDay();
+		for (Map.Entry<RoomMonth, long[]> entry : complaintMetrics.entrySet()) {
+			RoomMonth key = entry.getKey();
+			long[] m = entry.getValue();
+			insert("complaint_metrics", nextId("complaint_metrics"), now, now, key.roomId(), roomBuildingIds.get(key.roomId()), key.metricMonth(),
+			  m[RECEIVED_COUNT], m[COMPLETED_COUNT], m[REJECTED_COUNT], m[RESOLUTION_SECONDS_SUM],
+			  m[LE_1H_COUNT], m[LE_1D_COUNT], m[LE_3D_COUNT], m[LE_7D_COUNT], m[OVER_7D_COUNT]);
+		}
+	}
+
+	private void insertAlarm(long receivedId, AlarmType alarmType, LocalDateTime at, boolean read) throws SQLException {
+		insert("alarms", nextId("alarms"), at, at, receivedId, alarmType.name(), read, Status.REGISTER.name(),
+		  alarmType.name(), "합성 알림 메시지");
+	}
+
+	private String phoneNumber() {
+		return String.format("010-%04d-%04d", random.nextInt(10_000), random.nextInt(10_000));
+	}
+
+	private long nextId(String table) {
+		return nextIds.merge(table, 1L, Long::sum) - 1;
+	}
+
+	private long selectMaxId(String table) throws SQLException {
+		try (Statement statement = connection.createStatement();
+		     ResultSet resultSet = statement.executeQuery("select coalesce(max(id), 0) from " + table)) {
+			resultSet.next();
+			return resultSet.getLong(1);
+		}
+	}
+
+	/* 알림을 직접 insert 했으므로 회원별 미확인 알림 수(members.unread_alarm_count)를 다시 계산 */
+	private void updateUnreadAlarmCounts() throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.executeUpdate("""
+			  update members m
+			  set unread_alarm_count = (select count(*) from alarms a
+			                            where a.received_id = m.id and a.read_status = false and a.status = 'REGISTER')
+			  """);
+		}
+	}
+
+	/*
+	 * 명시적으로 id를 넣었으므로 H2의 identity 시작값을 이후 값으로 맞춰 애플리케이션의 insert와 충돌하지 않게 함
+	 */
+	private void restartH2Identities() throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			for (String table : TABLES) {
+				statement.execute("alter table " + table + " alter column id restart with " + nextIds.get(table));
+			}
+		}
+	}
+
+	private void writeManifest(LoadTestManifest manifest, Path path) throws IOException {
+		path.toAbsolutePath().getParent().toFile().mkdirs();
+		JsonMapper.builder()
+		  .enable(SerializationFeature.INDENT_OUTPUT)
+		  .build()
+		  .writeValue(path.toFile(), manifest);
+	}
+
+	private void prepare(String table, String columns) throws SQLException {
+		inserts.put(table, new BatchInsert(table, columns));
+	}
+
+	private void insert(String table, Object... values) throws SQLException {
+		if (inserts.get(table).add(values) >= batchSize) {
+			flushAll();
+		}
+	}
+
+	/*
+	 * 외래 키 순서(prepare 순서)대로 모든 테이블을 함께 flush
+	 */
+	private void flushAll() throws SQLException {
+		for (BatchInsert insert : inserts.values()) {
+			insert.flush();
+		}
+	}
+
+	private record RoomMonth(long roomId, int metricMonth) {
+	}
+
+	private class BatchInsert {
+
+		private final String table;
+		private final PreparedStatement statement;
+		private int pending;
+		private long total;
+
+		private BatchInsert(String table, String columns) throws SQLException {
+			this.table = table;
+			String placeholders = String.join(", ", Collections.nCopies(columns.split(",").length, "?"));
+			this.statement = connection.prepareStatement("insert into " + table + " (" + columns + ") values (" + placeholders + ")");
+		}
+
+		private int add(Object... values) throws SQLException {
+			for (int i = 0; i < values.length; i++) {
+				statement.setObject(i + 1, toJdbcValue(values[i]));
+			}
+			statement.addBatch();
+			total++;
+			return ++pending;
+		}
+
+		private void flush() throws SQLException {
+			if (pending > 0) {
+				statement.executeBatch();
+				pending = 0;
+			}
+		}
+
+		private Object toJdbcValue(Object value) {
+			if (value instanceof LocalDateTime dateTime) {
+				return Timestamp.valueOf(dateTime);
+			}
+			if (value instanceof LocalDate date) {
+				return Date.valueOf(date);
+			}
+			return value;
+		}
+
+	}
+
+}
@@ -0,0 +1,110 @@
+package com.core.back9.batch.history;
+
+import com.core.back9.dto.BatchDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Component
+public class BatchExecutionHistory {
+
+    private static final int LOOKUP_INSTANCE_COUNT = 30; // 최근 실행 이력만 확인 (RunIdIncrementer로 인스턴스가 계속 쌓이기 때문)
+
+    private static final String EXECUTION_SUMMARY_QUERY = """
+            SELECT e.JOB_EXECUTION_ID, i.JOB_NAME, e.STATUS, e.EXIT_CODE, e.START_TIME, e.END_TIME,
+                   COALESCE(SUM(s.READ_COUNT), 0) AS READ_COUNT, COALESCE(SUM(s.WRITE_COUNT), 0) AS WRITE_COUNT
+            FROM BATCH_JOB_EXECUTION e
+            JOIN BATCH_JOB_INSTANCE i ON i.JOB_INSTANCE_ID = e.JOB_INSTANCE_ID
+            LEFT JOIN BATCH_STEP_EXECUTION s ON s.JOB_EXECUTION_ID = e.JOB_EXECUTION_ID
+            %s
+            GROUP BY e.JOB_EXECUTION_ID, i.JOB_NAME, e.STATUS, e.EXIT_CODE, e.START_TIME, e.END_TIME
+            ORDER BY e.JOB_EXECUTION_ID DESC
+            LIMIT ? OFFSET ?
+            """;
+
+    private static final String EXECUTION_COUNT_QUERY = """
+            SELECT COUNT(*)
+            FROM BATCH_JOB_EXECUTION e
+            JOIN BATCH_JOB_INSTANCE i ON i.JOB_INSTANCE_ID = e.JOB_INSTANCE_ID
+            %s
+            """;
+
+    private static final String JOB_NAME_CONDITION = "WHERE i.JOB_NAME = ?";
+
+    private final JobExplorer jobExplorer;
+    private final JdbcTemplate jdbcTemplate;
+
+    /* 정상 완료된 마지막 실행의 기준 시각(job parameter "time") 조회 */
+    public Optional<LocalDateTime> findLastCompletedRunTime(String jobName) {
+        return jobExplorer.getJobInstances(jobName, 0, LOOKUP_INSTANCE_COUNT).stream()
+                .flatMap(jobInstance -> jobExplorer.getJobExecutions(jobInstance).stream())
+                .filter(jobExecution -> jobExecution.getStatus() == BatchStatus.COMPLETED)
+                .map(this::getRunTime)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder());
+    }
+
+    public boolean isRunning(String jobName) {
+        return !jobExplorer.findRunningJobExecutions(jobName).isEmpty();
+    }
+
+    /* 최근 실행 이력 요약 (job 단위, step 처리 건수 합산) - JobExplorer는 job 이름별 조회만 지원하므로 메타 테이블을 직접 조회 */
+    public BatchDTO.ExecutionPage findExecutions(String jobName, int page, int size) {
+        String condition = jobName != null ? JOB_NAME_CONDITION : "";
+
+        List<Object> params = new ArrayList<>();
+        if (jobName != null) {
+            params.add(jobName);
+        }
+        Long totalElements = jdbcTemplate.queryForObject(EXECUTION_COUNT_QUERY.formatted(condition), Long.class, params.toArray());
+
+        params.add(size);
+        params.add((long) page * size);
+        List<BatchDTO.ExecutionSummary> executions = jdbcTemplate.query(EXECUTION_SUMMARY_QUERY.formatted(condition), executionSummaryMapper(), params.toArray());
+
+        return BatchDTO.ExecutionPage.builder()
+                .page(page)
+                .size(size)
+                .totalElements(totalElements != null ? totalElements : 0)
+                .executions(executions)
+                .build();
+    }
+
+    private RowMapper<BatchDTO.ExecutionSummary> executionSummaryMapper() {
+        return (rs, rowNum) -> {
+            LocalDateTime startTime = rs.getObject("START_TIME", LocalDateTime.class);
+            LocalDateTime endTime = rs.getObject("END_TIME", LocalDateTime.class);
+
+            return BatchDTO.ExecutionSummary.builder()
+                    .executionId(rs.getLong("JOB_EXECUTION_ID"))
+                    .jobName(rs.getString("JOB_NAME"))
+                    .status(rs.getString("STATUS"))
+                    .exitCode(rs.getString("EXIT_CODE"))
+                    .startTime(startTime)
+                    .endTime(endTime)
+                    .durationMillis(startTime != null && endTime != null ? Duration.between(startTime, endTime).toMillis() : null)
+                    .readCount(rs.getLong("READ_COUNT"))
+                    .writeCount(rs.getLong("WRITE_COUNT"))
+                    .build();
+        };
+    }
+
+    private LocalDateTime getRunTime(JobExecution jobExecution) {
+        LocalDateTime time = jobExecution.getJobParameters().getLocalDateTime("time");
+        return time != null ? time : jobExecution.getStartTime(); // 수동 실행 등으로 time 파라미터가 없는 경우 시작 시각 사용
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.core.back9.batch.job;
+
+import com.core.back9.batch.listener.BatchMetricsListener;
+import com.core.back9.batch.property.BatchProperty;
+import com.core.back9.batch.tasklet.AlarmArchiveTasklet;
+import com.core.back9.batch.tasklet.AlarmPartitionTasklet;
+import com.core.back9.batch.tasklet.AlarmPurgeTasklet;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.support.DefaultBatchConfiguration;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+/*
+ * 알림 보관 배치
+ * 1. 보관 기간이 지난 확인 알림을 alarms_archive로 이동
+ * 2. 삭제 처리된 알림 실제 삭제
+ * 3. (선택, MySQL) 월별 파티션 미리 생성
+ */
+@Configuration
+@Getter
+@Slf4j
+public class AlarmRetentionBatchJob extends DefaultBatchConfiguration implements BatchConfig {
+
+    private final BatchProperty batchProperty;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final BatchMetricsListener batchMetricsListener;
+    private final Duration archiveAfter;
+    private final int chunkSize;
+    private final boolean partitionEnabled;
+    private final int partitionMonthsAhead;
+
+    public AlarmRetentionBatchJob(
+            @Qualifier("alarmRetentionBatchProperty") BatchProperty batchProperty,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            BatchMetricsListener batchMetricsListener,
+            @Value("${alarm.retention.archive-after:P90D}") Duration archiveAfter,
+            @Value("${alarm.retention.chunk-size:1000}") int chunkSize,
+            @Value("${alarm.retention.partition.enabled:false}") boolean partitionEnabled,
+            @Value("${alarm.retention.partition.months-ahead:3}") int partitionMonthsAhead
+    ) {
+        this.batchProperty = batchProperty;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.batchMetricsListener = batchMetricsListener;
+        this.archiveAfter = archiveAfter;
+        this.chunkSize = chunkSize;
+        this.partitionEnabled = partitionEnabled;
+        this.partitionMonthsAhead = partitionMonthsAhead;
+    }
+
+    @Override
+    public String getIdentifier() {
+        return "alarmRetentionBatchConfig";
+    }
+
+    @Bean("alarmRetention")
+    @Override
+    public Job createJob(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new JobBuilder(batchProperty.getJobName(), jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(executeStep(jobRepository, transactionManager))
+                .next(purgeStep(jobRepository, transactionManager))
+                .next(partitionStep(jobRepository, transactionManager))
+                .build();
+    }
+
+    @Override
+    public Step executeStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("alarmArchiveStep", jobRepository)
+                .tasklet(new AlarmArchiveTasklet(namedParameterJdbcTemplate, archiveAfter, chunkSize), transactionManager)
+                .listener(batchMetricsListener)
+                .build();
+    }
+
+    public Step purgeStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("alarmPurgeStep", jobRepository)
+                .tasklet(new AlarmPurgeTasklet(namedParameterJdbcTemplate, chunkSize), transactionManager)
+                .listener(batchMetricsListener)
+                .build();
+    }
+
+    public Step partitionStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("alarmPartitionStep", jobRepository)
+                .tasklet(new AlarmPartitionTasklet(namedParameterJdbcTemplate.getJdbcTemplate(), partitionEnabled, partitionMonthsAhead), transactionManager)
+                .listener(batchMetricsListener)
+                .build();
+    }
+
+}
@@ -1,9 +1,12 @@
 package com.core.back9.batch.job;
 
+import com.core.back9.batch.listener.BatchMetricsListener;
 import com.core.back9.batch.tasklet.ContractExpireTasklet;
 import com.core.back9.batch.tasklet.ContractInProgressTasklet;
 import com.core.back9.batch.property.BatchProperty;
 import com.core.back9.repository.ContractRepository;
+import com.core.back9.service.AlarmService;
+import com.core.back9.service.DashboardVersionService;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -27,10 +30,22 @@ public class ContractBatchJob extends DefaultBatchConfiguration implements Batch
 
     private final BatchProperty batchProperty;
     private final ContractRepository contractRepository;
+    private final AlarmService alarmService;
+    private final DashboardVersionService dashboardVersionService;
+    private final BatchMetricsListener batchMetricsListener;
 
-    public ContractBatchJob(@Qualifier("contractBatchProperty") BatchProperty batchProperty, ContractRepository contractRepository) {
+    public ContractBatchJob(
+            @Qualifier("contractBatchProperty") BatchProperty batchProperty,
+            ContractRepository contractRepository,
+            AlarmService alarmService,
+            DashboardVersionService dashboardVersionService,
+            BatchMetricsListener batchMetricsListener
+    ) {
         this.batchProperty = batchProperty;
         this.contractRepository = contractRepository;
+        this.alarmService = alarmService;
+        this.dashboardVersionService = dashboardVersionService;
+        this.batchMetricsListener = batchMetricsListener;
     }
 
     @Override
@@ -55,7 +70,8 @@ public class ContractBatchJob extends DefaultBatchConfiguration implements Batch
         transactionAttribute.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
 
         return new StepBuilder("contractStep : update ContractStatus COMPLETE --> IN_PROGRESS", jobRepository)
-                .tasklet(new ContractInProgressTasklet(contractRepository), transactionManager) // 생성한 tasklet 부착
+                .tasklet(new ContractInProgressTasklet(contractRepository, alarmService, dashboardVersionService), transactionManager) // 생성한 tasklet 부착
+                .listener(batchMetricsListener)
                 .build();
     }
 
@@ -64,7 +80,8 @@ public class ContractBatchJob extends DefaultBatchConfiguration implements Batch
         transactionAttribute.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
 
         return new StepBuilder("contractStep : update ContractStatus IN_PROGRESS --> EXPIRED", jobRepository)
-                .tasklet(new ContractExpireTasklet(contractRepository), transactionManager) // 생성한 tasklet 부착
+                .tasklet(new ContractExpireTasklet(contractRepository, alarmService, dashboardVersionService), transactionManager) // 생성한 tasklet 부착
+                .listener(batchMetricsListener)
                 .build();
     }
 
@@ -1,10 +1,12 @@
 package com.core.back9.batch.job;
 
 
+import com.core.back9.batch.listener.BatchMetricsListener;
 import com.core.back9.batch.property.BatchProperty;
 import com.core.back9.batch.tasklet.ManagementScoreTasklet;
 import com.core.back9.repository.ContractRepository;
 import com.core.back9.repository.ScoreRepository;
+import com.core.back9.service.DashboardVersionService;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -27,11 +29,15 @@ public class ManagementScoreBatchJob extends DefaultBatchConfiguration implement
     private final BatchProperty batchProperty;
     private final ContractRepository contractRepository;
     private final ScoreRepository scoreRepository;
+    private final DashboardVersionService dashboardVersionService;
+    private final BatchMetricsListener batchMetricsListener;
 
-    public ManagementScoreBatchJob(@Qualifier("managementScoreBatchProperty") BatchProperty batchProperty, ContractRepository contractRepository, ScoreRepository scoreRepository) {
+    public ManagementScoreBatchJob(@Qualifier("managementScoreBatchProperty") BatchProperty batchProperty, ContractRepository contractRepository, ScoreRepository scoreRepository, DashboardVersionService dashboardVersionService, BatchMetricsListener batchMetricsListener) {
         this.batchProperty = batchProperty;
         this.contractRepository = contractRepository;
         this.scoreRepository = scoreRepository;
+        this.dashboardVersionService = dashboardVersionService;
+        this.batchMetricsListener = batchMetricsListener;
     }
 
     @Override
@@ -53,7 +59,8 @@ public class ManagementScoreBatchJob extends DefaultBatchConfiguration implement
     @Override
     public Step executeStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
         Step step = new StepBuilder("managementScoreStep", jobRepository)
-                .tasklet(new ManagementScoreTasklet(contractRepository, scoreRepository), transactionManager)
+                .tasklet(new ManagementScoreTasklet(contractRepository, scoreRepository, dashboardVersionService), transactionManager)
+                .listener(batchMetricsListener)
                 .build();
 
         return step;
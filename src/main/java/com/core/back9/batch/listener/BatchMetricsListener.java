@@ -0,0 +1,67 @@
+package com.core.back9.batch.listener;
+
+import com.core.back9.common.jfr.BatchStepEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/* 모든 배치 step의 처리 건수, 소요 시간, 실패 여부를 Micrometer로 기록 (JFR 기록 중이면 step 구간 이벤트도 기록) */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BatchMetricsListener implements StepExecutionListener {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Long, BatchStepEvent> stepEvents = new ConcurrentHashMap<>();
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        String jobName = stepExecution.getJobExecution().getJobInstance().getJobName();
+        BatchStepEvent event = BatchStepEvent.begin(jobName, stepExecution.getStepName());
+        if (event.isEnabled()) {
+            stepEvents.put(stepExecution.getId(), event);
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        String jobName = stepExecution.getJobExecution().getJobInstance().getJobName();
+        BatchStepEvent event = stepEvents.remove(stepExecution.getId());
+        if (event != null) {
+            event.end(stepExecution.getStatus().name(), stepExecution.getReadCount(), stepExecution.getWriteCount());
+        }
+        Tags stepTags = Tags.of("job", jobName, "step", stepExecution.getStepName());
+        Tags tags = stepTags.and("status", stepExecution.getStatus().name());
+
+        if (stepExecution.getStartTime() != null) { // afterStep 시점에는 endTime이 아직 기록되지 않음
+            Duration duration = Duration.between(stepExecution.getStartTime(), LocalDateTime.now());
+            Timer.builder("batch.step.duration")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(duration);
+        }
+
+        meterRegistry.counter("batch.step.read", tags).increment(stepExecution.getReadCount());
+        meterRegistry.counter("batch.step.write", tags).increment(stepExecution.getWriteCount());
+
+        if (stepExecution.getStatus() == BatchStatus.FAILED || !stepExecution.getFailureExceptions().isEmpty()) {
+            meterRegistry.counter("batch.step.failure", stepTags).increment();
+            log.error("[{}] step 실패 - {}", stepExecution.getStepName(), stepExecution.getFailureExceptions());
+        }
+
+        return stepExecution.getExitStatus();
+    }
+
+}
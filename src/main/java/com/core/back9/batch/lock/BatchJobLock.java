@@ -0,0 +1,59 @@
+package com.core.back9.batch.lock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/*
+ * batch_job_locks 테이블 행 단위 잠금 (인스턴스 간 배타 실행)
+ * - 만료된 잠금은 조건부 update로, 처음 사용하는 이름은 insert로 획득 (PK 충돌 시 다른 인스턴스가 먼저 획득한 것)
+ * - 인스턴스가 비정상 종료되어 unlock 하지 못해도 lockAtMost 이후에는 다른 인스턴스가 획득 가능
+ */
+@Slf4j
+@Component
+public class BatchJobLock {
+
+    private static final String UPDATE_EXPIRED_QUERY = """
+            UPDATE batch_job_locks SET locked_until = ?, locked_at = ?, locked_by = ?
+            WHERE lock_name = ? AND locked_until <= ?
+            """;
+    private static final String INSERT_QUERY = """
+            INSERT INTO batch_job_locks (lock_name, locked_until, locked_at, locked_by) VALUES (?, ?, ?, ?)
+            """;
+    private static final String UNLOCK_QUERY = """
+            UPDATE batch_job_locks SET locked_until = ? WHERE lock_name = ? AND locked_by = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String owner;
+
+    public BatchJobLock(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.owner = ManagementFactory.getRuntimeMXBean().getName(); // pid@hostname
+    }
+
+    public boolean tryLock(String lockName, Duration lockAtMost) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockedUntil = now.plus(lockAtMost);
+
+        if (jdbcTemplate.update(UPDATE_EXPIRED_QUERY, lockedUntil, now, owner, lockName, now) > 0) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_QUERY, lockName, lockedUntil, now, owner) > 0;
+        } catch (DuplicateKeyException e) {
+            log.info("[{}] 다른 인스턴스가 잠금을 보유 중입니다.", lockName);
+            return false;
+        }
+    }
+
+    public void unlock(String lockName) {
+        jdbcTemplate.update(UNLOCK_QUERY, LocalDateTime.now(), lockName, owner);
+    }
+
+}
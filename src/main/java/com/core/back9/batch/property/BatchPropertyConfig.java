@@ -8,7 +8,7 @@ public class BatchPropertyConfig {
 
     @Bean("contractBatchProperty")
     public BatchProperty contractBatchProperty() {
-        return new BatchProperty("contractJob", true, "0 0 0 1 1 *"); // 매년 1월 1일
+        return new BatchProperty("contractJob", true, "0 0 0 * * *"); // 매일 0시 (마지막 실행 이후 시작/종료일이 도래한 계약만 처리)
     }
 
     @Bean("facilityScoreBatchProperty")
@@ -21,4 +21,9 @@ public class BatchPropertyConfig {
         return new BatchProperty("managementScoreJob", true, "0 0 0 1 * ?"); // 매월 1일 0시
     }
 
+    @Bean("alarmRetentionBatchProperty")
+    public BatchProperty alarmRetentionBatchProperty() {
+        return new BatchProperty("alarmRetentionJob", true, "0 30 3 * * *"); // 매일 3시 30분 (확인 알림 보관, 삭제 알림 정리)
+    }
+
 }
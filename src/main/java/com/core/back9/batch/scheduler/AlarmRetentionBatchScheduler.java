@@ -0,0 +1,22 @@
+package com.core.back9.batch.scheduler;
+
+import com.core.back9.batch.job.BatchConfig;
+import com.core.back9.batch.job.BatchConfigFactory;
+import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AlarmRetentionBatchScheduler extends BatchScheduler {
+
+    public AlarmRetentionBatchScheduler(JobLauncher jobLauncher, JobRegistry jobRegistry, BatchConfigFactory batchConfigFactory) {
+        super(jobLauncher, jobRegistry, batchConfigFactory);
+
+        BatchConfig batchConfig = batchConfigFactory.getBatchConfig("alarmRetentionBatchConfig");
+
+        if (batchConfig.getBatchProperty().isJobEnabled()) {
+            startScheduler(batchConfig.getIdentifier());
+        }
+    }
+
+}
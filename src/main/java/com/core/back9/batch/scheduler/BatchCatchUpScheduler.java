@@ -0,0 +1,160 @@
+package com.core.back9.batch.scheduler;
+
+import com.core.back9.batch.history.BatchExecutionHistory;
+import com.core.back9.batch.job.BatchConfig;
+import com.core.back9.batch.lock.BatchJobLock;
+import com.core.back9.batch.property.BatchProperty;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/*
+ * 서버가 내려가 있던 동안(배포 등) 실행되지 못한 cron 배치를 기동 시점에 보정 실행
+ * 마지막 정상 실행 이후 도래한 가장 최근 실행 시점 1회분만 실행한다 (평가 생성 tasklet은 실행 시점의 계약 기준으로 동작하므로 누락 횟수만큼 반복할 필요 없음)
+ * - 정상 완료 이력이 없는 job은 first-run-lookback 기간 안에 도래한 실행 시점을 누락으로 판단
+ * - 여러 인스턴스가 동시에 기동해도 batch_job_locks 잠금을 획득한 인스턴스만 실행하며, 잠금 획득 후 완료 이력을 다시 확인
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BatchCatchUpScheduler {
+
+    private static final int MAX_CRON_ITERATION = 10_000; // 장기간 중단 시 무한 탐색 방지
+
+    private final List<BatchConfig> batchConfigs;
+    private final BatchExecutionHistory batchExecutionHistory;
+    private final JobLauncher jobLauncher;
+    private final JobRegistry jobRegistry;
+    private final BatchJobLock batchJobLock;
+
+    private final ThreadPoolTaskScheduler catchUpScheduler = createScheduler();
+
+    @Value("${batch.catch-up.enabled:true}")
+    private boolean enabled;
+
+    @Value("${batch.catch-up.initial-delay:PT5M}")
+    private Duration initialDelay; // 기동 직후 트래픽(헬스체크, 워밍업)과 겹치지 않도록 지연
+
+    @Value("${batch.catch-up.interval:PT1M}")
+    private Duration interval; // 보정 실행 간 간격
+
+    @Value("${batch.catch-up.first-run-lookback:P7D}")
+    private Duration firstRunLookback; // 완료 이력이 없는 job의 누락 판단 기간
+
+    @Value("${batch.catch-up.lock-at-most:PT1H}")
+    private Duration lockAtMost; // 잠금을 보유한 인스턴스가 비정상 종료된 경우 잠금 만료 시간
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+
+        Instant startAt = Instant.now().plus(initialDelay);
+        int order = 0;
+
+        for (BatchConfig batchConfig : batchConfigs) {
+            BatchProperty batchProperty = batchConfig.getBatchProperty();
+            if (!batchProperty.isJobEnabled()) {
+                continue;
+            }
+
+            Optional<LocalDateTime> missedFireTime = findMissedFireTime(batchProperty);
+
+            if (missedFireTime.isPresent()) {
+                log.info("[{}] 누락된 실행 감지 - 예정 시각: {}", batchProperty.getJobName(), missedFireTime.get());
+                Instant runAt = startAt.plus(interval.multipliedBy(order++));
+                catchUpScheduler.schedule(() -> launchWithLock(batchProperty, missedFireTime.get()), runAt);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        catchUpScheduler.shutdown();
+    }
+
+    private Optional<LocalDateTime> findMissedFireTime(BatchProperty batchProperty) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lastRunTime = batchExecutionHistory.findLastCompletedRunTime(batchProperty.getJobName())
+                .orElse(now.minus(firstRunLookback));
+        return findMissedFireTime(batchProperty.getCronExpression(), lastRunTime, now);
+    }
+
+    /* 마지막 실행 이후 현재까지 도래한 cron 실행 시점 중 가장 최근 시점 (없으면 empty) */
+    public static Optional<LocalDateTime> findMissedFireTime(String cronExpression, LocalDateTime lastRunTime, LocalDateTime now) {
+        CronExpression cron = CronExpression.parse(cronExpression);
+
+        LocalDateTime missed = null;
+        LocalDateTime next = cron.next(lastRunTime);
+        int iteration = 0;
+
+        while (next != null && !next.isAfter(now) && iteration++ < MAX_CRON_ITERATION) {
+            missed = next;
+            next = cron.next(next);
+        }
+
+        return Optional.ofNullable(missed);
+    }
+
+    private void launchWithLock(BatchProperty batchProperty, LocalDateTime fireTime) {
+        String lockName = "catch-up:" + batchProperty.getJobName();
+        if (!batchJobLock.tryLock(lockName, lockAtMost)) {
+            log.info("[{}] 다른 인스턴스가 보정 실행 중이어서 생략합니다.", batchProperty.getJobName());
+            return;
+        }
+        try {
+            if (findMissedFireTime(batchProperty).filter(missed -> !missed.isBefore(fireTime)).isEmpty()) {
+                log.info("[{}] 다른 인스턴스에서 이미 보정 실행되었습니다.", batchProperty.getJobName());
+                return;
+            }
+            launch(batchProperty.getJobName(), fireTime);
+        } finally {
+            batchJobLock.unlock(lockName);
+        }
+    }
+
+    private void launch(String jobName, LocalDateTime fireTime) {
+        if (batchExecutionHistory.isRunning(jobName)) { // 정규 스케줄이 이미 실행 중이면 보정 생략
+            log.info("[{}] 실행 중인 job이 있어 보정 실행을 생략합니다.", jobName);
+            return;
+        }
+
+        try {
+            Job job = jobRegistry.getJob(jobName);
+            JobParametersBuilder jobParam = new JobParametersBuilder()
+                    .addLocalDateTime("time", fireTime)
+                    .addString("trigger", "catch-up", false);
+            jobLauncher.run(job, jobParam.toJobParameters());
+            log.info("[{}] 보정 실행 완료 - 기준 시각: {}", jobName, fireTime);
+        } catch (Exception e) {
+            log.error("[{}] 보정 실행 실패 - {}", jobName, e.getMessage());
+        }
+    }
+
+    private static ThreadPoolTaskScheduler createScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1); // 보정 실행끼리도 겹치지 않도록 단일 스레드에서 순차 실행
+        scheduler.setThreadNamePrefix("batch-catch-up-");
+        scheduler.setDaemon(true); // 예약만 된 보정 실행이 JVM 종료를 막지 않도록 함
+        scheduler.initialize();
+        return scheduler;
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.core.back9.batch.tasklet;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+ * 보관 기간(archiveAfter)이 지난 확인 알림을 alarms_archive로 이동
+ * - chunkSize 건씩 반복 실행하며, 반복마다 별도 트랜잭션으로 커밋 (RepeatStatus.CONTINUABLE)
+ * - 미확인 알림은 그대로 두므로 마지막으로 처리한 id를 step 실행 컨텍스트에 저장하여 다음 조회에서 건너뜀
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AlarmArchiveTasklet implements Tasklet {
+
+    private static final String LAST_ID = "lastArchivedId";
+
+    private static final String SELECT_TARGET_IDS = """
+            SELECT id FROM alarms
+            WHERE id > :lastId
+            AND read_status = TRUE
+            AND status = 'REGISTER'
+            AND created_at < :cutoff
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE
+            """;
+
+    private static final String INSERT_ARCHIVE = """
+            INSERT INTO alarms_archive (id, created_at, updated_at, received_id, alarm_type, read_status, status, alarm_title, alarm_message, archived_at)
+            SELECT id, created_at, updated_at, received_id, alarm_type, read_status, status, alarm_title, alarm_message, :archivedAt
+            FROM alarms
+            WHERE id IN (:ids)
+            """;
+
+    private static final String DELETE_ALARMS = "DELETE FROM alarms WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Duration archiveAfter;
+    private final int chunkSize;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        ExecutionContext executionContext = contribution.getStepExecution().getExecutionContext();
+        LocalDateTime time = contribution.getStepExecution().getJobParameters().getLocalDateTime("time", LocalDateTime.now());
+
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_TARGET_IDS, new MapSqlParameterSource()
+                .addValue("lastId", executionContext.getLong(LAST_ID, 0L))
+                .addValue("cutoff", time.minus(archiveAfter))
+                .addValue("limit", chunkSize), Long.class);
+        if (ids.isEmpty()) {
+            return RepeatStatus.FINISHED;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("archivedAt", time);
+        jdbcTemplate.update(INSERT_ARCHIVE, params);
+        int deleted = jdbcTemplate.update(DELETE_ALARMS, params);
+
+        ids.forEach(id -> contribution.incrementReadCount());
+        contribution.incrementWriteCount(deleted);
+        executionContext.putLong(LAST_ID, ids.get(ids.size() - 1));
+        log.info("[alarmArchive] {}건 이동 (마지막 id: {})", deleted, ids.get(ids.size() - 1));
+
+        return RepeatStatus.continueIf(ids.size() == chunkSize);
+    }
+
+}
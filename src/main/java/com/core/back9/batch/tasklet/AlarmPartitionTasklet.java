@@ -0,0 +1,92 @@
+package com.core.back9.batch.tasklet;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * (MySQL, 월별 파티션 적용 시) 이번 달부터 monthsAhead 개월 뒤까지의 alarms 파티션을 미리 생성
+ * - 파티션 전환은 db/partition/mysql-alarms-monthly-partition.sql 로 직접 적용하며, 파티션이 없는 테이블이면 아무것도 하지 않음
+ * - 마지막 경계 이후의 p_future(MAXVALUE) 파티션을 월 단위로 나눔
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AlarmPartitionTasklet implements Tasklet {
+
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final DateTimeFormatter BOUNDARY_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String SELECT_PARTITION_COUNT = """
+            SELECT COUNT(*) FROM information_schema.PARTITIONS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'alarms' AND PARTITION_NAME = ?
+            """;
+
+    private static final String SELECT_LAST_BOUNDARY = """
+            SELECT FROM_UNIXTIME(MAX(CAST(PARTITION_DESCRIPTION AS UNSIGNED)))
+            FROM information_schema.PARTITIONS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'alarms' AND PARTITION_DESCRIPTION <> 'MAXVALUE'
+            """;
+
+    private static final String REORGANIZE_FUTURE_PARTITION = """
+            ALTER TABLE alarms REORGANIZE PARTITION p_future INTO (
+                PARTITION %s VALUES LESS THAN (UNIX_TIMESTAMP('%s')),
+                PARTITION p_future VALUES LESS THAN MAXVALUE
+            )
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int monthsAhead;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        if (!enabled || !isPartitioned()) {
+            return RepeatStatus.FINISHED;
+        }
+
+        LocalDateTime lastBoundary = jdbcTemplate.queryForObject(SELECT_LAST_BOUNDARY, LocalDateTime.class);
+        LocalDate time = contribution.getStepExecution().getJobParameters().getLocalDateTime("time", LocalDateTime.now()).toLocalDate();
+
+        for (MonthlyPartition partition : planPartitions(lastBoundary, time, monthsAhead)) {
+            jdbcTemplate.execute(REORGANIZE_FUTURE_PARTITION.formatted(partition.name(), partition.upperBound().format(BOUNDARY_FORMAT)));
+            contribution.incrementWriteCount(1);
+            log.info("[alarmPartition] {} 파티션 생성 (< {})", partition.name(), partition.upperBound());
+        }
+
+        return RepeatStatus.FINISHED;
+    }
+
+    private boolean isPartitioned() {
+        Integer count = jdbcTemplate.queryForObject(SELECT_PARTITION_COUNT, Integer.class, FUTURE_PARTITION);
+        return count != null && count > 0;
+    }
+
+    /* 마지막 경계가 속한 달부터 (기준일의 달 + monthsAhead)까지 한 달 단위 파티션 */
+    static List<MonthlyPartition> planPartitions(LocalDateTime lastBoundary, LocalDate today, int monthsAhead) {
+        LocalDateTime end = today.withDayOfMonth(1).plusMonths(monthsAhead + 1L).atStartOfDay();
+        LocalDateTime start = lastBoundary != null ? lastBoundary : today.withDayOfMonth(1).atStartOfDay();
+
+        List<MonthlyPartition> partitions = new ArrayList<>();
+        while (start.isBefore(end)) {
+            LocalDateTime next = start.toLocalDate().withDayOfMonth(1).plusMonths(1).atStartOfDay();
+            partitions.add(new MonthlyPartition(start.format(PARTITION_NAME_FORMAT), next));
+            start = next;
+        }
+        return partitions;
+    }
+
+    record MonthlyPartition(String name, LocalDateTime upperBound) {
+    }
+
+}
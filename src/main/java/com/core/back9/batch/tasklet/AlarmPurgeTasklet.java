@@ -0,0 +1,56 @@
+package com.core.back9.batch.tasklet;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+
+/* 삭제 처리된(UNREGISTER) 알림을 chunkSize 건씩 실제 삭제 - 미확인 알림 수는 삭제 처리 시점에 이미 반영됨 */
+@Slf4j
+@RequiredArgsConstructor
+public class AlarmPurgeTasklet implements Tasklet {
+
+    private static final String LAST_ID = "lastPurgedId";
+
+    private static final String SELECT_TARGET_IDS = """
+            SELECT id FROM alarms
+            WHERE id > :lastId
+            AND status = 'UNREGISTER'
+            ORDER BY id
+            LIMIT :limit
+            """;
+
+    private static final String DELETE_ALARMS = "DELETE FROM alarms WHERE id IN (:ids) AND status = 'UNREGISTER'";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        ExecutionContext executionContext = contribution.getStepExecution().getExecutionContext();
+
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_TARGET_IDS, new MapSqlParameterSource()
+                .addValue("lastId", executionContext.getLong(LAST_ID, 0L))
+                .addValue("limit", chunkSize), Long.class);
+        if (ids.isEmpty()) {
+            return RepeatStatus.FINISHED;
+        }
+
+        int deleted = jdbcTemplate.update(DELETE_ALARMS, new MapSqlParameterSource("ids", ids));
+
+        ids.forEach(id -> contribution.incrementReadCount());
+        contribution.incrementWriteCount(deleted);
+        executionContext.putLong(LAST_ID, ids.get(ids.size() - 1));
+        log.info("[alarmPurge] {}건 삭제 (마지막 id: {})", deleted, ids.get(ids.size() - 1));
+
+        return RepeatStatus.continueIf(ids.size() == chunkSize);
+    }
+
+}
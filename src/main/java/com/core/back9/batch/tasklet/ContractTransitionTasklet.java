@@ -0,0 +1,84 @@
+package com.core.back9.batch.tasklet;
+
+import com.core.back9.dto.AlarmDTO;
+import com.core.back9.entity.Contract;
+import com.core.back9.entity.Room;
+import com.core.back9.entity.constant.AlarmType;
+import com.core.back9.service.AlarmService;
+import com.core.back9.service.DashboardVersionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/*
+ * 계약 상태 자동 전환 tasklet 공통 흐름
+ * 현재 상태가 전환 전 상태이고 경계일(시작일 / 종료일)이 기준일 이전인 계약 조회 -> 상태 일괄 변경 -> 해당 호실 소유자에게 알림 일괄 발행
+ * 상태 변경이 커밋되면 변경된 빌딩만 대시보드 캐시 제거 / 버전(ETag) 증가
+ * 마지막 실행 시점과 무관하게 현재 상태로 대상을 고르므로, 배치가 오래 중단되었거나 과거 일자로 등록된 계약도 다음 실행에서 전환됨
+ */
+@RequiredArgsConstructor
+@Slf4j
+public abstract class ContractTransitionTasklet implements Tasklet {
+
+    public static final String TRANSITION_COUNT_KEY = "transitionCount";
+
+    private final AlarmService alarmService;
+    private final DashboardVersionService dashboardVersionService;
+
+    protected abstract List<Contract> findTargets(LocalDate now);
+
+    protected abstract int transition(List<Long> contractIds);
+
+    protected abstract AlarmType getAlarmType();
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        JobParameters jobParameters = chunkContext.getStepContext().getStepExecution().getJobParameters(); // 미리 설정해둔 jobParameter에서 빼옴
+        LocalDate now = jobParameters.getLocalDateTime("time").toLocalDate();
+
+        log.info("========== Start Change Contract Status [{}] ==========", getAlarmType());
+        log.info("--- 기준일 : {} ---", now);
+
+        List<Contract> targets = findTargets(now);
+
+        // bulk update 시 영속성 컨텍스트가 비워지므로 알림 대상 정보를 먼저 추출
+        List<AlarmDTO.Request> alarms = targets.stream()
+                .filter(contract -> contract.getRoom().getMember() != null)
+                .map(contract -> toAlarm(contract.getRoom()))
+                .toList();
+        Set<Long> buildingIds = targets.stream()
+                .map(contract -> contract.getRoom().getBuilding().getId())
+                .collect(Collectors.toSet());
+
+        int result = targets.isEmpty() ? 0 : transition(targets.stream().map(Contract::getId).toList());
+
+        alarmService.createAll(alarms);
+        dashboardVersionService.markChanged(buildingIds);
+
+        targets.forEach(contract -> contribution.incrementReadCount());
+        contribution.incrementWriteCount(result);
+        chunkContext.getStepContext().getStepExecution().getExecutionContext().putInt(TRANSITION_COUNT_KEY, result);
+
+        log.info("===== target : {}, result : {}, alarm : {} =====", targets.size(), result, alarms.size());
+
+        return RepeatStatus.FINISHED;
+    }
+
+    private AlarmDTO.Request toAlarm(Room room) {
+        return AlarmDTO.Request.createContract(
+                room.getMember().getId(),
+                getAlarmType(),
+                room.getName() + " " + getAlarmType().getDescription()
+        );
+    }
+
+}
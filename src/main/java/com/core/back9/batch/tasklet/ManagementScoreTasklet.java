@@ -7,6 +7,7 @@ import com.core.back9.entity.constant.RatingType;
 import com.core.back9.entity.constant.Status;
 import com.core.back9.repository.ContractRepository;
 import com.core.back9.repository.ScoreRepository;
+import com.core.back9.service.DashboardVersionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.StepContribution;
@@ -15,6 +16,7 @@ import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -22,12 +24,13 @@ public class ManagementScoreTasklet implements Tasklet {
 
     private final ContractRepository contractRepository;
     private final ScoreRepository scoreRepository;
+    private final DashboardVersionService dashboardVersionService;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
         List<Contract> progressContracts = contractRepository.findAllByContractStatus(ContractStatus.IN_PROGRESS);
 
-        progressContracts.stream()
+        List<Score> scores = progressContracts.stream()
                 .flatMap(contract -> contract.getTenant().getMembers().stream()
                         .map(member -> Score.builder()
                                 .score(-1)
@@ -38,7 +41,15 @@ public class ManagementScoreTasklet implements Tasklet {
                                 .member(member)
                                 .status(Status.REGISTER)
                                 .build()))
-                .forEach(scoreRepository::save);
+                .toList();
+
+        scoreRepository.saveAll(scores);
+        dashboardVersionService.markChanged(progressContracts.stream() // 평가 진행률 변경 - 평가 생성 커밋 이후 해당 빌딩만 반영
+                .map(contract -> contract.getRoom().getBuilding().getId())
+                .collect(Collectors.toSet()));
+
+        progressContracts.forEach(contract -> contribution.incrementReadCount());
+        contribution.incrementWriteCount(scores.size());
 
         return RepeatStatus.FINISHED;
     }
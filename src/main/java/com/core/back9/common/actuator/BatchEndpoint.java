@@ -0,0 +1,30 @@
+package com.core.back9.common.actuator;
+
+import com.core.back9.batch.history.BatchExecutionHistory;
+import com.core.back9.dto.BatchDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/* 관리 포트의 /public-api/management/batch 로 최근 배치 실행 이력 조회 */
+@RequiredArgsConstructor
+@Endpoint(id = "batch")
+@Component
+public class BatchEndpoint {
+
+	private static final int DEFAULT_PAGE_SIZE = 20;
+	private static final int MAX_PAGE_SIZE = 100;
+
+	private final BatchExecutionHistory batchExecutionHistory;
+
+	@ReadOperation
+	public BatchDTO.ExecutionPage executions(@Nullable String jobName, @Nullable Integer page, @Nullable Integer size) {
+		int pageNumber = page != null ? Math.max(page, 0) : 0;
+		int pageSize = size != null ? Math.min(Math.max(size, 1), MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+
+		return batchExecutionHistory.findExecutions(jobName, pageNumber, pageSize);
+	}
+
+}
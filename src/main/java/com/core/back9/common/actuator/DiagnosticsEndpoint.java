@@ -0,0 +1,217 @@
+package com.core.back9.common.actuator;
+
+import com.core.back9.common.cache.DashboardCache;
+import com.core.back9.sse.connection.SseConnectionPoolImpl;
+import com.core.back9.sse.dispatch.SseNotificationDispatcher;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/*
+  * 관리 포트의 /public-api/management/diagnostics 로 커넥션 풀, GC, SSE, 비동기 실행기, 배치, 캐시 상태 조회
+  * - 10초 주기 수집을 전제로 메모리 내 값(MXBean, 풀 / 캐시 통계)만 읽음
+  * - DB 조회가 필요한 배치 상태만 batch-refresh 주기로 다시 조회하고 그 사이에는 마지막 결과를 재사용
+  */
+@Endpoint(id = "diagnostics")
+@Component
+public class DiagnosticsEndpoint {
+
+	private final ObjectProvider<HikariDataSource> hikariDataSources;
+	private final MeterRegistry meterRegistry;
+	private final SseConnectionPoolImpl sseConnectionPool;
+	private final SseNotificationDispatcher sseNotificationDispatcher;
+	private final ThreadPoolTaskExecutor asyncExecutor;
+	private final ThreadPoolTaskExecutor dashboardExecutor;
+	private final JobExplorer jobExplorer;
+	private final List<Job> jobs;
+	private final SessionFactory sessionFactory;
+	private final DashboardCache dashboardCache;
+	private final long batchRefreshNanos;
+
+	private volatile Map<String, Object> batchStatus;
+	private volatile long batchStatusLoadedAt;
+
+	public DiagnosticsEndpoint(
+	  ObjectProvider<HikariDataSource> hikariDataSources,
+	  MeterRegistry meterRegistry,
+	  SseConnectionPoolImpl sseConnectionPool,
+	  SseNotificationDispatcher sseNotificationDispatcher,
+	  @Qualifier("asyncExecutor") ThreadPoolTaskExecutor asyncExecutor,
+	  @Qualifier("dashboardExecutor") ThreadPoolTaskExecutor dashboardExecutor,
+	  JobExplorer jobExplorer,
+	  List<Job> jobs,
+	  EntityManagerFactory entityManagerFactory,
+	  DashboardCache dashboardCache,
+	  @Value("${diagnostics.batch-refresh:30s}") Duration batchRefresh
+	) {
+		this.hikariDataSources = hikariDataSources;
+		this.meterRegistry = meterRegistry;
+		this.sseConnectionPool = sseConnectionPool;
+		this.sseNotificationDispatcher = sseNotificationDispatcher;
+		this.asyncExecutor = asyncExecutor;
+		this.dashboardExecutor = dashboardExecutor;
+		this.jobExplorer = jobExplorer;
+		this.jobs = jobs;
+		this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+		this.dashboardCache = dashboardCache;
+		this.batchRefreshNanos = batchRefresh.toNanos();
+	}
+
+	@ReadOperation
+	public Map<String, Object> diagnostics() {
+		Map<String, Object> diagnostics = new LinkedHashMap<>();
+		diagnostics.put("connectionPools", getConnectionPools());
+		diagnostics.put("gc", getGarbageCollectors());
+		diagnostics.put("sse", getSseConnections());
+		diagnostics.put("executors", Map.of(
+		  "async", getExecutor(asyncExecutor),
+		  "dashboard", getExecutor(dashboardExecutor)
+		));
+		diagnostics.put("batch", getBatchStatus());
+		diagnostics.put("caches", getCaches());
+		return diagnostics;
+	}
+
+	/* 커넥션 획득 대기 시간은 Spring Boot가 등록하는 hikaricp.connections.acquire 타이머 사용 */
+	private Map<String, Object> getConnectionPools() {
+		Map<String, Object> pools = new LinkedHashMap<>();
+		hikariDataSources.orderedStream().forEach(dataSource -> {
+			Map<String, Object> pool = new LinkedHashMap<>();
+			HikariPoolMXBean poolMXBean = dataSource.getHikariPoolMXBean();
+			pool.put("maximumPoolSize", dataSource.getMaximumPoolSize());
+			if (poolMXBean != null) { // 첫 커넥션 요청 전에는 풀이 생성되지 않음
+				pool.put("active", poolMXBean.getActiveConnections());
+				pool.put("idle", poolMXBean.getIdleConnections());
+				pool.put("total", poolMXBean.getTotalConnections());
+				pool.put("pending", poolMXBean.getThreadsAwaitingConnection());
+				pool.put("utilization", ratio(poolMXBean.getActiveConnections(), dataSource.getMaximumPoolSize()));
+			}
+			Timer acquire = meterRegistry.find("hikaricp.connections.acquire").tag("pool", dataSource.getPoolName()).timer();
+			if (acquire != null) {
+				pool.put("acquireCount", acquire.count());
+				pool.put("acquireMeanMillis", acquire.mean(TimeUnit.MILLISECONDS));
+				pool.put("acquireMaxMillis", acquire.max(TimeUnit.MILLISECONDS));
+			}
+			pools.put(dataSource.getPoolName(), pool);
+		});
+		return pools;
+	}
+
+	/* 수집기별 누적 횟수 / 누적 소요 시간 (JVM 시작 이후) */
+	private Map<String, Object> getGarbageCollectors() {
+		Map<String, Object> collectors = new LinkedHashMap<>();
+		for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+			collectors.put(collector.getName(), Map.of(
+			  "count", collector.getCollectionCount(),
+			  "totalMillis", collector.getCollectionTime()
+			));
+		}
+		return collectors;
+	}
+
+	private Map<String, Object> getSseConnections() {
+		Map<String, Object> sse = new LinkedHashMap<>();
+		sse.put("connections", sseConnectionPool.getConnectionCount());
+		sse.put("opened", sseConnectionPool.getOpenedCount());
+		sse.put("closed", sseConnectionPool.getClosedCount());
+		sse.put("dispatchQueueSize", sseNotificationDispatcher.getQueueSize());
+		return sse;
+	}
+
+	private Map<String, Object> getExecutor(ThreadPoolTaskExecutor executor) {
+		Map<String, Object> status = new LinkedHashMap<>();
+		status.put("active", executor.getActiveCount());
+		status.put("poolSize", executor.getPoolSize());
+		status.put("maxPoolSize", executor.getMaxPoolSize());
+		status.put("queueSize", executor.getQueueSize());
+		status.put("queueCapacity", executor.getQueueCapacity());
+		status.put("saturation", ratio(executor.getActiveCount() + executor.getQueueSize(),
+		  executor.getMaxPoolSize() + executor.getQueueCapacity()));
+		ThreadPoolExecutor threadPoolExecutor = executor.getThreadPoolExecutor();
+		status.put("completedTasks", threadPoolExecutor.getCompletedTaskCount());
+		return status;
+	}
+
+	private Map<String, Object> getBatchStatus() {
+		Map<String, Object> cached = batchStatus;
+		if (cached != null && System.nanoTime() - batchStatusLoadedAt < batchRefreshNanos) {
+			return cached;
+		}
+
+		Map<String, Object> status = new LinkedHashMap<>();
+		for (Job job : jobs) {
+			Map<String, Object> jobStatus = new LinkedHashMap<>();
+			jobStatus.put("running", !jobExplorer.findRunningJobExecutions(job.getName()).isEmpty());
+			JobInstance lastInstance = jobExplorer.getLastJobInstance(job.getName());
+			JobExecution lastExecution = lastInstance != null ? jobExplorer.getLastJobExecution(lastInstance) : null;
+			if (lastExecution != null) {
+				jobStatus.put("lastStatus", lastExecution.getStatus().name());
+				jobStatus.put("lastStartTime", lastExecution.getStartTime());
+				jobStatus.put("lastEndTime", lastExecution.getEndTime());
+			}
+			status.put(job.getName(), jobStatus);
+		}
+
+		batchStatus = status;
+		batchStatusLoadedAt = System.nanoTime();
+		return status;
+	}
+
+	/* Hibernate 2차 캐시 region별 / 쿼리 캐시 / 대시보드 응답 캐시 적중률 */
+	private Map<String, Object> getCaches() {
+		Map<String, Object> caches = new LinkedHashMap<>();
+		Statistics statistics = sessionFactory.getStatistics();
+		for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+			CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+			if (region != null) {
+				caches.put(regionName, hitRatio(region.getHitCount(), region.getMissCount()));
+			}
+		}
+		caches.put("query", hitRatio(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount()));
+
+		CacheStats dashboardStats = dashboardCache.stats();
+		Map<String, Object> dashboard = hitRatio(dashboardStats.hitCount(), dashboardStats.missCount());
+		dashboard.put("size", dashboardCache.size());
+		caches.put("dashboard", dashboard);
+		return caches;
+	}
+
+	private Map<String, Object> hitRatio(long hitCount, long missCount) {
+		Map<String, Object> ratio = new LinkedHashMap<>();
+		ratio.put("hit", hitCount);
+		ratio.put("miss", missCount);
+		ratio.put("hitRatio", ratio(hitCount, hitCount + missCount));
+		return ratio;
+	}
+
+	private double ratio(long value, long total) {
+		return total == 0 ? 0 : Math.round(value * 1000.0 / total) / 1000.0;
+	}
+
+}
@@ -0,0 +1,37 @@
+package com.core.back9.common.actuator;
+
+import com.core.back9.common.jfr.FlightRecorderManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/*
+ * 관리 포트의 /public-api/management/jfr
+ * - GET  : 기록 상태 조회
+ * - POST : 현재까지의 기록을 서버의 jfr.dump-directory 에 파일로 저장 (기록 중이 아니면 404)
+ * - ADMIN 권한만 접근 가능 (SecurityConfig)
+ */
+@ConditionalOnProperty(name = "jfr.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Endpoint(id = "jfr")
+@Component
+public class FlightRecorderEndpoint {
+
+    private final FlightRecorderManager flightRecorderManager;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return flightRecorderManager.status();
+    }
+
+    @WriteOperation
+    public Map<String, Object> dump() {
+        return flightRecorderManager.dump();
+    }
+
+}
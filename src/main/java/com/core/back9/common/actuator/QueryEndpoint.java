@@ -0,0 +1,47 @@
+package com.core.back9.common.actuator;
+
+import com.core.back9.common.query.QueryOffenderBuffer;
+import com.core.back9.dto.QueryDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/* 관리 포트의 /public-api/management/queries 로 최근 감지된 N+1 / 느린 SQL 조회, DELETE 로 비움 */
+@Endpoint(id = "queries")
+@Component
+public class QueryEndpoint {
+
+	private final QueryOffenderBuffer queryOffenderBuffer;
+	private final int repeatThreshold;
+	private final Duration slowThreshold;
+
+	public QueryEndpoint(
+	  QueryOffenderBuffer queryOffenderBuffer,
+	  @Value("${query-detector.repeat-threshold:10}") int repeatThreshold,
+	  @Value("${query-detector.slow-threshold:500ms}") Duration slowThreshold
+	) {
+		this.queryOffenderBuffer = queryOffenderBuffer;
+		this.repeatThreshold = repeatThreshold;
+		this.slowThreshold = slowThreshold;
+	}
+
+	@ReadOperation
+	public QueryDTO.OffenderReport offenders() {
+		return QueryDTO.OffenderReport.builder()
+		  .repeatThreshold(repeatThreshold)
+		  .slowThresholdMillis(slowThreshold.toMillis())
+		  .capacity(queryOffenderBuffer.getCapacity())
+		  .offenders(queryOffenderBuffer.findRecent())
+		  .build();
+	}
+
+	@DeleteOperation
+	public void clear() {
+		queryOffenderBuffer.clear();
+	}
+
+}
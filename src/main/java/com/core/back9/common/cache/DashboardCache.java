@@ -0,0 +1,115 @@
+package com.core.back9.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/*
+ * 소유자 대시보드 응답 캐시
+ * 통계는 같은 빌딩의 다른 호실 값(비교 평균)도 포함하므로 변경 이벤트 발생 시 해당 빌딩의 모든 키를 제거한다
+ * 크기/TTL 제한으로 이벤트가 누락된 경우에도 일정 시간 이후에는 재계산됨
+ * 통계 조회는 replica에서 실행될 수 있으므로 제거 이후 복제 지연 구간(replicaLagWindow) 안에 시작한 계산 결과는 저장하지 않음
+ * (변경 전 데이터가 TTL 동안 남지 않도록 함)
+ */
+@Slf4j
+@Component
+public class DashboardCache {
+
+	private final Cache<DashboardCacheKey, Object> cache;
+	private final AtomicLong generation = new AtomicLong(); // 제거할 때마다 증가 - 제거 전에 시작한 계산 결과가 다시 저장되는 것을 방지
+	private final long replicaLagWindowNanos;
+	private final Map<Long, Long> evictedAt = new ConcurrentHashMap<>(); // 빌딩별 마지막 제거 시각(nanoTime) - 빌딩 수만큼만 유지됨
+	private volatile long allEvictedAt;
+
+	public DashboardCache(
+	  MeterRegistry meterRegistry,
+	  @Value("${dashboard.cache.ttl:PT10M}") Duration ttl,
+	  @Value("${dashboard.cache.maximum-size:10000}") long maximumSize,
+	  @Value("${dashboard.cache.replica-lag-window:${datasource.replica.max-lag:PT5S}}") Duration replicaLagWindow
+	) {
+		this.replicaLagWindowNanos = replicaLagWindow.toNanos();
+		this.allEvictedAt = System.nanoTime() - replicaLagWindowNanos; // 기동 직후의 계산은 저장
+		this.cache = Caffeine.newBuilder()
+		  .maximumSize(maximumSize)
+		  .expireAfterWrite(ttl)
+		  .recordStats()
+		  .build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "dashboard");
+	}
+
+	/*
+	 * 통계 계산은 DB 조회를 포함하므로 캐시 내부 잠금(compute) 밖에서 수행 - 동시 미스 시 중복 계산은 허용
+	 * 계산 도중 제거가 일어났다면 계산 결과는 변경 전 데이터일 수 있으므로 저장 후 세대를 다시 확인하여 제거
+	 * (제거가 저장 이후라면 제거 작업이 저장된 값을 지우므로 어느 순서든 변경 전 값이 남지 않음)
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T get(DashboardCacheKey key, Supplier<T> loader) {
+		Object cached = cache.getIfPresent(key);
+		if (cached != null) {
+			return (T) cached;
+		}
+
+		long loadGeneration = generation.get();
+		long loadStartedAt = System.nanoTime();
+		T value = loader.get();
+		if (value != null && !isReplicating(key.getBuildingId(), loadStartedAt)) {
+			cache.put(key, value);
+			if (generation.get() != loadGeneration) {
+				cache.asMap().remove(key, value);
+			}
+		}
+		return value;
+	}
+
+	/*
+	 * 변경 트랜잭션 커밋 이후 제거 (커밋 전 값으로 다시 채워지는 것을 방지), 트랜잭션 밖에서는 즉시 제거
+	 * 대시보드 버전(ETag) 증가보다 먼저 실행 - 버전이 먼저 바뀌면 그 사이 요청이 변경 전 캐시 값을 새 ETag로 응답할 수 있음
+	 */
+	@Order(0)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void evict(DashboardChangedEvent event) {
+		generation.incrementAndGet(); // 키 제거보다 먼저 증가시켜야 진행 중인 계산이 변경을 감지함
+		long now = System.nanoTime();
+		if (event.isAll()) {
+			allEvictedAt = now;
+			cache.invalidateAll();
+			log.debug("대시보드 캐시 전체 제거");
+			return;
+		}
+		event.getBuildingIds().forEach(buildingId -> evictedAt.put(buildingId, now));
+		cache.asMap().keySet().removeIf(key -> event.getBuildingIds().contains(key.getBuildingId()));
+		log.debug("대시보드 캐시 제거 - buildingIds: {}", event.getBuildingIds());
+	}
+
+	/* 계산 시작 시각이 마지막 제거 이후 복제 지연 구간 안이면 replica가 변경 전 데이터를 반환했을 수 있음 */
+	private boolean isReplicating(Long buildingId, long loadStartedAt) {
+		long lastEvictedAt = allEvictedAt;
+		Long buildingEvictedAt = evictedAt.get(buildingId);
+		if (buildingEvictedAt != null && buildingEvictedAt - lastEvictedAt > 0) {
+			lastEvictedAt = buildingEvictedAt;
+		}
+		return loadStartedAt - lastEvictedAt < replicaLagWindowNanos;
+	}
+
+	public long size() {
+		return cache.estimatedSize();
+	}
+
+	public CacheStats stats() {
+		return cache.stats();
+	}
+
+}
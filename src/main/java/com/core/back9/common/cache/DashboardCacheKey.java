@@ -0,0 +1,30 @@
+package com.core.back9.common.cache;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/* 대시보드 응답 캐시 키 (구간 종류, 소유자, 빌딩, 호실, 조회 기간) */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode
+@ToString
+@Getter
+public class DashboardCacheKey {
+
+	private final String section;
+	private final Long ownerId;
+	private final Long buildingId;
+	private final Long roomId; // 빌딩 단위 통계는 null
+	private final String period;
+
+	public static DashboardCacheKey ofBuilding(String section, Long ownerId, Long buildingId, Object period) {
+		return new DashboardCacheKey(section, ownerId, buildingId, null, String.valueOf(period));
+	}
+
+	public static DashboardCacheKey ofRoom(String section, Long ownerId, Long buildingId, Long roomId, Object period) {
+		return new DashboardCacheKey(section, ownerId, buildingId, roomId, String.valueOf(period));
+	}
+
+}
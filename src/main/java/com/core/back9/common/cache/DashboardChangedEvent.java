@@ -0,0 +1,34 @@
+package com.core.back9.common.cache;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.Set;
+
+/* 대시보드 통계의 입력(평가, 계약, 호실 소유) 변경 이벤트 - buildingIds가 null이면 전체 빌딩 대상 */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class DashboardChangedEvent {
+
+	private final Set<Long> buildingIds;
+
+	public static DashboardChangedEvent ofBuilding(Long buildingId) {
+		return new DashboardChangedEvent(Set.of(buildingId));
+	}
+
+	/* 배치처럼 한 트랜잭션에서 여러 빌딩을 변경한 경우 */
+	public static DashboardChangedEvent ofBuildings(Collection<Long> buildingIds) {
+		return new DashboardChangedEvent(Set.copyOf(buildingIds));
+	}
+
+	public static DashboardChangedEvent all() {
+		return new DashboardChangedEvent(null);
+	}
+
+	public boolean isAll() {
+		return buildingIds == null;
+	}
+
+}
@@ -0,0 +1,13 @@
+package com.core.back9.common.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/* 회원의 미확인 알림 수 변경 이벤트 */
+@RequiredArgsConstructor
+@Getter
+public class UnreadAlarmChangedEvent {
+
+	private final Long memberId;
+
+}
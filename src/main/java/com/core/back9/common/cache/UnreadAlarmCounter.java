@@ -0,0 +1,69 @@
+package com.core.back9.common.cache;
+
+import com.core.back9.repository.MemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/*
+ * 회원별 미확인 알림 수 (members.unread_alarm_count)
+ * 값은 DB 컬럼에서 원자적으로 증감하고, 메모리에는 조회 결과만 보관하여 변경 트랜잭션 커밋 이후 제거한다
+ * 다른 서버 인스턴스에서 변경된 값은 TTL 이후 반영됨
+ */
+@Component
+public class UnreadAlarmCounter {
+
+	private final MemberRepository memberRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final Cache<Long, Integer> cache;
+
+	public UnreadAlarmCounter(
+	  MemberRepository memberRepository,
+	  ApplicationEventPublisher eventPublisher,
+	  MeterRegistry meterRegistry,
+	  @Value("${alarm.unread-cache.ttl:PT1M}") Duration ttl,
+	  @Value("${alarm.unread-cache.maximum-size:100000}") long maximumSize
+	) {
+		this.memberRepository = memberRepository;
+		this.eventPublisher = eventPublisher;
+		this.cache = Caffeine.newBuilder()
+		  .maximumSize(maximumSize)
+		  .expireAfterWrite(ttl)
+		  .recordStats()
+		  .build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "unread-alarm");
+	}
+
+	public int get(Long memberId) {
+		return cache.get(memberId, id -> memberRepository.findUnreadAlarmCountById(id).orElse(0));
+	}
+
+	/* 호출한 트랜잭션 안에서 DB 값을 증감 (음수로 내려가지 않음) */
+	public void add(Long memberId, int delta) {
+		if (delta == 0) {
+			return;
+		}
+		memberRepository.addUnreadAlarmCount(memberId, delta);
+		eventPublisher.publishEvent(new UnreadAlarmChangedEvent(memberId));
+	}
+
+	/* 여러 알림을 한 번에 변경하여 감소량을 알 수 없는 경우 DB 값을 다시 계산 */
+	public void refresh(Long memberId) {
+		memberRepository.refreshUnreadAlarmCount(memberId);
+		eventPublisher.publishEvent(new UnreadAlarmChangedEvent(memberId));
+	}
+
+	/* 커밋 전 값으로 다시 채워지는 것을 방지하기 위해 커밋 이후 제거, 트랜잭션 밖에서는 즉시 제거 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void evict(UnreadAlarmChangedEvent event) {
+		cache.invalidate(event.getMemberId());
+	}
+
+}
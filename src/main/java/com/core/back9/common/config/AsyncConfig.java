@@ -2,7 +2,12 @@ package com.core.back9.common.config;
 
 import com.core.back9.exception.ApiErrorCode;
 import com.core.back9.exception.ApiException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -15,6 +20,23 @@ public class AsyncConfig implements AsyncConfigurer {
 
 	@Override
 	public Executor getAsyncExecutor() {
+		return asyncExecutor();
+	}
+
+	/*
+	 * Boot 기본 executor (spring.task.execution.* 설정 사용)
+	 * Executor 타입 빈(asyncExecutor, dashboardExecutor)이 등록되면 Boot의 applicationTaskExecutor 자동 구성이 생략되므로 직접 등록
+	 * MVC 비동기 요청 처리 등 applicationTaskExecutor 이름으로 찾는 사용처가 SimpleAsyncTaskExecutor(요청마다 스레드 생성)로 대체되지 않도록 함
+	 */
+	@Lazy
+	@Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+	public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+		return builder.build();
+	}
+
+	/* @Async 작업용 - 진단 정보(포화도) 조회를 위해 빈으로 등록 */
+	@Bean(name = "asyncExecutor")
+	public ThreadPoolTaskExecutor asyncExecutor() {
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 		executor.setCorePoolSize(5);		// 스레드풀에 항상 살아있는 최소 스레드, 예상 최대 동시 작업 수
 		executor.setMaxPoolSize(10);		// 스레드풀의 확장 최대 스레드 수
@@ -24,7 +46,22 @@ public class AsyncConfig implements AsyncConfigurer {
 		executor.setRejectedExecutionHandler(((r, exec) -> {
 			throw new ApiException(ApiErrorCode.THREAD_POOL_REJECTED);
 		}));
-		executor.initialize();
+		return executor;
+	}
+
+	/* 소유자 대시보드 통합 조회의 섹션 병렬 실행용 - @Async 작업과 풀을 분리하고, 커넥션 풀 고갈을 막기 위해 크기를 제한 */
+	@Bean(name = "dashboardExecutor")
+	public ThreadPoolTaskExecutor dashboardExecutor(
+	  @Value("${dashboard.aggregate.pool-size:8}") int poolSize,
+	  @Value("${dashboard.aggregate.queue-capacity:50}") int queueCapacity
+	) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("dashboard-executor-");
+		executor.setWaitForTasksToCompleteOnShutdown(false);
+		// 기본 AbortPolicy - 거부된 섹션은 REJECTED 상태로 응답
 		return executor;
 	}
 
@@ -0,0 +1,91 @@
+package com.core.back9.common.config;
+
+import com.core.back9.common.datasource.DataSourceType;
+import com.core.back9.common.datasource.ReplicaLagMonitor;
+import com.core.back9.common.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/*
+ * datasource.replica.url 설정 시에만 primary / replica 라우팅 사용 (미설정 시 기본 단일 DataSource 자동 설정)
+ * 배치 설정(DefaultBatchConfiguration)이 "dataSource" 이름으로 조회하므로 최종 DataSource 빈 이름을 유지
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.url")
+public class DataSourceConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+		HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+		  .type(HikariDataSource.class)
+		  .build();
+		dataSource.setPoolName("primary-pool");
+		return dataSource;
+	}
+
+	@Bean
+	public HikariDataSource replicaDataSource(
+	  @Value("${datasource.replica.url}") String url,
+	  @Value("${datasource.replica.username:${spring.datasource.username:}}") String username,
+	  @Value("${datasource.replica.password:${spring.datasource.password:}}") String password,
+	  @Value("${datasource.replica.maximum-pool-size:10}") int maximumPoolSize
+	) {
+		HikariDataSource dataSource = DataSourceBuilder.create()
+		  .type(HikariDataSource.class)
+		  .url(url)
+		  .username(username)
+		  .password(password)
+		  .build();
+		dataSource.setPoolName("replica-pool");
+		dataSource.setMaximumPoolSize(maximumPoolSize);
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+	@Bean
+	public ReplicaLagMonitor replicaLagMonitor(
+	  @Qualifier("replicaDataSource") DataSource replicaDataSource,
+	  @Value("${datasource.replica.max-lag:PT5S}") Duration maxLag,
+	  @Value("${datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+	  @Value("${datasource.replica.lag-column:Seconds_Behind_Source}") String lagColumn
+	) {
+		return new ReplicaLagMonitor(replicaDataSource, maxLag, lagQuery, lagColumn);
+	}
+
+	@Bean
+	public DataSource routingDataSource(
+	  @Qualifier("primaryDataSource") DataSource primaryDataSource,
+	  @Qualifier("replicaDataSource") DataSource replicaDataSource,
+	  ReplicaLagMonitor replicaLagMonitor
+	) {
+		ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(replicaLagMonitor);
+		routingDataSource.setTargetDataSources(Map.of(
+		  DataSourceType.PRIMARY, primaryDataSource,
+		  DataSourceType.REPLICA, replicaDataSource
+		));
+		routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+		return routingDataSource;
+	}
+
+	@Primary
+	@Bean
+	public DataSource dataSource(@Qualifier("routingDataSource") DataSource routingDataSource) {
+		// 실제 커넥션 획득을 첫 쿼리 시점으로 미뤄 readOnly 트랜잭션 여부가 반영된 뒤 라우팅되도록 함
+		return new LazyConnectionDataSourceProxy(routingDataSource);
+	}
+
+}
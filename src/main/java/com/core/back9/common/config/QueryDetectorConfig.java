@@ -0,0 +1,44 @@
+package com.core.back9.common.config;
+
+import com.core.back9.common.query.QueryDetectorFilter;
+import com.core.back9.common.query.QueryInspector;
+import com.core.back9.common.query.QueryOffenderBuffer;
+import com.core.back9.common.query.QueryTimingListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class QueryDetectorConfig {
+
+	/* 요청 구간(QueryInspection) 밖에서는 기록하지 않으므로 항상 등록 */
+	@Bean
+	public HibernatePropertiesCustomizer queryInspectorCustomizer() {
+		return properties -> {
+			properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryInspector());
+			properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, QueryTimingListener.class.getName());
+		};
+	}
+
+	@Bean
+	public FilterRegistrationBean<QueryDetectorFilter> queryDetectorFilter(
+	  QueryOffenderBuffer queryOffenderBuffer,
+	  @Value("${query-detector.enabled:true}") boolean enabled,
+	  @Value("${query-detector.repeat-threshold:10}") int repeatThreshold,
+	  @Value("${query-detector.slow-threshold:500ms}") Duration slowThreshold
+	) {
+		FilterRegistrationBean<QueryDetectorFilter> registrationBean = new FilterRegistrationBean<>();
+		registrationBean.setFilter(new QueryDetectorFilter(queryOffenderBuffer, repeatThreshold, slowThreshold));
+		registrationBean.addUrlPatterns("/api/*", "/public-api/*", "/app/*");
+		registrationBean.setOrder(2);
+		registrationBean.setName("QueryDetectorFilter");
+		registrationBean.setEnabled(enabled);
+		return registrationBean;
+	}
+
+}
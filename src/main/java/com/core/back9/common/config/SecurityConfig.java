@@ -1,5 +1,6 @@
 package com.core.back9.common.config;
 
+import com.core.back9.entity.constant.Role;
 import com.core.back9.jwt.JwtAccessDeniedHandler;
 import com.core.back9.jwt.JwtAuthenticationEntryPoint;
 import com.core.back9.jwt.JwtAuthenticationFilter;
@@ -17,6 +18,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import static org.springframework.security.web.util.matcher.AntPathRequestMatcher.antMatcher;
+
 @EnableMethodSecurity
 @EnableWebSecurity
 @Configuration
@@ -49,6 +52,12 @@ public class SecurityConfig {
                 .cors(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(
                         authorizeHttpRequest -> authorizeHttpRequest
+                                // 운영 관리 엔드포인트는 관리자만 허용 (관리 포트)
+                                // - jfr : 서버 디스크에 기록 파일을 남김, batch : 배치 실행 이력, queries : 실행 SQL 원문, diagnostics : 풀 / 캐시 내부 상태
+                                .requestMatchers(antMatcher("/public-api/management/jfr/**")).hasAuthority(Role.ADMIN.name())
+                                .requestMatchers(antMatcher("/public-api/management/batch/**")).hasAuthority(Role.ADMIN.name())
+                                .requestMatchers(antMatcher("/public-api/management/queries/**")).hasAuthority(Role.ADMIN.name())
+                                .requestMatchers(antMatcher("/public-api/management/diagnostics/**")).hasAuthority(Role.ADMIN.name())
                                 .requestMatchers("/**").permitAll()
                                 .anyRequest().authenticated()
                 )
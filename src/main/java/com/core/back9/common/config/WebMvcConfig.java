@@ -1,6 +1,7 @@
 package com.core.back9.common.config;
 
 import com.core.back9.common.logging.LoggingInterceptor;
+import com.core.back9.common.metrics.RouteMetricsInterceptor;
 import com.core.back9.mapper.MemberMapper;
 import com.core.back9.repository.MemberRepository;
 import com.core.back9.security.AuthMemberResolver;
@@ -20,9 +21,11 @@ public class WebMvcConfig implements WebMvcConfigurer {
     private final MemberRepository memberRepository;
     private final MemberMapper memberMapper;
     private final LoggingInterceptor loggingInterceptor;
+    private final RouteMetricsInterceptor routeMetricsInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(routeMetricsInterceptor);
         registry.addInterceptor(loggingInterceptor)
                 .excludePathPatterns(
                         "/public-api/swagger-ui/**",
@@ -0,0 +1,6 @@
+package com.core.back9.common.datasource;
+
+public enum DataSourceType {
+	PRIMARY,
+	REPLICA
+}
@@ -0,0 +1,70 @@
+package com.core.back9.common.datasource;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/*
+ * replica 복제 지연 주기적 확인
+ * lagQuery 결과의 lagColumn(초 단위)이 허용치 이하일 때만 replica 사용 가능으로 판단
+ * - 결과 행이 없으면 복제 구성이 아닌 독립 DB(로컬 H2 등)로 보고 지연 0으로 취급
+ * - 값이 null(복제 중단)이거나 조회 실패 시 사용 불가
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+	private final JdbcTemplate jdbcTemplate;
+	private final Duration maxLag;
+	private final String lagQuery;
+	private final String lagColumn;
+
+	private volatile boolean available = false; // 첫 확인(기동 시) 전까지는 primary 사용
+
+	public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, String lagQuery, String lagColumn) {
+		this.jdbcTemplate = new JdbcTemplate(replicaDataSource);
+		this.maxLag = maxLag;
+		this.lagQuery = lagQuery;
+		this.lagColumn = lagColumn;
+	}
+
+	public boolean isAvailable() {
+		return available;
+	}
+
+	/* 첫 주기(lag-check-interval)까지 replica를 사용하지 못하는 구간이 없도록 기동 시 바로 확인 */
+	@PostConstruct
+	public void init() {
+		checkLag();
+	}
+
+	@Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:PT10S}")
+	public void checkLag() {
+		boolean result;
+		try {
+			Long lagSeconds = jdbcTemplate.query(lagQuery, rs -> {
+				if (!rs.next()) {
+					return 0L;
+				}
+				long lag = rs.getLong(lagColumn);
+				return rs.wasNull() ? null : lag;
+			});
+			result = lagSeconds != null && lagSeconds <= maxLag.toSeconds();
+			if (!result) {
+				log.warn("replica 지연 허용치 초과 - lag: {}s, max: {}s", lagSeconds, maxLag.toSeconds());
+			}
+		} catch (Exception e) {
+			log.warn("replica 지연 확인 실패 - {}", e.getMessage());
+			result = false;
+		}
+
+		if (available != result) {
+			log.info("replica 읽기 라우팅 {}", result ? "활성화" : "비활성화(primary 사용)");
+		}
+		available = result;
+	}
+
+}
@@ -0,0 +1,23 @@
+package com.core.back9.common.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+ * 읽기 전용 트랜잭션은 replica, 그 외(쓰기, 트랜잭션 없음, 배치)는 primary로 라우팅
+ * replica 지연이 허용치를 넘거나 연결할 수 없으면 읽기 전용 트랜잭션도 primary 사용
+ * 트랜잭션 시작 시점에는 readOnly 여부가 동기화되지 않으므로 LazyConnectionDataSourceProxy로 감싸서 사용해야 함
+ */
+@RequiredArgsConstructor
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+	private final ReplicaLagMonitor replicaLagMonitor;
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+		return readOnly && replicaLagMonitor.isAvailable() ? DataSourceType.REPLICA : DataSourceType.PRIMARY;
+	}
+
+}
@@ -0,0 +1,48 @@
+package com.core.back9.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/* 배치 step 실행 구간 (beforeStep ~ afterStep) */
+@Name("com.core.back9.BatchStep")
+@Label("Batch Step")
+@Category({"Back9", "Batch"})
+@Description("Spring Batch step 실행")
+@StackTrace(false)
+public class BatchStepEvent extends Event {
+
+	@Label("Job")
+	String job;
+
+	@Label("Step")
+	String step;
+
+	@Label("Status")
+	String status;
+
+	@Label("Read Count")
+	long readCount;
+
+	@Label("Write Count")
+	long writeCount;
+
+	public static BatchStepEvent begin(String job, String step) {
+		BatchStepEvent event = new BatchStepEvent();
+		event.job = job;
+		event.step = step;
+		event.begin();
+		return event;
+	}
+
+	public void end(String status, long readCount, long writeCount) {
+		this.status = status;
+		this.readCount = readCount;
+		this.writeCount = writeCount;
+		commit();
+	}
+
+}
@@ -0,0 +1,158 @@
+package com.core.back9.common.jfr;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/*
+ * 애플리케이션 실행 동안 JFR 기록을 계속 유지 (최근 max-age / max-size 만큼만 디스크에 보관)
+ * - 기본 설정(default)은 JDK 제공 저부하 프로파일 (운영 환경 상시 기록 기준 약 1% 이내)
+ * - 응답 지연 발생 시 관리 포트의 /jfr 로 현재까지의 기록을 파일로 저장하여 JMC 등으로 분석
+ * - jfr.enabled=true 일 때만 등록 (기록 시작, 이벤트 aspect, 관리 엔드포인트 모두 함께 비활성화)
+ * - 저장 파일은 최근 jfr.max-dumps 개만 남기고 오래된 파일부터 삭제
+ */
+@Slf4j
+@ConditionalOnProperty(name = "jfr.enabled", havingValue = "true")
+@Component
+public class FlightRecorderManager {
+
+	private static final String RECORDING_NAME = "back9";
+	private static final String FILE_PREFIX = "back9-";
+	private static final String FILE_SUFFIX = ".jfr";
+	private static final DateTimeFormatter FILE_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS"); // 이름순 = 시간순
+
+	private final String settings;
+	private final DataSize maxSize;
+	private final Duration maxAge;
+	private final Path dumpDirectory;
+	private final int maxDumps;
+
+	private Recording recording;
+
+	public FlightRecorderManager(
+	  @Value("${jfr.settings:default}") String settings,
+	  @Value("${jfr.max-size:100MB}") DataSize maxSize,
+	  @Value("${jfr.max-age:PT1H}") Duration maxAge,
+	  @Value("${jfr.dump-directory:${java.io.tmpdir}/back9-jfr}") Path dumpDirectory,
+	  @Value("${jfr.max-dumps:10}") int maxDumps
+	) {
+		this.settings = settings;
+		this.maxSize = maxSize;
+		this.maxAge = maxAge;
+		this.dumpDirectory = dumpDirectory;
+		this.maxDumps = Math.max(maxDumps, 1);
+	}
+
+	@PostConstruct
+	public synchronized void start() {
+		if (!FlightRecorder.isAvailable()) {
+			log.info("JFR을 사용할 수 없는 JVM이므로 기록을 시작하지 않음");
+			return;
+		}
+
+		try {
+			recording = new Recording(Configuration.getConfiguration(settings));
+		} catch (IOException | ParseException e) {
+			log.warn("JFR 설정({})을 읽을 수 없어 기록을 시작하지 않음", settings, e);
+			return;
+		}
+		recording.setName(RECORDING_NAME);
+		recording.setToDisk(true);
+		recording.setMaxSize(maxSize.toBytes());
+		recording.setMaxAge(maxAge);
+		recording.enable(ServiceCallEvent.class);
+		recording.enable(BatchStepEvent.class);
+		recording.start();
+		log.info("JFR 기록 시작 - settings: {}, maxSize: {}, maxAge: {}", settings, maxSize, maxAge);
+	}
+
+	@PreDestroy
+	public synchronized void stop() {
+		if (recording != null) {
+			recording.close();
+			recording = null;
+		}
+	}
+
+	/* 기록은 계속 유지하고 현재까지의 내용을 파일로 복사 - 기록 중이 아니면 null */
+	public synchronized Map<String, Object> dump() {
+		if (!isRecording()) {
+			return null;
+		}
+
+		Path file = dumpDirectory.resolve(FILE_PREFIX + LocalDateTime.now().format(FILE_NAME_FORMAT) + FILE_SUFFIX);
+		try {
+			Files.createDirectories(dumpDirectory);
+			recording.dump(file);
+			deleteOldDumps();
+
+			Map<String, Object> result = new LinkedHashMap<>();
+			result.put("file", file.toAbsolutePath().toString());
+			result.put("sizeBytes", Files.size(file));
+			log.info("JFR 기록 저장 - {}", file.toAbsolutePath());
+			return result;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public synchronized Map<String, Object> status() {
+		Map<String, Object> status = new LinkedHashMap<>();
+		status.put("state", recording == null ? "DISABLED" : recording.getState().name());
+		if (recording != null) {
+			status.put("settings", settings);
+			status.put("startTime", recording.getStartTime());
+			status.put("maxSizeBytes", recording.getMaxSize());
+			status.put("maxAge", recording.getMaxAge());
+			status.put("dumpDirectory", dumpDirectory.toAbsolutePath().toString());
+			status.put("maxDumps", maxDumps);
+		}
+		return status;
+	}
+
+	/* 저장 파일이 계속 쌓여 디스크를 채우지 않도록 최근 maxDumps 개만 보관 */
+	private void deleteOldDumps() throws IOException {
+		List<Path> dumps;
+		try (Stream<Path> files = Files.list(dumpDirectory)) {
+			dumps = files
+			  .filter(path -> {
+				  String name = path.getFileName().toString();
+				  return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+			  })
+			  .sorted(Comparator.comparing((Path path) -> path.getFileName().toString()).reversed())
+			  .toList();
+		}
+
+		for (Path old : dumps.subList(Math.min(maxDumps, dumps.size()), dumps.size())) {
+			Files.deleteIfExists(old);
+			log.info("JFR 기록 파일 삭제 (보관 개수 초과) - {}", old.toAbsolutePath());
+		}
+	}
+
+	private boolean isRecording() {
+		return recording != null && recording.getState() == RecordingState.RUNNING;
+	}
+
+}
@@ -0,0 +1,27 @@
+package com.core.back9.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/* 평가 / 계약 집계 서비스 메서드 호출 구간 - JMC에서 같은 시간대의 SQL, GC, 스레드 이벤트와 함께 확인 */
+@Name("com.core.back9.ServiceCall")
+@Label("Service Call")
+@Category({"Back9", "Service"})
+@Description("ScoreService / ContractService 집계 메서드 호출")
+@StackTrace(false)
+public class ServiceCallEvent extends Event {
+
+	@Label("Service")
+	String service;
+
+	@Label("Method")
+	String method;
+
+	@Label("Failed")
+	boolean failed;
+
+}
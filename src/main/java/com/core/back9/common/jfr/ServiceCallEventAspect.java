@@ -0,0 +1,36 @@
+package com.core.back9.common.jfr;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/* 기록 중이 아니면(isEnabled = false) 이벤트 객체만 생성하고 시간 측정 / 기록은 하지 않음 */
+@Aspect
+@ConditionalOnProperty(name = "jfr.enabled", havingValue = "true")
+@Component
+public class ServiceCallEventAspect {
+
+	@Around("execution(public * com.core.back9.service.ScoreService.*(..))"
+	  + " || execution(public * com.core.back9.service.ContractService.*(..))")
+	public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+		ServiceCallEvent event = new ServiceCallEvent();
+		if (!event.isEnabled()) {
+			return joinPoint.proceed();
+		}
+
+		event.begin();
+		try {
+			return joinPoint.proceed();
+		} catch (Throwable e) {
+			event.failed = true;
+			throw e;
+		} finally {
+			event.service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+			event.method = joinPoint.getSignature().getName();
+			event.commit();
+		}
+	}
+
+}
@@ -0,0 +1,94 @@
+package com.core.back9.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.http.Outcome;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+/*
+ * com.core.back9.controller 하위 컨트롤러의 요청 처리 시간을 경로 템플릿 / 권한 / 결과별로 기록
+ * - 경로는 템플릿(/api/buildings/{buildingId}/...)으로 기록하여 태그 수가 id에 따라 늘어나지 않도록 함
+ * - SLO 구간, 백분위 히스토그램은 management.metrics.distribution.*.api.route.duration 설정으로 조정
+ * - SSE 연결(ResponseBodyEmitter 반환)은 연결 유지 시간이 응답 시간으로 기록되므로 제외
+ */
+@RequiredArgsConstructor
+@Component
+public class RouteMetricsInterceptor implements HandlerInterceptor {
+
+	public static final String METRIC_NAME = "api.route.duration";
+
+	private static final String CONTROLLER_PACKAGE = "com.core.back9.controller";
+	private static final String SAMPLE_ATTRIBUTE = RouteMetricsInterceptor.class.getName() + ".sample";
+	private static final String ANONYMOUS = "ANONYMOUS";
+
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (isMeasured(handler) && request.getAttribute(SAMPLE_ATTRIBUTE) == null) {
+			request.setAttribute(SAMPLE_ATTRIBUTE, Timer.start(meterRegistry));
+		}
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+		if (!(request.getAttribute(SAMPLE_ATTRIBUTE) instanceof Timer.Sample sample)) {
+			return;
+		}
+		request.removeAttribute(SAMPLE_ATTRIBUTE);
+
+		sample.stop(Timer.builder(METRIC_NAME)
+		  .description("컨트롤러 경로별 요청 처리 시간")
+		  .tags(Tags.of(
+			"method", request.getMethod(),
+			"route", getRoute(request),
+			"role", getRole(),
+			"outcome", getOutcome(response, ex)
+		  ))
+		  .register(meterRegistry));
+	}
+
+	private boolean isMeasured(Object handler) {
+		return handler instanceof HandlerMethod handlerMethod
+		  && handlerMethod.getBeanType().getPackageName().startsWith(CONTROLLER_PACKAGE)
+		  && !ResponseBodyEmitter.class.isAssignableFrom(handlerMethod.getMethod().getReturnType());
+	}
+
+	private String getRoute(HttpServletRequest request) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		return pattern == null ? "UNKNOWN" : pattern.toString();
+	}
+
+	private String getRole() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+			return ANONYMOUS;
+		}
+		return authentication.getAuthorities().stream()
+		  .map(GrantedAuthority::getAuthority)
+		  .findFirst()
+		  .orElse(ANONYMOUS);
+	}
+
+	/* 처리되지 않은 예외가 있으면 응답 코드와 관계없이 SERVER_ERROR */
+	private String getOutcome(HttpServletResponse response, Exception ex) {
+		if (ex != null && response.getStatus() < 400) {
+			return Outcome.SERVER_ERROR.name();
+		}
+		return Outcome.forStatus(response.getStatus()).name();
+	}
+
+}
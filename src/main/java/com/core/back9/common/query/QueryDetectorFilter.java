@@ -0,0 +1,90 @@
+package com.core.back9.common.query;
+
+import com.core.back9.dto.QueryDTO;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 요청 단위로 Hibernate SQL 실행을 기록하여 N+1 / 느린 SQL을 감지
+ * - REPEATED : 같은 형태의 SQL이 요청 한 번에 repeatThreshold 회를 초과하여 실행
+ * - SLOW     : 같은 형태의 SQL 실행 시간 합계가 slowThreshold 초과
+ * - 감지된 항목은 WARN 로그를 남기고 QueryOffenderBuffer에 보관 (관리 포트 /queries 로 조회)
+ */
+@Slf4j(topic = "QueryDetector")
+public class QueryDetectorFilter extends OncePerRequestFilter {
+
+	static final String REPEATED = "REPEATED";
+	static final String SLOW = "SLOW";
+
+	private final QueryOffenderBuffer offenderBuffer;
+	private final int repeatThreshold;
+	private final long slowThresholdNanos;
+
+	public QueryDetectorFilter(QueryOffenderBuffer offenderBuffer, int repeatThreshold, Duration slowThreshold) {
+		this.offenderBuffer = offenderBuffer;
+		this.repeatThreshold = repeatThreshold;
+		this.slowThresholdNanos = slowThreshold.toNanos();
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+	  throws ServletException, IOException {
+		QueryInspection.start();
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			report(request, QueryInspection.stop());
+		}
+	}
+
+	private void report(HttpServletRequest request, QueryInspection inspection) {
+		if (inspection == null || inspection.getStatementCount() == 0) {
+			return;
+		}
+
+		String route = getRoute(request);
+		for (QueryInspection.StatementStats stats : inspection.getStatements().values()) {
+			List<String> reasons = new ArrayList<>(2);
+			if (stats.getCount() > repeatThreshold) {
+				reasons.add(REPEATED);
+			}
+			if (stats.getTotalNanos() > slowThresholdNanos) {
+				reasons.add(SLOW);
+			}
+			if (reasons.isEmpty()) {
+				continue;
+			}
+
+			QueryDTO.Offender offender = QueryDTO.Offender.builder()
+			  .detectedAt(LocalDateTime.now())
+			  .route(route)
+			  .fingerprint(stats.getFingerprint())
+			  .count(stats.getCount())
+			  .totalMillis(TimeUnit.NANOSECONDS.toMillis(stats.getTotalNanos()))
+			  .maxMillis(TimeUnit.NANOSECONDS.toMillis(stats.getMaxNanos()))
+			  .reasons(reasons)
+			  .build();
+			offenderBuffer.add(offender);
+			log.warn("{} {} : {}회, {}ms - {}", reasons, route, offender.getCount(), offender.getTotalMillis(), offender.getFingerprint());
+		}
+	}
+
+	/* 경로 템플릿이 없으면(핸들러 매핑 전 실패 등) 요청 URI 사용 */
+	private String getRoute(HttpServletRequest request) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		return request.getMethod() + " " + (pattern == null ? request.getRequestURI() : pattern.toString());
+	}
+
+}
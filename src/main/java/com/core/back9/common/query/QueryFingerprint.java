@@ -0,0 +1,47 @@
+package com.core.back9.common.query;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/*
+ * SQL 형태(fingerprint) - 리터럴과 in 절 파라미터 개수를 제거하여 같은 형태의 SQL을 하나로 묶음
+ */
+public final class QueryFingerprint {
+
+	private static final int CACHE_SIZE = 2_000;
+	private static final int MAX_LENGTH = 1_000;
+
+	private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+	private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+	private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	// Hibernate가 생성하는 SQL은 종류가 한정적이므로 원본 SQL 단위로 캐시 (크기 초과 시 캐시하지 않음)
+	private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+	private QueryFingerprint() {
+	}
+
+	public static String of(String sql) {
+		String cached = CACHE.get(sql);
+		if (cached != null) {
+			return cached;
+		}
+
+		String fingerprint = normalize(sql);
+		if (CACHE.size() < CACHE_SIZE) {
+			CACHE.put(sql, fingerprint);
+		}
+		return fingerprint;
+	}
+
+	static String normalize(String sql) {
+		String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+		normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+		normalized = IN_LIST.matcher(normalized).replaceAll("(?...)");
+		normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+		return normalized.length() > MAX_LENGTH ? normalized.substring(0, MAX_LENGTH) + "..." : normalized;
+	}
+
+}
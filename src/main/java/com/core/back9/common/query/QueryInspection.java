@@ -0,0 +1,110 @@
+package com.core.back9.common.query;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+ * 현재 스레드(요청)에서 실행된 SQL의 형태별 실행 횟수 / 실행 시간
+ * - QueryInspector(준비 시점)가 SQL 형태를, QueryTimingListener(실행 시작/종료)가 실행 시간을 기록
+ * - start ~ stop 구간 밖에서는 아무것도 기록하지 않음
+ */
+public class QueryInspection {
+
+	private static final ThreadLocal<QueryInspection> CURRENT = new ThreadLocal<>();
+	private static final int MAX_FINGERPRINTS = 500; // 요청당 구분하여 보관할 SQL 형태 수
+
+	private final Map<String, StatementStats> statements = new LinkedHashMap<>();
+	private final StatementStats overflow = new StatementStats("(기타)");
+	private StatementStats lastPrepared;
+	private long executeStartedAt;
+	private int statementCount;
+	private long totalNanos;
+
+	public static QueryInspection start() {
+		QueryInspection inspection = new QueryInspection();
+		CURRENT.set(inspection);
+		return inspection;
+	}
+
+	public static QueryInspection stop() {
+		QueryInspection inspection = CURRENT.get();
+		CURRENT.remove();
+		return inspection;
+	}
+
+	static QueryInspection current() {
+		return CURRENT.get();
+	}
+
+	void onPrepare(String sql) {
+		String fingerprint = QueryFingerprint.of(sql);
+		StatementStats stats = statements.get(fingerprint);
+		if (stats == null) {
+			stats = statements.size() < MAX_FINGERPRINTS ? new StatementStats(fingerprint) : overflow;
+			if (stats != overflow) {
+				statements.put(fingerprint, stats);
+			}
+		}
+		stats.count++;
+		statementCount++;
+		lastPrepared = stats;
+	}
+
+	void onExecuteStart() {
+		executeStartedAt = System.nanoTime();
+	}
+
+	void onExecuteEnd() {
+		if (executeStartedAt == 0 || lastPrepared == null) {
+			return;
+		}
+		long elapsed = System.nanoTime() - executeStartedAt;
+		lastPrepared.totalNanos += elapsed;
+		lastPrepared.maxNanos = Math.max(lastPrepared.maxNanos, elapsed);
+		totalNanos += elapsed;
+		executeStartedAt = 0;
+	}
+
+	public int getStatementCount() {
+		return statementCount;
+	}
+
+	public long getTotalNanos() {
+		return totalNanos;
+	}
+
+	public Map<String, StatementStats> getStatements() {
+		return Collections.unmodifiableMap(statements);
+	}
+
+	public static class StatementStats {
+
+		private final String fingerprint;
+		private int count;
+		private long totalNanos;
+		private long maxNanos;
+
+		private StatementStats(String fingerprint) {
+			this.fingerprint = fingerprint;
+		}
+
+		public String getFingerprint() {
+			return fingerprint;
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		public long getTotalNanos() {
+			return totalNanos;
+		}
+
+		public long getMaxNanos() {
+			return maxNanos;
+		}
+
+	}
+
+}
@@ -0,0 +1,17 @@
+package com.core.back9.common.query;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/* Hibernate가 SQL을 준비할 때마다 현재 요청의 QueryInspection에 기록 (SQL은 변경하지 않음) */
+public class QueryInspector implements StatementInspector {
+
+	@Override
+	public String inspect(String sql) {
+		QueryInspection inspection = QueryInspection.current();
+		if (inspection != null) {
+			inspection.onPrepare(sql);
+		}
+		return sql;
+	}
+
+}
@@ -0,0 +1,49 @@
+package com.core.back9.common.query;
+
+import com.core.back9.dto.QueryDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+/* 최근 감지된 N+1 / 느린 SQL 목록 - 용량을 넘으면 가장 오래된 항목부터 버림 */
+@Component
+public class QueryOffenderBuffer {
+
+	private final int capacity;
+	private final Deque<QueryDTO.Offender> offenders;
+
+	public QueryOffenderBuffer(@Value("${query-detector.buffer-size:200}") int capacity) {
+		this.capacity = Math.max(capacity, 1);
+		this.offenders = new ArrayDeque<>(this.capacity);
+	}
+
+	public synchronized void add(QueryDTO.Offender offender) {
+		if (offenders.size() == capacity) {
+			offenders.removeFirst();
+		}
+		offenders.addLast(offender);
+	}
+
+	public synchronized List<QueryDTO.Offender> findRecent() {
+		List<QueryDTO.Offender> recent = new ArrayList<>(offenders.size());
+		Iterator<QueryDTO.Offender> iterator = offenders.descendingIterator();
+		while (iterator.hasNext()) {
+			recent.add(iterator.next());
+		}
+		return recent;
+	}
+
+	public synchronized void clear() {
+		offenders.clear();
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+}
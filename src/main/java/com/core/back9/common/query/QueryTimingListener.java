@@ -0,0 +1,37 @@
+package com.core.back9.common.query;
+
+import org.hibernate.engine.spi.SessionEventListener;
+
+/*
+ * 세션별로 생성되는 Hibernate 이벤트 리스너 (hibernate.session.events.auto)
+ * - JDBC 실행 시간을 직전에 준비된 SQL 형태에 누적
+ */
+public class QueryTimingListener implements SessionEventListener {
+
+	@Override
+	public void jdbcExecuteStatementStart() {
+		QueryInspection inspection = QueryInspection.current();
+		if (inspection != null) {
+			inspection.onExecuteStart();
+		}
+	}
+
+	@Override
+	public void jdbcExecuteStatementEnd() {
+		QueryInspection inspection = QueryInspection.current();
+		if (inspection != null) {
+			inspection.onExecuteEnd();
+		}
+	}
+
+	@Override
+	public void jdbcExecuteBatchStart() {
+		jdbcExecuteStatementStart();
+	}
+
+	@Override
+	public void jdbcExecuteBatchEnd() {
+		jdbcExecuteStatementEnd();
+	}
+
+}
@@ -5,9 +5,11 @@ import com.core.back9.dto.MemberDTO;
 import com.core.back9.security.AuthMember;
 import com.core.back9.service.AlarmService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -24,6 +26,24 @@ public class AppUserAlarmController {
 		return ResponseEntity.ok(alarmService.selectAllById(member));
 	}
 
+	/* 기존 목록 응답(배열)은 유지하고 커서 페이지는 별도 경로로 제공 - cursor(이전 페이지의 nextCursor)보다 오래된 알림을 최신순으로 조회 */
+	@GetMapping("/cursor")
+	public ResponseEntity<AlarmDTO.CursorPage> getPage(
+	  @AuthMember MemberDTO.Info member,
+	  @RequestParam(required = false) Long cursor,
+	  @RequestParam(required = false) Integer size
+	) {
+		return ResponseEntity.ok(alarmService.selectPageById(member, cursor, size));
+	}
+
+	@PatchMapping("/read-all")
+	public ResponseEntity<Void> modifyAllRead(
+	  @AuthMember MemberDTO.Info member
+	) {
+		alarmService.updateAllRead(member);
+		return ResponseEntity.ok().build();
+	}
+
 	@PatchMapping("/{alarmId}")
 	public ResponseEntity<Void> modifyRead(
 	  @AuthMember MemberDTO.Info member,
@@ -42,6 +62,15 @@ public class AppUserAlarmController {
 		return ResponseEntity.ok().build();
 	}
 
+	@DeleteMapping
+	public ResponseEntity<Void> unregisterAllBefore(
+	  @AuthMember MemberDTO.Info member,
+	  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before
+	) {
+		alarmService.deleteAllBefore(member, before);
+		return ResponseEntity.ok().build();
+	}
+
 	@GetMapping("/is-new")
 	public ResponseEntity<Boolean> isNew(
 	  @AuthMember MemberDTO.Info member
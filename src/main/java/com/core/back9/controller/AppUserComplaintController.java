@@ -2,12 +2,17 @@ package com.core.back9.controller;
 
 import com.core.back9.dto.ComplaintDTO;
 import com.core.back9.dto.MemberDTO;
+import com.core.back9.entity.constant.ComplaintStatus;
 import com.core.back9.security.AuthMember;
 import com.core.back9.service.ComplaintService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -33,6 +38,49 @@ public class AppUserComplaintController {
 		return ResponseEntity.ok(complaintService.selectAllByMemberId(member));
 	}
 
+	/* 소유자가 받은 민원 목록 (페이지) */
+	@GetMapping("/received")
+	public ResponseEntity<Page<ComplaintDTO.OwnerInfo>> getReceivedPage(
+	  @AuthMember MemberDTO.Info member,
+	  @RequestParam(required = false) Long buildingId,
+	  @RequestParam(required = false) Long roomId,
+	  @RequestParam(required = false) ComplaintStatus complaintStatus,
+	  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+	  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+	  Pageable pageable
+	) {
+		ComplaintDTO.OwnerSearchCondition condition = ComplaintDTO.OwnerSearchCondition.builder()
+		  .buildingId(buildingId)
+		  .roomId(roomId)
+		  .complaintStatus(complaintStatus)
+		  .from(from)
+		  .to(to)
+		  .build();
+		return ResponseEntity.ok(complaintService.selectOwnerPage(member, condition, pageable));
+	}
+
+	/* 소유자가 받은 민원 목록 (커서) */
+	@GetMapping("/received/cursor")
+	public ResponseEntity<ComplaintDTO.CursorPage> getReceivedCursorPage(
+	  @AuthMember MemberDTO.Info member,
+	  @RequestParam(required = false) Long buildingId,
+	  @RequestParam(required = false) Long roomId,
+	  @RequestParam(required = false) ComplaintStatus complaintStatus,
+	  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+	  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+	  @RequestParam(required = false) Long cursor,
+	  @RequestParam(required = false) Integer size
+	) {
+		ComplaintDTO.OwnerSearchCondition condition = ComplaintDTO.OwnerSearchCondition.builder()
+		  .buildingId(buildingId)
+		  .roomId(roomId)
+		  .complaintStatus(complaintStatus)
+		  .from(from)
+		  .to(to)
+		  .build();
+		return ResponseEntity.ok(complaintService.selectOwnerCursorPage(member, condition, cursor, size));
+	}
+
 	@PatchMapping("/{complaintId}/completed")
 	public ResponseEntity<Void> modifyCompleted(
 	  @AuthMember MemberDTO.Info member,
@@ -1,5 +1,7 @@
 package com.core.back9.controller;
 
+import com.core.back9.common.cache.DashboardCache;
+import com.core.back9.common.cache.DashboardCacheKey;
 import com.core.back9.common.config.annotation.SwaggerDocs;
 import com.core.back9.dto.ContractDTO;
 import com.core.back9.dto.MemberDTO;
@@ -22,6 +24,7 @@ public class ContractController {
 
     private final ContractService contractService;
     private final ContractMapper contractMapper;
+    private final DashboardCache dashboardCache;
 
     @PostMapping("/{tenantId}")
     @SwaggerDocs.RegisterContract
@@ -50,13 +53,17 @@ public class ContractController {
             @PathVariable(name = "roomId") Long roomId
     ) {
 
-        LocalDate startDate = LocalDate.now().minusYears(1).plusDays(1); // 검색 범위를 1년으로 설정하기 위한 변수
+        LocalDate now = LocalDate.now();
+        LocalDate startDate = now.minusYears(1).plusDays(1); // 검색 범위를 1년으로 설정하기 위한 변수
 
-        ContractDTO.CostInfo costInfo = contractService.getContractCostInfo(member, buildingId, roomId); // 내 호실 임대료 & 공실이 아닌 호실의 임대 평균값 반환
-        ContractDTO.RenewalContractRateInfo renewalContractRateInfo = contractService.getRenewalContractRateInfo(member, buildingId, roomId);
-        ContractDTO.VacancyRateInfo vacancyRateInfo = contractService.getContractVacancyRateInfo(member, buildingId, roomId, startDate);
+        DashboardCacheKey key = DashboardCacheKey.ofRoom("contract-statistic", member.getId(), buildingId, roomId, now);
+        ContractDTO.StatisticInfo statisticInfo = dashboardCache.get(key, () -> {
+            ContractDTO.CostInfo costInfo = contractService.getContractCostInfo(member, buildingId, roomId); // 내 호실 임대료 & 공실이 아닌 호실의 임대 평균값 반환
+            ContractDTO.RenewalContractRateInfo renewalContractRateInfo = contractService.getRenewalContractRateInfo(member, buildingId, roomId);
+            ContractDTO.VacancyRateInfo vacancyRateInfo = contractService.getContractVacancyRateInfo(member, buildingId, roomId, startDate);
 
-        ContractDTO.StatisticInfo statisticInfo = contractMapper.toStatisticInfo(costInfo, renewalContractRateInfo, vacancyRateInfo);
+            return contractMapper.toStatisticInfo(costInfo, renewalContractRateInfo, vacancyRateInfo);
+        });
 
         return ResponseEntity.ok(statisticInfo);
 
@@ -1,17 +1,32 @@
 package com.core.back9.controller;
 
+import com.core.back9.common.cache.DashboardCache;
+import com.core.back9.common.cache.DashboardCacheKey;
 import com.core.back9.dto.BuildingDTO;
+import com.core.back9.dto.ComplaintDTO;
+import com.core.back9.dto.DashboardDTO;
 import com.core.back9.dto.MemberDTO;
 import com.core.back9.dto.ScoreDTO;
 import com.core.back9.security.AuthMember;
 import com.core.back9.service.BuildingService;
+import com.core.back9.service.ComplaintMetricService;
+import com.core.back9.service.DashboardService;
+import com.core.back9.service.DashboardVersionService;
 import com.core.back9.service.ScoreService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -21,6 +36,10 @@ public class OwnerBuildingController {
 
 	private final BuildingService buildingService;
 	private final ScoreService scoreService;
+	private final DashboardCache dashboardCache;
+	private final DashboardVersionService dashboardVersionService;
+	private final DashboardService dashboardService;
+	private final ComplaintMetricService complaintMetricService;
 
 	@Operation(summary = "전체 빌딩 정보 조회",
 	  description = "로그인 한 소유자(owner)의 전체 빌딩 정보를 조회한다.")
@@ -49,9 +68,18 @@ public class OwnerBuildingController {
 	  @AuthMember MemberDTO.Info member,
 	  @PathVariable Long buildingId,
 	  @RequestParam int year,
-	  @RequestParam int quarter
+	  @RequestParam int quarter,
+	  WebRequest webRequest
 	) {
-		return ResponseEntity.ok(scoreService.selectScoresByQuarter(member, buildingId, year, quarter));
+		String eTag = dashboardVersionService.getETag(buildingId, member.getId(), "my-quarterly-score", year, quarter);
+		if (webRequest.checkNotModified(eTag)) { // 변경이 없으면 집계 없이 304 응답
+			return null;
+		}
+
+		DashboardCacheKey key = DashboardCacheKey.ofBuilding("my-quarterly-score", member.getId(), buildingId, year + "-Q" + quarter);
+		return ResponseEntity.ok()
+		  .eTag(eTag)
+		  .body(dashboardCache.get(key, () -> scoreService.selectScoresByQuarter(member, buildingId, year, quarter)));
 	}
 
 	@Operation(summary = "대시보드 페이지",
@@ -61,9 +89,18 @@ public class OwnerBuildingController {
 	  @AuthMember MemberDTO.Info member,
 	  @PathVariable Long buildingId,
 	  @RequestParam int year,
-	  @RequestParam int quarter
+	  @RequestParam int quarter,
+	  WebRequest webRequest
 	) {
-		return ResponseEntity.ok(scoreService.selectQuarterlyScoreOfMyRooms(member, buildingId, year, quarter));
+		String eTag = dashboardVersionService.getETag(buildingId, member.getId(), "my-rooms-quarterly-score", year, quarter);
+		if (webRequest.checkNotModified(eTag)) {
+			return null;
+		}
+
+		DashboardCacheKey key = DashboardCacheKey.ofBuilding("my-rooms-quarterly-score", member.getId(), buildingId, year + "-Q" + quarter);
+		return ResponseEntity.ok()
+		  .eTag(eTag)
+		  .body(dashboardCache.get(key, () -> scoreService.selectQuarterlyScoreOfMyRooms(member, buildingId, year, quarter)));
 	}
 
 	@Operation(summary = "대시보드 페이지",
@@ -71,15 +108,73 @@ public class OwnerBuildingController {
 	@GetMapping("/{buildingId}/my-rooms-year-score")
 	public ResponseEntity<List<ScoreDTO.AllAvgByRoom>> searchYearScoresOfMyRooms(
 	  @AuthMember MemberDTO.Info member,
-	  @PathVariable Long buildingId
+	  @PathVariable Long buildingId,
+	  WebRequest webRequest
 	) {
-		return ResponseEntity.ok(scoreService.selectYearScoreOfMyRooms(member, buildingId));
+		YearMonth currentMonth = YearMonth.now(); // 현재 월 기준 1년
+		String eTag = dashboardVersionService.getETag(buildingId, member.getId(), "my-rooms-year-score", currentMonth);
+		if (webRequest.checkNotModified(eTag)) {
+			return null;
+		}
+
+		DashboardCacheKey key = DashboardCacheKey.ofBuilding("my-rooms-year-score", member.getId(), buildingId, currentMonth);
+		return ResponseEntity.ok()
+		  .eTag(eTag)
+		  .body(dashboardCache.get(key, () -> scoreService.selectYearScoreOfMyRooms(member, buildingId)));
 	}
 
 	@Operation(summary = "대시보드 페이지", description = "해당 빌딩의 내 모든 호실에 대해 최근 2년 동안 유효한 평가가 1건도 없으면 false를 반환한다.")
 	@GetMapping("/{buildingId}/valid-score")
-	public ResponseEntity<Boolean> hasValidScore(@AuthMember MemberDTO.Info member, @PathVariable Long buildingId) {
-		return ResponseEntity.ok(scoreService.hasValidScore(member, buildingId));
+	public ResponseEntity<Boolean> hasValidScore(@AuthMember MemberDTO.Info member, @PathVariable Long buildingId, WebRequest webRequest) {
+		String eTag = dashboardVersionService.getETag(buildingId, member.getId(), "valid-score", LocalDate.now()); // 최근 2년 기준일
+		if (webRequest.checkNotModified(eTag)) {
+			return null;
+		}
+
+		return ResponseEntity.ok()
+		  .eTag(eTag)
+		  .body(scoreService.hasValidScore(member, buildingId));
+	}
+
+	@Operation(summary = "대시보드 페이지 통합 조회",
+	  description = "분기 평균 점수, 호실별 분기/1년 점수, 선택 호실(미지정 시 대표 호실)의 임대료/재계약률/공실률을 한 번에 조회한다. 제한 시간을 넘긴 항목은 status로 구분하여 부분 응답한다.")
+	@GetMapping("/{buildingId}/dashboard")
+	public ResponseEntity<DashboardDTO.Info> getDashboard(
+	  @AuthMember MemberDTO.Info member,
+	  @PathVariable Long buildingId,
+	  @RequestParam(required = false) Long roomId,
+	  @RequestParam int year,
+	  @RequestParam int quarter,
+	  ServletWebRequest webRequest
+	) {
+		String eTag = dashboardVersionService.getETag(buildingId, member.getId(), "dashboard", roomId, year, quarter, LocalDate.now());
+		if (webRequest.checkNotModified(eTag)) { // 약한 비교, 여러 ETag, * 처리는 Spring에 위임
+			return null;
+		}
+
+		DashboardDTO.Info dashboard = dashboardService.selectDashboard(member, buildingId, roomId, year, quarter);
+		if (!dashboard.isComplete()) {
+			// checkNotModified가 미리 기록한 ETag 제거 - 부분 응답이 304로 재사용되지 않도록 ETag 미발급
+			webRequest.getResponse().setHeader(HttpHeaders.ETAG, null);
+			return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(dashboard);
+		}
+		return ResponseEntity.ok()
+		  .eTag(eTag)
+		  .body(dashboard);
+	}
+
+	@Operation(summary = "민원 처리 통계",
+	  description = "해당 빌딩의 내 호실별 / 월별 민원 접수, 완료, 반려 건수와 처리 시간 분포를 조회한다. (기본 최근 12개월, 최대 24개월)")
+	@GetMapping("/{buildingId}/complaint-analytics")
+	public ResponseEntity<ComplaintDTO.Analytics> getComplaintAnalytics(
+	  @AuthMember MemberDTO.Info member,
+	  @PathVariable Long buildingId,
+	  @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM")
+	  @Parameter(description = "시작 년-월", example = "2024-01") YearMonth from,
+	  @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM")
+	  @Parameter(description = "종료 년-월", example = "2024-12") YearMonth to
+	) {
+		return ResponseEntity.ok(complaintMetricService.selectAnalytics(member, buildingId, from, to));
 	}
 
 }
@@ -1,10 +1,13 @@
 package com.core.back9.controller;
 
+import com.core.back9.common.cache.DashboardCache;
+import com.core.back9.common.cache.DashboardCacheKey;
 import com.core.back9.dto.MemberDTO;
 import com.core.back9.dto.RoomDTO;
 import com.core.back9.dto.ScoreDTO;
 import com.core.back9.entity.constant.RatingType;
 import com.core.back9.security.AuthMember;
+import com.core.back9.service.DashboardVersionService;
 import com.core.back9.service.RoomService;
 import com.core.back9.service.ScoreService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,6 +18,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.YearMonth;
 
@@ -25,6 +29,8 @@ public class OwnerRoomController {
 
 	private final RoomService roomService;
 	private final ScoreService scoreService;
+	private final DashboardCache dashboardCache;
+	private final DashboardVersionService dashboardVersionService;
 
 	@Operation(summary = "전체 호실 조회",
 	  description = "해당 건물의 전체 호실의 기본정보와 계약목록, 설정상태를 조회한다.")
@@ -114,16 +120,26 @@ public class OwnerRoomController {
 	}
 
 	@Operation(summary = "호실 상세 페이지",
-	  description = "해당 호실과 타호실의 선택한 년/월로부터 이전 1년간 총 평균 점수, 평가 항목별 점수, 평가 진행률을 배열로 조회한다.")
+	  description = "해당 호실과 같은 빌딩 타호실의 선택한 년/월로부터 이전 1년간 총 평균 점수, 평가 항목별 점수, 평가 진행률을 배열로 조회한다.")
 	@GetMapping("/{roomId}/yearly-score-interval-month")
 	public ResponseEntity<ScoreDTO.ListOfYearAvgWithMeAndOthers> searchYearScoresIntervalMonth(
 	  @AuthMember MemberDTO.Info member,
 	  @PathVariable Long buildingId,
 	  @PathVariable Long roomId,
 	  @RequestParam @DateTimeFormat(pattern = "yyyy-MM")
-	  @Parameter(description = "선택 년-월", example = "2024-05") YearMonth yearMonth
+	  @Parameter(description = "선택 년-월", example = "2024-05") YearMonth yearMonth,
+	  WebRequest webRequest
 	) {
-		return ResponseEntity.ok(scoreService.selectYearScoresIntervalMonth(member, buildingId, roomId, yearMonth));
+		// 비교 평균(타호실)은 같은 빌딩 호실로 한정하므로 해당 빌딩의 변경만 반영하면 됨 - 빌딩 단위 버전 / 캐시 키 사용
+		String eTag = dashboardVersionService.getETag(buildingId, member.getId(), "yearly-score-interval-month", roomId, yearMonth);
+		if (webRequest.checkNotModified(eTag)) { // 변경이 없으면 집계 없이 304 응답
+			return null;
+		}
+
+		DashboardCacheKey key = DashboardCacheKey.ofRoom("yearly-score-interval-month", member.getId(), buildingId, roomId, yearMonth);
+		return ResponseEntity.ok()
+		  .eTag(eTag)
+		  .body(dashboardCache.get(key, () -> scoreService.selectYearScoresIntervalMonth(member, buildingId, roomId, yearMonth)));
 	}
 
 }
@@ -8,6 +8,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class AlarmDTO {
 
@@ -33,6 +34,17 @@ public class AlarmDTO {
 			  .alarmMessage(alarmMessage)
 			  .build();
 		}
+
+		public static Request createContract(Long receivedId, AlarmType alarmType, String alarmMessage) {
+			return Request.builder()
+			  .receivedId(receivedId)
+			  .alarmType(alarmType)
+			  .readStatus(false)
+			  .status(Status.REGISTER)
+			  .alarmTitle(alarmType.getLabel())
+			  .alarmMessage(alarmMessage)
+			  .build();
+		}
 	}
 
 	@AllArgsConstructor
@@ -48,4 +60,14 @@ public class AlarmDTO {
 		private LocalDateTime createdAt;
 	}
 
+	@AllArgsConstructor
+	@NoArgsConstructor
+	@Builder
+	@Getter
+	public static class CursorPage {
+		private List<Info> alarms;
+		private Long nextCursor;	// 다음 페이지 요청 시 cursor 값, 마지막 페이지면 null
+		private boolean hasNext;
+	}
+
 }
@@ -0,0 +1,40 @@
+package com.core.back9.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class BatchDTO {
+
+	@AllArgsConstructor
+	@NoArgsConstructor
+	@Builder
+	@Getter
+	public static class ExecutionSummary {
+		private Long executionId;
+		private String jobName;
+		private String status;
+		private String exitCode;
+		private LocalDateTime startTime;
+		private LocalDateTime endTime;
+		private Long durationMillis;	// 실행 중이면 null
+		private long readCount;			// 전체 step 합계
+		private long writeCount;		// 전체 step 합계
+	}
+
+	@AllArgsConstructor
+	@NoArgsConstructor
+	@Builder
+	@Getter
+	public static class ExecutionPage {
+		private int page;
+		private int size;
+		private long totalElements;
+		private List<ExecutionSummary> executions;
+	}
+
+}
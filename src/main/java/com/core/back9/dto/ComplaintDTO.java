@@ -6,7 +6,11 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
 
 public class ComplaintDTO {
 
@@ -32,4 +36,80 @@ public class ComplaintDTO {
 		private LocalDateTime updatedAt;
 	}
 
+	@AllArgsConstructor
+	@NoArgsConstructor
+	@Builder
+	@Getter
+	public static class OwnerInfo {
+		private Long id;
+		private Long buildingId;
+		private String buildingName;
+		private Long roomId;
+		private String roomName;
+		private String complaintMessage;
+		private ComplaintStatus complaintStatus;
+		private String completedMessage;
+		private LocalDateTime createdAt;
+		private LocalDateTime updatedAt;
+	}
+
+	/* 소유자 민원 목록 필터 - 값이 없는 조건은 적용하지 않음, 등록일은 from ~ to (포함) */
+	@AllArgsConstructor
+	@NoArgsConstructor
+	@Builder
+	@Getter
+	public static class OwnerSearchCondition {
+		private Long buildingId;
+		private Long roomId;
+		private ComplaintStatus complaintStatus;
+		private LocalDate from;
+		private LocalDate to;
+
+		public LocalDateTime getCreatedFrom() {
+			return from != null ? from.atStartOfDay() : null;
+		}
+
+		public LocalDateTime getCreatedBefore() {
+			return to != null ? to.plusDays(1).atStartOfDay() : null;
+		}
+	}
+
+	@AllArgsConstructor
+	@NoArgsConstructor
+	@Builder
+	@Getter
+	public static class CursorPage {
+		private List<OwnerInfo> complaints;
+		private Long nextCursor;	// 다음 페이지 요청 시 cursor 값, 마지막 페이지면 null
+		private boolean hasNext;
+	}
+
+	/* 소유자 민원 처리 통계 - total : 조회 기간 전체 합계, rooms : 호실 / 월별 집계 */
+	@AllArgsConstructor
+	@NoArgsConstructor
+	@Builder
+	@Getter
+	public static class Analytics {
+		private Long buildingId;
+		private YearMonth from;
+		private YearMonth to;
+		private Metric total;
+		private List<Metric> rooms;
+	}
+
+	/* resolutionHistogram : 처리 시간 구간(1h, 1d, 3d, 7d, +Inf)별 처리 건수 (누적 아님) */
+	@AllArgsConstructor
+	@NoArgsConstructor
+	@Builder
+	@Getter
+	public static class Metric {
+		private Long roomId;		// 합계면 null
+		private YearMonth month;	// 합계면 null
+		private long receivedCount;
+		private long completedCount;
+		private long rejectedCount;
+		private Double averageResolutionHours;	// 처리 건이 없으면 null
+		private Map<String, Long> resolutionHistogram;
+	}
+
 }
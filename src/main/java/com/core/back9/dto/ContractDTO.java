@@ -1,6 +1,8 @@
 package com.core.back9.dto;
 
 import com.core.back9.entity.constant.ContractStatus;
+import com.core.back9.entity.constant.Status;
+import com.core.back9.entity.constant.Usage;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -191,6 +193,33 @@ public class ContractDTO {
 		private ContractStatus contractStatus;
 	}
 
+	/* InfoWithRoom 조회용 평탄화 projection (JPQL 생성자 표현식은 중첩 객체를 만들 수 없음) */
+	@AllArgsConstructor
+	@NoArgsConstructor
+	@Builder
+	@Getter
+	public static class InfoWithRoomProjection {
+		private Long id;
+		private LocalDate startDate;
+		private LocalDate endDate;
+		private LocalDate checkOut;
+		private Long deposit;
+		private Long rentalPrice;
+		private ContractStatus contractStatus;
+		private Long roomId;
+		private String roomName;
+		private String roomFloor;
+		private float roomArea;
+		private Usage roomUsage;
+		private Status roomStatus;
+		private Long buildingId;
+		private String buildingName;
+		private String buildingAddress;
+		private String buildingZipCode;
+		private LocalDateTime buildingCreatedAt;
+		private LocalDateTime buildingUpdatedAt;
+	}
+
 	@AllArgsConstructor
 	@NoArgsConstructor
 	@Builder
@@ -0,0 +1,60 @@
+package com.core.back9.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public class DashboardDTO {
+
+	public enum SectionStatus {
+		OK,         // 정상 조회
+		TIMEOUT,    // 요청 제한 시간 초과
+		REJECTED,   // 집계 스레드풀 포화로 실행되지 못함
+		FAILED      // 조회 중 오류
+	}
+
+	@AllArgsConstructor
+	@NoArgsConstructor
+	@Builder
+	@Getter
+	public static class Section<T> {
+		private SectionStatus status;
+		private T data;
+
+		public static <T> Section<T> ok(T data) {
+			return new Section<>(SectionStatus.OK, data);
+		}
+
+		public static <T> Section<T> of(SectionStatus status) {
+			return new Section<>(status, null);
+		}
+	}
+
+	@AllArgsConstructor
+	@NoArgsConstructor
+	@Builder
+	@Getter
+	public static class Info {
+		private Long buildingId;
+		private Long roomId; // 계약 통계 대상 호실
+		private int year;
+		private int quarter;
+		private Section<ScoreDTO.AvgByQuarter> quarterlyScore;
+		private Section<ScoreDTO.CurrentAndBeforeQuarterlyTotalAvg> roomsQuarterlyScore;
+		private Section<List<ScoreDTO.AllAvgByRoom>> roomsYearScore;
+		private Section<ContractDTO.CostInfo> contractCost;
+		private Section<ContractDTO.RenewalContractRateInfo> renewalContractRate;
+		private Section<ContractDTO.VacancyRateInfo> vacancyRate;
+
+		/* 모든 섹션이 정상 조회되었는지 여부 (부분 응답은 ETag를 발급하지 않음) */
+		public boolean isComplete() {
+			return Stream.of(quarterlyScore, roomsQuarterlyScore, roomsYearScore, contractCost, renewalContractRate, vacancyRate)
+			  .allMatch(section -> section != null && section.getStatus() == SectionStatus.OK);
+		}
+	}
+
+}
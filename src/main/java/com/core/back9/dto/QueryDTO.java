@@ -0,0 +1,38 @@
+package com.core.back9.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class QueryDTO {
+
+	@AllArgsConstructor
+	@NoArgsConstructor
+	@Builder
+	@Getter
+	public static class Offender {
+		private LocalDateTime detectedAt;
+		private String route;			// GET /api/buildings/{buildingId}/rooms
+		private String fingerprint;		// 리터럴, in 절 파라미터 개수를 제거한 SQL
+		private int count;				// 요청 한 번에서 같은 형태의 SQL 실행 횟수
+		private long totalMillis;
+		private long maxMillis;
+		private List<String> reasons;	// REPEATED, SLOW
+	}
+
+	@AllArgsConstructor
+	@NoArgsConstructor
+	@Builder
+	@Getter
+	public static class OffenderReport {
+		private int repeatThreshold;
+		private long slowThresholdMillis;
+		private int capacity;
+		private List<Offender> offenders;	// 최신순
+	}
+
+}
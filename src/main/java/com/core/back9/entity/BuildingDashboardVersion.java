@@ -0,0 +1,42 @@
+package com.core.back9.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/*
+ * 빌딩 단위 통계 응답 버전 (ETag) - 2차 캐시 대상인 Building과 분리된 행
+ * 행은 빌딩 생성 시 함께 생성하고 값은 BuildingDashboardVersionRepository의 bulk update로만 증가 (엔티티로 변경하지 않음)
+ * HQL bulk update는 @Immutable 엔티티에 사용할 수 없으므로 변경 메서드를 두지 않는 방식으로 제한
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(name = "building_dashboard_versions")
+public class BuildingDashboardVersion {
+
+	@Id
+	@Column(name = "building_id")
+	private Long buildingId;
+
+	@Column(nullable = false)
+	private long version;
+
+	@Column(name = "changed_at", columnDefinition = "TIMESTAMP")
+	private LocalDateTime changedAt;
+
+	private BuildingDashboardVersion(Long buildingId) {
+		this.buildingId = buildingId;
+	}
+
+	public static BuildingDashboardVersion of(Long buildingId) {
+		return new BuildingDashboardVersion(buildingId);
+	}
+
+}
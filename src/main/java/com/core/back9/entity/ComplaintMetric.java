@@ -0,0 +1,88 @@
+package com.core.back9.entity;
+
+import com.core.back9.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.YearMonth;
+
+/*
+ * 호실 / 월 단위 민원 집계 - 조회 전용 엔티티
+ * 행은 ComplaintMetricCreator로 생성하고 값은 ComplaintMetricRepository의 native update로만 증가시키므로 변경 감지 대상에서 제외 (@Immutable)
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Immutable
+@Entity
+@Table(name = "complaint_metrics")
+public class ComplaintMetric extends BaseEntity {
+
+	@Column(name = "room_id", nullable = false)
+	private Long roomId;
+
+	@Column(name = "building_id", nullable = false)
+	private Long buildingId;
+
+	@Column(name = "metric_month", nullable = false)
+	private int metricMonth;
+
+	@Column(name = "received_count", nullable = false)
+	private long receivedCount;
+
+	@Column(name = "completed_count", nullable = false)
+	private long completedCount;
+
+	@Column(name = "rejected_count", nullable = false)
+	private long rejectedCount;
+
+	@Column(name = "resolution_seconds_sum", nullable = false)
+	private long resolutionSecondsSum;
+
+	@Column(name = "le_1h_count", nullable = false)
+	private long le1hCount;
+
+	@Column(name = "le_1d_count", nullable = false)
+	private long le1dCount;
+
+	@Column(name = "le_3d_count", nullable = false)
+	private long le3dCount;
+
+	@Column(name = "le_7d_count", nullable = false)
+	private long le7dCount;
+
+	@Column(name = "over_7d_count", nullable = false)
+	private long over7dCount;
+
+	@Builder
+	public ComplaintMetric(Long roomId, Long buildingId, int metricMonth, long receivedCount, long completedCount,
+						   long rejectedCount, long resolutionSecondsSum, long le1hCount, long le1dCount,
+						   long le3dCount, long le7dCount, long over7dCount) {
+		this.roomId = roomId;
+		this.buildingId = buildingId;
+		this.metricMonth = metricMonth;
+		this.receivedCount = receivedCount;
+		this.completedCount = completedCount;
+		this.rejectedCount = rejectedCount;
+		this.resolutionSecondsSum = resolutionSecondsSum;
+		this.le1hCount = le1hCount;
+		this.le1dCount = le1dCount;
+		this.le3dCount = le3dCount;
+		this.le7dCount = le7dCount;
+		this.over7dCount = over7dCount;
+	}
+
+	public static int toMetricMonth(YearMonth yearMonth) {
+		return yearMonth.getYear() * 100 + yearMonth.getMonthValue();
+	}
+
+	public YearMonth getYearMonth() {
+		return YearMonth.of(metricMonth / 100, metricMonth % 100);
+	}
+
+}
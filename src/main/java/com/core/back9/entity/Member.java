@@ -9,6 +9,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -46,6 +47,10 @@ public class Member extends BaseEntity {
     @Column(name = "firebase_fcm_token")
     private String firebaseFcmToken; // 즉시 적용여부가 확실치 않아 nullable = true로 남겨두었음
 
+    @ColumnDefault("0")
+    @Column(name = "unread_alarm_count", nullable = false, insertable = false, updatable = false) // UnreadAlarmCounter에서만 증감
+    private int unreadAlarmCount;
+
     @OneToMany(mappedBy = "member") // 양방향 설정
     private List<Score> scores = new ArrayList<>();
 
@@ -9,6 +9,9 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -16,6 +19,8 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "room")
 @Table(name = "rooms")
 public class Room extends BaseEntity {
 
@@ -47,6 +52,7 @@ public class Room extends BaseEntity {
 	@JoinColumn(name = "member_id")
 	private Member member;
 
+	@BatchSize(size = 100) // 호실 목록 조회 시 호실별 계약 목록을 in 절로 한 번에 로딩
 	@OneToMany(mappedBy = "room", cascade = CascadeType.REMOVE)
 	private List<Contract> contracts = new ArrayList<>();
 
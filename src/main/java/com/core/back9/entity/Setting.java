@@ -7,10 +7,16 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "setting")
+@BatchSize(size = 100) // 호실 목록 조회 시 호실별 설정(즉시 로딩)을 in 절로 한 번에 로딩
 @Table(name = "settings")
 public class Setting extends BaseEntity {
 
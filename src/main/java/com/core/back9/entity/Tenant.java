@@ -8,6 +8,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -15,6 +16,7 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
+@BatchSize(size = 100) // 계약 목록 매핑 시 입주사 프록시를 in 절로 한 번에 초기화
 @Table(name = "tenants")
 public class Tenant extends BaseEntity {
 
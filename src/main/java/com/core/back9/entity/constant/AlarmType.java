@@ -13,6 +13,8 @@ public enum AlarmType {
 	COMPLAINT_IN_PROGRESS("민원", "민원이 처리중입니다."),
 	COMPLAINT_COMPLETED("민원", "민원 처리가 완료되었습니다."),
 	COMPLAINT_REJECTED("민원", "민원이 반려되었습니다"),
+	CONTRACT_IN_PROGRESS("계약", "계약이 이행 상태로 변경되었습니다."),
+	CONTRACT_EXPIRED("계약", "계약이 만료되었습니다."),
 	;
 
 	private final String label;
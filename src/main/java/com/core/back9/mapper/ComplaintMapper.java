@@ -3,6 +3,7 @@ package com.core.back9.mapper;
 import com.core.back9.dto.ComplaintDTO;
 import com.core.back9.entity.Complaint;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 import org.mapstruct.ReportingPolicy;
 
@@ -15,4 +16,10 @@ public interface ComplaintMapper {
 
 	ComplaintDTO.Info toInfo(Complaint complaint);
 
+	@Mapping(source = "room.building.id", target = "buildingId")
+	@Mapping(source = "room.building.name", target = "buildingName")
+	@Mapping(source = "room.id", target = "roomId")
+	@Mapping(source = "room.name", target = "roomName")
+	ComplaintDTO.OwnerInfo toOwnerInfo(Complaint complaint);
+
 }
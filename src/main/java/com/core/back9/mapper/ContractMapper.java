@@ -52,7 +52,19 @@ public interface ContractMapper {
 
     ContractDTO.StatisticInfo toStatisticInfo(ContractDTO.CostInfo costInfo, ContractDTO.RenewalContractRateInfo contractRateInfo, ContractDTO.VacancyRateInfo vacancyRateInfo);
 
-    ContractDTO.InfoWithRoom toInfoWithRoom(Contract contract);
+    @Mapping(source = "roomId", target = "room.id")
+    @Mapping(source = "roomName", target = "room.name")
+    @Mapping(source = "roomFloor", target = "room.floor")
+    @Mapping(source = "roomArea", target = "room.area")
+    @Mapping(source = "roomUsage", target = "room.usage")
+    @Mapping(source = "roomStatus", target = "room.status")
+    @Mapping(source = "buildingId", target = "room.building.id")
+    @Mapping(source = "buildingName", target = "room.building.name")
+    @Mapping(source = "buildingAddress", target = "room.building.address")
+    @Mapping(source = "buildingZipCode", target = "room.building.zipCode")
+    @Mapping(source = "buildingCreatedAt", target = "room.building.createdAt")
+    @Mapping(source = "buildingUpdatedAt", target = "room.building.updatedAt")
+    ContractDTO.InfoWithRoom toInfoWithRoom(ContractDTO.InfoWithRoomProjection projection);
 
     ContractDTO.InfoWithRoomList toInfoWithRoomList(Long count, List<ContractDTO.InfoWithRoom> infoWithRoomList);
 }
@@ -4,6 +4,7 @@ import com.core.back9.dto.ScoreDTO;
 import com.core.back9.entity.Room;
 import com.core.back9.entity.Score;
 import com.core.back9.entity.constant.RatingType;
+import com.core.back9.util.ScoreAggregate;
 import org.mapstruct.*;
 
 import java.time.YearMonth;
@@ -25,13 +26,17 @@ public interface ScoreMapper {
     @Mapping(source = "completed", target = "completed")
     ScoreDTO.InfoWithCompletionStatus toInfoWithCompletionStatus(Score score, boolean completed);
 
+    default ScoreDTO.AvgByQuarter toQuarterlyTotalAvg(int year, int quarter, List<Score> scores) {
+        return toQuarterlyTotalAvg(year, quarter, ScoreAggregate.of(scores));
+    }
+
     @Mapping(source = "year", target = "selectedYear")
     @Mapping(source = "quarter", target = "selectedQuarter")
-    @Mapping(target = "totalAvg", expression = "java(calculateTotalAvg(scores))")
-    @Mapping(target = "facilityAvg", expression = "java(calculateScoreTypeAvg(scores, com.core.back9.entity.constant.RatingType.FACILITY))")
-    @Mapping(target = "managementAvg", expression = "java(calculateScoreTypeAvg(scores, com.core.back9.entity.constant.RatingType.MANAGEMENT))")
-    @Mapping(target = "complaintAvg", expression = "java(calculateScoreTypeAvg(scores, com.core.back9.entity.constant.RatingType.COMPLAINT))")
-    ScoreDTO.AvgByQuarter toQuarterlyTotalAvg(int year, int quarter, List<Score> scores);
+    @Mapping(source = "aggregate.totalAvg", target = "totalAvg")
+    @Mapping(target = "facilityAvg", expression = "java(aggregate.getScoreTypeAvg(com.core.back9.entity.constant.RatingType.FACILITY))")
+    @Mapping(target = "managementAvg", expression = "java(aggregate.getScoreTypeAvg(com.core.back9.entity.constant.RatingType.MANAGEMENT))")
+    @Mapping(target = "complaintAvg", expression = "java(aggregate.getScoreTypeAvg(com.core.back9.entity.constant.RatingType.COMPLAINT))")
+    ScoreDTO.AvgByQuarter toQuarterlyTotalAvg(int year, int quarter, ScoreAggregate aggregate);
 
     @Mapping(source = "room.id", target = "roomId")
     @Mapping(source = "room.name", target = "roomName")
@@ -42,13 +47,18 @@ public interface ScoreMapper {
             List<ScoreDTO.TotalAvgByRoom> current, List<ScoreDTO.TotalAvgByRoom> before
     );
 
+    default ScoreDTO.AllAvgByMonth toAllAvgWithMonth(YearMonth current, List<Score> scores) {
+        return toAllAvgWithMonth(current, ScoreAggregate.of(scores));
+    }
+
+    /* 총 평균, 진행률, 타입별 평균을 단일 패스 집계 결과로부터 매핑 */
     @Mapping(source = "current", target = "selectedMonth")
-    @Mapping(target = "totalAvg", expression = "java(calculateTotalAvg(scores))")
-    @Mapping(target = "evaluationProgress", expression = "java(calculateEvaluationProgress(scores))")
-    @Mapping(target = "facilityAvg", expression = "java(calculateScoreTypeAvg(scores, com.core.back9.entity.constant.RatingType.FACILITY))")
-    @Mapping(target = "managementAvg", expression = "java(calculateScoreTypeAvg(scores, com.core.back9.entity.constant.RatingType.MANAGEMENT))")
-    @Mapping(target = "complaintAvg", expression = "java(calculateScoreTypeAvg(scores, com.core.back9.entity.constant.RatingType.COMPLAINT))")
-    ScoreDTO.AllAvgByMonth toAllAvgWithMonth(YearMonth current, List<Score> scores);
+    @Mapping(source = "aggregate.totalAvg", target = "totalAvg")
+    @Mapping(source = "aggregate.evaluationProgress", target = "evaluationProgress")
+    @Mapping(target = "facilityAvg", expression = "java(aggregate.getScoreTypeAvg(com.core.back9.entity.constant.RatingType.FACILITY))")
+    @Mapping(target = "managementAvg", expression = "java(aggregate.getScoreTypeAvg(com.core.back9.entity.constant.RatingType.MANAGEMENT))")
+    @Mapping(target = "complaintAvg", expression = "java(aggregate.getScoreTypeAvg(com.core.back9.entity.constant.RatingType.COMPLAINT))")
+    ScoreDTO.AllAvgByMonth toAllAvgWithMonth(YearMonth current, ScoreAggregate aggregate);
 
     @Mapping(source = "room.id", target = "roomId")
     @Mapping(source = "room.name", target = "roomName")
@@ -60,24 +70,18 @@ public interface ScoreMapper {
 
     @Named("calculateTotalAvg")
     default float calculateTotalAvg(List<Score> scores) {
-        return (float) scores.stream()
-                .filter(score -> score.getScore() >= 0)
-                .mapToInt(Score::getScore).average().orElse(0);
+        return ScoreAggregate.of(scores).getTotalAvg();
     }
 
     @Named("calculateEvaluationProgress")
     default float calculateEvaluationProgress(List<Score> scores) {
-        float completed = scores.stream().filter(score -> score.getScore() >= 0).count();
-        return completed > 0 ? completed / scores.size() * 100 : 0;
+        return ScoreAggregate.of(scores).getEvaluationProgress();
     }
 
+    /* 미평가(-1) 레코드 포함 평균 - 기존 응답 값 유지 */
     @Named("calculateScoreTypeAvg")
     default float calculateScoreTypeAvg(List<Score> scores, RatingType ratingType) {
-        return (float) scores.stream()
-                .filter(score -> score.getRatingType() == ratingType)
-                .mapToInt(Score::getScore)
-                .average()
-                .orElse(0);
+        return ScoreAggregate.of(scores).getScoreTypeAvg(ratingType);
     }
 
 }
@@ -1,18 +1,52 @@
 package com.core.back9.repository;
 
+import com.core.back9.dto.AlarmDTO;
 import com.core.back9.entity.Alarm;
 import com.core.back9.exception.ApiErrorCode;
 import com.core.back9.exception.ApiException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface AlarmRepository extends JpaRepository<Alarm, Long> {
 
-	List<Alarm> findAllByReceivedId(Long memberId);
+	/* 조회 전용 - 엔티티를 로딩하지 않고 필요한 컬럼만 조회 */
+	@Query(
+	  """
+		SELECT new com.core.back9.dto.AlarmDTO$Info(
+			a.id, a.alarmType, a.readStatus, a.alarmTitle, a.alarmMessage, a.createdAt
+		)
+		FROM Alarm a
+		WHERE a.receivedId = :receivedId
+		"""
+	)
+	List<AlarmDTO.Info> findAllInfoByReceivedId(@Param("receivedId") Long receivedId);
+
+	/* 조회 전용 - 엔티티를 로딩하지 않고 필요한 컬럼만 조회, cursor(id)보다 오래된 알림을 최신순으로 pageable 크기만큼 조회 */
+	@Query(
+	  """
+		SELECT new com.core.back9.dto.AlarmDTO$Info(
+			a.id, a.alarmType, a.readStatus, a.alarmTitle, a.alarmMessage, a.createdAt
+		)
+		FROM Alarm a
+		WHERE a.receivedId = :receivedId
+		AND a.id < :cursor
+		ORDER BY a.id DESC
+		"""
+	)
+	List<AlarmDTO.Info> findInfoPageByReceivedId(
+	  @Param("receivedId") Long receivedId,
+	  @Param("cursor") Long cursor,
+	  Pageable pageable
+	);
 
 	Optional<Alarm> findFirstByIdAndReceivedId(Long alarmId, Long receivedId);
 
@@ -21,6 +55,55 @@ public interface AlarmRepository extends JpaRepository<Alarm, Long> {
 		  .orElseThrow(() -> new ApiException(ApiErrorCode.NOT_FOUND_VALID_ALARM));
 	}
 
-	boolean existsByReceivedIdAndReadStatusIsFalse(Long receivedId);
+	/* 미확인 알림만 변경 - 변경된 행 수로 미확인 알림 수 감소 여부를 판단 (동시 요청 시 중복 감소 방지) */
+	@Modifying(clearAutomatically = true)
+	@Query(
+	  """
+		UPDATE Alarm a
+		SET a.readStatus = true, a.updatedAt = local datetime
+		WHERE a.id = :alarmId
+		AND a.receivedId = :receivedId
+		AND a.readStatus = false
+		AND a.status = 'REGISTER'
+		"""
+	)
+	int updateReadIfUnread(@Param("alarmId") Long alarmId, @Param("receivedId") Long receivedId);
+
+	@Modifying(clearAutomatically = true)
+	@Query(
+	  """
+		UPDATE Alarm a
+		SET a.status = 'UNREGISTER', a.updatedAt = local datetime
+		WHERE a.id = :alarmId
+		AND a.receivedId = :receivedId
+		AND a.readStatus = false
+		AND a.status = 'REGISTER'
+		"""
+	)
+	int deleteIfUnread(@Param("alarmId") Long alarmId, @Param("receivedId") Long receivedId);
+
+	@Modifying(clearAutomatically = true)
+	@Query(
+	  """
+		UPDATE Alarm a
+		SET a.readStatus = true, a.updatedAt = local datetime
+		WHERE a.receivedId = :receivedId
+		AND a.readStatus = false
+		AND a.status = 'REGISTER'
+		"""
+	)
+	int updateAllRead(@Param("receivedId") Long receivedId);
+
+	@Modifying(clearAutomatically = true)
+	@Query(
+	  """
+		UPDATE Alarm a
+		SET a.status = 'UNREGISTER', a.updatedAt = local datetime
+		WHERE a.receivedId = :receivedId
+		AND a.status = 'REGISTER'
+		AND a.createdAt < :before
+		"""
+	)
+	int deleteAllCreatedBefore(@Param("receivedId") Long receivedId, @Param("before") LocalDateTime before);
 
 }
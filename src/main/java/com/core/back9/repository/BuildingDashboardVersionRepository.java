@@ -0,0 +1,25 @@
+package com.core.back9.repository;
+
+import com.core.back9.entity.BuildingDashboardVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface BuildingDashboardVersionRepository extends JpaRepository<BuildingDashboardVersion, Long> {
+
+	/* JPQL bulk update - 캐시 대상이 아닌 building_dashboard_versions만 변경하므로 다른 2차 캐시 region은 유지됨 */
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE BuildingDashboardVersion v SET v.version = v.version + 1, v.changedAt = :changedAt WHERE v.buildingId IN :buildingIds")
+	int increase(@Param("buildingIds") Collection<Long> buildingIds, @Param("changedAt") LocalDateTime changedAt);
+
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE BuildingDashboardVersion v SET v.version = v.version + 1, v.changedAt = :changedAt")
+	int increaseAll(@Param("changedAt") LocalDateTime changedAt);
+
+}
@@ -4,10 +4,13 @@ import com.core.back9.entity.Building;
 import com.core.back9.entity.constant.Status;
 import com.core.back9.exception.ApiErrorCode;
 import com.core.back9.exception.ApiException;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -17,6 +20,10 @@ import java.util.Optional;
 @Repository
 public interface BuildingRepository extends JpaRepository<Building, Long> {
 
+	@QueryHints({
+	  @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+	  @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "ownership-query")
+	})
 	Optional<Building> findFirstByIdAndStatus(Long buildingId, Status status);
 
 	default Building getValidBuildingWithIdOrThrow(Long buildingId, Status status) {
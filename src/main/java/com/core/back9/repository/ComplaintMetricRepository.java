@@ -0,0 +1,80 @@
+package com.core.back9.repository;
+
+import com.core.back9.entity.ComplaintMetric;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ComplaintMetricRepository extends JpaRepository<ComplaintMetric, Long> {
+
+	boolean existsByRoomIdAndMetricMonth(Long roomId, int metricMonth);
+
+	/*
+	 * 민원 접수 집계 - 접수 시 1, 삭제 시 -1
+	 * 집계 행이 없으면 0을 반환하므로 ComplaintMetricService에서 행을 생성한 뒤 호출
+	 * (upsert 구문은 DB마다 달라 갱신 / 생성을 분리)
+	 * native DML은 query space를 명시하지 않으면 모든 2차 캐시 / 쿼리 캐시를 비우므로 complaint_metrics만 변경함을 명시
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "complaint_metrics"))
+	@Modifying
+	@Query(value = """
+	  update complaint_metrics
+	  set received_count = received_count + :count, updated_at = current_timestamp
+	  where room_id = :roomId and metric_month = :metricMonth
+	  """, nativeQuery = true)
+	int addReceived(
+	  @Param("roomId") Long roomId,
+	  @Param("metricMonth") int metricMonth,
+	  @Param("count") int count
+	);
+
+	/* 민원 처리(완료 / 반려) 집계 - 처리 시간(초)에 해당하는 분포 구간 증가 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "complaint_metrics"))
+	@Modifying
+	@Query(value = """
+	  update complaint_metrics
+	  set completed_count = completed_count + :completed,
+	      rejected_count = rejected_count + :rejected,
+	      resolution_seconds_sum = resolution_seconds_sum + :seconds,
+	      le_1h_count = le_1h_count + case when :seconds <= 3600 then 1 else 0 end,
+	      le_1d_count = le_1d_count + case when :seconds > 3600 and :seconds <= 86400 then 1 else 0 end,
+	      le_3d_count = le_3d_count + case when :seconds > 86400 and :seconds <= 259200 then 1 else 0 end,
+	      le_7d_count = le_7d_count + case when :seconds > 259200 and :seconds <= 604800 then 1 else 0 end,
+	      over_7d_count = over_7d_count + case when :seconds > 604800 then 1 else 0 end,
+	      updated_at = current_timestamp
+	  where room_id = :roomId and metric_month = :metricMonth
+	  """, nativeQuery = true)
+	int addResolved(
+	  @Param("roomId") Long roomId,
+	  @Param("metricMonth") int metricMonth,
+	  @Param("completed") int completed,
+	  @Param("rejected") int rejected,
+	  @Param("seconds") long seconds
+	);
+
+	/* 소유자 본인 호실의 집계만 조회 - 조회 행 수는 호실 수 x 개월 수로 민원 수와 무관 */
+	@Query(
+	  """
+		SELECT m FROM ComplaintMetric m
+		WHERE m.buildingId = :buildingId
+		AND m.metricMonth BETWEEN :fromMonth AND :toMonth
+		AND m.roomId IN (SELECT r.id FROM Room r WHERE r.building.id = :buildingId AND r.member.id = :ownerId)
+		ORDER BY m.roomId, m.metricMonth
+		"""
+	)
+	List<ComplaintMetric> findAllByOwnerIdAndBuildingId(
+	  @Param("ownerId") Long ownerId,
+	  @Param("buildingId") Long buildingId,
+	  @Param("fromMonth") int fromMonth,
+	  @Param("toMonth") int toMonth
+	);
+
+}
@@ -1,5 +1,6 @@
 package com.core.back9.repository;
 
+import com.core.back9.dto.ComplaintDTO;
 import com.core.back9.entity.Complaint;
 import com.core.back9.entity.constant.Status;
 import com.core.back9.exception.ApiErrorCode;
@@ -13,7 +14,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
+public interface ComplaintRepository extends JpaRepository<Complaint, Long>, ComplaintRepositoryCustom {
 
 	@Query("SELECT c FROM Complaint c WHERE c.id = :complaintId AND c.status = 'REGISTER'")
 	Optional<Complaint> findFirstById(Long complaintId);
@@ -26,18 +27,41 @@ public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
 	/* 소유자가 자신의 특정 호실에 등록된 민원 조회 */
 	List<Complaint> findAllByRoomIdAndStatus(Long roomId, Status status);
 
-	/* 소유자가 모든 호실에 등록된 민원 조회 */
+	/* 소유자가 모든 호실에 등록된 민원 조회 (조회 전용 - 엔티티를 로딩하지 않고 필요한 컬럼만 조회) */
 	@Query(
 	  """
-		SELECT DISTINCT c FROM Complaint c\s
-				JOIN FETCH c.room r
-				JOIN FETCH r.building b
-				WHERE r.member.id = :ownerId
+		SELECT new com.core.back9.dto.ComplaintDTO$Info(
+			c.id, c.complaintMessage, c.complaintStatus, c.completedMessage, c.createdAt, c.updatedAt
+		)
+		FROM Complaint c
+		JOIN c.room r
+		WHERE r.member.id = :ownerId
 		"""
 	)
-	List<Complaint> findAllComplaintsByOwnerId(@Param("ownerId") Long ownerId);
+	List<ComplaintDTO.Info> findAllInfoByOwnerId(@Param("ownerId") Long ownerId);
 
-	/* 입주자가 자신이 등록한 모든 민원 목록 조회 */
-	List<Complaint> findAllByMemberId(Long memberId);
+	/* 소유자 민원 목록 2단계 - 1단계(ComplaintRepositoryCustom)에서 구한 id의 민원을 호실 / 건물과 함께 조회 */
+	@Query(
+	  """
+		SELECT c FROM Complaint c
+		JOIN FETCH c.room r
+		JOIN FETCH r.building
+		WHERE c.id IN :ids
+		ORDER BY c.id DESC
+		"""
+	)
+	List<Complaint> findAllWithRoomAndBuildingByIdIn(@Param("ids") List<Long> ids);
+
+	/* 입주자가 자신이 등록한 모든 민원 목록 조회 (조회 전용) */
+	@Query(
+	  """
+		SELECT new com.core.back9.dto.ComplaintDTO$Info(
+			c.id, c.complaintMessage, c.complaintStatus, c.completedMessage, c.createdAt, c.updatedAt
+		)
+		FROM Complaint c
+		WHERE c.member.id = :memberId
+		"""
+	)
+	List<ComplaintDTO.Info> findAllInfoByMemberId(@Param("memberId") Long memberId);
 
 }
@@ -0,0 +1,39 @@
+package com.core.back9.repository;
+
+import com.core.back9.entity.constant.ComplaintStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+ * 소유자 민원 목록 1단계 - 조건에 맞는 민원 id만 조회
+ * - fetch join과 페이징을 함께 사용하면 메모리에서 페이징하므로, id를 먼저 구한 뒤 findAllWithRoomAndBuildingByIdIn으로 조회
+ * - 필터 값이 null이면 해당 조건은 쿼리에 포함하지 않음
+ */
+public interface ComplaintRepositoryCustom {
+
+	Page<Long> findIdPageByOwnerId(
+	  Long ownerId,
+	  Long buildingId,
+	  Long roomId,
+	  ComplaintStatus complaintStatus,
+	  LocalDateTime from,
+	  LocalDateTime to,
+	  Pageable pageable
+	);
+
+	/* 커서 - cursor 보다 작은 id를 내림차순으로 조회, 건수 조회 없음 */
+	List<Long> findIdsByOwnerIdAfterCursor(
+	  Long ownerId,
+	  Long buildingId,
+	  Long roomId,
+	  ComplaintStatus complaintStatus,
+	  LocalDateTime from,
+	  LocalDateTime to,
+	  Long cursor,
+	  Pageable pageable
+	);
+
+}
@@ -0,0 +1,85 @@
+package com.core.back9.repository;
+
+import com.core.back9.entity.constant.ComplaintStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 소유자 민원 목록 id 조회 - 값이 있는 필터 조건만 WHERE 절에 추가
+ * (:x IS NULL OR ...) 형태의 조건은 실행 계획을 세울 때 값을 알 수 없어 인덱스 범위 조회를 사용하지 못하므로,
+ * 필터 조합별로 필요한 조건만 가진 쿼리를 생성 (삭제 여부 status 조건은 Complaint의 @Where로 항상 포함)
+ */
+@RequiredArgsConstructor
+public class ComplaintRepositoryImpl implements ComplaintRepositoryCustom {
+
+	private final EntityManager entityManager;
+
+	@Override
+	public Page<Long> findIdPageByOwnerId(
+	  Long ownerId, Long buildingId, Long roomId, ComplaintStatus complaintStatus,
+	  LocalDateTime from, LocalDateTime to, Pageable pageable
+	) {
+		OwnerCondition condition = new OwnerCondition(ownerId, buildingId, roomId, complaintStatus, from, to, null);
+		List<Long> ids = condition.createQuery(entityManager, "SELECT c.id", " ORDER BY c.id DESC")
+		  .setFirstResult((int) pageable.getOffset())
+		  .setMaxResults(pageable.getPageSize())
+		  .getResultList();
+
+		return PageableExecutionUtils.getPage(ids, pageable,
+		  () -> condition.createQuery(entityManager, "SELECT COUNT(c.id)", "").getSingleResult());
+	}
+
+	@Override
+	public List<Long> findIdsByOwnerIdAfterCursor(
+	  Long ownerId, Long buildingId, Long roomId, ComplaintStatus complaintStatus,
+	  LocalDateTime from, LocalDateTime to, Long cursor, Pageable pageable
+	) {
+		OwnerCondition condition = new OwnerCondition(ownerId, buildingId, roomId, complaintStatus, from, to, cursor);
+		return condition.createQuery(entityManager, "SELECT c.id", " ORDER BY c.id DESC")
+		  .setMaxResults(pageable.getPageSize())
+		  .getResultList();
+	}
+
+	private record OwnerCondition(
+	  Long ownerId, Long buildingId, Long roomId, ComplaintStatus complaintStatus,
+	  LocalDateTime from, LocalDateTime to, Long cursor
+	) {
+
+		TypedQuery<Long> createQuery(EntityManager entityManager, String select, String orderBy) {
+			StringBuilder jpql = new StringBuilder(select)
+			  .append(" FROM Complaint c JOIN c.room r WHERE r.member.id = :ownerId");
+			Map<String, Object> parameters = new LinkedHashMap<>();
+			parameters.put("ownerId", ownerId);
+
+			and(jpql, parameters, "r.building.id = :buildingId", "buildingId", buildingId);
+			and(jpql, parameters, "r.id = :roomId", "roomId", roomId);
+			and(jpql, parameters, "c.complaintStatus = :complaintStatus", "complaintStatus", complaintStatus);
+			and(jpql, parameters, "c.createdAt >= :from", "from", from);
+			and(jpql, parameters, "c.createdAt < :to", "to", to);
+			and(jpql, parameters, "c.id < :cursor", "cursor", cursor);
+
+			TypedQuery<Long> query = entityManager.createQuery(jpql.append(orderBy).toString(), Long.class);
+			parameters.forEach(query::setParameter);
+			return query;
+		}
+
+		private static void and(StringBuilder jpql, Map<String, Object> parameters, String predicate, String name, Object value) {
+			if (value == null) {
+				return;
+			}
+			jpql.append(" AND ").append(predicate);
+			parameters.put(name, value);
+		}
+
+	}
+
+}
@@ -1,5 +1,6 @@
 package com.core.back9.repository;
 
+import com.core.back9.dto.ContractDTO;
 import com.core.back9.entity.Contract;
 import com.core.back9.entity.constant.ContractStatus;
 import com.core.back9.entity.constant.Status;
@@ -45,7 +46,7 @@ public interface ContractRepository extends JpaRepository<Contract, Long> {
     @Modifying(clearAutomatically = true) // 영속성 컨텍스트를 비워 db로부터 정상조회 가능
     @Query("""
             update Contract c
-            set c.status=?1
+            set c.status=?1, c.updatedAt=local datetime
             where c.id=?3
             and c.room.id=?2
             and c.status='REGISTER'
@@ -85,23 +86,47 @@ public interface ContractRepository extends JpaRepository<Contract, Long> {
             """)
     List<Contract> findByContractInProgress(LocalDate now);
 
+    /* 시작일이 도래했지만 아직 완료 상태인 계약 조회 - 배치가 누락된 기간과 관계없이 현재 상태로 판단 (contract_status, start_date 인덱스 사용) */
+    @Query("""
+            select c
+            from Contract c
+            join fetch c.room r
+            left join fetch r.member
+            where c.contractStatus='COMPLETED'
+            and c.status='REGISTER'
+            and c.startDate<=?1
+            """)
+    List<Contract> findAllToStart(LocalDate now);
+
+    /* 종료일이 도래했지만 아직 이행 상태인 계약 조회 (contract_status, end_date 인덱스 사용) */
+    @Query("""
+            select c
+            from Contract c
+            join fetch c.room r
+            left join fetch r.member
+            where c.contractStatus='IN_PROGRESS'
+            and c.status='REGISTER'
+            and c.endDate<=?1
+            """)
+    List<Contract> findAllToExpire(LocalDate now);
+
     @Modifying(clearAutomatically = true)
     @Query("""
             update Contract c
-            set c.contractStatus='IN_PROGRESS'
+            set c.contractStatus='IN_PROGRESS', c.updatedAt=local datetime
             where c.contractStatus='COMPLETED'
-            and c.endDate>=?1
+            and c.id in ?1
             """)
-    int updateContractComplete(LocalDate now);
+    int updateContractInProgress(List<Long> contractIds);
 
     @Modifying(clearAutomatically = true)
     @Query("""
             update Contract c
-            set c.contractStatus='EXPIRED'
+            set c.contractStatus='EXPIRED', c.updatedAt=local datetime
             where c.contractStatus='IN_PROGRESS'
-            and c.endDate=?1
+            and c.id in ?1
             """)
-    int updateContractInProgress(LocalDate now);
+    int updateContractExpired(List<Long> contractIds);
 
     /* 내 호실의 이행 상태인 계약 중 가장 최신 계약 조회(데이터 조회 오차를 고려 desc 사용-> 순서상 가장 최신 데이터 조회) */
     @Query("""
@@ -154,6 +179,21 @@ public interface ContractRepository extends JpaRepository<Contract, Long> {
             """)
     Contract findPreviousContract(Long contractId, PageRequest pageRequest);
 
+    /* 재계약 실패 건수 - 직전 계약(findPreviousContract와 동일하게 id 기준 바로 이전 계약)이 RENEWAL인 INITIAL 계약 수를 한 번에 집계 */
+    @Query("""
+            select count(c)
+            from Contract c
+            where c.id in (?1)
+            and c.contractType = 'INITIAL'
+            and exists (
+                select p.id
+                from Contract p
+                where p.id = (select max(p2.id) from Contract p2 where p2.id < c.id)
+                and p.contractType = 'RENEWAL'
+            )
+            """)
+    long countFailedRenewal(List<Long> contractIds);
+
     @Query("""
             select c
             from Contract c
@@ -180,7 +220,28 @@ public interface ContractRepository extends JpaRepository<Contract, Long> {
 
     List<Contract> findAllByContractStatus(ContractStatus contractStatus);
 
-    @Query("SELECT c FROM Contract c JOIN FETCH c.tenant t WHERE t.id = :tenantId AND c.status = :status")
-    List<Contract> findAllByTenantIdAndStatus(Long tenantId, Status status);
+    /* 입주사의 계약 목록 조회 (조회 전용 - 호실, 빌딩 정보를 포함한 필요한 컬럼만 조회) */
+    @Query("""
+            select new com.core.back9.dto.ContractDTO$InfoWithRoomProjection(
+                c.id, c.startDate, c.endDate, c.checkOut, c.deposit, c.rentalPrice, c.contractStatus,
+                r.id, r.name, r.floor, r.area, r.usage, r.status,
+                b.id, b.name, b.address, b.zipCode, b.createdAt, b.updatedAt
+            )
+            from Contract c
+            join c.room r
+            join r.building b
+            where c.tenant.id = ?1
+            and c.status = ?2
+            """)
+    List<ContractDTO.InfoWithRoomProjection> findAllInfoWithRoomByTenantIdAndStatus(Long tenantId, Status status);
+
+    /* 입주사 정보 변경 시 대시보드 버전을 증가시킬 빌딩 조회 (입주사 단위 계약 인덱스 사용) */
+    @Query("""
+            select distinct c.room.building.id
+            from Contract c
+            where c.tenant.id = ?1
+            and c.status = 'REGISTER'
+            """)
+    List<Long> findBuildingIdsByTenantId(Long tenantId);
 
 }
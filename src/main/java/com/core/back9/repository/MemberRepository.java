@@ -5,8 +5,12 @@ import com.core.back9.entity.constant.Role;
 import com.core.back9.entity.constant.Status;
 import com.core.back9.exception.ApiErrorCode;
 import com.core.back9.exception.ApiException;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -40,4 +44,31 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     List<Member> findAllByTenantIdAndStatus(Long tenantId, Status status);
 
+    @Query("select m.unreadAlarmCount from member m where m.id = ?1")
+    Optional<Integer> findUnreadAlarmCountById(Long memberId);
+
+    /*
+     * 엔티티 변경 감지로 덮어쓰지 않도록 컬럼은 updatable = false로 매핑하고 native query로만 증감
+     * native DML은 변경 테이블을 알 수 없어 모든 2차 캐시 / 쿼리 캐시를 비우므로 members만 변경함을 명시
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "members"))
+    @Modifying
+    @Query(value = """
+            update members
+            set unread_alarm_count = greatest(unread_alarm_count + ?2, 0)
+            where id = ?1
+            """, nativeQuery = true)
+    int addUnreadAlarmCount(Long memberId, int delta);
+
+    /* 대량 변경 후 미확인 알림 수를 알림 테이블 기준으로 다시 계산 (회원의 미확인 알림만 인덱스로 조회) */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "members"))
+    @Modifying
+    @Query(value = """
+            update members
+            set unread_alarm_count = (select count(*) from alarms a
+                                      where a.received_id = ?1 and a.read_status = false and a.status = 'REGISTER')
+            where id = ?1
+            """, nativeQuery = true)
+    int refreshUnreadAlarmCount(Long memberId);
+
 }
@@ -4,10 +4,13 @@ import com.core.back9.entity.Room;
 import com.core.back9.entity.constant.Status;
 import com.core.back9.exception.ApiErrorCode;
 import com.core.back9.exception.ApiException;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -17,6 +20,11 @@ import java.util.Optional;
 @Repository
 public interface RoomRepository extends JpaRepository<Room, Long> {
 
+	/* 소유권/존재 확인 쿼리는 결과(id)를 쿼리 캐시에 저장하고 엔티티는 2차 캐시에서 조회 */
+	@QueryHints({
+	  @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+	  @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "ownership-query")
+	})
 	Optional<Room> findFirstByBuildingIdAndIdAndStatus(Long buildingId, Long roomId, Status status);
 
 	default Room getValidRoomWithIdOrThrow(Long buildingId, Long roomId, Status status) {
@@ -24,6 +32,10 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
 		  .orElseThrow(() -> new ApiException(ApiErrorCode.NOT_FOUND_VALID_ROOM));
 	}
 
+	@QueryHints({
+	  @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+	  @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "ownership-query")
+	})
 	@Query("""
 	  select r
 	  from Room r
@@ -1,5 +1,6 @@
 package com.core.back9.repository;
 
+import com.core.back9.dto.ScoreDTO;
 import com.core.back9.entity.Score;
 import com.core.back9.entity.constant.RatingType;
 import com.core.back9.entity.constant.Status;
@@ -75,6 +76,15 @@ public interface ScoreRepository extends JpaRepository<Score, Long>, JpaSpecific
 
     Optional<Score> findFirstByMemberIdAndRatingTypeAndStatusOrderByIdDesc(Long memberId, RatingType ratingType, Status status);
 
-    List<Score> findAllByMemberIdAndStatus(Long memberId, Status status);
+    /* 조회 전용 - 엔티티를 로딩하지 않고 필요한 컬럼만 조회 */
+    @Query("""
+            select new com.core.back9.dto.ScoreDTO$Info(
+                s.id, s.score, s.comment, s.bookmark, s.ratingType, s.createdAt, s.updatedAt
+            )
+            from Score s
+            where s.member.id = :memberId
+            and s.status = :status
+            """)
+    List<ScoreDTO.Info> findAllInfoByMemberIdAndStatus(@Param("memberId") Long memberId, @Param("status") Status status);
 
 }
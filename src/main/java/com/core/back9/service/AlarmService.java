@@ -1,46 +1,111 @@
 package com.core.back9.service;
 
+import com.core.back9.common.cache.UnreadAlarmCounter;
 import com.core.back9.dto.AlarmDTO;
 import com.core.back9.dto.MemberDTO;
 import com.core.back9.entity.Alarm;
 import com.core.back9.mapper.AlarmMapper;
 import com.core.back9.repository.AlarmRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Transactional
 @Service
 public class AlarmService {
 
+	private static final int DEFAULT_PAGE_SIZE = 20;
+	private static final int MAX_PAGE_SIZE = 100;
+
 	private final AlarmRepository alarmRepository;
 	private final AlarmMapper alarmMapper;
+	private final UnreadAlarmCounter unreadAlarmCounter;
 
 	public void create(AlarmDTO.Request request) {
 		Alarm newAlarm = alarmMapper.toEntity(request);
 		alarmRepository.save(newAlarm);
+		if (!newAlarm.isReadStatus()) {
+			unreadAlarmCounter.add(newAlarm.getReceivedId(), 1);
+		}
+	}
+
+	/* 알림 일괄 생성 - 수신자별 미확인 알림 수는 수신자당 한 번만 증가 */
+	public void createAll(List<AlarmDTO.Request> requests) {
+		if (requests.isEmpty()) {
+			return;
+		}
+		List<Alarm> newAlarms = requests.stream().map(alarmMapper::toEntity).toList();
+		alarmRepository.saveAll(newAlarms);
+
+		newAlarms.stream()
+		  .filter(alarm -> !alarm.isReadStatus())
+		  .collect(Collectors.groupingBy(Alarm::getReceivedId, Collectors.summingInt(alarm -> 1)))
+		  .forEach(unreadAlarmCounter::add);
 	}
 
 	@Transactional(readOnly = true)
 	public List<AlarmDTO.Info> selectAllById(MemberDTO.Info member) {
-		return alarmRepository.findAllByReceivedId(member.getId())
-		  .stream().map(alarmMapper::toInfo).toList();
+		return alarmRepository.findAllInfoByReceivedId(member.getId());
 	}
 
+	/* 다음 페이지 존재 여부 확인을 위해 size + 1건 조회 */
+	@Transactional(readOnly = true)
+	public AlarmDTO.CursorPage selectPageById(MemberDTO.Info member, Long cursor, Integer size) {
+		int pageSize = size != null ? Math.min(Math.max(size, 1), MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+		List<AlarmDTO.Info> alarms = alarmRepository.findInfoPageByReceivedId(
+		  member.getId(), cursor != null ? cursor : Long.MAX_VALUE, PageRequest.of(0, pageSize + 1));
+
+		boolean hasNext = alarms.size() > pageSize;
+		if (hasNext) {
+			alarms = alarms.subList(0, pageSize);
+		}
+		return AlarmDTO.CursorPage.builder()
+		  .alarms(alarms)
+		  .nextCursor(hasNext ? alarms.get(alarms.size() - 1).getId() : null)
+		  .hasNext(hasNext)
+		  .build();
+	}
+
+	/* 미확인 알림이면 확인 처리 후 미확인 수 감소, 이미 확인한 알림이면 변경 없음 */
 	public void updateRead(MemberDTO.Info member, Long alarmId) {
-		alarmRepository.getValidAlarmByIdAndMemberId(alarmId, member.getId()).read();
+		if (alarmRepository.updateReadIfUnread(alarmId, member.getId()) > 0) {
+			unreadAlarmCounter.add(member.getId(), -1);
+			return;
+		}
+		alarmRepository.getValidAlarmByIdAndMemberId(alarmId, member.getId());
 	}
 
 	public void delete(MemberDTO.Info member, Long alarmId) {
+		if (alarmRepository.deleteIfUnread(alarmId, member.getId()) > 0) {
+			unreadAlarmCounter.add(member.getId(), -1);
+			return;
+		}
 		alarmRepository.getValidAlarmByIdAndMemberId(alarmId, member.getId()).delete();
 	}
 
-	@Transactional(readOnly = true)
+	public void updateAllRead(MemberDTO.Info member) {
+		int updated = alarmRepository.updateAllRead(member.getId());
+		unreadAlarmCounter.add(member.getId(), -updated);
+	}
+
+	/* 삭제된 알림 중 미확인 알림 수를 알 수 없으므로 삭제 후 미확인 수를 다시 계산 */
+	public void deleteAllBefore(MemberDTO.Info member, LocalDateTime before) {
+		if (alarmRepository.deleteAllCreatedBefore(member.getId(), before) > 0) {
+			unreadAlarmCounter.refresh(member.getId());
+		}
+	}
+
+	/* 알림 테이블을 조회하지 않고 미확인 수(메모리 / members 컬럼)로 판단 - 읽기 전용 트랜잭션(replica)을 사용하지 않음 */
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public boolean hasUnreadAlarms(MemberDTO.Info member) {
-		return alarmRepository.existsByReceivedIdAndReadStatusIsFalse(member.getId());
+		return unreadAlarmCounter.get(member.getId()) > 0;
 	}
 
 }
@@ -1,15 +1,19 @@
 package com.core.back9.service;
 
+import com.core.back9.common.cache.DashboardChangedEvent;
 import com.core.back9.dto.BuildingDTO;
 import com.core.back9.dto.MemberDTO;
 import com.core.back9.entity.Building;
+import com.core.back9.entity.BuildingDashboardVersion;
 import com.core.back9.entity.constant.Role;
 import com.core.back9.entity.constant.Status;
 import com.core.back9.exception.ApiErrorCode;
 import com.core.back9.exception.ApiException;
 import com.core.back9.mapper.BuildingMapper;
+import com.core.back9.repository.BuildingDashboardVersionRepository;
 import com.core.back9.repository.BuildingRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -23,12 +27,15 @@ import java.util.List;
 public class BuildingService {
 
 	private final BuildingRepository buildingRepository;
+	private final BuildingDashboardVersionRepository buildingDashboardVersionRepository;
 	private final BuildingMapper buildingMapper;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public BuildingDTO.Response create(MemberDTO.Info member, BuildingDTO.Request request) {
 		if (member.getRole() == Role.ADMIN) {
 			Building requestBuilding = buildingMapper.toEntity(request);
 			Building savedBuilding = buildingRepository.save(requestBuilding);
+			buildingDashboardVersionRepository.save(BuildingDashboardVersion.of(savedBuilding.getId())); // 통계 응답 버전(ETag) 행
 			return buildingMapper.toResponse(savedBuilding);
 		}
 		throw new ApiException(ApiErrorCode.DO_NOT_HAVE_PERMISSION);
@@ -64,6 +71,7 @@ public class BuildingService {
 		if (member.getRole() == Role.ADMIN) {
 			Building validBuilding = buildingRepository.getValidBuildingWithIdOrThrow(buildingId, Status.REGISTER);
 			validBuilding.update(request);
+			publishDashboardChanged(buildingId);
 			return buildingMapper.toInfo(validBuilding, pageable);
 		}
 		throw new ApiException(ApiErrorCode.DO_NOT_HAVE_PERMISSION);
@@ -73,9 +81,15 @@ public class BuildingService {
 		if (member.getRole() == Role.ADMIN) {
 			Building validBuilding = buildingRepository.getValidBuildingWithIdOrThrow(buildingId, Status.REGISTER);
 			validBuilding.delete();
+			publishDashboardChanged(buildingId);
 			return validBuilding.getStatus() == Status.UNREGISTER;
 		}
 		throw new ApiException(ApiErrorCode.DO_NOT_HAVE_PERMISSION);
 	}
 
+	/* 빌딩 변경 시 해당 빌딩 대시보드 캐시 무효화 (커밋 이후 반영) */
+	private void publishDashboardChanged(Long buildingId) {
+		eventPublisher.publishEvent(DashboardChangedEvent.ofBuilding(buildingId));
+	}
+
 }
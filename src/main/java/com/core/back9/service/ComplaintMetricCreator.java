@@ -0,0 +1,30 @@
+package com.core.back9.service;
+
+import com.core.back9.entity.ComplaintMetric;
+import com.core.back9.repository.ComplaintMetricRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+ * 호실 / 월 집계 행 생성 - 민원 트랜잭션과 분리된 새 트랜잭션에서 커밋
+ * 같은 행을 동시에 생성하면 (room_id, metric_month) 유니크 제약으로 한쪽이 실패하며, 이 트랜잭션만 롤백되므로
+ * 호출한 민원 트랜잭션은 먼저 생성된 행을 그대로 갱신할 수 있음
+ */
+@RequiredArgsConstructor
+@Service
+public class ComplaintMetricCreator {
+
+	private final ComplaintMetricRepository complaintMetricRepository;
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void create(Long roomId, Long buildingId, int metricMonth) {
+		complaintMetricRepository.saveAndFlush(ComplaintMetric.builder()
+		  .roomId(roomId)
+		  .buildingId(buildingId)
+		  .metricMonth(metricMonth)
+		  .build());
+	}
+
+}
@@ -0,0 +1,158 @@
+package com.core.back9.service;
+
+import com.core.back9.dto.ComplaintDTO;
+import com.core.back9.dto.MemberDTO;
+import com.core.back9.entity.Complaint;
+import com.core.back9.entity.ComplaintMetric;
+import com.core.back9.entity.Room;
+import com.core.back9.entity.constant.ComplaintStatus;
+import com.core.back9.exception.ApiErrorCode;
+import com.core.back9.exception.ApiException;
+import com.core.back9.repository.ComplaintMetricRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 호실 / 월 단위 민원 집계 (complaint_metrics)
+ * - 민원 접수 / 삭제 / 완료 / 반려 시 같은 트랜잭션에서 집계 행을 증분 갱신 (민원 목록을 다시 읽어 계산하지 않음)
+ * - 통계 조회는 집계 행(호실 수 x 개월 수)만 읽으므로 누적 민원 수와 관계없이 일정한 비용
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Transactional
+@Service
+public class ComplaintMetricService {
+
+	private static final int DEFAULT_MONTHS = 12;
+	private static final int MAX_MONTHS = 24;
+
+	private final ComplaintMetricRepository complaintMetricRepository;
+	private final ComplaintMetricCreator complaintMetricCreator;
+
+	public void recordReceived(Room room, LocalDateTime receivedAt) {
+		LocalDateTime at = receivedAt != null ? receivedAt : LocalDateTime.now();
+		int metricMonth = ComplaintMetric.toMetricMonth(YearMonth.from(at));
+		createIfAbsent(room, metricMonth);
+		complaintMetricRepository.addReceived(room.getId(), metricMonth, 1);
+	}
+
+	/*
+	 * 삭제(접수 취소)한 민원은 접수한 월의 접수 건수에서 제외
+	 * 기존 민원 집계(V23)도 삭제된 민원을 제외하므로 두 경로의 결과가 같음
+	 */
+	public void recordDeleted(Complaint complaint) {
+		if (complaint.getCreatedAt() == null) {
+			return;
+		}
+		complaintMetricRepository.addReceived(
+		  complaint.getRoom().getId(), ComplaintMetric.toMetricMonth(YearMonth.from(complaint.getCreatedAt())), -1);
+	}
+
+	/* 완료 / 반려 처리 직후 호출 - 처리 시간은 민원 등록 시각부터 처리 시각까지 */
+	public void recordResolved(Complaint complaint, LocalDateTime resolvedAt) {
+		long seconds = complaint.getCreatedAt() != null
+		  ? Math.max(Duration.between(complaint.getCreatedAt(), resolvedAt).getSeconds(), 0)
+		  : 0;
+		boolean completed = complaint.getComplaintStatus() == ComplaintStatus.COMPLETED;
+
+		Room room = complaint.getRoom();
+		int metricMonth = ComplaintMetric.toMetricMonth(YearMonth.from(resolvedAt));
+		createIfAbsent(room, metricMonth);
+		complaintMetricRepository.addResolved(room.getId(), metricMonth, completed ? 1 : 0, completed ? 0 : 1, seconds);
+	}
+
+	/*
+	 * 집계 행이 없으면 별도 트랜잭션에서 생성
+	 * 존재 여부는 잠금 없는 조회로 확인 - 행이 없는 상태로 update를 먼저 실행하면 MySQL은 해당 구간에 gap lock을 걸어
+	 * 별도 트랜잭션의 insert가 이 트랜잭션을 기다리게 됨
+	 */
+	private void createIfAbsent(Room room, int metricMonth) {
+		if (complaintMetricRepository.existsByRoomIdAndMetricMonth(room.getId(), metricMonth)) {
+			return;
+		}
+		try {
+			complaintMetricCreator.create(room.getId(), room.getBuilding().getId(), metricMonth);
+		} catch (DataIntegrityViolationException e) {
+			log.debug("민원 집계 행 동시 생성 - roomId: {}, metricMonth: {}", room.getId(), metricMonth);
+		}
+	}
+
+	@Transactional(readOnly = true)
+	public ComplaintDTO.Analytics selectAnalytics(MemberDTO.Info member, Long buildingId, YearMonth from, YearMonth to) {
+		if (!member.isOwner()) {
+			throw new ApiException(ApiErrorCode.DO_NOT_HAVE_PERMISSION);
+		}
+		YearMonth toMonth = to != null ? to : YearMonth.now();
+		YearMonth fromMonth = from != null ? from : toMonth.minusMonths(DEFAULT_MONTHS - 1);
+		if (fromMonth.isAfter(toMonth) || fromMonth.plusMonths(MAX_MONTHS).isBefore(toMonth.plusMonths(1))) {
+			throw new ApiException(ApiErrorCode.INVALID_REQUEST_CONTENT);
+		}
+
+		List<ComplaintMetric> metrics = complaintMetricRepository.findAllByOwnerIdAndBuildingId(
+		  member.getId(), buildingId, ComplaintMetric.toMetricMonth(fromMonth), ComplaintMetric.toMetricMonth(toMonth));
+
+		return ComplaintDTO.Analytics.builder()
+		  .buildingId(buildingId)
+		  .from(fromMonth)
+		  .to(toMonth)
+		  .total(toTotal(metrics))
+		  .rooms(metrics.stream().map(this::toMetric).toList())
+		  .build();
+	}
+
+	private ComplaintDTO.Metric toMetric(ComplaintMetric metric) {
+		return toMetric(metric.getRoomId(), metric.getYearMonth(), metric.getReceivedCount(), metric.getCompletedCount(),
+		  metric.getRejectedCount(), metric.getResolutionSecondsSum(), new long[]{
+			metric.getLe1hCount(), metric.getLe1dCount(), metric.getLe3dCount(), metric.getLe7dCount(), metric.getOver7dCount()
+		  });
+	}
+
+	private ComplaintDTO.Metric toTotal(List<ComplaintMetric> metrics) {
+		long received = 0, completed = 0, rejected = 0, seconds = 0;
+		long[] buckets = new long[5];
+		for (ComplaintMetric metric : metrics) {
+			received += metric.getReceivedCount();
+			completed += metric.getCompletedCount();
+			rejected += metric.getRejectedCount();
+			seconds += metric.getResolutionSecondsSum();
+			buckets[0] += metric.getLe1hCount();
+			buckets[1] += metric.getLe1dCount();
+			buckets[2] += metric.getLe3dCount();
+			buckets[3] += metric.getLe7dCount();
+			buckets[4] += metric.getOver7dCount();
+		}
+		return toMetric(null, null, received, completed, rejected, seconds, buckets);
+	}
+
+	private ComplaintDTO.Metric toMetric(Long roomId, YearMonth month, long received, long completed, long rejected,
+										 long seconds, long[] buckets) {
+		long resolved = completed + rejected;
+		Map<String, Long> histogram = new LinkedHashMap<>();
+		histogram.put("1h", buckets[0]);
+		histogram.put("1d", buckets[1]);
+		histogram.put("3d", buckets[2]);
+		histogram.put("7d", buckets[3]);
+		histogram.put("+Inf", buckets[4]);
+
+		return ComplaintDTO.Metric.builder()
+		  .roomId(roomId)
+		  .month(month)
+		  .receivedCount(received)
+		  .completedCount(completed)
+		  .rejectedCount(rejected)
+		  .averageResolutionHours(resolved > 0 ? seconds / 3600.0 / resolved : null)
+		  .resolutionHistogram(histogram)
+		  .build();
+	}
+
+}
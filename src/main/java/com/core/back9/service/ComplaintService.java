@@ -1,5 +1,6 @@
 package com.core.back9.service;
 
+import com.core.back9.common.cache.DashboardChangedEvent;
 import com.core.back9.dto.AlarmDTO;
 import com.core.back9.dto.ComplaintDTO;
 import com.core.back9.dto.MemberDTO;
@@ -9,31 +10,48 @@ import com.core.back9.entity.Room;
 import com.core.back9.entity.Score;
 import com.core.back9.entity.constant.AlarmType;
 import com.core.back9.entity.constant.Status;
+import com.core.back9.exception.ApiErrorCode;
+import com.core.back9.exception.ApiException;
 import com.core.back9.mapper.ComplaintMapper;
 import com.core.back9.repository.ComplaintRepository;
 import com.core.back9.repository.MemberRepository;
 import com.core.back9.repository.RoomRepository;
 import com.core.back9.repository.ScoreRepository;
-import com.core.back9.sse.connection.SseConnectionPoolImpl;
-import com.core.back9.sse.connection.model.SseMemberConnection;
+import com.core.back9.sse.dispatch.SseNotificationEvent;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Timed(value = "service.method.duration", description = "서비스 메서드 처리 시간")
 @RequiredArgsConstructor
 @Transactional
 @Service
 public class ComplaintService {
 
+	private static final int DEFAULT_PAGE_SIZE = 20;
+	private static final int MAX_PAGE_SIZE = 100;
+
 	private final MemberRepository memberRepository;
 	private final RoomRepository roomRepository;
 	private final ComplaintRepository complaintRepository;
-	private final ComplaintMapper complaintMapper;
 	private final AlarmService alarmService;
 	private final ScoreRepository scoreRepository;
-	private final SseConnectionPoolImpl sseConnectionPool;
+	private final ComplaintMetricService complaintMetricService;
+	private final ComplaintMapper complaintMapper;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public void create(MemberDTO.Info member, ComplaintDTO.RegisterRequest registerRequest) {
 		Member validMember =
@@ -43,6 +61,7 @@ public class ComplaintService {
 
 		Complaint newComplaint = Complaint.createOf(validRoom, validMember, registerRequest.getComplaintMessage());
 		complaintRepository.save(newComplaint);
+		complaintMetricService.recordReceived(validRoom, newComplaint.getCreatedAt());
 
 		AlarmDTO.Request userAlarm = AlarmDTO.Request
 		  .createComplaint(validMember.getId(), registerRequest.getComplaintMessage());
@@ -51,44 +70,97 @@ public class ComplaintService {
 		alarmService.create(userAlarm);
 		alarmService.create(ownerAlarm);
 
-		SseMemberConnection userConnection = sseConnectionPool.getSession(validMember.getId().toString());
-		SseMemberConnection ownerConnection = sseConnectionPool.getSession(validRoom.getMember().getId().toString());
-
-		if (userConnection != null) {
-			userConnection.sendMessage(AlarmType.COMPLAINT_PENDING.getDescription());
-		}
-		if (ownerConnection != null) {
-			ownerConnection.sendMessage(AlarmType.COMPLAINT_PENDING.getDescription());
-		}
+		// 커밋 이후 비동기 전송 (SseNotificationDispatcher)
+		eventPublisher.publishEvent(SseNotificationEvent.of(
+		  List.of(validMember.getId(), validRoom.getMember().getId()), AlarmType.COMPLAINT_PENDING.getDescription()));
 	}
 
 	@Transactional(readOnly = true)
 	public List<ComplaintDTO.Info> selectAllByMemberId(MemberDTO.Info member) {
 		if (member.isUser()) {
-			return complaintRepository.findAllByMemberId(member.getId())
-			  .stream().map(complaintMapper::toInfo).toList();
+			return complaintRepository.findAllInfoByMemberId(member.getId());
 		}
-		return complaintRepository.findAllComplaintsByOwnerId(member.getId())
-		  .stream().map(complaintMapper::toInfo).toList();
+		return complaintRepository.findAllInfoByOwnerId(member.getId());
+	}
+
+	/* 소유자 민원 목록 (페이지) - id 페이지 조회 후 호실 / 건물과 함께 조회, 정렬은 최신 등록순 고정 */
+	@Transactional(readOnly = true)
+	public Page<ComplaintDTO.OwnerInfo> selectOwnerPage(
+	  MemberDTO.Info member, ComplaintDTO.OwnerSearchCondition condition, Pageable pageable
+	) {
+		validateOwner(member);
+		Page<Long> idPage = complaintRepository.findIdPageByOwnerId(
+		  member.getId(), condition.getBuildingId(), condition.getRoomId(), condition.getComplaintStatus(),
+		  condition.getCreatedFrom(), condition.getCreatedBefore(),
+		  PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_PAGE_SIZE)));
+
+		return new PageImpl<>(selectOwnerInfos(idPage.getContent()), idPage.getPageable(), idPage.getTotalElements());
+	}
+
+	/* 소유자 민원 목록 (커서) - 전체 건수를 세지 않으며, 페이지가 깊어져도 조회 비용이 일정 */
+	@Transactional(readOnly = true)
+	public ComplaintDTO.CursorPage selectOwnerCursorPage(
+	  MemberDTO.Info member, ComplaintDTO.OwnerSearchCondition condition, Long cursor, Integer size
+	) {
+		validateOwner(member);
+		int pageSize = size != null ? Math.min(Math.max(size, 1), MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+		List<Long> ids = complaintRepository.findIdsByOwnerIdAfterCursor(
+		  member.getId(), condition.getBuildingId(), condition.getRoomId(), condition.getComplaintStatus(),
+		  condition.getCreatedFrom(), condition.getCreatedBefore(),
+		  cursor != null ? cursor : Long.MAX_VALUE, PageRequest.of(0, pageSize + 1));
+
+		boolean hasNext = ids.size() > pageSize;
+		if (hasNext) {
+			ids = ids.subList(0, pageSize);
+		}
+		return ComplaintDTO.CursorPage.builder()
+		  .complaints(selectOwnerInfos(ids))
+		  .nextCursor(hasNext ? ids.get(ids.size() - 1) : null)
+		  .hasNext(hasNext)
+		  .build();
 	}
 
 	public void updateCompleted(MemberDTO.Info member, Long complaintId, String completeMessage) {
 		Complaint validComplaint = complaintRepository.getValidComplaint(complaintId);
 		validComplaint.completeComplaint(member, completeMessage);
+		complaintMetricService.recordResolved(validComplaint, LocalDateTime.now());
 
 		Score complaintScore = Score.createComplaint(validComplaint.getRoom(), validComplaint.getMember());
 		scoreRepository.save(complaintScore);
+		eventPublisher.publishEvent(DashboardChangedEvent.ofBuilding(validComplaint.getRoom().getBuilding().getId()));
 	}
 
 	public void updateRejected(MemberDTO.Info member, Long complaintId, String rejectMessage) {
 		Complaint validComplaint = complaintRepository.getValidComplaint(complaintId);
 		validComplaint.rejectComplaint(member, rejectMessage);
+		complaintMetricService.recordResolved(validComplaint, LocalDateTime.now());
 	}
 
 	public void delete(MemberDTO.Info user, Long complaintId) {
 		Complaint validComplaint = complaintRepository.getValidComplaint(complaintId);
 		if (validComplaint.isPossibleToDelete(user)) {
 			validComplaint.delete();
+			complaintMetricService.recordDeleted(validComplaint);
+		}
+	}
+
+	/* 1단계 id 순서대로 반환 - 두 조회 사이에 삭제되어 2단계에서 조회되지 않은 민원은 제외 */
+	private List<ComplaintDTO.OwnerInfo> selectOwnerInfos(List<Long> ids) {
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+		Map<Long, ComplaintDTO.OwnerInfo> complaints = complaintRepository.findAllWithRoomAndBuildingByIdIn(ids).stream()
+		  .map(complaintMapper::toOwnerInfo)
+		  .collect(Collectors.toMap(ComplaintDTO.OwnerInfo::getId, Function.identity()));
+		return ids.stream()
+		  .map(complaints::get)
+		  .filter(Objects::nonNull)
+		  .toList();
+	}
+
+	private void validateOwner(MemberDTO.Info member) {
+		if (!member.isOwner()) {
+			throw new ApiException(ApiErrorCode.DO_NOT_HAVE_PERMISSION);
 		}
 	}
 
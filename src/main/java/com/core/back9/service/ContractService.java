@@ -1,5 +1,6 @@
 package com.core.back9.service;
 
+import com.core.back9.common.cache.DashboardChangedEvent;
 import com.core.back9.dto.ContractDTO;
 import com.core.back9.dto.MemberDTO;
 import com.core.back9.entity.Contract;
@@ -15,21 +16,20 @@ import com.core.back9.mapper.ContractMapper;
 import com.core.back9.repository.ContractRepository;
 import com.core.back9.repository.RoomRepository;
 import com.core.back9.repository.TenantRepository;
+import com.core.back9.util.ContractStatistics;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
+@Timed(value = "service.method.duration", description = "서비스 메서드 처리 시간")
 @RequiredArgsConstructor
 @Transactional
 @Service
@@ -39,6 +39,7 @@ public class ContractService {
     private final RoomRepository roomRepository;
     private final ContractRepository contractRepository;
     private final ContractMapper contractMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ContractDTO.RegisterResponse registerContract(
             MemberDTO.Info member,
@@ -69,6 +70,7 @@ public class ContractService {
         Contract completedContract = savedContract.contractComplete(); // 계약 무조건 완료처리 (계약 등록과 동시에 실행되는 완료처리라 기간 검증 필요X)
 
         room.addContract(completedContract);
+        publishDashboardChanged(buildingId);
 
         return contractMapper.toRegisterResponse(completedContract);
 
@@ -102,6 +104,7 @@ public class ContractService {
         Contract completedContract = savedContract.contractComplete();
 
         room.addContract(completedContract);
+        publishDashboardChanged(buildingId);
 
         return contractMapper.toInfo(completedContract);
 
@@ -157,6 +160,7 @@ public class ContractService {
 
         Contract contract = contractRepository.getValidOneContractOrThrow(room.getId(), contractId);
         Contract updatedContract = contract.infoUpdate(request);
+        publishDashboardChanged(buildingId);
 
         return contractMapper.toInfo(updatedContract);
 
@@ -171,9 +175,12 @@ public class ContractService {
 
         Room room = validateOwnerAndRoomExistence(member, buildingId, roomId);
 
-        return contractRepository.deleteRegisteredContract(Status.UNREGISTER, room.getId(), contractId)
-                .filter(result -> result != 0)
+        Integer result = contractRepository.deleteRegisteredContract(Status.UNREGISTER, room.getId(), contractId)
+                .filter(count -> count != 0)
                 .orElseThrow(() -> new ApiException(ApiErrorCode.DELETE_FAIL));
+        publishDashboardChanged(buildingId);
+
+        return result;
 
     }
 
@@ -192,6 +199,7 @@ public class ContractService {
         }
 
         Contract contractCompleted = contract.contractComplete();
+        publishDashboardChanged(buildingId);
 
         return contractMapper.toStatusInfo(contractCompleted);
 
@@ -212,6 +220,7 @@ public class ContractService {
         }
 
         Contract contractCanceled = contract.contractCancelMissedStartDate();
+        publishDashboardChanged(buildingId);
 
         return contractMapper.toStatusInfo(contractCanceled);
 
@@ -232,6 +241,7 @@ public class ContractService {
         }
 
         Contract contractProgressed = contract.contractInProgress();
+        publishDashboardChanged(buildingId);
 
         return contractMapper.toStatusInfo(contractProgressed);
     }
@@ -256,6 +266,7 @@ public class ContractService {
         }
 
         Contract contractExpired = contract.contractExpire();
+        publishDashboardChanged(buildingId);
 
         return contractMapper.toStatusInfo(contractExpired);
 
@@ -282,6 +293,7 @@ public class ContractService {
         }
 
         Contract contractTerminated = contract.contractTerminate(checkOut);
+        publishDashboardChanged(buildingId);
 
         return contractMapper.toStatusInfo(contractTerminated);
 
@@ -303,6 +315,11 @@ public class ContractService {
 
     }
 
+    /* 계약 변경 시 해당 빌딩 대시보드 캐시 무효화 (커밋 이후 반영) */
+    private void publishDashboardChanged(Long buildingId) {
+        eventPublisher.publishEvent(DashboardChangedEvent.ofBuilding(buildingId));
+    }
+
     private Room validateOwnerAndRoomExistence(MemberDTO.Info member, Long buildingId, Long roomId) {
         if (member.getRole() != Role.OWNER) {
             throw new ApiException(ApiErrorCode.DO_NOT_HAVE_PERMISSION, "소유자만 접근할 수 있습니다.");
@@ -314,12 +331,24 @@ public class ContractService {
     }
 
     /* 내 호실의 임대료 및 타호실 임대료 평균값 조회 */
+    @Transactional(readOnly = true)
     public ContractDTO.CostInfo getContractCostInfo(MemberDTO.Info member, Long buildingId, Long roomId) {
 
         Room room = validateOwnerAndRoomExistence(member, buildingId, roomId);
 
+        return getContractCostInfo(buildingId, room.getId());
+
+    }
+
+    /*
+     * 소유 호실이 이미 검증된 경우(대시보드 통합 조회) 사용 - 다른 스레드에서 호출되므로 엔티티 대신 식별자를 전달받음
+     * 소유자 검증이 없으므로 같은 패키지의 DashboardService에서만 호출하도록 package-private으로 제한 (아래 두 메서드 동일)
+     */
+    @Transactional(readOnly = true)
+    ContractDTO.CostInfo getContractCostInfo(Long buildingId, Long roomId) {
+
         // 내 호실의 임대료 조회
-        ContractDTO.CostDto costDto = calculateAveragesPerRoom(room.getId());
+        ContractDTO.CostDto costDto = calculateAveragesPerRoom(roomId);
 
         // 해당 빌딩의 모든 호실의 계약 조회
         ContractDTO.CostAverageDto costAverageDto = calculateCostAverages(buildingId, costDto);
@@ -329,16 +358,22 @@ public class ContractService {
     }
 
     /* 내 호실의 재계약률 & 비교 호실의 재계약률 평균 (현재일 기준, 누적치) */
+    @Transactional(readOnly = true)
     public ContractDTO.RenewalContractRateInfo getRenewalContractRateInfo(MemberDTO.Info member, Long buildingId, Long roomId) {
         Room room = validateOwnerAndRoomExistence(member, buildingId, roomId);
 
+        return getRenewalContractRateInfo(buildingId, room.getId());
+    }
+
+    @Transactional(readOnly = true)
+    ContractDTO.RenewalContractRateInfo getRenewalContractRateInfo(Long buildingId, Long roomId) {
         List<ContractStatus> statusList = List.of(ContractStatus.PENDING, ContractStatus.CANCELED);
 
         /* 내 호실 재계약률 산출 */
-        Double renewalContractRate = getRenewalContractData(room.getId(), statusList);
+        Double renewalContractRate = getRenewalContractData(roomId, statusList);
 
         /* 내 호실의 계약을 제외한 선택 빌딩의 모든 계약률 평균 산출 */
-        double averageRenewalContractRate = getRenewalRelativeContractData(buildingId, room, statusList);
+        double averageRenewalContractRate = getRenewalRelativeContractData(buildingId, roomId, statusList);
 
         return contractMapper.toRenewalContractRateInfo(renewalContractRate, averageRenewalContractRate);
 
@@ -347,9 +382,8 @@ public class ContractService {
     private Double getRenewalContractData(Long roomId, List<ContractStatus> statusList) {
         /* 내 호실 재계약 데이터 조회 & 카운팅(일단 누적치로 가자) - 계약대기, 취소상태 제외 모든 계약 데이터 조회 */
         List<Contract> contracts = contractRepository.findByAllContractPerRoom(roomId, statusList);
-        Map<ContractType, Long> contractsTypeMap = getContractCountPerType(contracts);
 
-        return calculateRenewalContract(contracts, contractsTypeMap);
+        return ContractStatistics.renewalRate(ContractStatistics.countPerType(contracts), getRenewalContractFailedCount(contracts));
     }
 
     private ContractDTO.CostDto calculateAveragesPerRoom(Long roomId) {
@@ -367,11 +401,6 @@ public class ContractService {
         return contractMapper.toCostDto(contract.getId(), contract.getDeposit(), contract.getRentalPrice());
     }
 
-    private Map<ContractType, Long> getContractCountPerType(List<Contract> contracts) {
-        return contracts.stream()
-                .collect(Collectors.groupingBy(Contract::getContractType, Collectors.counting()));
-    }
-
     private ContractDTO.CostAverageDto calculateCostAverages(Long buildingId, ContractDTO.CostDto costDto) {
 
         List<Contract> contracts;
@@ -396,71 +425,37 @@ public class ContractService {
 
     }
 
-    private double getRenewalRelativeContractData(Long buildingId, Room room, List<ContractStatus> statusList) {
-        List<Contract> contracts = contractRepository.findByAllContractAllRoomsPerBuilding(buildingId, room.getId(), statusList);
-        Map<Room, Map<ContractType, Long>> contractCountsPerRoomAndType = getContractCountsPerRoomAndType(contracts);
-
-        double avgData = contractCountsPerRoomAndType.values().stream()
-                .mapToDouble(contractsTypeMap -> calculateRenewalContract(contracts, contractsTypeMap))
-                .average()
-                .orElse(0.0);
-
-        return Math.round(avgData * 10.0) / 10.0;
-    }
-
-    private Map<Room, Map<ContractType, Long>> getContractCountsPerRoomAndType(List<Contract> contractList) {
-        return contractList.stream()
-                .collect(Collectors.groupingBy(
-                        Contract::getRoom,
-                        Collectors.groupingBy(
-                                Contract::getContractType,
-                                Collectors.counting()) // 2차 세분류
-                ));
-    }
-
-    private double calculateRenewalContract(List<Contract> contracts, Map<ContractType, Long> contractsTypeMap) {
-        long initialContractsCount = contractsTypeMap.getOrDefault(ContractType.INITIAL, 0L);
-        long renewalContractsCount = contractsTypeMap.getOrDefault(ContractType.RENEWAL, 0L);
-        long failedRenewalContractsCount = getRenewalContractFailedCount(contracts); // 재계약 실패를 나타내는 결과값
-
-        long attemptedRenewalContractsCount = failedRenewalContractsCount + renewalContractsCount; // 재계약 시도를 나타내는 결과값
-        long pureRenewalContractsCount = attemptedRenewalContractsCount - failedRenewalContractsCount; // 재계약을 성공한 경우를 나타내는 결과값
-
-        long totalContractsCount = initialContractsCount + pureRenewalContractsCount; // 실제 총 계약 수
+    private double getRenewalRelativeContractData(Long buildingId, Long roomId, List<ContractStatus> statusList) {
+        List<Contract> contracts = contractRepository.findByAllContractAllRoomsPerBuilding(buildingId, roomId, statusList);
 
-        double result = ((double) pureRenewalContractsCount / (totalContractsCount - 1)) * 100;
-
-        return Math.round(result * 10.0) / 10.0;
+        // 재계약 실패 건수는 호실과 무관하게 전체 계약 기준이므로 1회만 조회
+        return ContractStatistics.averageRenewalRate(contracts, getRenewalContractFailedCount(contracts));
     }
 
+    /* 이전 계약이 RENEWAL이고 현재 계약이 INITIAL인 경우 재계약 실패 - 계약마다 이전 계약을 조회하지 않고 한 번에 집계 */
     private long getRenewalContractFailedCount(List<Contract> contracts) {
-        return contracts.stream()
+        List<Long> initialContractIds = contracts.stream()
                 .filter(contract -> contract.getContractType() == ContractType.INITIAL) // ContractType.INITIAL만 필터링
-                .filter(this::isFailedRenewal) // 재계약 실패( isFailedRenewal=true )만 필터링
-                .count();
-    }
-
-    private boolean isFailedRenewal(Contract currentContract) {
-        /* 현재 계약의 이전 계약 정보를 가져옴 */
-        PageRequest pageRequest = PageRequest.of(0, 1);
+                .map(Contract::getId)
+                .toList();
 
-        Contract previousContract = contractRepository.findPreviousContract(currentContract.getId(), pageRequest);
-
-        /* 이전 계약이 없으면 재계약이 아니므로 실패로 처리하지 않음 (false) */
-        if (previousContract == null) {
-            return false;
+        if (initialContractIds.isEmpty()) {
+            return 0L;
         }
 
-        /* 이전 계약이 RENEWAL이고 현재 계약이 INITIAL인 경우 재계약 실패 처리 (true) */
-        boolean result = previousContract.getContractType() == ContractType.RENEWAL
-                         && currentContract.getContractType() == ContractType.INITIAL;
-        return result;
+        return contractRepository.countFailedRenewal(initialContractIds);
     }
 
     /* 내 호실의 연간 공실률 & 비교 호실 연평균 공실률 조회 (현재일 기준) */
+    @Transactional(readOnly = true)
     public ContractDTO.VacancyRateInfo getContractVacancyRateInfo(MemberDTO.Info member, Long buildingId, Long roomId, LocalDate startDate) {
         Room room = validateOwnerAndRoomExistence(member, buildingId, roomId);
 
+        return getContractVacancyRateInfo(buildingId, room.getId(), startDate);
+    }
+
+    @Transactional(readOnly = true)
+    ContractDTO.VacancyRateInfo getContractVacancyRateInfo(Long buildingId, Long roomId, LocalDate startDate) {
         List<ContractStatus> statusList = List.of(
                 ContractStatus.PENDING,
                 ContractStatus.CANCELED,
@@ -469,128 +464,29 @@ public class ContractService {
 
         LocalDate lastDate = startDate.plusYears(1).minusDays(1);
 
-        double occupancyRate = getOccupancyPerRoom(startDate, room, statusList, lastDate);
-        double result = getAverageVacancyRate(buildingId, startDate, room, statusList, lastDate);
+        double occupancyRate = getOccupancyPerRoom(startDate, roomId, statusList, lastDate);
+        double result = getAverageVacancyRate(buildingId, startDate, roomId, statusList, lastDate);
 
         return contractMapper.toVacancyRateInfo(occupancyRate, result);
     }
 
-    private double getAverageVacancyRate(Long buildingId, LocalDate startDate, Room room, List<ContractStatus> statusList, LocalDate lastDate) {
-        List<Contract> contracts = contractRepository.findByAllContractPerBuildingLatestOneYear(buildingId, room.getId(), statusList, startDate, lastDate);
-
-        Map<Room, List<Contract>> contractsByRoom = ContractsClassifiedByRoom(contracts);
-
-        Map<Room, Long> occupancyPerRoom = contractsByRoom.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> getOccupancy(entry.getValue(), startDate)
-                ));
-
-        Map<Room, Long> additionalOccupancyPerRoom = contractsByRoom.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> {
-                            List<Contract> roomContracts = entry.getValue();
-                            long additionalOccupancy = getAdditionalOccupancyErrorCase(roomContracts);
-                            return getAdditionalOccupancyLastContract(lastDate, roomContracts, additionalOccupancy);
-                        }
-                ));
-
-        Map<Room, Long> totalOccupancyPerRoom = occupancyPerRoom.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> entry.getValue() + additionalOccupancyPerRoom.getOrDefault(entry.getKey(), 0L)
-                ));
-
-        double averageVacancyRate = totalOccupancyPerRoom.values().stream()
-                .mapToDouble(totalOccupancy -> ((double) (365 - totalOccupancy) / 365) * 100)
-                .average()
-                .orElse(0.0);
-
-        return Math.round(averageVacancyRate * 10.0) / 10.0;
-
-    }
+    private double getAverageVacancyRate(Long buildingId, LocalDate startDate, Long roomId, List<ContractStatus> statusList, LocalDate lastDate) {
+        List<Contract> contracts = contractRepository.findByAllContractPerBuildingLatestOneYear(buildingId, roomId, statusList, startDate, lastDate);
 
-    private Map<Room, List<Contract>> ContractsClassifiedByRoom(List<Contract> contracts) {
-        return contracts.stream()
-                .collect(Collectors.groupingBy(
-                        Contract::getRoom,
-                        Collectors.collectingAndThen(
-                                Collectors.toList(),
-                                contractList -> {
-                                    contractList.sort(Comparator.comparing(Contract::getStartDate));
-                                    return contractList;
-                                }
-                        )
-                ));
+        return ContractStatistics.averageVacancyRate(contracts, startDate, lastDate);
     }
 
-    private double getOccupancyPerRoom(LocalDate startDate, Room room, List<ContractStatus> statusList, LocalDate lastDate) {
-        List<Contract> contracts = contractRepository.findByAllContractPerRoomLatestOneYear(room.getId(), statusList, startDate, lastDate);
-        contracts.sort(Comparator.comparing(Contract::getStartDate));
-
-        long occupancy = getOccupancy(contracts, startDate);
-
-        long additionalOccupancy = getAdditionalOccupancyErrorCase(contracts);
-
-        additionalOccupancy = getAdditionalOccupancyLastContract(lastDate, contracts, additionalOccupancy);
-        occupancy += additionalOccupancy;
+    private double getOccupancyPerRoom(LocalDate startDate, Long roomId, List<ContractStatus> statusList, LocalDate lastDate) {
+        List<Contract> contracts = contractRepository.findByAllContractPerRoomLatestOneYear(roomId, statusList, startDate, lastDate);
 
-        double vacancyRate = ((double) (365 - occupancy) / 365) * 100;
-        System.out.println(Math.round(vacancyRate * 10.0) / 10.0);
-        return Math.round(vacancyRate * 10.0) / 10.0;
-    }
-
-    private long getAdditionalOccupancyErrorCase(List<Contract> contracts) {
-        return IntStream.range(0, contracts.size() - 1)
-                .mapToLong(i -> {
-                    LocalDate currentCheckOut = contracts.get(i).getCheckOut();
-                    LocalDate nextStartDate = contracts.get(i + 1).getStartDate();
-                    long gap = ChronoUnit.DAYS.between(currentCheckOut, nextStartDate);
-                    return (gap == 1) ? 1 : 0;
-                })
-                .sum();
-    }
-
-    private long getAdditionalOccupancyLastContract(LocalDate lastDate, List<Contract> contracts, long additionalOccupancy) {
-        if (!contracts.isEmpty()) { // 마지막 계약이 이행 중인 경우 현재일을 간격 비교 데이터로 사용
-            Contract lastContract = contracts.get(contracts.size() - 1);
-            if (lastContract.getContractStatus() == ContractStatus.IN_PROGRESS) {
-                additionalOccupancy += ChronoUnit.DAYS.between(lastContract.getStartDate(), lastDate);
-            } else {
-                if(lastContract.getStartDate().isBefore(lastDate.minusYears(1).plusDays(1)) && 365 <= ChronoUnit.DAYS.between(lastContract.getStartDate(), lastContract.getCheckOut())) {
-                    additionalOccupancy += ChronoUnit.DAYS.between(lastDate.minusYears(1).plusDays(1), lastContract.getCheckOut());
-                } else {
-                    additionalOccupancy += ChronoUnit.DAYS.between(lastContract.getStartDate(), lastContract.getCheckOut());
-                }
-            }
-        }
-
-        return Math.min(additionalOccupancy, 365L);
-
-    }
-
-    private long getOccupancy(List<Contract> contracts, LocalDate startDate) {
-        if (contracts.isEmpty()) {
-            return 0L;
-        }
-
-        return contracts.stream()
-                .limit(contracts.size() - 1)
-                .mapToLong(contract -> {
-                    if (contract.getStartDate().isBefore(startDate)) {
-                        return ChronoUnit.DAYS.between(startDate, contract.getCheckOut());
-                    } else {
-                        return ChronoUnit.DAYS.between(contract.getStartDate(), contract.getCheckOut());
-                    }
-                })
-                .sum();
+        return ContractStatistics.vacancyRate(contracts, startDate, lastDate);
     }
 
+    @Transactional(readOnly = true)
     public ContractDTO.InfoWithRoomList selectContractsByTenantId(MemberDTO.Info member) {
         long tenantId = member.getTenant().getId();
         Tenant validTenant = tenantRepository.getValidOneTenantOrThrow(tenantId);
-        List<Contract> allContractsByTenant = contractRepository.findAllByTenantIdAndStatus(validTenant.getId(), Status.REGISTER);
+        List<ContractDTO.InfoWithRoomProjection> allContractsByTenant = contractRepository.findAllInfoWithRoomByTenantIdAndStatus(validTenant.getId(), Status.REGISTER);
         long allContractsCount = allContractsByTenant.size();
         List<ContractDTO.InfoWithRoom> infoWithRoomList = allContractsByTenant.stream().map(contractMapper::toInfoWithRoom).toList();
         return contractMapper.toInfoWithRoomList(allContractsCount, infoWithRoomList);
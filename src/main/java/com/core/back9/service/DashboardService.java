@@ -0,0 +1,161 @@
+package com.core.back9.service;
+
+import com.core.back9.common.cache.DashboardCache;
+import com.core.back9.common.cache.DashboardCacheKey;
+import com.core.back9.dto.ContractDTO;
+import com.core.back9.dto.DashboardDTO;
+import com.core.back9.dto.MemberDTO;
+import com.core.back9.dto.ScoreDTO;
+import com.core.back9.entity.Room;
+import com.core.back9.entity.constant.Role;
+import com.core.back9.entity.constant.Status;
+import com.core.back9.exception.ApiErrorCode;
+import com.core.back9.exception.ApiException;
+import com.core.back9.repository.RoomRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/*
+ * 소유자 빌딩 대시보드 통합 조회
+ * 소유 검증과 호실 목록 조회는 요청당 1회만 수행하고, 서로 독립적인 평가/계약 통계는 dashboardExecutor에서 병렬로 집계한다
+ * 각 섹션은 자체 readOnly 트랜잭션에서 실행되므로 이 클래스는 트랜잭션을 열지 않는다 (대기 중 커넥션 점유 방지)
+ * 섹션 스레드에는 엔티티가 아닌 식별자만 전달하고, 각 섹션이 자신의 트랜잭션에서 호실을 다시 조회한다 (영속성 컨텍스트를 스레드 간에 공유하지 않음)
+ * 요청 제한 시간을 넘긴 섹션은 TIMEOUT으로 응답하고 취소한다
+ * - 아직 실행 전(큐 대기)인 섹션은 스레드를 할당받아도 집계 없이 바로 종료
+ * - 이미 실행 중인 섹션은 CompletableFuture 특성상 인터럽트되지 않으며, 끝난 결과는 대시보드 캐시에 저장되어 다음 요청에서 사용된다
+ */
+@Slf4j
+@Service
+public class DashboardService {
+
+	private final ScoreService scoreService;
+	private final ContractService contractService;
+	private final RoomRepository roomRepository;
+	private final DashboardCache dashboardCache;
+	private final Executor dashboardExecutor;
+	private final Duration timeout;
+
+	public DashboardService(
+	  ScoreService scoreService,
+	  ContractService contractService,
+	  RoomRepository roomRepository,
+	  DashboardCache dashboardCache,
+	  @Qualifier("dashboardExecutor") Executor dashboardExecutor,
+	  @Value("${dashboard.aggregate.timeout:PT3S}") Duration timeout
+	) {
+		this.scoreService = scoreService;
+		this.contractService = contractService;
+		this.roomRepository = roomRepository;
+		this.dashboardCache = dashboardCache;
+		this.dashboardExecutor = dashboardExecutor;
+		this.timeout = timeout;
+	}
+
+	public DashboardDTO.Info selectDashboard(MemberDTO.Info member, Long buildingId, Long roomId, int year, int quarter) {
+		if (member.getRole() != Role.OWNER) {
+			throw new ApiException(ApiErrorCode.DO_NOT_HAVE_PERMISSION, "소유자만 접근할 수 있습니다.");
+		}
+
+		List<Room> roomList = roomRepository.findAllByBuildingIdAndMemberIdAndStatus(buildingId, member.getId(), Status.REGISTER);
+		if (roomList.isEmpty()) {
+			throw new ApiException(ApiErrorCode.NOT_FOUND_VALID_ROOM);
+		}
+		List<Long> roomIds = roomList.stream().map(Room::getId).toList();
+		Long selectedRoomId = selectRoom(roomList, roomId).getId();
+
+		long deadline = System.nanoTime() + timeout.toNanos();
+		Long memberId = member.getId();
+		String quarterPeriod = year + "-Q" + quarter;
+		LocalDate today = LocalDate.now();
+		LocalDate startDate = today.minusYears(1).plusDays(1); // 공실률 검색 범위 1년
+
+		// 개별 엔드포인트와 같은 캐시 키를 사용해 결과를 공유
+		CompletableFuture<ScoreDTO.AvgByQuarter> quarterlyScore = submit(
+		  DashboardCacheKey.ofBuilding("my-quarterly-score", memberId, buildingId, quarterPeriod),
+		  () -> scoreService.selectScoresByQuarterOfRooms(roomIds, year, quarter));
+		CompletableFuture<ScoreDTO.CurrentAndBeforeQuarterlyTotalAvg> roomsQuarterlyScore = submit(
+		  DashboardCacheKey.ofBuilding("my-rooms-quarterly-score", memberId, buildingId, quarterPeriod),
+		  () -> scoreService.selectQuarterlyScoreOfRooms(roomIds, year, quarter));
+		CompletableFuture<List<ScoreDTO.AllAvgByRoom>> roomsYearScore = submit(
+		  DashboardCacheKey.ofBuilding("my-rooms-year-score", memberId, buildingId, YearMonth.from(today)),
+		  () -> scoreService.selectYearScoreOfRooms(roomIds, YearMonth.from(today)));
+		CompletableFuture<ContractDTO.CostInfo> contractCost = submit(
+		  DashboardCacheKey.ofRoom("contract-cost", memberId, buildingId, selectedRoomId, today),
+		  () -> contractService.getContractCostInfo(buildingId, selectedRoomId));
+		CompletableFuture<ContractDTO.RenewalContractRateInfo> renewalContractRate = submit(
+		  DashboardCacheKey.ofRoom("renewal-contract-rate", memberId, buildingId, selectedRoomId, today),
+		  () -> contractService.getRenewalContractRateInfo(buildingId, selectedRoomId));
+		CompletableFuture<ContractDTO.VacancyRateInfo> vacancyRate = submit(
+		  DashboardCacheKey.ofRoom("vacancy-rate", memberId, buildingId, selectedRoomId, today),
+		  () -> contractService.getContractVacancyRateInfo(buildingId, selectedRoomId, startDate));
+
+		return DashboardDTO.Info.builder()
+		  .buildingId(buildingId)
+		  .roomId(selectedRoomId)
+		  .year(year)
+		  .quarter(quarter)
+		  .quarterlyScore(await("quarterlyScore", quarterlyScore, deadline))
+		  .roomsQuarterlyScore(await("roomsQuarterlyScore", roomsQuarterlyScore, deadline))
+		  .roomsYearScore(await("roomsYearScore", roomsYearScore, deadline))
+		  .contractCost(await("contractCost", contractCost, deadline))
+		  .renewalContractRate(await("renewalContractRate", renewalContractRate, deadline))
+		  .vacancyRate(await("vacancyRate", vacancyRate, deadline))
+		  .build();
+	}
+
+	/* 계약 통계 대상 호실 - 지정하지 않으면 대표 호실, 대표 호실이 없으면 첫 번째 호실 */
+	private Room selectRoom(List<Room> roomList, Long roomId) {
+		if (roomId != null) {
+			return roomList.stream()
+			  .filter(room -> room.getId().equals(roomId))
+			  .findFirst()
+			  .orElseThrow(() -> new ApiException(ApiErrorCode.NOT_FOUND_VALID_ROOM));
+		}
+
+		return roomList.stream()
+		  .filter(Room::isRepresent)
+		  .findFirst()
+		  .orElse(roomList.get(0));
+	}
+
+	private <T> CompletableFuture<T> submit(DashboardCacheKey key, Supplier<T> loader) {
+		try {
+			return CompletableFuture.supplyAsync(() -> dashboardCache.get(key, loader), dashboardExecutor);
+		} catch (RejectedExecutionException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	/* 남은 제한 시간만큼만 대기 - 이미 완료된 섹션은 제한 시간이 지났더라도 결과를 반환 */
+	private <T> DashboardDTO.Section<T> await(String section, CompletableFuture<T> future, long deadline) {
+		try {
+			long remaining = Math.max(deadline - System.nanoTime(), 0);
+			return DashboardDTO.Section.ok(future.get(remaining, TimeUnit.NANOSECONDS));
+		} catch (TimeoutException e) {
+			future.cancel(true); // 실행 전이면 집계를 건너뛰고, 실행 중이면 완료 후 캐시에만 반영
+			log.warn("대시보드 섹션 제한 시간 초과 - section: {}, timeout: {}", section, timeout);
+			return DashboardDTO.Section.of(DashboardDTO.SectionStatus.TIMEOUT);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RejectedExecutionException) {
+				log.warn("대시보드 섹션 실행 거부 - section: {}", section);
+				return DashboardDTO.Section.of(DashboardDTO.SectionStatus.REJECTED);
+			}
+			log.error("대시보드 섹션 조회 실패 - section: {}, message: {}", section, e.getCause().getMessage());
+			return DashboardDTO.Section.of(DashboardDTO.SectionStatus.FAILED);
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			return DashboardDTO.Section.of(DashboardDTO.SectionStatus.TIMEOUT);
+		}
+	}
+
+}
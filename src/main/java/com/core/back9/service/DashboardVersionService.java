@@ -0,0 +1,96 @@
+package com.core.back9.service;
+
+import com.core.back9.common.cache.DashboardChangedEvent;
+import com.core.back9.entity.BuildingDashboardVersion;
+import com.core.back9.repository.BuildingDashboardVersionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/*
+ * 소유자 통계 응답의 ETag 산출
+ * 빌딩별 통계 버전(building_dashboard_versions)을 사용하므로 통계 집계 없이 PK 조회만으로 계산된다
+ * 버전은 통계 입력(호실, 계약, 입주사, 평가) 변경이 커밋된 이후 짧은 별도 트랜잭션에서 증가하므로
+ * 변경 트랜잭션이 버전 행 잠금을 커밋까지 잡고 있지 않으며, 롤백된 변경은 버전을 바꾸지 않는다
+ * DB 값 기준이라 여러 서버 인스턴스에서도 동일한 ETag가 산출됨
+ */
+@Service
+public class DashboardVersionService {
+
+	private final BuildingDashboardVersionRepository buildingDashboardVersionRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final Duration replicaLagWindow; // 변경 이후 replica에 반영되기까지 허용하는 지연
+
+	public DashboardVersionService(
+	  BuildingDashboardVersionRepository buildingDashboardVersionRepository,
+	  ApplicationEventPublisher eventPublisher,
+	  @Value("${dashboard.cache.replica-lag-window:${datasource.replica.max-lag:PT5S}}") Duration replicaLagWindow
+	) {
+		this.buildingDashboardVersionRepository = buildingDashboardVersionRepository;
+		this.eventPublisher = eventPublisher;
+		this.replicaLagWindow = replicaLagWindow;
+	}
+
+	/*
+	 * qualifiers : 응답이 달라지는 요소(엔드포인트, 조회 기간 등) - 같은 버전이라도 요청마다 다른 ETag가 되도록 함께 해싱
+	 * 버전은 replica가 아닌 primary에서 조회 (readOnly가 아닌 트랜잭션) - 복제 지연으로 변경 전 버전을 읽지 않도록 함
+	 * 변경 직후 복제 지연 구간에는 통계 조회가 replica의 변경 전 데이터를 읽을 수 있으므로 구간이 지난 뒤와 다른 ETag를 산출하여,
+	 * 그 사이 받은 응답은 구간이 지나면 다시 조회되도록 함
+	 */
+	@Transactional
+	public String getETag(Long buildingId, Long memberId, Object... qualifiers) {
+		BuildingDashboardVersion dashboardVersion = buildingDashboardVersionRepository.findById(buildingId).orElse(null);
+		StringJoiner version = new StringJoiner(":")
+		  .add(String.valueOf(buildingId))
+		  .add(String.valueOf(memberId))
+		  .add(String.valueOf(dashboardVersion == null ? 0L : dashboardVersion.getVersion()));
+		if (dashboardVersion != null && isReplicating(dashboardVersion.getChangedAt())) {
+			version.add("replicating");
+		}
+		for (Object qualifier : qualifiers) {
+			version.add(Objects.toString(qualifier));
+		}
+
+		return "\"" + DigestUtils.md5DigestAsHex(version.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+	}
+
+	/* 배치처럼 여러 빌딩을 한 트랜잭션에서 변경한 경우 - 변경된 빌딩만 대상으로 캐시 제거 / 버전 증가 (커밋 이후 반영) */
+	public void markChanged(Collection<Long> buildingIds) {
+		if (buildingIds.isEmpty()) {
+			return;
+		}
+		eventPublisher.publishEvent(DashboardChangedEvent.ofBuildings(buildingIds));
+	}
+
+	/*
+	 * 변경 트랜잭션 커밋 이후 새 트랜잭션에서 증가 (트랜잭션 밖에서 발행된 이벤트는 즉시 증가)
+	 * 캐시 제거(DashboardCache.evict) 이후에 실행되도록 순서 지정
+	 */
+	@Order(1)
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onDashboardChanged(DashboardChangedEvent event) {
+		if (event.isAll()) {
+			buildingDashboardVersionRepository.increaseAll(LocalDateTime.now());
+			return;
+		}
+		buildingDashboardVersionRepository.increase(event.getBuildingIds(), LocalDateTime.now());
+	}
+
+	private boolean isReplicating(LocalDateTime changedAt) {
+		return changedAt != null && changedAt.isAfter(LocalDateTime.now().minus(replicaLagWindow));
+	}
+
+}
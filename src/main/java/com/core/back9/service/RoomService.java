@@ -1,5 +1,6 @@
 package com.core.back9.service;
 
+import com.core.back9.common.cache.DashboardChangedEvent;
 import com.core.back9.dto.MemberDTO;
 import com.core.back9.dto.RoomDTO;
 import com.core.back9.entity.Building;
@@ -16,6 +17,7 @@ import com.core.back9.repository.MemberRepository;
 import com.core.back9.repository.RoomRepository;
 import com.core.back9.repository.SettingRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -31,6 +33,7 @@ public class RoomService {
 	private final RoomMapper roomMapper;
 	private final SettingRepository settingRepository;
 	private final MemberRepository memberRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public RoomDTO.Response create(
 	  MemberDTO.Info member,
@@ -42,6 +45,7 @@ public class RoomService {
 			Room newRoom = roomMapper.toEntity(validBuilding, request, createSetting());
 			Room savedRoom = roomRepository.save(newRoom);
 			validBuilding.addRoom(savedRoom);
+			publishDashboardChanged(buildingId); // 빌딩 공실률 변경
 			return roomMapper.toResponse(savedRoom);
 		}
 		throw new ApiException(ApiErrorCode.DO_NOT_HAVE_PERMISSION);
@@ -56,6 +60,7 @@ public class RoomService {
 		if (member.getRole() == Role.ADMIN) {
 			Room validRoom = currentRoom(buildingId, roomId);
 			validRoom.update(request);
+			publishDashboardChanged(buildingId); // 호실 이름, 면적(면적당 비용) 변경
 			return roomMapper.toInfo(validRoom);
 		}
 		throw new ApiException(ApiErrorCode.DO_NOT_HAVE_PERMISSION);
@@ -71,6 +76,7 @@ public class RoomService {
 			Room validRoom = currentRoom(buildingId, roomId);
 			validBuilding.removeRoom(validRoom);
 			validRoom.delete();
+			publishDashboardChanged(buildingId);
 			return validRoom.getStatus() == Status.UNREGISTER;
 		}
 		throw new ApiException(ApiErrorCode.DO_NOT_HAVE_PERMISSION);
@@ -148,6 +154,8 @@ public class RoomService {
 				validRoom.addRepresent();
 			}
 
+			publishDashboardChanged(buildingId); // 이전 소유자의 캐시된 통계 제거
+
 			return roomMapper.toInfoWithOwner(validRoom, validOwner);
 		}
 		throw new ApiException(ApiErrorCode.DO_NOT_HAVE_PERMISSION);
@@ -161,11 +169,17 @@ public class RoomService {
 	) {
 		roomRepository.getValidRepresentRoom(buildingId, member.getId()).removeRepresent();
 		roomRepository.getValidSpecificRoom(buildingId, roomId, member.getId(), Status.REGISTER).addRepresent();
+		publishDashboardChanged(buildingId); // 대시보드 기본 호실 변경
 
 		return roomRepository.findAllByBuildingIdAndStatus(buildingId, Status.REGISTER, pageable)
 		  .map(roomMapper::toInfo);
 	}
 
+	/* 호실 변경 시 해당 빌딩 대시보드 캐시 무효화 (커밋 이후 반영) */
+	private void publishDashboardChanged(Long buildingId) {
+		eventPublisher.publishEvent(DashboardChangedEvent.ofBuilding(buildingId));
+	}
+
 	private Room currentRoom(Long buildingId, Long roomId) {
 		return roomRepository.getValidRoomWithIdOrThrow(buildingId, roomId, Status.REGISTER);
 	}
@@ -1,5 +1,6 @@
 package com.core.back9.service;
 
+import com.core.back9.common.cache.DashboardChangedEvent;
 import com.core.back9.common.entity.BaseEntity;
 import com.core.back9.dto.MemberDTO;
 import com.core.back9.dto.ScoreDTO;
@@ -20,7 +21,10 @@ import com.core.back9.repository.RoomRepository;
 import com.core.back9.repository.ScoreRepository;
 import com.core.back9.util.DateUtils;
 import com.core.back9.util.EvaluationSpecifications;
+import com.core.back9.util.ScoreAggregate;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -32,18 +36,25 @@ import java.time.LocalTime;
 import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Timed(value = "service.method.duration", description = "서비스 메서드 처리 시간")
 @RequiredArgsConstructor
 @Transactional
 @Service
 public class ScoreService {
 
+    private static final int MONTHS_OF_YEAR = 12;
+
     private final MemberRepository memberRepository;
     private final BuildingRepository buildingRepository;
     private final RoomRepository roomRepository;
     private final ScoreRepository scoreRepository;
     private final ScoreMapper scoreMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void create(
             MemberDTO.Info member,
@@ -92,6 +103,7 @@ public class ScoreService {
                     System.out.printf("평가 레코드 생성 실패 사용자 id: %s, role: %s, status: %s%n", user.getId(), user.getRole(), user.getStatus());
                 }
             });
+            eventPublisher.publishEvent(DashboardChangedEvent.ofBuilding(buildingId)); // 평가 진행률 변경
             return;
 
         }
@@ -112,6 +124,7 @@ public class ScoreService {
             }
 
             validScore.updateScore(updateRequest);
+            eventPublisher.publishEvent(DashboardChangedEvent.ofBuilding(validScore.getRoom().getBuilding().getId()));
             return scoreMapper.toUpdateResponse(validScore);
         }
         throw new ApiException(ApiErrorCode.DO_NOT_HAVE_PERMISSION);
@@ -177,9 +190,10 @@ public class ScoreService {
         List<Score> myYearScores = scoreRepository.findAll(specification);    // 내 단일 호실 점수 목록
 
         specification = Specification.where(null);
+        specification = specification.and(EvaluationSpecifications.hasBuilding(validRoom.getBuilding(), true));
         specification = specification.and(EvaluationSpecifications.hasRoomList(roomList, false));
         specification = specification.and(EvaluationSpecifications.isOneYearAgo(yearMonth.atEndOfMonth().atTime(LocalTime.MAX)));
-        List<Score> othersYearScores = scoreRepository.findAll(specification);    // 타 호실 점수 목록
+        List<Score> othersYearScores = scoreRepository.findAll(specification);    // 같은 빌딩의 타 호실 점수 목록 (빌딩 단위 캐시 / ETag와 범위를 맞춤)
 
         List<ScoreDTO.AllAvgByMonth> yearlyScoreMy = getYearlyScoreListOfMyOrOthers(yearMonth, myYearScores);
         List<ScoreDTO.AllAvgByMonth> yearlyScoreOthers = getYearlyScoreListOfMyOrOthers(yearMonth, othersYearScores);
@@ -187,21 +201,42 @@ public class ScoreService {
         return scoreMapper.toListOfYearAvgWithMeAndOthers(yearlyScoreMy, yearlyScoreOthers);
     }
 
+    @Transactional(readOnly = true)
     public ScoreDTO.AvgByQuarter selectScoresByQuarter(MemberDTO.Info member, Long buildingId, int year, int quarter) {
         List<Room> roomList = roomRepository.findAllByBuildingIdAndMemberIdAndStatus(
                 buildingId, member.getId(), Status.REGISTER, null
         ).stream().toList();
 
+        return selectScoresByQuarter(roomList, year, quarter);
+    }
+
+    /* 소유 호실 목록이 이미 검증된 경우(대시보드 통합 조회) 사용 - 다른 스레드에서 호출되므로 엔티티 대신 식별자를 전달받아 현재 트랜잭션에서 조회 */
+    @Transactional(readOnly = true)
+    public ScoreDTO.AvgByQuarter selectScoresByQuarterOfRooms(List<Long> roomIds, int year, int quarter) {
+        return selectScoresByQuarter(findRooms(roomIds), year, quarter);
+    }
+
+    private ScoreDTO.AvgByQuarter selectScoresByQuarter(List<Room> roomList, int year, int quarter) {
         List<Score> currentQuarterScoreList = getQuarterlyScoreListOfMyOrOthers(roomList, year, quarter, true);
 
         return scoreMapper.toQuarterlyTotalAvg(year, quarter, currentQuarterScoreList);
     }
 
+    @Transactional(readOnly = true)
     public ScoreDTO.CurrentAndBeforeQuarterlyTotalAvg selectQuarterlyScoreOfMyRooms(MemberDTO.Info member, Long buildingId, int year, int quarter) {
         List<Room> roomList = roomRepository.findAllByBuildingIdAndMemberIdAndStatus(
                 buildingId, member.getId(), Status.REGISTER, null
         ).stream().toList();
 
+        return selectQuarterlyScoreOfMyRooms(roomList, year, quarter);
+    }
+
+    @Transactional(readOnly = true)
+    public ScoreDTO.CurrentAndBeforeQuarterlyTotalAvg selectQuarterlyScoreOfRooms(List<Long> roomIds, int year, int quarter) {
+        return selectQuarterlyScoreOfMyRooms(findRooms(roomIds), year, quarter);
+    }
+
+    private ScoreDTO.CurrentAndBeforeQuarterlyTotalAvg selectQuarterlyScoreOfMyRooms(List<Room> roomList, int year, int quarter) {
         List<ScoreDTO.TotalAvgByRoom> currentQuarterByRoomList = getQuarterlyScoreListOfMyRooms(roomList, year, quarter);
 
         int beforeYear = year, beforeQuarter;
@@ -217,13 +252,21 @@ public class ScoreService {
         return scoreMapper.toQuarterlyTotalAvgWithCurrentAndBefore(currentQuarterByRoomList, beforeQuarterByRoomList);
     }
 
+    @Transactional(readOnly = true)
     public List<ScoreDTO.AllAvgByRoom> selectYearScoreOfMyRooms(MemberDTO.Info member, Long buildingId) {
         List<Room> roomList = roomRepository.findAllByBuildingIdAndMemberIdAndStatus(
                 buildingId, member.getId(), Status.REGISTER, null
         ).stream().toList();
 
-        YearMonth now = YearMonth.now();
+        return selectYearScoreOfMyRooms(roomList, YearMonth.now());
+    }
+
+    @Transactional(readOnly = true)
+    public List<ScoreDTO.AllAvgByRoom> selectYearScoreOfRooms(List<Long> roomIds, YearMonth now) {
+        return selectYearScoreOfMyRooms(findRooms(roomIds), now);
+    }
 
+    private List<ScoreDTO.AllAvgByRoom> selectYearScoreOfMyRooms(List<Room> roomList, YearMonth now) {
         return roomList.stream().map(room -> {
 
             Specification<Score> specification = Specification.where(null);
@@ -235,6 +278,17 @@ public class ScoreService {
         }).toList();
     }
 
+    /* PK 조회 후 전달받은 순서(소유 호실 조회 순서)대로 정렬 */
+    private List<Room> findRooms(List<Long> roomIds) {
+        Map<Long, Room> roomsById = roomRepository.findAllById(roomIds).stream()
+                .collect(Collectors.toMap(Room::getId, Function.identity()));
+
+        return roomIds.stream()
+                .map(roomsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     private boolean isPossible(Long memberId, Long roomId, RatingType ratingType) {
         DateUtils dateUtils = new DateUtils();
         int quarter = dateUtils.getQuarter();
@@ -257,21 +311,18 @@ public class ScoreService {
         }
     }
 
+    /* 호실마다 조회하지 않고 내 호실 전체의 분기 평가를 한 번에 조회한 뒤 호실별로 분류 */
     public List<ScoreDTO.TotalAvgByRoom> getQuarterlyScoreListOfMyRooms(List<Room> roomList, int year, int quarter) {
-        return roomList.stream().map(room -> {
-            DateUtils dateUtils = new DateUtils();
-            LocalDateTime[] startDayAndEndDay = dateUtils.getStartDayAndEndDayByYearAndQuarter(year, quarter);
+        if (roomList.isEmpty()) { // 빈 목록이면 호실 조건이 빠져 전체 평가가 조회되므로 조회하지 않음
+            return List.of();
+        }
 
-            Specification<Score> specification = Specification.where(null);
-            specification = specification.and(EvaluationSpecifications.isEvaluationCompleted());
-            specification = specification.and(EvaluationSpecifications.isUpdatedBetween(
-                    startDayAndEndDay[0], startDayAndEndDay[1]
-            ));
-            specification = specification.and(EvaluationSpecifications.hasRoomId(room));
-            List<Score> scoreByRoom = scoreRepository.findAll(specification);
+        Map<Long, List<Score>> scoresByRoomId = getQuarterlyScoreListOfMyOrOthers(roomList, year, quarter, true).stream()
+                .collect(Collectors.groupingBy(score -> score.getRoom().getId()));
 
-            return scoreMapper.toTotalAvgByRoom(room, scoreByRoom);
-        }).toList();
+        return roomList.stream()
+                .map(room -> scoreMapper.toTotalAvgByRoom(room, scoresByRoomId.getOrDefault(room.getId(), List.of())))
+                .toList();
     }
 
     public List<Score> getQuarterlyScoreListOfMyOrOthers(List<Room> roomList, int year, int quarter, boolean isMine) {
@@ -287,22 +338,34 @@ public class ScoreService {
         return scoreRepository.findAll(specification);
     }
 
+    /* 선택 월부터 이전 12개월의 월별 평균 - 생성 월 기준으로 각 점수를 12개 구간에 한 번씩만 누적 (O(n)) */
     public List<ScoreDTO.AllAvgByMonth> getYearlyScoreListOfMyOrOthers(YearMonth yearMonth, List<Score> scoreList) {
-        List<ScoreDTO.AllAvgByMonth> allAvgByMonthList = new ArrayList<>();
-        for (int i = 0; i < 12; i++) {
-            YearMonth current = yearMonth.minusMonths(i);
-            LocalDateTime startDayOfMonth = current.atDay(1).atStartOfDay();
-            LocalDateTime endDayOfMonth = current.atEndOfMonth().atTime(LocalTime.MAX);
+        ScoreAggregate[] monthlyAggregates = new ScoreAggregate[MONTHS_OF_YEAR];
+        for (int i = 0; i < MONTHS_OF_YEAR; i++) {
+            monthlyAggregates[i] = new ScoreAggregate();
+        }
 
-            List<Score> scoresOfMonth = scoreList.stream()
-                    .filter(score -> !score.getCreatedAt().isBefore(startDayOfMonth) && !score.getCreatedAt().isAfter(endDayOfMonth))
-                    .toList();
+        long selectedMonthIndex = toMonthIndex(yearMonth.getYear(), yearMonth.getMonthValue());
+        for (Score score : scoreList) {
+            LocalDateTime createdAt = score.getCreatedAt();
+            long offset = selectedMonthIndex - toMonthIndex(createdAt.getYear(), createdAt.getMonthValue()); // i개월 전
+            if (offset >= 0 && offset < MONTHS_OF_YEAR) {
+                monthlyAggregates[(int) offset].add(score);
+            }
+        }
 
-            allAvgByMonthList.add(scoreMapper.toAllAvgWithMonth(current, scoresOfMonth));
+        List<ScoreDTO.AllAvgByMonth> allAvgByMonthList = new ArrayList<>(MONTHS_OF_YEAR);
+        for (int i = 0; i < MONTHS_OF_YEAR; i++) {
+            allAvgByMonthList.add(scoreMapper.toAllAvgWithMonth(yearMonth.minusMonths(i), monthlyAggregates[i]));
         }
         return allAvgByMonthList;
     }
 
+    private long toMonthIndex(int year, int month) {
+        return year * 12L + month - 1;
+    }
+
+    @Transactional(readOnly = true)
     public boolean hasValidScore(MemberDTO.Info member, Long buildingId) {
 
         List<Long> roomIds = roomRepository.findAllByBuildingIdAndMemberIdAndStatus(buildingId, member.getId(), Status.REGISTER).stream()
@@ -321,8 +384,7 @@ public class ScoreService {
 
     @Transactional(readOnly = true)
     public List<ScoreDTO.Info> selectAllByMember(MemberDTO.Info member) {
-        return scoreRepository.findAllByMemberIdAndStatus(member.getId(), Status.REGISTER)
-                .stream().map(scoreMapper::toInfo).toList();
+        return scoreRepository.findAllInfoByMemberIdAndStatus(member.getId(), Status.REGISTER);
     }
 
     public List<ScoreDTO.InfoWithCompletionStatus> getEvaluationsInProgress(MemberDTO.Info member) {
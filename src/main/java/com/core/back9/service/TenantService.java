@@ -1,5 +1,6 @@
 package com.core.back9.service;
 
+import com.core.back9.common.cache.DashboardChangedEvent;
 import com.core.back9.dto.MemberDTO;
 import com.core.back9.dto.TenantDTO;
 import com.core.back9.entity.Tenant;
@@ -8,8 +9,10 @@ import com.core.back9.entity.constant.Status;
 import com.core.back9.exception.ApiErrorCode;
 import com.core.back9.exception.ApiException;
 import com.core.back9.mapper.TenantMapper;
+import com.core.back9.repository.ContractRepository;
 import com.core.back9.repository.TenantRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -26,6 +29,8 @@ public class TenantService {
 
     private final TenantRepository tenantRepository;
     private final TenantMapper tenantMapper;
+    private final ContractRepository contractRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public TenantDTO.Response registerTenant(MemberDTO.Info member, TenantDTO.Request request) {
@@ -79,6 +84,7 @@ public class TenantService {
 
         Tenant tenant = tenantRepository.getValidOneTenantOrThrow(tenantId);
         Tenant updatedTenant = tenant.update(request);
+        publishDashboardChanged(tenantId);
 
         return tenantMapper.toInfo(updatedTenant);
     }
@@ -90,10 +96,19 @@ public class TenantService {
             throw new ApiException(ApiErrorCode.DO_NOT_HAVE_PERMISSION, "관리자만 접근할 수 있습니다.");
         }
 
-        return tenantRepository.deleteRegisteredTenant(Status.UNREGISTER, tenantId)
-                .filter(result -> result != 0)
+        Integer result = tenantRepository.deleteRegisteredTenant(Status.UNREGISTER, tenantId)
+                .filter(count -> count != 0)
                 .orElseThrow(() -> new ApiException(ApiErrorCode.DELETE_FAIL));
+        publishDashboardChanged(tenantId);
 
+        return result;
+
+    }
+
+    /* 입주사 정보는 계약 통계 응답에 포함되므로 입주사가 계약한 빌딩의 대시보드 캐시 무효화 / 버전 증가 */
+    private void publishDashboardChanged(Long tenantId) {
+        contractRepository.findBuildingIdsByTenantId(tenantId)
+                .forEach(buildingId -> eventPublisher.publishEvent(DashboardChangedEvent.ofBuilding(buildingId)));
     }
 }
 
@@ -5,15 +5,19 @@ import org.springframework.stereotype.Component;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
 public class SseConnectionPoolImpl implements SseConnectionPool<String, SseMemberConnection> {
 
 	private final Map<String, SseMemberConnection> connectionPool = new ConcurrentHashMap<>();
+	private final AtomicLong openedCount = new AtomicLong();
+	private final AtomicLong closedCount = new AtomicLong();
 
 	@Override
 	public void addSession(String uniqueKey, SseMemberConnection session) {
 		connectionPool.put(uniqueKey, session);
+		openedCount.incrementAndGet();
 	}
 
 	@Override
@@ -23,7 +27,22 @@ public class SseConnectionPoolImpl implements SseConnectionPool<String, SseMembe
 
 	@Override
 	public void onCompletionCallback(SseMemberConnection session) {
-		connectionPool.remove(session.getUniqueKey());
+		// 같은 회원이 재연결한 경우 새 연결이 등록되어 있으므로 완료된 연결일 때만 제거
+		if (connectionPool.remove(session.getUniqueKey(), session)) {
+			closedCount.incrementAndGet();
+		}
+	}
+
+	public int getConnectionCount() {
+		return connectionPool.size();
+	}
+
+	public long getOpenedCount() {
+		return openedCount.get();
+	}
+
+	public long getClosedCount() {
+		return closedCount.get();
 	}
 
 }
@@ -54,17 +54,20 @@ public class SseMemberConnection {
 		}
 	}
 
-	public void sendMessage(Object data) {
+	/* 전송 성공 여부 반환 - 연결이 종료되었거나 전송에 실패하면 false */
+	public boolean sendMessage(Object data) {
 		try {
 			String jsonData = this.objectMapper.writeValueAsString(data);
 			SseEmitter.SseEventBuilder event = SseEmitter.event()
 			  .data(jsonData);
 			if (this.connectionPool.getSession(uniqueKey) != null) {
 				this.sseEmitter.send(event);
+				return true;
 			}
 		} catch (IOException e) {
 			this.sseEmitter.completeWithError(e);
 		}
+		return false;
 	}
 
 }
@@ -0,0 +1,152 @@
+package com.core.back9.sse.dispatch;
+
+import com.core.back9.sse.connection.SseConnectionPoolImpl;
+import com.core.back9.sse.connection.model.SseMemberConnection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/*
+ * SSE 알림 비동기 전송
+ * - 커밋된 트랜잭션의 알림만 대기열에 추가 (롤백 시 전송하지 않고, 요청 트랜잭션은 네트워크 I/O를 기다리지 않음)
+ * - 전용 스레드가 interval 마다 batchSize 건씩 꺼내 전송
+ * - 첫 전송 시 연결이 없는 회원(접속하지 않음)의 알림은 재시도 없이 바로 버림 - 접속 시 is-new / 목록 조회로 확인하므로 대기열을 차지하지 않도록 함
+ * - 연결은 있으나 전송에 실패하면 retryBackoff * 2^(시도 횟수 - 1) 이후 maxAttempts 까지 재시도
+ *   전송 실패 시 연결이 종료(completeWithError -> onCompletion)되어 풀에서 제거되므로, 재시도마다 회원의 현재 연결을 다시 조회하고
+ *   재시도 시점에 연결이 없으면(재접속 전) 버리지 않고 다음 재시도로 넘김
+ * - 대기열이 가득 차거나 재시도를 모두 실패한 알림은 버림 (알림 자체는 DB에 저장되어 있어 is-new / 목록 조회로 확인 가능)
+ */
+@Slf4j
+@Component
+public class SseNotificationDispatcher {
+
+	private final SseConnectionPoolImpl sseConnectionPool;
+	private final BlockingQueue<Notification> queue;
+	private final int batchSize;
+	private final Duration interval;
+	private final int maxAttempts;
+	private final Duration retryBackoff;
+	private final Counter sentCounter;
+	private final Counter retriedCounter;
+	private final Counter droppedCounter;
+	private final Counter offlineCounter;
+
+	private ThreadPoolTaskScheduler scheduler;
+
+	public SseNotificationDispatcher(
+	  SseConnectionPoolImpl sseConnectionPool,
+	  MeterRegistry meterRegistry,
+	  @Value("${sse.dispatch.queue-capacity:10000}") int queueCapacity,
+	  @Value("${sse.dispatch.batch-size:100}") int batchSize,
+	  @Value("${sse.dispatch.interval:100ms}") Duration interval,
+	  @Value("${sse.dispatch.max-attempts:3}") int maxAttempts,
+	  @Value("${sse.dispatch.retry-backoff:1s}") Duration retryBackoff
+	) {
+		this.sseConnectionPool = sseConnectionPool;
+		this.queue = new LinkedBlockingQueue<>(queueCapacity);
+		this.batchSize = batchSize;
+		this.interval = interval;
+		this.maxAttempts = maxAttempts;
+		this.retryBackoff = retryBackoff;
+		this.sentCounter = meterRegistry.counter("sse.dispatch", "result", "sent");
+		this.retriedCounter = meterRegistry.counter("sse.dispatch", "result", "retried");
+		this.droppedCounter = meterRegistry.counter("sse.dispatch", "result", "dropped");
+		this.offlineCounter = meterRegistry.counter("sse.dispatch", "result", "offline");
+		meterRegistry.gauge("sse.dispatch.queue.size", queue, BlockingQueue::size);
+	}
+
+	@PostConstruct
+	public void start() {
+		scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(1);
+		scheduler.setThreadNamePrefix("sse-dispatcher-");
+		scheduler.initialize();
+		scheduler.scheduleWithFixedDelay(this::dispatch, interval);
+	}
+
+	@PreDestroy
+	public void stop() {
+		scheduler.shutdown();
+	}
+
+	/* 트랜잭션 밖에서 발행된 경우 즉시 대기열에 추가 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void enqueue(SseNotificationEvent event) {
+		for (Long memberId : event.getMemberIds()) {
+			offer(new Notification(memberId, event.getData(), 1));
+		}
+	}
+
+	void dispatch() {
+		List<Notification> batch = new ArrayList<>(batchSize);
+		while (queue.drainTo(batch, batchSize) > 0) {
+			batch.forEach(this::send);
+			batch.clear();
+		}
+	}
+
+	private void send(Notification notification) {
+		SseMemberConnection connection = sseConnectionPool.getSession(notification.memberId().toString());
+		if (connection == null && notification.attempt() == 1) {
+			offlineCounter.increment();
+			log.debug("SSE 연결이 없어 알림 전송 생략 - memberId: {}", notification.memberId());
+			return;
+		}
+		if (connection == null) { // 이전 시도의 전송 실패로 연결이 종료됨 - 재접속할 수 있으므로 재시도
+			retry(notification);
+			return;
+		}
+
+		try {
+			if (connection.sendMessage(notification.data())) {
+				sentCounter.increment();
+				return;
+			}
+		} catch (RuntimeException e) {
+			log.warn("SSE 알림 전송 실패 - memberId: {}", notification.memberId(), e);
+		}
+		retry(notification);
+	}
+
+	private void retry(Notification notification) {
+		if (notification.attempt() >= maxAttempts) {
+			droppedCounter.increment();
+			log.debug("SSE 알림 재시도 초과 - memberId: {}", notification.memberId());
+			return;
+		}
+
+		retriedCounter.increment();
+		Duration backoff = retryBackoff.multipliedBy(1L << (notification.attempt() - 1));
+		Notification next = new Notification(notification.memberId(), notification.data(), notification.attempt() + 1);
+		scheduler.schedule(() -> offer(next), Instant.now().plus(backoff));
+	}
+
+	private void offer(Notification notification) {
+		if (!queue.offer(notification)) {
+			droppedCounter.increment();
+			log.warn("SSE 알림 대기열 초과 - memberId: {}", notification.memberId());
+		}
+	}
+
+	public int getQueueSize() {
+		return queue.size();
+	}
+
+	record Notification(Long memberId, Object data, int attempt) {
+	}
+
+}
@@ -0,0 +1,21 @@
+package com.core.back9.sse.dispatch;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/* 트랜잭션 커밋 이후 SSE로 전달할 알림 - 서비스는 이벤트만 발행하고 전송은 SseNotificationDispatcher가 담당 */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class SseNotificationEvent {
+
+	private final List<Long> memberIds;
+	private final Object data;
+
+	public static SseNotificationEvent of(List<Long> memberIds, Object data) {
+		return new SseNotificationEvent(List.copyOf(memberIds), data);
+	}
+
+}
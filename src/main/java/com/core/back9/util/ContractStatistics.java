@@ -0,0 +1,153 @@
+package com.core.back9.util;
+
+import com.core.back9.entity.Contract;
+import com.core.back9.entity.Room;
+import com.core.back9.entity.constant.ContractStatus;
+import com.core.back9.entity.constant.ContractType;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/*
+ * 재계약률 / 공실률 계산 (ContractService)
+ * 조회된 계약 목록만으로 계산하는 순수 함수 - DB 조회 없이 단독 검증 및 벤치마크 가능
+ */
+public class ContractStatistics {
+
+	private static final int DAYS_OF_YEAR = 365;
+
+	private ContractStatistics() {
+	}
+
+	/* 계약 유형별 건수 */
+	public static Map<ContractType, Long> countPerType(List<Contract> contracts) {
+		return contracts.stream()
+		  .collect(Collectors.groupingBy(Contract::getContractType, Collectors.counting()));
+	}
+
+	/* 재계약률(%) - failedRenewalContractsCount : 재계약 실패(이전 계약이 RENEWAL인 INITIAL 계약) 건수 */
+	public static double renewalRate(Map<ContractType, Long> contractsTypeMap, long failedRenewalContractsCount) {
+		long initialContractsCount = contractsTypeMap.getOrDefault(ContractType.INITIAL, 0L);
+		long renewalContractsCount = contractsTypeMap.getOrDefault(ContractType.RENEWAL, 0L);
+
+		long attemptedRenewalContractsCount = failedRenewalContractsCount + renewalContractsCount; // 재계약 시도를 나타내는 결과값
+		long pureRenewalContractsCount = attemptedRenewalContractsCount - failedRenewalContractsCount; // 재계약을 성공한 경우를 나타내는 결과값
+
+		long totalContractsCount = initialContractsCount + pureRenewalContractsCount; // 실제 총 계약 수
+
+		double result = ((double) pureRenewalContractsCount / (totalContractsCount - 1)) * 100;
+
+		return round(result);
+	}
+
+	/* 호실별 재계약률 평균(%) */
+	public static double averageRenewalRate(List<Contract> contracts, long failedRenewalContractsCount) {
+		Map<Room, Map<ContractType, Long>> contractCountsPerRoomAndType = contracts.stream()
+		  .collect(Collectors.groupingBy(
+			Contract::getRoom,
+			Collectors.groupingBy(
+			  Contract::getContractType,
+			  Collectors.counting()) // 2차 세분류
+		  ));
+
+		double avgData = contractCountsPerRoomAndType.values().stream()
+		  .mapToDouble(contractsTypeMap -> renewalRate(contractsTypeMap, failedRenewalContractsCount))
+		  .average()
+		  .orElse(0.0);
+
+		return round(avgData);
+	}
+
+	/* 단일 호실의 공실률(%) - startDate ~ lastDate(1년) 구간 */
+	public static double vacancyRate(List<Contract> contracts, LocalDate startDate, LocalDate lastDate) {
+		List<Contract> sortedContracts = sortByStartDate(contracts);
+
+		long occupancy = getOccupancy(sortedContracts, startDate);
+		long additionalOccupancy = getAdditionalOccupancyErrorCase(sortedContracts);
+		occupancy += getAdditionalOccupancyLastContract(lastDate, sortedContracts, additionalOccupancy);
+
+		return round(toVacancyRate(occupancy));
+	}
+
+	/* 호실별 공실률 평균(%) */
+	public static double averageVacancyRate(List<Contract> contracts, LocalDate startDate, LocalDate lastDate) {
+		Map<Room, List<Contract>> contractsByRoom = contracts.stream()
+		  .collect(Collectors.groupingBy(Contract::getRoom));
+
+		double averageVacancyRate = contractsByRoom.values().stream()
+		  .map(ContractStatistics::sortByStartDate)
+		  .mapToLong(roomContracts -> getOccupancy(roomContracts, startDate)
+			+ getAdditionalOccupancyLastContract(lastDate, roomContracts, getAdditionalOccupancyErrorCase(roomContracts)))
+		  .mapToDouble(ContractStatistics::toVacancyRate)
+		  .average()
+		  .orElse(0.0);
+
+		return round(averageVacancyRate);
+	}
+
+	private static List<Contract> sortByStartDate(List<Contract> contracts) {
+		List<Contract> sortedContracts = new ArrayList<>(contracts);
+		sortedContracts.sort(Comparator.comparing(Contract::getStartDate));
+		return sortedContracts;
+	}
+
+	private static double toVacancyRate(long totalOccupancy) {
+		return ((double) (DAYS_OF_YEAR - totalOccupancy) / DAYS_OF_YEAR) * 100;
+	}
+
+	private static long getAdditionalOccupancyErrorCase(List<Contract> contracts) {
+		return IntStream.range(0, contracts.size() - 1)
+		  .mapToLong(i -> {
+			  LocalDate currentCheckOut = contracts.get(i).getCheckOut();
+			  LocalDate nextStartDate = contracts.get(i + 1).getStartDate();
+			  long gap = ChronoUnit.DAYS.between(currentCheckOut, nextStartDate);
+			  return (gap == 1) ? 1 : 0;
+		  })
+		  .sum();
+	}
+
+	private static long getAdditionalOccupancyLastContract(LocalDate lastDate, List<Contract> contracts, long additionalOccupancy) {
+		if (!contracts.isEmpty()) { // 마지막 계약이 이행 중인 경우 현재일을 간격 비교 데이터로 사용
+			Contract lastContract = contracts.get(contracts.size() - 1);
+			if (lastContract.getContractStatus() == ContractStatus.IN_PROGRESS) {
+				additionalOccupancy += ChronoUnit.DAYS.between(lastContract.getStartDate(), lastDate);
+			} else {
+				if (lastContract.getStartDate().isBefore(lastDate.minusYears(1).plusDays(1)) && DAYS_OF_YEAR <= ChronoUnit.DAYS.between(lastContract.getStartDate(), lastContract.getCheckOut())) {
+					additionalOccupancy += ChronoUnit.DAYS.between(lastDate.minusYears(1).plusDays(1), lastContract.getCheckOut());
+				} else {
+					additionalOccupancy += ChronoUnit.DAYS.between(lastContract.getStartDate(), lastContract.getCheckOut());
+				}
+			}
+		}
+
+		return Math.min(additionalOccupancy, DAYS_OF_YEAR);
+	}
+
+	private static long getOccupancy(List<Contract> contracts, LocalDate startDate) {
+		if (contracts.isEmpty()) {
+			return 0L;
+		}
+
+		return contracts.stream()
+		  .limit(contracts.size() - 1)
+		  .mapToLong(contract -> {
+			  if (contract.getStartDate().isBefore(startDate)) {
+				  return ChronoUnit.DAYS.between(startDate, contract.getCheckOut());
+			  } else {
+				  return ChronoUnit.DAYS.between(contract.getStartDate(), contract.getCheckOut());
+			  }
+		  })
+		  .sum();
+	}
+
+	private static double round(double value) {
+		return Math.round(value * 10.0) / 10.0;
+	}
+
+}
@@ -0,0 +1,72 @@
+package com.core.back9.util;
+
+import com.core.back9.entity.Score;
+import com.core.back9.entity.constant.RatingType;
+
+import java.util.List;
+
+/*
+ * 평가 점수 단일 패스 집계
+ * 총 평균, 평가 진행률, 평가 타입별 평균에 필요한 합계/건수를 한 번의 순회로 primitive 배열에 누적한다 (점수별 박싱, 중간 스트림 없음)
+ * 평가 타입별 평균은 기존 계산과 동일하게 미평가(-1) 레코드를 포함한다
+ */
+public class ScoreAggregate {
+
+	private static final int RATING_TYPE_COUNT = RatingType.values().length;
+
+	private int count;              // 전체 평가 레코드 수
+	private int completedCount;     // 평가 완료(score >= 0) 레코드 수
+	private long completedSum;      // 평가 완료 점수 합계
+	private final int[] typeCount = new int[RATING_TYPE_COUNT];
+	private final long[] typeSum = new long[RATING_TYPE_COUNT];
+
+	public static ScoreAggregate of(List<Score> scores) {
+		ScoreAggregate aggregate = new ScoreAggregate();
+		for (Score score : scores) {
+			aggregate.add(score);
+		}
+		return aggregate;
+	}
+
+	public void add(Score score) {
+		add(score.getScore(), score.getRatingType());
+	}
+
+	public void add(int score, RatingType ratingType) {
+		count++;
+		if (score >= 0) {
+			completedCount++;
+			completedSum += score;
+		}
+		if (ratingType != null) {
+			int index = ratingType.ordinal();
+			typeCount[index]++;
+			typeSum[index] += score;
+		}
+	}
+
+	public int getCount() {
+		return count;
+	}
+
+	public int getCompletedCount() {
+		return completedCount;
+	}
+
+	/* 평가 완료 점수 평균 (완료 건이 없으면 0) */
+	public float getTotalAvg() {
+		return completedCount > 0 ? (float) ((double) completedSum / completedCount) : 0;
+	}
+
+	/* 평가 완료 비율(%) - 기존 계산과 동일하게 float 연산 */
+	public float getEvaluationProgress() {
+		float completed = completedCount;
+		return completed > 0 ? completed / count * 100 : 0;
+	}
+
+	public float getScoreTypeAvg(RatingType ratingType) {
+		int index = ratingType.ordinal();
+		return typeCount[index] > 0 ? (float) ((double) typeSum[index] / typeCount[index]) : 0;
+	}
+
+}
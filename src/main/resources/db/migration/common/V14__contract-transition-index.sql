@@ -0,0 +1,3 @@
+CREATE INDEX idx_contracts_status_start_date ON contracts (contract_status, start_date);
+
+CREATE INDEX idx_contracts_status_end_date ON contracts (contract_status, end_date);
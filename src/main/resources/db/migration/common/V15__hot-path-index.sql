@@ -0,0 +1,24 @@
+-- 호실 단위 계약 조회 (room_id + status + contract_status)
+CREATE INDEX idx_contracts_room_status ON contracts (room_id, status, contract_status);
+
+-- 입주사 단위 계약 조회
+CREATE INDEX idx_contracts_tenant_status ON contracts (tenant_id, status);
+
+-- 빌딩/소유자 단위 호실 조회 (계약, 민원의 building join 경로)
+CREATE INDEX idx_rooms_building_member_status ON rooms (building_id, member_id, status);
+
+CREATE INDEX idx_rooms_member_building ON rooms (member_id, building_id);
+
+-- 호실 평가 조회 (최근 2년 updated_at 범위 조건)
+CREATE INDEX idx_scores_room_status_updated_at ON scores (room_id, status, updated_at);
+
+-- 입주자 평가 조회
+CREATE INDEX idx_scores_member_status ON scores (tenant_member_id, status);
+
+-- 알림 목록 / 미확인 알림 여부 조회
+CREATE INDEX idx_alarms_received_read_status ON alarms (received_id, read_status, status);
+
+-- 민원 조회 (입주자 본인, 호실 단위)
+CREATE INDEX idx_complaints_member_status ON complaints (member_id, status);
+
+CREATE INDEX idx_complaints_room_status ON complaints (room_id, status);
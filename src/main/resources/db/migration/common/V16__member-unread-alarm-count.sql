@@ -0,0 +1,9 @@
+-- 회원별 미확인 알림 수 (알림 생성 / 확인 / 삭제 시 함께 갱신)
+ALTER TABLE members ADD unread_alarm_count INT NOT NULL DEFAULT 0;
+
+UPDATE members m
+SET unread_alarm_count = (SELECT COUNT(*)
+                          FROM alarms a
+                          WHERE a.received_id = m.id
+                            AND a.read_status = FALSE
+                            AND a.status = 'REGISTER');
@@ -0,0 +1,2 @@
+-- 알림 목록 커서 조회 (received_id + status 조건, id 내림차순)
+CREATE INDEX idx_alarms_received_status_id ON alarms (received_id, status, id);
@@ -0,0 +1,17 @@
+-- 보관 기간이 지난 확인 알림 보관 (alarms와 같은 id 사용)
+CREATE TABLE alarms_archive
+(
+    id            BIGINT       NOT NULL,
+    created_at    timestamp NULL,
+    updated_at    timestamp NULL,
+    received_id   BIGINT       NOT NULL,
+    alarm_type    VARCHAR(255) NOT NULL,
+    read_status   BIT(1)       NOT NULL,
+    status        VARCHAR(255) NOT NULL,
+    alarm_title   VARCHAR(255) NULL,
+    alarm_message VARCHAR(255) NULL,
+    archived_at   timestamp    NOT NULL,
+    CONSTRAINT pk_alarms_archive PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_alarms_archive_received_id ON alarms_archive (received_id);
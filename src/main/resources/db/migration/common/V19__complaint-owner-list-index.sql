@@ -0,0 +1,5 @@
+-- 소유자 민원 목록 id 조회 (room_id 조인 후 상태 / 등록일 조건, 인덱스만으로 id 조회)
+-- 기존 idx_complaints_room_status (room_id, status)를 포함하므로 교체
+CREATE INDEX idx_complaints_room_status_created ON complaints (room_id, status, complaint_status, created_at);
+
+ALTER TABLE complaints DROP INDEX idx_complaints_room_status;
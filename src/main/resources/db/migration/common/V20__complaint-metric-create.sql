@@ -0,0 +1,27 @@
+-- 호실 / 월 단위 민원 집계 (민원 접수 / 처리 시 증분 갱신)
+-- metric_month : yyyyMM (예: 202401), 접수는 접수한 월, 완료 / 반려는 처리한 월에 집계
+-- 처리 시간 분포 : 1시간 / 1일 / 3일 / 7일 이하, 7일 초과 (구간별 건수, 누적 아님)
+CREATE TABLE complaint_metrics
+(
+    id                     BIGINT AUTO_INCREMENT NOT NULL,
+    created_at             timestamp NULL,
+    updated_at             timestamp NULL,
+    room_id                BIGINT NOT NULL,
+    building_id            BIGINT NOT NULL,
+    metric_month           INT    NOT NULL,
+    received_count         BIGINT NOT NULL DEFAULT 0,
+    completed_count        BIGINT NOT NULL DEFAULT 0,
+    rejected_count         BIGINT NOT NULL DEFAULT 0,
+    resolution_seconds_sum BIGINT NOT NULL DEFAULT 0,
+    le_1h_count            BIGINT NOT NULL DEFAULT 0,
+    le_1d_count            BIGINT NOT NULL DEFAULT 0,
+    le_3d_count            BIGINT NOT NULL DEFAULT 0,
+    le_7d_count            BIGINT NOT NULL DEFAULT 0,
+    over_7d_count          BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_complaint_metrics PRIMARY KEY (id),
+    CONSTRAINT uc_complaint_metrics_room_month UNIQUE (room_id, metric_month)
+);
+
+CREATE INDEX idx_complaint_metrics_building_month ON complaint_metrics (building_id, metric_month);
+
+-- 기존 민원 집계는 DB마다 날짜 함수가 달라 프로필별 V23__complaint-metric-backfill-{profile}.sql에서 실행
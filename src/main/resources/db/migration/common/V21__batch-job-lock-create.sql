@@ -0,0 +1,9 @@
+-- 여러 인스턴스가 같은 배치 보정 실행을 동시에 하지 않도록 하는 잠금 (이름당 1행, locked_until 이전까지 점유)
+CREATE TABLE batch_job_locks
+(
+    lock_name    VARCHAR(100) NOT NULL,
+    locked_until timestamp    NOT NULL,
+    locked_at    timestamp    NOT NULL,
+    locked_by    VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_batch_job_locks PRIMARY KEY (lock_name)
+);
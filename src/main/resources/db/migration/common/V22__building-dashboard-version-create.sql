@@ -0,0 +1,14 @@
+-- 빌딩 단위 통계 응답의 버전 (ETag) - 호실 / 계약 / 입주사 / 평가 변경 커밋 이후 증가
+-- 2차 캐시 대상인 buildings와 분리하여 버전 증가가 building 캐시 / ownership-query 캐시를 무효화하지 않고,
+-- 증가 시 잡는 행 잠금이 buildings 행에 걸리지 않도록 별도 테이블로 관리
+-- changed_at : 마지막 증가 시각 - replica 복제 지연 구간 동안 다른 ETag를 산출하는 데 사용
+CREATE TABLE building_dashboard_versions
+(
+    building_id BIGINT NOT NULL,
+    version     BIGINT NOT NULL DEFAULT 0,
+    changed_at  timestamp NULL,
+    CONSTRAINT pk_building_dashboard_versions PRIMARY KEY (building_id)
+);
+
+INSERT INTO building_dashboard_versions (building_id, version)
+SELECT id, 0 FROM buildings;
@@ -0,0 +1,61 @@
+-- 민원 집계(V20) 이전에 등록된 민원 집계 (MySQL, 여러 번 실행해도 같은 결과 - 행이 없으면 생성, 건수는 민원 기준으로 다시 계산)
+-- 접수 : 삭제(UNREGISTER)되지 않은 민원을 등록한 월 기준 (ComplaintMetricService.recordDeleted와 같은 기준)
+-- 처리 : 처리 시각 컬럼이 없어 마지막 수정 시각 updated_at을 처리 시각으로 사용
+--        완료 / 반려 이후에는 민원을 수정하는 경로가 없으므로 처리 시각과 같음
+INSERT INTO complaint_metrics (created_at, updated_at, room_id, building_id, metric_month)
+SELECT DISTINCT CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, k.room_id, r.building_id, k.metric_month
+FROM (SELECT c.room_id, EXTRACT(YEAR FROM c.created_at) * 100 + EXTRACT(MONTH FROM c.created_at) AS metric_month
+      FROM complaints c
+      WHERE c.status = 'REGISTER'
+      UNION
+      SELECT c.room_id, EXTRACT(YEAR FROM c.updated_at) * 100 + EXTRACT(MONTH FROM c.updated_at) AS metric_month
+      FROM complaints c
+      WHERE c.status = 'REGISTER' AND c.complaint_status IN ('COMPLETED', 'REJECTED')) k
+JOIN rooms r ON r.id = k.room_id
+WHERE k.metric_month IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM complaint_metrics e WHERE e.room_id = k.room_id AND e.metric_month = k.metric_month);
+
+UPDATE complaint_metrics m
+SET received_count         = (SELECT COUNT(*) FROM complaints c
+                              WHERE c.room_id = m.room_id AND c.status = 'REGISTER'
+                                AND EXTRACT(YEAR FROM c.created_at) * 100 + EXTRACT(MONTH FROM c.created_at) = m.metric_month),
+    completed_count        = (SELECT COUNT(*) FROM complaints c
+                              WHERE c.room_id = m.room_id AND c.status = 'REGISTER'
+                                AND c.complaint_status = 'COMPLETED'
+                                AND EXTRACT(YEAR FROM c.updated_at) * 100 + EXTRACT(MONTH FROM c.updated_at) = m.metric_month),
+    rejected_count         = (SELECT COUNT(*) FROM complaints c
+                              WHERE c.room_id = m.room_id AND c.status = 'REGISTER'
+                                AND c.complaint_status = 'REJECTED'
+                                AND EXTRACT(YEAR FROM c.updated_at) * 100 + EXTRACT(MONTH FROM c.updated_at) = m.metric_month),
+    resolution_seconds_sum = (SELECT COALESCE(SUM(TIMESTAMPDIFF(SECOND, c.created_at, c.updated_at)), 0) FROM complaints c
+                              WHERE c.room_id = m.room_id AND c.status = 'REGISTER'
+                                AND c.complaint_status IN ('COMPLETED', 'REJECTED')
+                                AND EXTRACT(YEAR FROM c.updated_at) * 100 + EXTRACT(MONTH FROM c.updated_at) = m.metric_month),
+    le_1h_count            = (SELECT COUNT(*) FROM complaints c
+                              WHERE c.room_id = m.room_id AND c.status = 'REGISTER'
+                                AND c.complaint_status IN ('COMPLETED', 'REJECTED')
+                                AND EXTRACT(YEAR FROM c.updated_at) * 100 + EXTRACT(MONTH FROM c.updated_at) = m.metric_month
+                                AND TIMESTAMPDIFF(SECOND, c.created_at, c.updated_at) <= 3600),
+    le_1d_count            = (SELECT COUNT(*) FROM complaints c
+                              WHERE c.room_id = m.room_id AND c.status = 'REGISTER'
+                                AND c.complaint_status IN ('COMPLETED', 'REJECTED')
+                                AND EXTRACT(YEAR FROM c.updated_at) * 100 + EXTRACT(MONTH FROM c.updated_at) = m.metric_month
+                                AND TIMESTAMPDIFF(SECOND, c.created_at, c.updated_at) > 3600
+                                AND TIMESTAMPDIFF(SECOND, c.created_at, c.updated_at) <= 86400),
+    le_3d_count            = (SELECT COUNT(*) FROM complaints c
+                              WHERE c.room_id = m.room_id AND c.status = 'REGISTER'
+                                AND c.complaint_status IN ('COMPLETED', 'REJECTED')
+                                AND EXTRACT(YEAR FROM c.updated_at) * 100 + EXTRACT(MONTH FROM c.updated_at) = m.metric_month
+                                AND TIMESTAMPDIFF(SECOND, c.created_at, c.updated_at) > 86400
+                                AND TIMESTAMPDIFF(SECOND, c.created_at, c.updated_at) <= 259200),
+    le_7d_count            = (SELECT COUNT(*) FROM complaints c
+                              WHERE c.room_id = m.room_id AND c.status = 'REGISTER'
+                                AND c.complaint_status IN ('COMPLETED', 'REJECTED')
+                                AND EXTRACT(YEAR FROM c.updated_at) * 100 + EXTRACT(MONTH FROM c.updated_at) = m.metric_month
+                                AND TIMESTAMPDIFF(SECOND, c.created_at, c.updated_at) > 259200
+                                AND TIMESTAMPDIFF(SECOND, c.created_at, c.updated_at) <= 604800),
+    over_7d_count          = (SELECT COUNT(*) FROM complaints c
+                              WHERE c.room_id = m.room_id AND c.status = 'REGISTER'
+                                AND c.complaint_status IN ('COMPLETED', 'REJECTED')
+                                AND EXTRACT(YEAR FROM c.updated_at) * 100 + EXTRACT(MONTH FROM c.updated_at) = m.metric_month
+                                AND TIMESTAMPDIFF(SECOND, c.created_at, c.updated_at) > 604800);
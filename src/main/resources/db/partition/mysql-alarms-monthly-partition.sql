@@ -0,0 +1,17 @@
+-- (선택, MySQL 전용) alarms 테이블을 created_at 기준 월별 range partition으로 전환
+-- Flyway 경로에 포함되지 않으므로 운영 DB에 직접 적용하고, 적용 후 alarm.retention.partition.enabled=true 로 설정
+-- 이후 알림 보관 배치(alarmRetentionJob)가 p_future 파티션을 나눠 다음 달 파티션을 미리 생성함
+--
+-- 파티션 키는 모든 unique key(PK)에 포함되어야 하므로 PK를 (id, created_at)으로 변경 (id는 계속 auto increment로 유일)
+-- p_initial 의 경계는 적용 시점의 이번 달 1일로 변경해서 사용
+
+UPDATE alarms SET created_at = COALESCE(updated_at, CURRENT_TIMESTAMP) WHERE created_at IS NULL;
+
+ALTER TABLE alarms MODIFY created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+ALTER TABLE alarms DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at);
+
+ALTER TABLE alarms PARTITION BY RANGE (UNIX_TIMESTAMP(created_at)) (
+    PARTITION p_initial VALUES LESS THAN (UNIX_TIMESTAMP('2025-01-01 00:00:00')),
+    PARTITION p_future VALUES LESS THAN MAXVALUE
+);
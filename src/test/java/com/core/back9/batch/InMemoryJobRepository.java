@@ -0,0 +1,60 @@
+package com.core.back9.batch;
+
+import lombok.Getter;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.explore.support.JobExplorerFactoryBean;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+
+/*
+ * 배치 테스트용 in-memory job repository (H2, Spring Batch 메타 테이블 + 배치 잠금 테이블)
+ * 애플리케이션 컨텍스트 없이 job 실행 / 메타 테이블 조회를 검증할 때 사용, 사용 후 shutdown()
+ */
+@Getter
+public class InMemoryJobRepository {
+
+    private final EmbeddedDatabase dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTransactionManager transactionManager;
+    private final JobRepository jobRepository;
+    private final JobExplorer jobExplorer;
+    private final TaskExecutorJobLauncher jobLauncher;
+
+    public InMemoryJobRepository() throws Exception {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("/org/springframework/batch/core/schema-h2.sql")
+                .addScript("db/migration/common/V21__batch-job-lock-create.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new JdbcTransactionManager(dataSource);
+
+        JobRepositoryFactoryBean jobRepositoryFactory = new JobRepositoryFactoryBean();
+        jobRepositoryFactory.setDataSource(dataSource);
+        jobRepositoryFactory.setTransactionManager(transactionManager);
+        jobRepositoryFactory.afterPropertiesSet();
+        jobRepository = jobRepositoryFactory.getObject();
+
+        JobExplorerFactoryBean jobExplorerFactory = new JobExplorerFactoryBean();
+        jobExplorerFactory.setDataSource(dataSource);
+        jobExplorerFactory.setTransactionManager(transactionManager);
+        jobExplorerFactory.afterPropertiesSet();
+        jobExplorer = jobExplorerFactory.getObject();
+
+        jobLauncher = new TaskExecutorJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.afterPropertiesSet();
+    }
+
+    public void shutdown() {
+        dataSource.shutdown();
+    }
+
+}
@@ -0,0 +1,145 @@
+package com.core.back9.batch.history;
+
+import com.core.back9.batch.InMemoryJobRepository;
+import com.core.back9.batch.listener.BatchMetricsListener;
+import com.core.back9.common.actuator.BatchEndpoint;
+import com.core.back9.dto.BatchDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchExecutionHistoryTest {
+
+    private InMemoryJobRepository inMemoryJobRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private BatchExecutionHistory batchExecutionHistory;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        inMemoryJobRepository = new InMemoryJobRepository();
+        meterRegistry = new SimpleMeterRegistry();
+        batchExecutionHistory = new BatchExecutionHistory(inMemoryJobRepository.getJobExplorer(), inMemoryJobRepository.getJdbcTemplate());
+    }
+
+    @AfterEach
+    void tearDown() {
+        inMemoryJobRepository.shutdown();
+    }
+
+    @Test
+    @DisplayName("job 실행 이력을 최신순으로 페이지 단위 조회하며, step 처리 건수를 합산한다.")
+    void findExecutionsPaged() throws Exception {
+        // given
+        Job job = job("historyJob", (contribution, chunkContext) -> {
+            contribution.incrementReadCount();
+            contribution.incrementWriteCount(2);
+            return RepeatStatus.FINISHED;
+        });
+        JobExecution first = run(job, LocalDateTime.of(2024, 1, 1, 3, 0));
+        JobExecution second = run(job, LocalDateTime.of(2024, 1, 2, 3, 0));
+        run(job("otherJob", (contribution, chunkContext) -> RepeatStatus.FINISHED), LocalDateTime.of(2024, 1, 2, 3, 0));
+
+        // when
+        BatchDTO.ExecutionPage firstPage = batchExecutionHistory.findExecutions("historyJob", 0, 1);
+        BatchDTO.ExecutionPage secondPage = batchExecutionHistory.findExecutions("historyJob", 1, 1);
+        BatchDTO.ExecutionPage allJobs = batchExecutionHistory.findExecutions(null, 0, 10);
+
+        // then
+        assertThat(firstPage.getTotalElements()).isEqualTo(2);
+        assertThat(firstPage.getExecutions()).singleElement()
+                .satisfies(execution -> {
+                    assertThat(execution.getExecutionId()).isEqualTo(second.getId());
+                    assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED.name());
+                    assertThat(execution.getReadCount()).isEqualTo(2); // step 2개 x 1건
+                    assertThat(execution.getWriteCount()).isEqualTo(4);
+                    assertThat(execution.getDurationMillis()).isNotNull();
+                });
+        assertThat(secondPage.getExecutions()).extracting(BatchDTO.ExecutionSummary::getExecutionId)
+                .containsExactly(first.getId());
+        assertThat(allJobs.getTotalElements()).isEqualTo(3);
+        assertThat(allJobs.getExecutions()).extracting(BatchDTO.ExecutionSummary::getJobName)
+                .containsExactly("otherJob", "historyJob", "historyJob");
+    }
+
+    @Test
+    @DisplayName("step 실행 후 처리 건수, 소요 시간, 실패 횟수가 job / step / 상태 태그로 기록된다.")
+    void recordStepMeters() throws Exception {
+        // given
+        Job job = job("meterJob", (contribution, chunkContext) -> {
+            contribution.incrementReadCount();
+            contribution.incrementWriteCount(3);
+            return RepeatStatus.FINISHED;
+        });
+        Job failingJob = job("failingJob", (contribution, chunkContext) -> {
+            throw new IllegalStateException("step failure");
+        });
+
+        // when
+        run(job, LocalDateTime.of(2024, 1, 1, 3, 0));
+        run(failingJob, LocalDateTime.of(2024, 1, 1, 3, 0));
+
+        // then
+        assertThat(meterRegistry.get("batch.step.write")
+                .tags("job", "meterJob", "step", "meterJobStep1", "status", "COMPLETED").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("batch.step.read")
+                .tags("job", "meterJob", "step", "meterJobStep2").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("batch.step.duration").tags("job", "meterJob").timers()).hasSize(2);
+        assertThat(meterRegistry.get("batch.step.failure")
+                .tags("job", "failingJob", "step", "failingJobStep1").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("batch.step.failure").tags("job", "meterJob").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("관리 endpoint는 페이지 번호와 크기를 허용 범위로 보정해서 조회한다.")
+    void endpointClampsPaging() throws Exception {
+        // given
+        Job job = job("endpointJob", (contribution, chunkContext) -> RepeatStatus.FINISHED);
+        run(job, LocalDateTime.of(2024, 1, 1, 3, 0));
+        BatchEndpoint batchEndpoint = new BatchEndpoint(batchExecutionHistory);
+
+        // when
+        BatchDTO.ExecutionPage page = batchEndpoint.executions(null, -1, 1_000);
+
+        // then
+        assertThat(page.getPage()).isZero();
+        assertThat(page.getSize()).isEqualTo(100);
+        assertThat(page.getExecutions()).hasSize(1);
+    }
+
+    /* 같은 tasklet을 실행하는 step 2개로 구성된 job (step 이름 : {jobName}Step1, {jobName}Step2) */
+    private Job job(String jobName, Tasklet tasklet) {
+        BatchMetricsListener batchMetricsListener = new BatchMetricsListener(meterRegistry);
+        return new JobBuilder(jobName, inMemoryJobRepository.getJobRepository())
+                .start(step(jobName + "Step1", tasklet, batchMetricsListener))
+                .next(step(jobName + "Step2", tasklet, batchMetricsListener))
+                .build();
+    }
+
+    private Step step(String stepName, Tasklet tasklet, BatchMetricsListener batchMetricsListener) {
+        return new StepBuilder(stepName, inMemoryJobRepository.getJobRepository())
+                .tasklet(tasklet, inMemoryJobRepository.getTransactionManager())
+                .listener(batchMetricsListener)
+                .build();
+    }
+
+    private JobExecution run(Job job, LocalDateTime time) throws Exception {
+        return inMemoryJobRepository.getJobLauncher()
+                .run(job, new JobParametersBuilder().addLocalDateTime("time", time).toJobParameters());
+    }
+
+}
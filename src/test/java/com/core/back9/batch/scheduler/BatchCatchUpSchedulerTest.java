@@ -0,0 +1,179 @@
+package com.core.back9.batch.scheduler;
+
+import com.core.back9.batch.InMemoryJobRepository;
+import com.core.back9.batch.history.BatchExecutionHistory;
+import com.core.back9.batch.job.BatchConfig;
+import com.core.back9.batch.lock.BatchJobLock;
+import com.core.back9.batch.property.BatchProperty;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.configuration.support.MapJobRegistry;
+import org.springframework.batch.core.configuration.support.ReferenceJobFactory;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.NoSuchJobException;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class BatchCatchUpSchedulerTest {
+
+    private static final String MONTHLY_CRON = "0 0 0 1 * ?";
+    private static final String DAILY_CRON = "0 0 3 * * *";
+    private static final String JOB_NAME = "catchUpTestJob";
+
+    private InMemoryJobRepository inMemoryJobRepository;
+    private JdbcTemplate jdbcTemplate;
+    private JobExplorer jobExplorer;
+    private TaskExecutorJobLauncher jobLauncher;
+    private Job job;
+    private BatchCatchUpScheduler batchCatchUpScheduler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        inMemoryJobRepository = new InMemoryJobRepository();
+        jdbcTemplate = inMemoryJobRepository.getJdbcTemplate();
+        jobExplorer = inMemoryJobRepository.getJobExplorer();
+        jobLauncher = inMemoryJobRepository.getJobLauncher();
+        JobRepository jobRepository = inMemoryJobRepository.getJobRepository();
+        JdbcTransactionManager transactionManager = inMemoryJobRepository.getTransactionManager();
+
+        job = new JobBuilder(JOB_NAME, jobRepository)
+                .start(new StepBuilder(JOB_NAME + "Step", jobRepository)
+                        .tasklet((contribution, chunkContext) -> RepeatStatus.FINISHED, transactionManager)
+                        .build())
+                .build();
+        MapJobRegistry jobRegistry = new MapJobRegistry();
+        jobRegistry.register(new ReferenceJobFactory(job));
+
+        BatchConfig batchConfig = mock(BatchConfig.class);
+        given(batchConfig.getBatchProperty()).willReturn(new BatchProperty(JOB_NAME, true, DAILY_CRON));
+
+        batchCatchUpScheduler = new BatchCatchUpScheduler(
+                List.of(batchConfig),
+                new BatchExecutionHistory(jobExplorer, jdbcTemplate),
+                jobLauncher,
+                jobRegistry,
+                new BatchJobLock(jdbcTemplate));
+        ReflectionTestUtils.setField(batchCatchUpScheduler, "enabled", true);
+        ReflectionTestUtils.setField(batchCatchUpScheduler, "initialDelay", Duration.ZERO);
+        ReflectionTestUtils.setField(batchCatchUpScheduler, "interval", Duration.ZERO);
+        ReflectionTestUtils.setField(batchCatchUpScheduler, "firstRunLookback", Duration.ofDays(7));
+        ReflectionTestUtils.setField(batchCatchUpScheduler, "lockAtMost", Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchCatchUpScheduler.shutdown();
+        inMemoryJobRepository.shutdown();
+    }
+
+    @Test
+    @DisplayName("마지막 실행 이후 도래한 실행 시점이 있으면 가장 최근 시점을 반환한다.")
+    void findMissedFireTime() {
+        // given
+        LocalDateTime lastRunTime = LocalDateTime.of(2024, 3, 1, 0, 0);
+        LocalDateTime now = LocalDateTime.of(2024, 5, 3, 10, 0);
+
+        // when
+        Optional<LocalDateTime> missedFireTime = BatchCatchUpScheduler.findMissedFireTime(MONTHLY_CRON, lastRunTime, now);
+
+        // then
+        assertThat(missedFireTime).contains(LocalDateTime.of(2024, 5, 1, 0, 0));
+    }
+
+    @Test
+    @DisplayName("다음 실행 시점이 아직 도래하지 않았다면 누락된 실행이 없다.")
+    void findMissedFireTimeEmpty() {
+        // given
+        LocalDateTime lastRunTime = LocalDateTime.of(2024, 5, 1, 0, 0);
+        LocalDateTime now = LocalDateTime.of(2024, 5, 20, 10, 0);
+
+        // when
+        Optional<LocalDateTime> missedFireTime = BatchCatchUpScheduler.findMissedFireTime(MONTHLY_CRON, lastRunTime, now);
+
+        // then
+        assertThat(missedFireTime).isEmpty();
+    }
+
+    @Test
+    @DisplayName("마지막 완료 이후 누락된 실행이 있으면 기동 시 가장 최근 예정 시각으로 1회 실행한다.")
+    void reconcileMissedRun() throws Exception {
+        // given
+        LocalDateTime lastRunTime = LocalDateTime.now().minusDays(3);
+        jobLauncher.run(job, new JobParametersBuilder().addLocalDateTime("time", lastRunTime).toJobParameters());
+        LocalDateTime expectedFireTime = BatchCatchUpScheduler.findMissedFireTime(DAILY_CRON, lastRunTime, LocalDateTime.now()).orElseThrow();
+
+        // when
+        batchCatchUpScheduler.reconcile();
+
+        // then
+        awaitUntil(() -> lastCompletedRunTime().filter(expectedFireTime::equals).isPresent());
+        assertThat(countJobInstances()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("정상 완료 이력이 없는 job도 first-run-lookback 기간 안에 도래한 실행 시점으로 보정 실행한다.")
+    void reconcileNeverCompletedJob() throws Exception {
+        // when
+        batchCatchUpScheduler.reconcile();
+
+        // then
+        awaitUntil(() -> lastCompletedRunTime().isPresent());
+        assertThat(countJobInstances()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 보정 실행 잠금을 보유 중이면 실행하지 않는다.")
+    void reconcileSkippedWhenLocked() throws Exception {
+        // given
+        jdbcTemplate.update("INSERT INTO batch_job_locks (lock_name, locked_until, locked_at, locked_by) VALUES (?, ?, ?, ?)",
+                "catch-up:" + JOB_NAME, LocalDateTime.now().plusHours(1), LocalDateTime.now(), "other-instance");
+
+        // when
+        batchCatchUpScheduler.reconcile();
+
+        // then
+        Thread.sleep(500);
+        assertThat(countJobInstances()).isZero();
+    }
+
+    private Optional<LocalDateTime> lastCompletedRunTime() {
+        return new BatchExecutionHistory(jobExplorer, jdbcTemplate).findLastCompletedRunTime(JOB_NAME);
+    }
+
+    private void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private long countJobInstances() {
+        try {
+            return jobExplorer.getJobInstanceCount(JOB_NAME);
+        } catch (NoSuchJobException e) {
+            return 0;
+        }
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.core.back9.batch.tasklet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class AlarmRetentionTaskletTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 3, 30);
+
+	@Autowired
+	private NamedParameterJdbcTemplate jdbcTemplate;
+
+	@Test
+	@DisplayName("보관 기간이 지난 확인 알림만 chunk 단위로 alarms_archive로 이동한다.")
+	void archiveReadAlarmsInChunks() throws Exception {
+		// given
+		long oldRead1 = insertAlarm(true, "REGISTER", NOW.minusDays(100));
+		long oldUnread = insertAlarm(false, "REGISTER", NOW.minusDays(100));
+		long oldRead2 = insertAlarm(true, "REGISTER", NOW.minusDays(95));
+		long recentRead = insertAlarm(true, "REGISTER", NOW.minusDays(10));
+		AlarmArchiveTasklet tasklet = new AlarmArchiveTasklet(jdbcTemplate, Duration.ofDays(90), 1);
+		StepContribution contribution = contribution();
+
+		// when
+		RepeatStatus first = tasklet.execute(contribution, null);
+		RepeatStatus second = tasklet.execute(contribution, null);
+		RepeatStatus last = tasklet.execute(contribution, null);
+
+		// then
+		assertThat(List.of(first, second, last))
+		  .containsExactly(RepeatStatus.CONTINUABLE, RepeatStatus.CONTINUABLE, RepeatStatus.FINISHED);
+		assertThat(ids("alarms_archive")).containsExactly(oldRead1, oldRead2);
+		assertThat(ids("alarms")).contains(oldUnread, recentRead).doesNotContain(oldRead1, oldRead2);
+		assertThat(contribution.getWriteCount()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("삭제 처리된 알림은 생성 시각과 관계없이 실제 삭제한다.")
+	void purgeUnregisteredAlarms() throws Exception {
+		// given
+		long deleted = insertAlarm(false, "UNREGISTER", NOW.minusDays(1));
+		long registered = insertAlarm(false, "REGISTER", NOW.minusDays(1));
+		AlarmPurgeTasklet tasklet = new AlarmPurgeTasklet(jdbcTemplate, 100);
+
+		// when
+		RepeatStatus status = tasklet.execute(contribution(), null);
+
+		// then
+		assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+		assertThat(ids("alarms")).contains(registered).doesNotContain(deleted);
+	}
+
+	@Test
+	@DisplayName("마지막 파티션 경계부터 기준 월 + monthsAhead 까지 월 단위 파티션을 계획한다.")
+	void planMonthlyPartitions() {
+		// when
+		List<AlarmPartitionTasklet.MonthlyPartition> partitions = AlarmPartitionTasklet.planPartitions(
+		  LocalDateTime.of(2024, 6, 1, 0, 0), LocalDate.of(2024, 6, 15), 2);
+
+		// then
+		assertThat(partitions).extracting(AlarmPartitionTasklet.MonthlyPartition::name)
+		  .containsExactly("p202406", "p202407", "p202408");
+		assertThat(partitions.get(2).upperBound()).isEqualTo(LocalDateTime.of(2024, 9, 1, 0, 0));
+	}
+
+	private long insertAlarm(boolean read, String status, LocalDateTime createdAt) {
+		Long nextId = jdbcTemplate.getJdbcTemplate().queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM alarms", Long.class);
+		jdbcTemplate.update("""
+			INSERT INTO alarms (id, created_at, updated_at, received_id, alarm_type, read_status, status, alarm_title, alarm_message)
+			VALUES (:id, :createdAt, :createdAt, 1, 'COMPLAINT_PENDING', :read, :status, '민원 접수', '')
+			""", Map.of("id", nextId, "createdAt", createdAt, "read", read, "status", status));
+		return nextId;
+	}
+
+	private List<Long> ids(String table) {
+		return jdbcTemplate.getJdbcTemplate().queryForList("SELECT id FROM " + table + " ORDER BY id", Long.class);
+	}
+
+	private StepContribution contribution() {
+		JobExecution jobExecution = new JobExecution(new JobInstance(1L, "alarmRetentionJob"),
+		  new JobParametersBuilder().addLocalDateTime("time", NOW).toJobParameters());
+		return new StepExecution("alarmStep", jobExecution).createStepContribution();
+	}
+
+}
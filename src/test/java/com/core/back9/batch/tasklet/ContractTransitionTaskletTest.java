@@ -0,0 +1,133 @@
+package com.core.back9.batch.tasklet;
+
+import com.core.back9.dto.AlarmDTO;
+import com.core.back9.entity.Building;
+import com.core.back9.entity.Contract;
+import com.core.back9.entity.Member;
+import com.core.back9.entity.Room;
+import com.core.back9.entity.constant.AlarmType;
+import com.core.back9.repository.ContractRepository;
+import com.core.back9.service.AlarmService;
+import com.core.back9.service.DashboardVersionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class ContractTransitionTaskletTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 0, 0);
+
+	@Mock
+	private ContractRepository contractRepository;
+
+	@Mock
+	private AlarmService alarmService;
+
+	@Mock
+	private DashboardVersionService dashboardVersionService;
+
+	@Captor
+	private ArgumentCaptor<List<AlarmDTO.Request>> alarmsCaptor;
+
+	@Test
+	@DisplayName("기준일까지 종료일이 도래한 이행 계약을 일괄 만료하고, 소유자가 있는 호실의 알림을 한 번에 생성하며 변경된 빌딩만 대시보드 변경으로 표시한다.")
+	void expireContracts() throws Exception {
+		// given
+		Contract withOwner = contract(1L, room("101호", 10L, 100L));
+		Contract withoutOwner = contract(2L, room("102호", null, 100L));
+		given(contractRepository.findAllToExpire(NOW.toLocalDate())).willReturn(List.of(withOwner, withoutOwner));
+		given(contractRepository.updateContractExpired(List.of(1L, 2L))).willReturn(2);
+		ChunkContext chunkContext = chunkContext();
+		StepContribution contribution = chunkContext.getStepContext().getStepExecution().createStepContribution();
+
+		// when
+		RepeatStatus status = new ContractExpireTasklet(contractRepository, alarmService, dashboardVersionService).execute(contribution, chunkContext);
+
+		// then
+		assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+		then(alarmService).should().createAll(alarmsCaptor.capture());
+		assertThat(alarmsCaptor.getValue())
+		  .extracting(AlarmDTO.Request::getReceivedId, AlarmDTO.Request::getAlarmType)
+		  .containsExactly(tuple(10L, AlarmType.CONTRACT_EXPIRED));
+		then(dashboardVersionService).should().markChanged(Set.of(100L));
+		assertThat(contribution.getReadCount()).isEqualTo(2);
+		assertThat(contribution.getWriteCount()).isEqualTo(2);
+		assertThat(chunkContext.getStepContext().getStepExecution().getExecutionContext()
+		  .getInt(ContractTransitionTasklet.TRANSITION_COUNT_KEY)).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("전환 대상이 없으면 상태 변경 쿼리를 실행하지 않는다.")
+	void noTargets() throws Exception {
+		// given
+		given(contractRepository.findAllToStart(NOW.toLocalDate())).willReturn(List.of());
+		ChunkContext chunkContext = chunkContext();
+		StepContribution contribution = chunkContext.getStepContext().getStepExecution().createStepContribution();
+
+		// when
+		new ContractInProgressTasklet(contractRepository, alarmService, dashboardVersionService).execute(contribution, chunkContext);
+
+		// then
+		then(contractRepository).should(never()).updateContractInProgress(anyList());
+		then(alarmService).should().createAll(List.of());
+		then(dashboardVersionService).should().markChanged(Set.of());
+		assertThat(contribution.getWriteCount()).isZero();
+	}
+
+	private ChunkContext chunkContext() {
+		JobExecution jobExecution = new JobExecution(new JobInstance(1L, "contractJob"),
+		  new JobParametersBuilder().addLocalDateTime("time", NOW).toJobParameters());
+		StepExecution stepExecution = new StepExecution("contractStep", jobExecution);
+		return new ChunkContext(new StepContext(stepExecution));
+	}
+
+	private Contract contract(Long id, Room room) {
+		Contract contract = mock(Contract.class);
+		given(contract.getId()).willReturn(id);
+		given(contract.getRoom()).willReturn(room);
+		return contract;
+	}
+
+	private Room room(String name, Long ownerId, Long buildingId) {
+		Room room = mock(Room.class);
+		Building building = mock(Building.class);
+		given(building.getId()).willReturn(buildingId);
+		given(room.getBuilding()).willReturn(building);
+		if (ownerId == null) {
+			given(room.getMember()).willReturn(null);
+			return room;
+		}
+		Member owner = mock(Member.class);
+		given(owner.getId()).willReturn(ownerId);
+		given(room.getMember()).willReturn(owner);
+		given(room.getName()).willReturn(name);
+		return room;
+	}
+
+}
@@ -0,0 +1,194 @@
+package com.core.back9.common.actuator;
+
+import com.core.back9.common.cache.DashboardCache;
+import com.core.back9.sse.connection.SseConnectionPoolImpl;
+import com.core.back9.sse.connection.model.SseMemberConnection;
+import com.core.back9.sse.dispatch.SseNotificationDispatcher;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class DiagnosticsEndpointTest {
+
+	@Mock
+	private ObjectProvider<HikariDataSource> hikariDataSources;
+
+	@Mock
+	private SseNotificationDispatcher sseNotificationDispatcher;
+
+	@Mock
+	private JobExplorer jobExplorer;
+
+	@Mock
+	private Job job;
+
+	@Mock
+	private EntityManagerFactory entityManagerFactory;
+
+	@Mock
+	private SessionFactory sessionFactory;
+
+	@Mock
+	private Statistics statistics;
+
+	@Mock
+	private CacheRegionStatistics roomRegion;
+
+	private SimpleMeterRegistry meterRegistry;
+	private HikariDataSource dataSource;
+	private ThreadPoolTaskExecutor asyncExecutor;
+	private ThreadPoolTaskExecutor dashboardExecutor;
+	private SseConnectionPoolImpl sseConnectionPool;
+	private DiagnosticsEndpoint diagnosticsEndpoint;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		dataSource = new HikariDataSource();
+		dataSource.setPoolName("primary");
+		dataSource.setMaximumPoolSize(10);
+		asyncExecutor = executor(5, 5);
+		dashboardExecutor = executor(8, 50);
+		sseConnectionPool = new SseConnectionPoolImpl();
+		given(entityManagerFactory.unwrap(SessionFactory.class)).willReturn(sessionFactory);
+
+		diagnosticsEndpoint = new DiagnosticsEndpoint(hikariDataSources, meterRegistry, sseConnectionPool, sseNotificationDispatcher,
+		  asyncExecutor, dashboardExecutor, jobExplorer, List.of(job), entityManagerFactory,
+		  new DashboardCache(meterRegistry, Duration.ofMinutes(10), 100, Duration.ZERO), Duration.ofMinutes(1));
+	}
+
+	@AfterEach
+	void tearDown() {
+		asyncExecutor.shutdown();
+		dashboardExecutor.shutdown();
+		dataSource.close();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	@DisplayName("커넥션 풀, GC, SSE, 실행기, 배치, 캐시 상태를 항목별로 반환한다.")
+	void diagnostics() {
+		// given
+		given(hikariDataSources.orderedStream()).willReturn(Stream.of(dataSource));
+		Timer.builder("hikaricp.connections.acquire").tag("pool", "primary").register(meterRegistry)
+		  .record(20, TimeUnit.MILLISECONDS);
+		SseMemberConnection connection = mock(SseMemberConnection.class);
+		given(connection.getUniqueKey()).willReturn("1");
+		sseConnectionPool.addSession("1", connection);
+		sseConnectionPool.addSession("2", mock(SseMemberConnection.class));
+		sseConnectionPool.onCompletionCallback(connection);
+		given(sseNotificationDispatcher.getQueueSize()).willReturn(3);
+		givenLastExecution("contractJob", BatchStatus.COMPLETED);
+		given(sessionFactory.getStatistics()).willReturn(statistics);
+		given(statistics.getSecondLevelCacheRegionNames()).willReturn(new String[]{"room"});
+		given(statistics.getCacheRegionStatistics("room")).willReturn(roomRegion);
+		given(roomRegion.getHitCount()).willReturn(3L);
+		given(roomRegion.getMissCount()).willReturn(1L);
+
+		// when
+		Map<String, Object> diagnostics = diagnosticsEndpoint.diagnostics();
+
+		// then
+		assertThat(diagnostics).containsOnlyKeys("connectionPools", "gc", "sse", "executors", "batch", "caches");
+
+		Map<String, Object> pool = (Map<String, Object>) ((Map<String, Object>) diagnostics.get("connectionPools")).get("primary");
+		assertThat(pool)
+		  .containsEntry("maximumPoolSize", 10)
+		  .containsEntry("acquireCount", 1L)
+		  .doesNotContainKey("active"); // 첫 커넥션 요청 전에는 풀 상태 없음
+
+		assertThat((Map<String, Object>) diagnostics.get("gc")).isNotEmpty();
+
+		assertThat((Map<String, Object>) diagnostics.get("sse"))
+		  .containsEntry("connections", 1)
+		  .containsEntry("opened", 2L)
+		  .containsEntry("closed", 1L)
+		  .containsEntry("dispatchQueueSize", 3);
+
+		Map<String, Object> executors = (Map<String, Object>) diagnostics.get("executors");
+		assertThat((Map<String, Object>) executors.get("dashboard"))
+		  .containsEntry("maxPoolSize", 8)
+		  .containsEntry("queueCapacity", 50)
+		  .containsEntry("saturation", 0.0);
+
+		assertThat((Map<String, Object>) ((Map<String, Object>) diagnostics.get("batch")).get("contractJob"))
+		  .containsEntry("running", false)
+		  .containsEntry("lastStatus", "COMPLETED");
+
+		Map<String, Object> caches = (Map<String, Object>) diagnostics.get("caches");
+		assertThat((Map<String, Object>) caches.get("room"))
+		  .containsEntry("hit", 3L)
+		  .containsEntry("miss", 1L)
+		  .containsEntry("hitRatio", 0.75);
+		assertThat((Map<String, Object>) caches.get("query")).containsEntry("hitRatio", 0.0);
+		assertThat((Map<String, Object>) caches.get("dashboard")).containsEntry("size", 0L);
+	}
+
+	@Test
+	@DisplayName("배치 상태는 갱신 주기 안에서는 다시 조회하지 않는다.")
+	void reuseBatchStatusWithinRefreshInterval() {
+		// given
+		given(hikariDataSources.orderedStream()).willAnswer(invocation -> Stream.empty());
+		givenLastExecution("contractJob", BatchStatus.COMPLETED);
+		given(sessionFactory.getStatistics()).willReturn(statistics);
+		given(statistics.getSecondLevelCacheRegionNames()).willReturn(new String[0]);
+
+		// when
+		diagnosticsEndpoint.diagnostics();
+		diagnosticsEndpoint.diagnostics();
+
+		// then
+		then(jobExplorer).should().getLastJobInstance("contractJob");
+	}
+
+	private void givenLastExecution(String jobName, BatchStatus status) {
+		JobInstance jobInstance = new JobInstance(1L, jobName);
+		JobExecution jobExecution = new JobExecution(jobInstance, 1L, null);
+		jobExecution.setStatus(status);
+		given(job.getName()).willReturn(jobName);
+		given(jobExplorer.findRunningJobExecutions(jobName)).willReturn(Set.of());
+		given(jobExplorer.getLastJobInstance(jobName)).willReturn(jobInstance);
+		given(jobExplorer.getLastJobExecution(jobInstance)).willReturn(jobExecution);
+	}
+
+	private ThreadPoolTaskExecutor executor(int poolSize, int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.initialize();
+		return executor;
+	}
+
+}
@@ -0,0 +1,161 @@
+package com.core.back9.common.cache;
+
+import com.core.back9.dto.MemberDTO;
+import com.core.back9.dto.RoomDTO;
+import com.core.back9.entity.Building;
+import com.core.back9.entity.BuildingDashboardVersion;
+import com.core.back9.entity.Room;
+import com.core.back9.entity.Setting;
+import com.core.back9.entity.constant.Role;
+import com.core.back9.entity.constant.Usage;
+import com.core.back9.repository.BuildingDashboardVersionRepository;
+import com.core.back9.repository.BuildingRepository;
+import com.core.back9.repository.RoomRepository;
+import com.core.back9.service.RoomService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* 변경 트랜잭션 커밋 이후 캐시가 제거되는지 확인하기 위해 테스트 트랜잭션(롤백) 없이 실행 */
+@ActiveProfiles("test")
+@SpringBootTest
+class DashboardCacheInvalidationTest {
+
+	@Autowired
+	private DashboardCache dashboardCache;
+
+	@Autowired
+	private RoomService roomService;
+
+	@Autowired
+	private BuildingRepository buildingRepository;
+
+	@Autowired
+	private RoomRepository roomRepository;
+
+	@Autowired
+	private BuildingDashboardVersionRepository buildingDashboardVersionRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate transactionTemplate;
+	private MemberDTO.Info admin;
+	private Long buildingId;
+	private Long roomId;
+
+	@BeforeEach
+	void setUp() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		admin = MemberDTO.Info.builder().role(Role.ADMIN).build();
+		transactionTemplate.executeWithoutResult(status -> {
+			Building building = buildingRepository.save(Building.builder()
+			  .name("building name")
+			  .address("building address")
+			  .zipCode("12345")
+			  .build());
+			Room room = roomRepository.save(Room.builder()
+			  .building(building)
+			  .name("before")
+			  .floor("1")
+			  .area(84F)
+			  .usage(Usage.OFFICES)
+			  .setting(Setting.builder().build())
+			  .build());
+			building.addRoom(room);
+			buildingDashboardVersionRepository.save(BuildingDashboardVersion.of(building.getId()));
+			buildingId = building.getId();
+			roomId = room.getId();
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		transactionTemplate.executeWithoutResult(status -> {
+			buildingDashboardVersionRepository.deleteById(buildingId);
+			buildingRepository.deleteById(buildingId); // 호실, 설정까지 함께 삭제
+		});
+		dashboardCache.evict(DashboardChangedEvent.all());
+	}
+
+	@Test
+	@DisplayName("호실 정보를 수정하면 커밋 이후 다음 조회에서 수정된 값으로 다시 계산한다.")
+	void readEditedValueAfterCommit() {
+		// given
+		DashboardCacheKey key = DashboardCacheKey.ofRoom("room-name", 1L, buildingId, roomId, "2024-05");
+		String before = dashboardCache.get(key, this::loadRoomName);
+
+		// when
+		roomService.update(admin, buildingId, roomId, updateRequest("after"));
+		String after = dashboardCache.get(key, this::loadRoomName);
+
+		// then
+		assertThat(before).isEqualTo("before");
+		assertThat(after).isEqualTo("after");
+	}
+
+	@Test
+	@DisplayName("수정 트랜잭션이 롤백되면 캐시를 유지한다.")
+	void keepCacheWhenEditRolledBack() {
+		// given
+		DashboardCacheKey key = DashboardCacheKey.ofRoom("room-name", 1L, buildingId, roomId, "2024-05");
+		dashboardCache.get(key, this::loadRoomName);
+		long sizeBeforeEdit = dashboardCache.size();
+
+		// when
+		transactionTemplate.executeWithoutResult(status -> {
+			roomService.update(admin, buildingId, roomId, updateRequest("rolled back"));
+			status.setRollbackOnly();
+		});
+		String result = dashboardCache.get(key, this::loadRoomName);
+
+		// then
+		assertThat(dashboardCache.size()).isEqualTo(sizeBeforeEdit);
+		assertThat(result).isEqualTo("before");
+	}
+
+	@Test
+	@DisplayName("대시보드 버전은 수정이 커밋된 이후에 증가하고, 롤백된 수정은 버전을 바꾸지 않는다.")
+	void increaseVersionAfterCommit() {
+		// given
+		long before = version();
+
+		// when
+		transactionTemplate.executeWithoutResult(status -> {
+			roomService.update(admin, buildingId, roomId, updateRequest("rolled back"));
+			status.setRollbackOnly();
+		});
+		long afterRollback = version();
+		roomService.update(admin, buildingId, roomId, updateRequest("after"));
+
+		// then
+		assertThat(afterRollback).isEqualTo(before);
+		assertThat(version()).isEqualTo(before + 1);
+	}
+
+	private long version() {
+		return buildingDashboardVersionRepository.findById(buildingId).orElseThrow().getVersion();
+	}
+
+	private String loadRoomName() {
+		return transactionTemplate.execute(status -> roomRepository.findById(roomId).orElseThrow().getName());
+	}
+
+	private RoomDTO.Request updateRequest(String name) {
+		return RoomDTO.Request.builder()
+		  .name(name)
+		  .floor("1")
+		  .area(84F)
+		  .usage(Usage.OFFICES)
+		  .build();
+	}
+
+}
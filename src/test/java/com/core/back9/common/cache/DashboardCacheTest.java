@@ -0,0 +1,116 @@
+package com.core.back9.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DashboardCacheTest {
+
+	private DashboardCache dashboardCache;
+	private AtomicInteger loadCount;
+
+	@BeforeEach
+	void setUp() {
+		dashboardCache = new DashboardCache(new SimpleMeterRegistry(), Duration.ofMinutes(10), 100, Duration.ZERO);
+		loadCount = new AtomicInteger();
+	}
+
+	@Test
+	@DisplayName("같은 키로 조회하면 다시 계산하지 않는다.")
+	void getCachedValue() {
+		// given
+		DashboardCacheKey key = DashboardCacheKey.ofBuilding("my-quarterly-score", 1L, 1L, "2024-Q1");
+
+		// when
+		dashboardCache.get(key, this::load);
+		String result = dashboardCache.get(key, this::load);
+
+		// then
+		assertThat(result).isEqualTo("value-1");
+		assertThat(loadCount.get()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("빌딩 변경 이벤트는 해당 빌딩의 캐시만 제거한다.")
+	void evictByBuilding() {
+		// given
+		DashboardCacheKey building1 = DashboardCacheKey.ofRoom("contract-statistic", 1L, 1L, 10L, "2024-05-01");
+		DashboardCacheKey building2 = DashboardCacheKey.ofRoom("contract-statistic", 1L, 2L, 20L, "2024-05-01");
+		dashboardCache.get(building1, this::load);
+		dashboardCache.get(building2, this::load);
+
+		// when
+		dashboardCache.evict(DashboardChangedEvent.ofBuilding(1L));
+
+		// then
+		assertThat(dashboardCache.size()).isEqualTo(1);
+		assertThat(dashboardCache.get(building2, this::load)).isEqualTo("value-2");
+		assertThat(dashboardCache.get(building1, this::load)).isEqualTo("value-3");
+	}
+
+	@Test
+	@DisplayName("전체 변경 이벤트는 모든 캐시를 제거한다.")
+	void evictAll() {
+		// given
+		dashboardCache.get(DashboardCacheKey.ofBuilding("my-rooms-year-score", 1L, 1L, "2024-05"), this::load);
+		dashboardCache.get(DashboardCacheKey.ofBuilding("my-rooms-year-score", 2L, 2L, "2024-05"), this::load);
+
+		// when
+		dashboardCache.evict(DashboardChangedEvent.all());
+
+		// then
+		assertThat(dashboardCache.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("계산 도중 변경 이벤트가 발생하면 계산 결과를 저장하지 않아 다음 조회에서 다시 계산한다.")
+	void discardValueLoadedBeforeEviction() {
+		// given
+		DashboardCacheKey key = DashboardCacheKey.ofBuilding("my-quarterly-score", 1L, 1L, "2024-Q1");
+
+		// when
+		String staleResult = dashboardCache.get(key, () -> {
+			String value = load(); // 변경 전 데이터로 계산
+			dashboardCache.evict(DashboardChangedEvent.ofBuilding(1L)); // 계산 도중 변경 커밋
+			return value;
+		});
+		String nextResult = dashboardCache.get(key, this::load);
+
+		// then
+		assertThat(staleResult).isEqualTo("value-1");
+		assertThat(nextResult).isEqualTo("value-2");
+		assertThat(loadCount.get()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("제거 이후 복제 지연 구간 안에 계산한 값은 replica의 변경 전 데이터일 수 있으므로 저장하지 않는다.")
+	void skipStoringWithinReplicaLagWindow() {
+		// given
+		DashboardCache replicaCache = new DashboardCache(new SimpleMeterRegistry(), Duration.ofMinutes(10), 100, Duration.ofMinutes(1));
+		DashboardCacheKey changed = DashboardCacheKey.ofBuilding("my-quarterly-score", 1L, 1L, "2024-Q1");
+		DashboardCacheKey unchanged = DashboardCacheKey.ofBuilding("my-quarterly-score", 1L, 2L, "2024-Q1");
+
+		// when
+		replicaCache.evict(DashboardChangedEvent.ofBuilding(1L));
+		replicaCache.get(changed, this::load);
+		String reloaded = replicaCache.get(changed, this::load);
+		replicaCache.get(unchanged, this::load);
+		String cached = replicaCache.get(unchanged, this::load);
+
+		// then
+		assertThat(reloaded).isEqualTo("value-2");
+		assertThat(cached).isEqualTo("value-3");
+		assertThat(replicaCache.size()).isEqualTo(1);
+	}
+
+	private String load() {
+		return "value-" + loadCount.incrementAndGet();
+	}
+
+}
@@ -0,0 +1,120 @@
+package com.core.back9.common.cache;
+
+import com.core.back9.dto.AlarmDTO;
+import com.core.back9.entity.Building;
+import com.core.back9.repository.BuildingRepository;
+import com.core.back9.repository.ComplaintMetricRepository;
+import com.core.back9.service.AlarmService;
+import com.core.back9.service.DashboardVersionService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * native DML은 변경 대상 테이블(query space)을 명시하지 않으면 모든 2차 캐시 region과 쿼리 캐시를 비우므로
+ * 캐시 대상이 아닌 테이블만 변경하는 native query가 building 캐시를 유지하는지 확인
+ * 캐시 상태는 커밋 이후 확인해야 하므로 테스트 트랜잭션(롤백) 없이 실행
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+class NativeQuerySpaceTest {
+
+	private static final long RECEIVED_ID = Long.MAX_VALUE - 1; // 존재하지 않는 회원 - 미확인 알림 수 update 대상 없음
+	private static final long ROOM_ID = Long.MAX_VALUE - 1;     // 존재하지 않는 호실 - 집계 update 대상 없음
+
+	@Autowired
+	private AlarmService alarmService;
+
+	@Autowired
+	private BuildingRepository buildingRepository;
+
+	@Autowired
+	private ComplaintMetricRepository complaintMetricRepository;
+
+	@Autowired
+	private DashboardVersionService dashboardVersionService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate transactionTemplate;
+	private Long buildingId;
+
+	@BeforeEach
+	void setUp() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		buildingId = transactionTemplate.execute(status -> buildingRepository.save(Building.builder()
+		  .name("building name")
+		  .address("building address")
+		  .zipCode("12345")
+		  .build()).getId());
+		transactionTemplate.executeWithoutResult(status -> buildingRepository.findById(buildingId)); // 2차 캐시 적재
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM alarms WHERE received_id = ?", RECEIVED_ID);
+		transactionTemplate.executeWithoutResult(status -> buildingRepository.deleteById(buildingId));
+	}
+
+	@Test
+	@DisplayName("알림을 생성해 미확인 알림 수를 변경해도 building 2차 캐시는 유지된다.")
+	void keepBuildingCacheOnUnreadAlarmCountUpdate() {
+		// given
+		assertThat(entityManagerFactory.getCache().contains(Building.class, buildingId)).isTrue();
+
+		// when
+		alarmService.create(AlarmDTO.Request.createComplaint(RECEIVED_ID, "누수가 있습니다."));
+
+		// then
+		assertThat(entityManagerFactory.getCache().contains(Building.class, buildingId)).isTrue();
+	}
+
+	@Test
+	@DisplayName("민원 집계를 변경해도 building 2차 캐시는 유지된다.")
+	void keepBuildingCacheOnComplaintMetricUpdate() {
+		// given
+		assertThat(entityManagerFactory.getCache().contains(Building.class, buildingId)).isTrue();
+
+		// when
+		transactionTemplate.executeWithoutResult(status -> {
+			complaintMetricRepository.addReceived(ROOM_ID, 202401, 1);
+			complaintMetricRepository.addResolved(ROOM_ID, 202401, 1, 0, 1800L);
+		});
+
+		// then
+		assertThat(entityManagerFactory.getCache().contains(Building.class, buildingId)).isTrue();
+	}
+
+	@Test
+	@DisplayName("대시보드 버전을 증가시켜도 building 2차 캐시는 유지된다.")
+	void keepBuildingCacheOnDashboardVersionIncrease() {
+		// given
+		assertThat(entityManagerFactory.getCache().contains(Building.class, buildingId)).isTrue();
+
+		// when
+		transactionTemplate.executeWithoutResult(status -> dashboardVersionService.markChanged(List.of(buildingId))); // 커밋 이후 증가
+
+		// then
+		assertThat(entityManagerFactory.getCache().contains(Building.class, buildingId)).isTrue();
+	}
+
+}
@@ -0,0 +1,213 @@
+package com.core.back9.common.datasource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicationRoutingDataSourceTest {
+
+	private DataSource primaryDataSource;
+	private DataSource replicaDataSource;
+	private EntityManagerFactory entityManagerFactory;
+
+	@BeforeEach
+	void setUp() {
+		primaryDataSource = h2DataSource("primary");
+		replicaDataSource = h2DataSource("replica");
+	}
+
+	@Test
+	@DisplayName("읽기 전용 트랜잭션은 replica, 쓰기 트랜잭션은 primary로 라우팅된다.")
+	void routeByTransactionReadOnly() {
+		// given
+		DataSource dataSource = routingDataSource(monitor("SELECT 0 AS LAG"));
+
+		// when
+		String readOnlyTarget = currentDatabase(dataSource, true);
+		String readWriteTarget = currentDatabase(dataSource, false);
+
+		// then
+		assertThat(readOnlyTarget).isEqualTo("replica");
+		assertThat(readWriteTarget).isEqualTo("primary");
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (entityManagerFactory != null) {
+			entityManagerFactory.close();
+		}
+	}
+
+	@Test
+	@DisplayName("한 요청에서 읽기 전용 트랜잭션 뒤에 실행한 쓰기 트랜잭션은 primary로 라우팅된다.")
+	void routeWriteAfterReadInSameRequest() {
+		// given
+		DataSource dataSource = routingDataSource(monitor("SELECT 0 AS LAG"));
+		entityManagerFactory = entityManagerFactory(dataSource);
+
+		// when
+		String readOnlyTarget = currentDatabaseWithJpa(true);
+		String readWriteTarget = currentDatabaseWithJpa(false);
+		insertWithJpa("written");
+
+		// then
+		assertThat(readOnlyTarget).isEqualTo("replica");
+		assertThat(readWriteTarget).isEqualTo("primary");
+		assertThat(countByName(primaryDataSource, "written")).isEqualTo(1);
+		assertThat(countByName(replicaDataSource, "written")).isZero();
+	}
+
+	@Test
+	@DisplayName("요청 전체에 EntityManager를 유지하면(open-in-view) 앞선 읽기의 replica 커넥션으로 쓰기가 실행된다.")
+	void openEntityManagerInViewHoldsReplicaConnection() {
+		// given
+		DataSource dataSource = routingDataSource(monitor("SELECT 0 AS LAG"));
+		entityManagerFactory = entityManagerFactory(dataSource);
+		EntityManager requestEntityManager = entityManagerFactory.createEntityManager();
+		TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(requestEntityManager));
+
+		// when
+		try {
+			currentDatabaseWithJpa(true);
+			insertWithJpa("written");
+		} finally {
+			TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+			requestEntityManager.close();
+		}
+
+		// then
+		assertThat(countByName(primaryDataSource, "written")).isZero();
+		assertThat(countByName(replicaDataSource, "written")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("replica 지연은 기동 시 바로 확인하여 첫 주기 전에도 replica를 사용한다.")
+	void checkLagOnStartup() {
+		// given
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		context.registerBean(ReplicaLagMonitor.class,
+		  () -> new ReplicaLagMonitor(replicaDataSource, Duration.ofSeconds(5), "SELECT 0 AS LAG", "LAG"));
+
+		// when
+		context.refresh();
+
+		// then
+		try (context) {
+			assertThat(context.getBean(ReplicaLagMonitor.class).isAvailable()).isTrue();
+		}
+	}
+
+	@Test
+	@DisplayName("replica 지연이 허용치를 넘으면 읽기 전용 트랜잭션도 primary로 라우팅된다.")
+	void fallbackToPrimaryWhenReplicaLagged() {
+		// given
+		DataSource dataSource = routingDataSource(monitor("SELECT 60 AS LAG"));
+
+		// when
+		String readOnlyTarget = currentDatabase(dataSource, true);
+
+		// then
+		assertThat(readOnlyTarget).isEqualTo("primary");
+	}
+
+	@Test
+	@DisplayName("replica 지연 확인에 실패하면 읽기 전용 트랜잭션도 primary로 라우팅된다.")
+	void fallbackToPrimaryWhenLagCheckFailed() {
+		// given
+		DataSource dataSource = routingDataSource(monitor("SELECT LAG FROM NOT_EXISTS_TABLE"));
+
+		// when
+		String readOnlyTarget = currentDatabase(dataSource, true);
+
+		// then
+		assertThat(readOnlyTarget).isEqualTo("primary");
+	}
+
+	private ReplicaLagMonitor monitor(String lagQuery) {
+		ReplicaLagMonitor replicaLagMonitor = new ReplicaLagMonitor(replicaDataSource, Duration.ofSeconds(5), lagQuery, "LAG");
+		replicaLagMonitor.checkLag();
+		return replicaLagMonitor;
+	}
+
+	private DataSource routingDataSource(ReplicaLagMonitor replicaLagMonitor) {
+		ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(replicaLagMonitor);
+		routingDataSource.setTargetDataSources(Map.of(
+		  DataSourceType.PRIMARY, primaryDataSource,
+		  DataSourceType.REPLICA, replicaDataSource
+		));
+		routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+		routingDataSource.afterPropertiesSet();
+		return new LazyConnectionDataSourceProxy(routingDataSource);
+	}
+
+	private String currentDatabase(DataSource dataSource, boolean readOnly) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		transactionTemplate.setReadOnly(readOnly);
+		return transactionTemplate.execute(status ->
+		  new JdbcTemplate(dataSource).queryForObject("SELECT NAME FROM DATABASE_NAME", String.class));
+	}
+
+	/* Spring Boot 기본 설정과 같이 트랜잭션 동안 커넥션을 유지하는 JPA 설정 (엔티티 없이 native query만 사용) */
+	private EntityManagerFactory entityManagerFactory(DataSource dataSource) {
+		LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+		factoryBean.setDataSource(dataSource);
+		factoryBean.setPackagesToScan(getClass().getPackageName());
+		factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+		factoryBean.setJpaPropertyMap(Map.of(AvailableSettings.CONNECTION_HANDLING, "DELAYED_ACQUISITION_AND_HOLD"));
+		factoryBean.afterPropertiesSet();
+		return factoryBean.getObject();
+	}
+
+	private String currentDatabaseWithJpa(boolean readOnly) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+		transactionTemplate.setReadOnly(readOnly);
+		EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+		return transactionTemplate.execute(status ->
+		  (String) entityManager.createNativeQuery("SELECT NAME FROM DATABASE_NAME LIMIT 1").getSingleResult());
+	}
+
+	private void insertWithJpa(String name) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+		EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+		transactionTemplate.executeWithoutResult(status ->
+		  entityManager.createNativeQuery("INSERT INTO DATABASE_NAME (NAME) VALUES (?1)")
+			.setParameter(1, name)
+			.executeUpdate());
+	}
+
+	private long countByName(DataSource dataSource, String name) {
+		return new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM DATABASE_NAME WHERE NAME = ?", Long.class, name);
+	}
+
+	private DataSource h2DataSource(String name) {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS DATABASE_NAME (NAME VARCHAR(20))");
+		jdbcTemplate.execute("DELETE FROM DATABASE_NAME");
+		jdbcTemplate.update("INSERT INTO DATABASE_NAME (NAME) VALUES (?)", name);
+		return dataSource;
+	}
+
+}
@@ -0,0 +1,103 @@
+package com.core.back9.common.jfr;
+
+import com.core.back9.common.actuator.FlightRecorderEndpoint;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlightRecorderManagerTest {
+
+	@TempDir
+	Path dumpDirectory;
+
+	private FlightRecorderManager manager;
+
+	@AfterEach
+	void tearDown() {
+		if (manager != null) {
+			manager.stop();
+		}
+	}
+
+	@Test
+	@DisplayName("기록 중인 내용을 파일로 저장하면 배치 step 이벤트가 포함된다.")
+	void dumpRecording() throws Exception {
+		// given
+		manager = new FlightRecorderManager("default", DataSize.ofMegabytes(10), Duration.ofMinutes(5), dumpDirectory, 10);
+		manager.start();
+		BatchStepEvent.begin("contractJob", "contractStep").end("COMPLETED", 3, 2);
+
+		// when
+		Map<String, Object> result = manager.dump();
+
+		// then
+		Path file = Path.of((String) result.get("file"));
+		assertThat(Files.exists(file)).isTrue();
+		List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+		  .filter(event -> event.getEventType().getName().equals("com.core.back9.BatchStep"))
+		  .toList();
+		assertThat(events).hasSize(1);
+		assertThat(events.get(0).getString("step")).isEqualTo("contractStep");
+		assertThat(events.get(0).getLong("writeCount")).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("저장 파일은 최근 max-dumps 개만 보관하고, 기록과 무관한 파일은 삭제하지 않는다.")
+	void keepRecentDumps() throws Exception {
+		// given
+		manager = new FlightRecorderManager("default", DataSize.ofMegabytes(10), Duration.ofMinutes(5), dumpDirectory, 2);
+		manager.start();
+		Path unrelated = Files.createFile(dumpDirectory.resolve("heap.hprof"));
+
+		// when
+		Path first = Path.of((String) manager.dump().get("file"));
+		Thread.sleep(5); // 파일 이름(밀리초 단위)이 겹치지 않도록
+		Path second = Path.of((String) manager.dump().get("file"));
+		Thread.sleep(5);
+		Path third = Path.of((String) manager.dump().get("file"));
+
+		// then
+		assertThat(first).doesNotExist();
+		assertThat(second).exists();
+		assertThat(third).exists();
+		assertThat(unrelated).exists();
+		assertThat(manager.status()).containsEntry("maxDumps", 2);
+	}
+
+	@Test
+	@DisplayName("jfr.enabled가 true가 아니면 기록 관리자, 이벤트 aspect, 관리 엔드포인트를 등록하지 않는다.")
+	void registerOnlyWhenEnabled() {
+		// given
+		ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+		  .withInitializer(context -> context.getBeanFactory().setConversionService(ApplicationConversionService.getSharedInstance())) // DataSize / Duration 변환
+		  .withPropertyValues("jfr.dump-directory=" + dumpDirectory)
+		  .withUserConfiguration(FlightRecorderManager.class, ServiceCallEventAspect.class, FlightRecorderEndpoint.class);
+
+		// when & then
+		contextRunner.run(context -> assertThat(context)
+		  .doesNotHaveBean(FlightRecorderManager.class)
+		  .doesNotHaveBean(ServiceCallEventAspect.class)
+		  .doesNotHaveBean(FlightRecorderEndpoint.class));
+		contextRunner.withPropertyValues("jfr.enabled=false").run(context -> assertThat(context)
+		  .doesNotHaveBean(FlightRecorderManager.class));
+		contextRunner.withPropertyValues("jfr.enabled=true").run(context -> {
+			assertThat(context).hasSingleBean(FlightRecorderManager.class).hasSingleBean(FlightRecorderEndpoint.class);
+			assertThat(context.getBean(FlightRecorderManager.class).status()).doesNotContainEntry("state", "DISABLED");
+		});
+	}
+
+}
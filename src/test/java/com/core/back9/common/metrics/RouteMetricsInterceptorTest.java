@@ -0,0 +1,107 @@
+package com.core.back9.common.metrics;
+
+import com.core.back9.controller.AppUserAlarmController;
+import com.core.back9.controller.SseController;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class RouteMetricsInterceptorTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private RouteMetricsInterceptor interceptor;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		interceptor = new RouteMetricsInterceptor(meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	@DisplayName("컨트롤러 요청은 경로 템플릿, 권한, 결과 태그로 기록된다.")
+	void recordRouteWithRoleAndOutcome() throws Exception {
+		// given
+		SecurityContextHolder.getContext().setAuthentication(
+		  new UsernamePasswordAuthenticationToken("user", "token", List.of(new SimpleGrantedAuthority("USER"))));
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/alarms/is-new");
+		request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/app/alarms/is-new");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		HandlerMethod handler = handler(AppUserAlarmController.class, "isNew");
+
+		// when
+		interceptor.preHandle(request, response, handler);
+		interceptor.afterCompletion(request, response, handler, null);
+
+		// then
+		Timer timer = meterRegistry.find(RouteMetricsInterceptor.METRIC_NAME)
+		  .tags("method", "GET", "route", "/app/alarms/is-new", "role", "USER", "outcome", "SUCCESS")
+		  .timer();
+		assertThat(timer).isNotNull();
+		assertThat(timer.count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("처리되지 않은 예외는 SERVER_ERROR, 인증 정보가 없으면 ANONYMOUS로 기록된다.")
+	void recordServerErrorWithoutAuthentication() throws Exception {
+		// given
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/alarms/is-new");
+		request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/app/alarms/is-new");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		HandlerMethod handler = handler(AppUserAlarmController.class, "isNew");
+
+		// when
+		interceptor.preHandle(request, response, handler);
+		interceptor.afterCompletion(request, response, handler, new IllegalStateException());
+
+		// then
+		assertThat(meterRegistry.find(RouteMetricsInterceptor.METRIC_NAME)
+		  .tags("role", "ANONYMOUS", "outcome", "SERVER_ERROR")
+		  .timer()).isNotNull();
+	}
+
+	@Test
+	@DisplayName("SSE 연결 요청은 기록하지 않는다.")
+	void skipSseConnection() throws Exception {
+		// given
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/public-api/sse/connect");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		HandlerMethod handler = handler(SseController.class, "connect");
+
+		// when
+		interceptor.preHandle(request, response, handler);
+		interceptor.afterCompletion(request, response, handler, null);
+
+		// then
+		assertThat(meterRegistry.find(RouteMetricsInterceptor.METRIC_NAME).timer()).isNull();
+	}
+
+	private HandlerMethod handler(Class<?> controllerType, String methodName) {
+		Method method = List.of(controllerType.getDeclaredMethods()).stream()
+		  .filter(declared -> declared.getName().equals(methodName))
+		  .findFirst()
+		  .orElseThrow();
+		return new HandlerMethod(mock(controllerType), method);
+	}
+
+}
@@ -0,0 +1,150 @@
+package com.core.back9.common.performance;
+
+import com.core.back9.common.query.QueryInspection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 서비스 메서드 단위 성능 예산 (실행 SQL 수, 현재 스레드 할당 바이트)
+ *
+ * performanceBudget.expect()
+ *   .maxStatements(3)
+ *   .maxAllocatedBytes(2 * PerformanceBudget.MB)
+ *   .run(() -> scoreService.selectQuarterlyScoreOfMyRooms(member, buildingId, year, quarter));
+ *
+ * - 측정 전 영속성 컨텍스트를 flush / clear 하고 2차 캐시를 비워, 요청 한 번이 DB에서 처음 조회할 때의 SQL 수를 측정
+ * - 최초 호출의 클래스 로딩 / 쿼리 플랜 생성 비용이 할당량에 섞이지 않도록 기본 1회 warm-up 후 측정 (조회 메서드에 사용)
+ */
+public class PerformanceBudget {
+
+	public static final long MB = 1024 * 1024;
+
+	private final EntityManager entityManager;
+	private final SessionFactory sessionFactory;
+	private final com.sun.management.ThreadMXBean threadMXBean;
+
+	PerformanceBudget(EntityManager entityManager, EntityManagerFactory entityManagerFactory) {
+		this.entityManager = entityManager;
+		this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+		this.threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+	}
+
+	public Expectation expect() {
+		return new Expectation();
+	}
+
+	private Measurement measure(Supplier<?> action) {
+		Statistics statistics = sessionFactory.getStatistics();
+		long entityLoadCount = statistics.getEntityLoadCount();
+		long collectionFetchCount = statistics.getCollectionFetchCount();
+
+		QueryInspection inspection;
+		long allocatedBefore = currentThreadAllocatedBytes();
+		QueryInspection.start();
+		try {
+			action.get();
+		} finally {
+			inspection = QueryInspection.stop();
+		}
+		long allocatedAfter = currentThreadAllocatedBytes();
+
+		Map<String, Integer> statements = new LinkedHashMap<>();
+		inspection.getStatements().values()
+		  .forEach(stats -> statements.put(stats.getFingerprint(), stats.getCount()));
+
+		return new Measurement(
+		  inspection.getStatementCount(),
+		  statements,
+		  allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore,
+		  statistics.getEntityLoadCount() - entityLoadCount,
+		  statistics.getCollectionFetchCount() - collectionFetchCount
+		);
+	}
+
+	private long currentThreadAllocatedBytes() {
+		if (!threadMXBean.isThreadAllocatedMemorySupported() || !threadMXBean.isThreadAllocatedMemoryEnabled()) {
+			return -1;
+		}
+		return threadMXBean.getCurrentThreadAllocatedBytes();
+	}
+
+	/* 요청 단위 조회를 재현하기 위해 1차 / 2차 캐시를 모두 비움 */
+	private void resetCaches() {
+		entityManager.flush();
+		entityManager.clear();
+		sessionFactory.getCache().evictAllRegions();
+	}
+
+	public class Expectation {
+
+		private int maxStatements = -1;
+		private long maxAllocatedBytes = -1;
+		private int warmUp = 1;
+
+		public Expectation maxStatements(int maxStatements) {
+			this.maxStatements = maxStatements;
+			return this;
+		}
+
+		public Expectation maxAllocatedBytes(long maxAllocatedBytes) {
+			this.maxAllocatedBytes = maxAllocatedBytes;
+			return this;
+		}
+
+		/* 데이터를 변경하는 메서드는 warmUp(0)으로 한 번만 실행 */
+		public Expectation warmUp(int warmUp) {
+			this.warmUp = warmUp;
+			return this;
+		}
+
+		public Measurement run(Supplier<?> action) {
+			for (int i = 0; i < warmUp; i++) {
+				resetCaches();
+				action.get();
+			}
+			resetCaches();
+
+			Measurement measurement = measure(action);
+
+			if (maxStatements >= 0) {
+				assertThat(measurement.statementCount())
+				  .withFailMessage("SQL %d건 실행 (예산 %d건)%n%s", measurement.statementCount(), maxStatements, measurement)
+				  .isLessThanOrEqualTo(maxStatements);
+			}
+			if (maxAllocatedBytes >= 0 && measurement.allocatedBytes() >= 0) {
+				assertThat(measurement.allocatedBytes())
+				  .withFailMessage("%,d bytes 할당 (예산 %,d bytes)%n%s", measurement.allocatedBytes(), maxAllocatedBytes, measurement)
+				  .isLessThanOrEqualTo(maxAllocatedBytes);
+			}
+			return measurement;
+		}
+
+	}
+
+	/* statements : SQL 형태별 실행 횟수 (QueryFingerprint) */
+	public record Measurement(int statementCount, Map<String, Integer> statements, long allocatedBytes,
+							  long entityLoadCount, long collectionFetchCount) {
+
+		@Override
+		public String toString() {
+			StringBuilder builder = new StringBuilder()
+			  .append("entity load: ").append(entityLoadCount)
+			  .append(", collection fetch: ").append(collectionFetchCount)
+			  .append(", allocated: ").append(allocatedBytes).append(" bytes");
+			statements.forEach((fingerprint, count) ->
+			  builder.append(System.lineSeparator()).append(count).append("x ").append(fingerprint));
+			return builder.toString();
+		}
+
+	}
+
+}
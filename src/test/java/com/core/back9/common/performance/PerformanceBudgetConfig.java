@@ -0,0 +1,20 @@
+package com.core.back9.common.performance;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/*
+ * 성능 예산 테스트 설정 - 테스트 클래스에서 @Import(PerformanceBudgetConfig.class)로 사용
+ * - SQL 수집은 애플리케이션에 등록된 QueryInspector(QueryDetectorConfig)를 그대로 사용
+ */
+@TestConfiguration
+public class PerformanceBudgetConfig {
+
+	@Bean
+	public PerformanceBudget performanceBudget(EntityManager entityManager, EntityManagerFactory entityManagerFactory) {
+		return new PerformanceBudget(entityManager, entityManagerFactory);
+	}
+
+}
@@ -0,0 +1,96 @@
+package com.core.back9.common.query;
+
+import com.core.back9.dto.QueryDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryDetectorFilterTest {
+
+	private QueryOffenderBuffer offenderBuffer;
+	private QueryDetectorFilter filter;
+	private QueryInspector inspector;
+
+	@BeforeEach
+	void setUp() {
+		offenderBuffer = new QueryOffenderBuffer(2);
+		filter = new QueryDetectorFilter(offenderBuffer, 3, Duration.ofSeconds(10));
+		inspector = new QueryInspector();
+	}
+
+	@Test
+	@DisplayName("리터럴과 in 절 파라미터 개수가 달라도 같은 형태의 SQL로 묶는다.")
+	void fingerprint() {
+		// when
+		String first = QueryFingerprint.normalize("select r.id from room r where r.id in (?, ?, ?) and r.name = 'A-101'");
+		String second = QueryFingerprint.normalize("select  r.id from room r\n where r.id in (?,?) and r.name = 'B''s 7'");
+
+		// then
+		assertThat(first).isEqualTo(second)
+		  .isEqualTo("select r.id from room r where r.id in (?...) and r.name = ?");
+	}
+
+	@Test
+	@DisplayName("같은 형태의 SQL이 기준 횟수를 넘으면 경로, 형태, 횟수와 함께 기록된다.")
+	void detectRepeatedStatement() throws Exception {
+		// given
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/buildings/1/rooms");
+		request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/buildings/{buildingId}/rooms");
+
+		// when
+		filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+			inspector.inspect("select * from building b where b.id = ?");
+			for (int i = 1; i <= 4; i++) {
+				inspector.inspect("select * from setting s where s.room_id = " + i);
+			}
+		});
+
+		// then
+		List<QueryDTO.Offender> offenders = offenderBuffer.findRecent();
+		assertThat(offenders).hasSize(1);
+		assertThat(offenders.get(0).getRoute()).isEqualTo("GET /api/buildings/{buildingId}/rooms");
+		assertThat(offenders.get(0).getFingerprint()).isEqualTo("select * from setting s where s.room_id = ?");
+		assertThat(offenders.get(0).getCount()).isEqualTo(4);
+		assertThat(offenders.get(0).getReasons()).containsExactly(QueryDetectorFilter.REPEATED);
+		assertThat(QueryInspection.current()).isNull();
+	}
+
+	@Test
+	@DisplayName("보관 용량을 넘으면 오래된 항목부터 버리고 최신순으로 조회된다.")
+	void keepMostRecentOffenders() throws Exception {
+		// when
+		for (String table : List.of("room", "contract", "tenant")) {
+			filter.doFilter(new MockHttpServletRequest("GET", "/api/" + table), new MockHttpServletResponse(), (req, res) -> {
+				for (int i = 0; i < 4; i++) {
+					inspector.inspect("select * from " + table);
+				}
+			});
+		}
+
+		// then
+		assertThat(offenderBuffer.findRecent())
+		  .extracting(QueryDTO.Offender::getRoute)
+		  .containsExactly("GET /api/tenant", "GET /api/contract");
+	}
+
+	@Test
+	@DisplayName("요청 구간 밖에서 실행된 SQL은 기록하지 않는다.")
+	void ignoreStatementsOutsideRequest() {
+		// when
+		String sql = inspector.inspect("select * from room");
+
+		// then
+		assertThat(sql).isEqualTo("select * from room");
+		assertThat(QueryInspection.current()).isNull();
+		assertThat(offenderBuffer.findRecent()).isEmpty();
+	}
+
+}
@@ -0,0 +1,86 @@
+package com.core.back9.mapper;
+
+import com.core.back9.dto.ScoreDTO;
+import com.core.back9.entity.Score;
+import com.core.back9.entity.constant.RatingType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mapstruct.factory.Mappers;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ScoreMapperTest {
+
+    private final ScoreMapper scoreMapper = Mappers.getMapper(ScoreMapper.class);
+
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 7L, 42L, 2024L})
+    @DisplayName("단일 패스 집계 결과는 기존 스트림 계산(미평가 -1 포함 타입별 평균)과 동일하다.")
+    void toAllAvgWithMonthMatchesStreamCalculation(long seed) {
+        // given
+        List<Score> scores = randomScores(new Random(seed), 1_000);
+
+        // when
+        ScoreDTO.AllAvgByMonth result = scoreMapper.toAllAvgWithMonth(YearMonth.of(2024, 5), scores);
+
+        // then
+        assertThat(result.getSelectedMonth()).isEqualTo(YearMonth.of(2024, 5));
+        assertThat(result.getTotalAvg()).isEqualTo(streamTotalAvg(scores));
+        assertThat(result.getEvaluationProgress()).isEqualTo(streamEvaluationProgress(scores));
+        assertThat(result.getFacilityAvg()).isEqualTo(streamScoreTypeAvg(scores, RatingType.FACILITY));
+        assertThat(result.getManagementAvg()).isEqualTo(streamScoreTypeAvg(scores, RatingType.MANAGEMENT));
+        assertThat(result.getComplaintAvg()).isEqualTo(streamScoreTypeAvg(scores, RatingType.COMPLAINT));
+    }
+
+    @Test
+    @DisplayName("평가 레코드가 없으면 모든 평균과 진행률은 0이다.")
+    void toQuarterlyTotalAvgWithEmptyScores() {
+        // when
+        ScoreDTO.AvgByQuarter result = scoreMapper.toQuarterlyTotalAvg(2024, 2, List.of());
+
+        // then
+        assertThat(result)
+                .extracting("selectedYear", "selectedQuarter", "totalAvg", "facilityAvg", "managementAvg", "complaintAvg")
+                .containsExactly(2024, 2, 0f, 0f, 0f, 0f);
+    }
+
+    private List<Score> randomScores(Random random, int size) {
+        RatingType[] ratingTypes = RatingType.values();
+        List<Score> scores = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            scores.add(Score.builder()
+                    .score(random.nextInt(4) == 0 ? -1 : random.nextInt(101)) // 약 25%는 미평가
+                    .ratingType(ratingTypes[random.nextInt(ratingTypes.length)])
+                    .build());
+        }
+        return scores;
+    }
+
+    /* 이하 단일 패스 집계 도입 이전의 ScoreMapper 계산식 */
+    private float streamTotalAvg(List<Score> scores) {
+        return (float) scores.stream()
+                .filter(score -> score.getScore() >= 0)
+                .mapToInt(Score::getScore).average().orElse(0);
+    }
+
+    private float streamEvaluationProgress(List<Score> scores) {
+        float completed = scores.stream().filter(score -> score.getScore() >= 0).count();
+        return completed > 0 ? completed / scores.size() * 100 : 0;
+    }
+
+    private float streamScoreTypeAvg(List<Score> scores, RatingType ratingType) {
+        return (float) scores.stream()
+                .filter(score -> score.getRatingType() == ratingType)
+                .mapToInt(Score::getScore)
+                .average()
+                .orElse(0);
+    }
+
+}
@@ -3,6 +3,7 @@ package com.core.back9.repository;
 import com.core.back9.common.config.AuditingConfig;
 import com.core.back9.dto.BuildingDTO;
 import com.core.back9.entity.Building;
+import com.core.back9.entity.BuildingDashboardVersion;
 import com.core.back9.entity.constant.Status;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,7 +16,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -29,6 +31,9 @@ class BuildingRepositoryTest {
 	@Autowired
 	private BuildingRepository buildingRepository;
 
+	@Autowired
+	private BuildingDashboardVersionRepository buildingDashboardVersionRepository;
+
 	private Building building;
 
 	@BeforeEach
@@ -120,4 +125,30 @@ class BuildingRepositoryTest {
 		assertThat(validBuilding.getStatus()).isEqualTo(Status.UNREGISTER);
 	}
 
+	@DisplayName("빌딩 대시보드 버전 증가")
+	@Test
+	public void givenBuildingIdWhenIncreaseDashboardVersion() {
+		Building savedBuilding = buildingRepository.saveAndFlush(building);
+		Building otherBuilding = buildingRepository.saveAndFlush(
+		  Building.builder()
+			.name("other building")
+			.address("other address")
+			.zipCode("other zipCode")
+			.build()
+		);
+		buildingDashboardVersionRepository.saveAndFlush(BuildingDashboardVersion.of(savedBuilding.getId()));
+		buildingDashboardVersionRepository.saveAndFlush(BuildingDashboardVersion.of(otherBuilding.getId()));
+
+		LocalDateTime changedAt = LocalDateTime.of(2024, 5, 1, 9, 0);
+
+		int updated = buildingDashboardVersionRepository.increase(List.of(savedBuilding.getId()), changedAt);
+
+		BuildingDashboardVersion increased = buildingDashboardVersionRepository.findById(savedBuilding.getId()).orElseThrow();
+		BuildingDashboardVersion other = buildingDashboardVersionRepository.findById(otherBuilding.getId()).orElseThrow();
+		assertThat(updated).isEqualTo(1);
+		assertThat(increased.getVersion()).isEqualTo(1L);
+		assertThat(increased.getChangedAt()).isEqualTo(changedAt);
+		assertThat(other.getVersion()).isEqualTo(0L);
+	}
+
 }
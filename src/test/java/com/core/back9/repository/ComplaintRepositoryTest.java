@@ -0,0 +1,147 @@
+package com.core.back9.repository;
+
+import com.core.back9.common.config.AuditingConfig;
+import com.core.back9.entity.Building;
+import com.core.back9.entity.Complaint;
+import com.core.back9.entity.Member;
+import com.core.back9.entity.Room;
+import com.core.back9.entity.Setting;
+import com.core.back9.entity.constant.ComplaintStatus;
+import com.core.back9.entity.constant.Role;
+import com.core.back9.entity.constant.Status;
+import com.core.back9.entity.constant.Usage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@DataJpaTest
+@Import(value = AuditingConfig.class)
+class ComplaintRepositoryTest {
+
+	@Autowired
+	private ComplaintRepository complaintRepository;
+
+	@Autowired
+	private TestEntityManager testEntityManager;
+
+	private Member owner;
+	private Room firstRoom;
+	private Long buildingId;
+	private Long pending;
+	private Long completed;
+	private Long otherRoom;
+	private Long deleted;
+	private Long otherOwner;
+
+	@BeforeEach
+	void setUp() {
+		owner = testEntityManager.persist(member("owner@test.com", Role.OWNER));
+		Member anotherOwner = testEntityManager.persist(member("another@test.com", Role.OWNER));
+		Member user = testEntityManager.persist(member("user@test.com", Role.USER));
+		Building building = testEntityManager.persist(Building.builder()
+		  .name("building name")
+		  .address("building address")
+		  .zipCode("12345")
+		  .build());
+		firstRoom = testEntityManager.persist(room(building, owner, "101호"));
+		Room secondRoom = testEntityManager.persist(room(building, owner, "102호"));
+		Room anotherRoom = testEntityManager.persist(room(building, anotherOwner, "103호"));
+		buildingId = building.getId();
+
+		pending = complaint(firstRoom, user, ComplaintStatus.PENDING).getId();
+		completed = complaint(firstRoom, user, ComplaintStatus.COMPLETED).getId();
+		otherRoom = complaint(secondRoom, user, ComplaintStatus.PENDING).getId();
+		Complaint deletedComplaint = complaint(firstRoom, user, ComplaintStatus.PENDING);
+		deletedComplaint.delete();
+		deleted = deletedComplaint.getId();
+		otherOwner = complaint(anotherRoom, user, ComplaintStatus.PENDING).getId();
+		testEntityManager.flush();
+		testEntityManager.clear();
+	}
+
+	@DisplayName("필터가 없으면 소유자 본인 호실의 삭제되지 않은 민원 id를 최신순으로 조회한다.")
+	@Test
+	void findIdPageWithoutFilter() {
+		// when
+		Page<Long> page = complaintRepository.findIdPageByOwnerId(
+		  owner.getId(), null, null, null, null, null, PageRequest.of(0, 2));
+
+		// then
+		assertThat(page.getContent()).containsExactly(otherRoom, completed);
+		assertThat(page.getTotalElements()).isEqualTo(3);
+		assertThat(List.of(deleted, otherOwner)).doesNotContainAnyElementsOf(page.getContent());
+	}
+
+	@DisplayName("값이 있는 필터만 조건으로 적용한다.")
+	@Test
+	void findIdPageWithFilters() {
+		// when
+		Page<Long> byRoomAndStatus = complaintRepository.findIdPageByOwnerId(
+		  owner.getId(), buildingId, firstRoom.getId(), ComplaintStatus.PENDING, null, null, PageRequest.of(0, 10));
+		Page<Long> byCreatedAt = complaintRepository.findIdPageByOwnerId(
+		  owner.getId(), null, null, null, LocalDateTime.now().plusDays(1), null, PageRequest.of(0, 10));
+
+		// then
+		assertThat(byRoomAndStatus.getContent()).containsExactly(pending);
+		assertThat(byCreatedAt.getContent()).isEmpty();
+	}
+
+	@DisplayName("커서 조회는 커서보다 작은 id만 최신순으로 조회한다.")
+	@Test
+	void findIdsAfterCursor() {
+		// when
+		List<Long> ids = complaintRepository.findIdsByOwnerIdAfterCursor(
+		  owner.getId(), buildingId, null, null, null, null, otherRoom, PageRequest.of(0, 10));
+
+		// then
+		assertThat(ids).containsExactly(completed, pending);
+	}
+
+	private Complaint complaint(Room room, Member member, ComplaintStatus complaintStatus) {
+		return testEntityManager.persist(Complaint.builder()
+		  .room(room)
+		  .member(member)
+		  .complaintMessage("민원 내용")
+		  .status(Status.REGISTER)
+		  .complaintStatus(complaintStatus)
+		  .build());
+	}
+
+	private Room room(Building building, Member member, String name) {
+		return Room.builder()
+		  .building(building)
+		  .member(member)
+		  .name(name)
+		  .floor("1")
+		  .area(84F)
+		  .usage(Usage.OFFICES)
+		  .setting(Setting.builder().build())
+		  .build();
+	}
+
+	private Member member(String email, Role role) {
+		return Member.builder()
+		  .email(email)
+		  .password("password")
+		  .role(role)
+		  .phoneNumber("010-0000-0000")
+		  .status(Status.REGISTER)
+		  .build();
+	}
+
+}
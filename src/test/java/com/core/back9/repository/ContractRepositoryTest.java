@@ -840,6 +840,101 @@ class ContractRepositoryTest extends ContractRepositoryFixture {
 
     }
 
+    @Test
+    @DisplayName("시작일이 도래한 완료 상태의 계약은 시작일이 오래 지났더라도 모두 조회한다.")
+    void findAllToStart() {
+        // given
+        Contract startedLongAgo = assumeContract(
+                LocalDate.now().minusYears(2),
+                LocalDate.now().plusDays(20),
+                100000000L,
+                200000L,
+                ContractType.INITIAL,
+                room1,
+                tenant1
+        );
+
+        Contract startedToday = assumeContract(
+                LocalDate.now(),
+                LocalDate.now().plusDays(20),
+                100000000L,
+                200000L,
+                ContractType.INITIAL,
+                room2,
+                tenant2
+        );
+
+        Contract notStartedYet = assumeContract(
+                LocalDate.now().plusDays(1),
+                LocalDate.now().plusDays(20),
+                100000000L,
+                200000L,
+                ContractType.INITIAL,
+                room3,
+                tenant3
+        );
+
+        List<Contract> contracts = contractRepository.saveAll(List.of(startedLongAgo, startedToday, notStartedYet));
+        contracts.forEach(Contract::contractComplete);
+
+        // when
+        List<Contract> targets = contractRepository.findAllToStart(LocalDate.now());
+
+        // then
+        assertThat(targets).hasSize(2)
+                .extracting("room.id", "contractStatus")
+                .containsExactlyInAnyOrder(tuple(1L, ContractStatus.COMPLETED), tuple(2L, ContractStatus.COMPLETED));
+
+    }
+
+    @Test
+    @DisplayName("종료일이 도래한 이행 상태의 계약만 조회하며, 이미 만료된 계약은 제외한다.")
+    void findAllToExpire() {
+        // given
+        Contract endedLongAgo = assumeContract(
+                LocalDate.now().minusYears(3),
+                LocalDate.now().minusYears(1),
+                100000000L,
+                200000L,
+                ContractType.INITIAL,
+                room1,
+                tenant1
+        );
+
+        Contract alreadyExpired = assumeContract(
+                LocalDate.now().minusYears(2),
+                LocalDate.now().minusDays(1),
+                100000000L,
+                200000L,
+                ContractType.INITIAL,
+                room2,
+                tenant2
+        );
+
+        Contract notEndedYet = assumeContract(
+                LocalDate.now().minusDays(10),
+                LocalDate.now().plusDays(1),
+                100000000L,
+                200000L,
+                ContractType.INITIAL,
+                room3,
+                tenant3
+        );
+
+        List<Contract> contracts = contractRepository.saveAll(List.of(endedLongAgo, alreadyExpired, notEndedYet));
+        contracts.forEach(contract -> contract.contractComplete().contractInProgress());
+        alreadyExpired.contractExpire();
+
+        // when
+        List<Contract> targets = contractRepository.findAllToExpire(LocalDate.now());
+
+        // then
+        assertThat(targets).hasSize(1)
+                .extracting("room.id", "contractStatus")
+                .containsExactly(tuple(1L, ContractStatus.IN_PROGRESS));
+
+    }
+
     private Contract assumeContract(
             LocalDate startDate,
             LocalDate endDate,
@@ -0,0 +1,180 @@
+package com.core.back9.repository;
+
+import com.core.back9.entity.constant.ComplaintStatus;
+import com.core.back9.entity.constant.ContractStatus;
+import com.core.back9.entity.constant.Status;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.DatabaseMetaData;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 주요 repository 쿼리가 인덱스를 타는지 실행 계획으로 검증
+ * repository 메서드를 실제로 호출해 Hibernate가 생성한 SQL과 바인딩 값을 기록한 뒤, 같은 SQL을 EXPLAIN 한다
+ * - 모든 DB : full scan 여부 확인 (H2: tableScan, MySQL: type=ALL)
+ * - H2 : 기대한 인덱스를 사용하는지 인덱스 이름까지 확인 (MySQL은 데이터 분포에 따라 선택이 달라지므로 full scan 여부만 확인)
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS) // 주입된 repository를 쿼리 목록에서 사용
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(QueryPlanTest.StatementRecorderConfig.class)
+@DataJpaTest
+class QueryPlanTest {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private StatementRecorder statementRecorder;
+
+	@Autowired
+	private ContractRepository contractRepository;
+
+	@Autowired
+	private ScoreRepository scoreRepository;
+
+	@Autowired
+	private AlarmRepository alarmRepository;
+
+	@Autowired
+	private ComplaintRepository complaintRepository;
+
+	@Autowired
+	private RoomRepository roomRepository;
+
+	Stream<Arguments> repositoryQueries() {
+		List<ContractStatus> excludedStatus = List.of(ContractStatus.PENDING, ContractStatus.CANCELED);
+		LocalDate today = LocalDate.of(2024, 1, 8);
+		LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+		return Stream.of(
+		  Arguments.of("ContractRepository.selectAllRegisteredContract",
+			(Runnable) () -> contractRepository.selectAllRegisteredContract(1L, Status.REGISTER, PageRequest.of(0, 10)),
+			List.of("idx_contracts_room_status")),
+		  Arguments.of("ContractRepository.findByLatestContract",
+			(Runnable) () -> contractRepository.findByLatestContract(1L),
+			List.of("idx_contracts_room_status")),
+		  Arguments.of("ContractRepository.findByAllContractPerRoom",
+			(Runnable) () -> contractRepository.findByAllContractPerRoom(1L, excludedStatus),
+			List.of("idx_contracts_room_status")),
+		  Arguments.of("ContractRepository.findByAllContractAllRoomsPerBuilding",
+			(Runnable) () -> contractRepository.findByAllContractAllRoomsPerBuilding(1L, 2L, excludedStatus),
+			List.of("idx_rooms_building_member_status", "idx_contracts_room_status")),
+		  Arguments.of("ContractRepository.findAllToStart",
+			(Runnable) () -> contractRepository.findAllToStart(today),
+			List.of("idx_contracts_status_start_date")),
+		  Arguments.of("ContractRepository.findAllToExpire",
+			(Runnable) () -> contractRepository.findAllToExpire(today),
+			List.of("idx_contracts_status_end_date")),
+		  Arguments.of("ContractRepository.findAllInfoWithRoomByTenantIdAndStatus",
+			(Runnable) () -> contractRepository.findAllInfoWithRoomByTenantIdAndStatus(1L, Status.REGISTER),
+			List.of("idx_contracts_tenant_status")),
+		  Arguments.of("ScoreRepository.findByRoomIdAndStatus",
+			(Runnable) () -> scoreRepository.findByRoomIdAndStatus(1L, Status.REGISTER, from.minusYears(2)),
+			List.of("idx_scores_room_status_updated_at")),
+		  Arguments.of("ScoreRepository.findAllInfoByMemberIdAndStatus",
+			(Runnable) () -> scoreRepository.findAllInfoByMemberIdAndStatus(1L, Status.REGISTER),
+			List.of("idx_scores_member_status")),
+		  // received_id로 시작하는 두 인덱스의 비용이 같아 어느 쪽을 사용해도 통과
+		  Arguments.of("AlarmRepository.findInfoPageByReceivedId",
+			(Runnable) () -> alarmRepository.findInfoPageByReceivedId(1L, 100L, PageRequest.of(0, 21)),
+			List.of("idx_alarms_received_(status_id|read_status)")),
+		  Arguments.of("ComplaintRepository.findAllInfoByMemberId",
+			(Runnable) () -> complaintRepository.findAllInfoByMemberId(1L),
+			List.of("idx_complaints_member_status")),
+		  Arguments.of("ComplaintRepository.findAllByRoomIdAndStatus",
+			(Runnable) () -> complaintRepository.findAllByRoomIdAndStatus(1L, Status.REGISTER),
+			List.of("idx_complaints_room_status_created")),
+		  Arguments.of("ComplaintRepository.findAllInfoByOwnerId",
+			(Runnable) () -> complaintRepository.findAllInfoByOwnerId(1L),
+			List.of("idx_rooms_member_building", "idx_complaints_room_status_created")),
+		  Arguments.of("ComplaintRepository.findIdPageByOwnerId",
+			(Runnable) () -> complaintRepository.findIdPageByOwnerId(1L, null, null, null, null, null, PageRequest.of(0, 20)),
+			List.of("idx_rooms_member_building", "idx_complaints_room_status_created")),
+		  Arguments.of("ComplaintRepository.findIdsByOwnerIdAfterCursor",
+			(Runnable) () -> complaintRepository.findIdsByOwnerIdAfterCursor(1L, 1L, null, null, from, null, 100L, PageRequest.of(0, 21)),
+			List.of("idx_rooms_member_building", "idx_complaints_room_status_created")),
+		  Arguments.of("ComplaintRepository.findIdsByOwnerIdAfterCursor (호실 / 처리 상태)",
+			(Runnable) () -> complaintRepository.findIdsByOwnerIdAfterCursor(1L, 1L, 1L, ComplaintStatus.PENDING, null, null, 100L, PageRequest.of(0, 21)),
+			List.of("idx_complaints_room_status_created")),
+		  Arguments.of("RoomRepository.findAllByBuildingIdAndMemberIdAndStatus",
+			(Runnable) () -> roomRepository.findAllByBuildingIdAndMemberIdAndStatus(1L, 1L, Status.REGISTER),
+			List.of("idx_rooms_building_member_status"))
+		);
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("repositoryQueries")
+	@DisplayName("주요 repository 쿼리는 full scan 없이 인덱스로 조회된다.")
+	void explainWithoutFullScan(String queryName, Runnable repositoryCall, List<String> expectedIndexes) throws Exception {
+		// given
+		boolean isMySql = isMySql();
+		statementRecorder.start();
+		repositoryCall.run();
+		List<StatementRecorder.RecordedStatement> statements = statementRecorder.stop();
+
+		// when
+		List<List<Map<String, Object>>> plans = statements.stream()
+		  .map(statement -> jdbcTemplate.queryForList("EXPLAIN " + statement.sql(), statement.parameters().toArray()))
+		  .toList();
+
+		// then
+		assertThat(statements).as(queryName + " 실행 SQL").isNotEmpty();
+		for (int i = 0; i < plans.size(); i++) {
+			List<Map<String, Object>> plan = plans.get(i);
+			String description = queryName + " 실행 계획: " + statements.get(i).sql() + " -> " + plan;
+			if (isMySql) {
+				assertThat(plan)
+				  .as(description)
+				  .noneMatch(row -> "ALL".equals(row.get("type")));
+			} else {
+				assertThat(plan.toString())
+				  .as(description)
+				  .doesNotContainIgnoringCase("tableScan");
+			}
+		}
+		if (!isMySql) {
+			String mainPlan = plans.get(0).toString();
+			assertThat(expectedIndexes)
+			  .as(queryName + " 사용 인덱스: " + mainPlan)
+			  .allMatch(index -> Pattern.compile(index, Pattern.CASE_INSENSITIVE).matcher(mainPlan).find());
+		}
+	}
+
+	private boolean isMySql() throws Exception {
+		String productName = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName);
+		return productName.toLowerCase().contains("mysql");
+	}
+
+	@TestConfiguration
+	static class StatementRecorderConfig {
+
+		@Bean
+		static StatementRecorder statementRecorder() {
+			return new StatementRecorder();
+		}
+
+	}
+
+}
@@ -6,6 +6,8 @@ import com.core.back9.entity.Building;
 import com.core.back9.entity.Room;
 import com.core.back9.entity.constant.Status;
 import com.core.back9.entity.constant.Usage;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -33,6 +36,9 @@ class RoomRepositoryTest {
 	@Autowired
 	private BuildingRepository buildingRepository;
 
+	@Autowired
+	private TestEntityManager testEntityManager;
+
 	private Building building;
 	private Room room;
 
@@ -150,4 +156,31 @@ class RoomRepositoryTest {
 		assertThat(validRoom.getStatus()).isEqualTo(Status.UNREGISTER);
 	}
 
+	@DisplayName("호실 수정 시 2차 캐시에 남은 이전 값이 조회되지 않음")
+	@Test
+	public void givenCachedRoomWhenUpdateRoomThenReadUpdatedRoom() {
+		Room savedRoom = roomRepository.save(room);
+		long savedRoomId = savedRoom.getId();
+		testEntityManager.flush();
+		testEntityManager.clear();
+
+		roomRepository.findById(savedRoomId); // 2차 캐시 적재
+		testEntityManager.clear();
+
+		Statistics statistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+		  .unwrap(SessionFactory.class).getStatistics();
+		long hitCountBefore = statistics.getDomainDataRegionStatistics("room").getHitCount();
+
+		Room cachedRoom = roomRepository.findById(savedRoomId).orElseThrow();
+		assertThat(statistics.getDomainDataRegionStatistics("room").getHitCount()).isEqualTo(hitCountBefore + 1);
+
+		cachedRoom.update(RoomDTO.Request.builder().name("updated room name").floor("updated room floor").build());
+		testEntityManager.flush();
+		testEntityManager.clear();
+
+		Room validRoom = roomRepository.getValidRoomWithIdOrThrow(building.getId(), savedRoomId, Status.REGISTER);
+		assertThat(validRoom.getName()).isEqualTo("updated room name");
+	}
+
 }
+
@@ -10,14 +10,21 @@ import com.core.back9.entity.constant.RatingType;
 import com.core.back9.entity.constant.Role;
 import com.core.back9.entity.constant.Status;
 import com.core.back9.entity.constant.Usage;
+import com.core.back9.util.EvaluationSpecifications;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
+
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -35,6 +42,9 @@ class ScoreRepositoryTest {
 	@Autowired
 	private MemberRepository memberRepository;
 
+	@Autowired
+	private TestEntityManager testEntityManager;
+
 	private Score score;
 	private Building building;
 	private Room room;
@@ -122,4 +132,72 @@ class ScoreRepositoryTest {
 		assertThat(validScore.getComment()).isEqualTo(request.getComment());
 	}
 
+	@Test
+	public void givenMemberIdWhenSelectInfoThenReturnProjectionWithoutManagedEntity() {
+		Score newScore = Score.builder()
+		  .score(80)
+		  .comment("good")
+		  .bookmark(false)
+		  .ratingType(RatingType.MANAGEMENT)
+		  .room(room)
+		  .member(user)
+		  .status(Status.REGISTER)
+		  .build();
+		scoreRepository.save(newScore);
+		testEntityManager.flush();
+		testEntityManager.clear();
+
+		List<ScoreDTO.Info> infos = scoreRepository.findAllInfoByMemberIdAndStatus(user.getId(), Status.REGISTER);
+
+		assertThat(infos.size()).isEqualTo(1);
+		assertThat(infos.get(0).getScore()).isEqualTo(80);
+		assertThat(infos.get(0).getRatingType()).isEqualTo(RatingType.MANAGEMENT);
+		assertThat(testEntityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+	}
+
+	@DisplayName("같은 빌딩의 타호실 조건은 내 호실과 다른 빌딩 호실의 평가를 제외한다.")
+	@Test
+	public void givenBuildingAndMyRoomsWhenFindOthersThenOnlyOtherRoomsInSameBuilding() {
+		Building myBuilding = testEntityManager.persist(Building.builder().name("my building").address("address").zipCode("12345").build());
+		Building otherBuilding = testEntityManager.persist(Building.builder().name("other building").address("address").zipCode("12345").build());
+		Room myRoom = testEntityManager.persist(room(myBuilding, owner, "101호"));
+		Room neighborRoom = testEntityManager.persist(room(myBuilding, admin, "102호"));
+		Room otherBuildingRoom = testEntityManager.persist(room(otherBuilding, admin, "101호"));
+		testEntityManager.persist(score(myRoom));
+		Score neighborScore = testEntityManager.persist(score(neighborRoom));
+		testEntityManager.persist(score(otherBuildingRoom));
+		testEntityManager.flush();
+		testEntityManager.clear();
+
+		List<Score> others = scoreRepository.findAll(Specification.<Score>where(null)
+		  .and(EvaluationSpecifications.hasBuilding(myBuilding, true))
+		  .and(EvaluationSpecifications.hasRoomList(List.of(myRoom), false)));
+
+		assertThat(others.size()).isEqualTo(1);
+		assertThat(others.get(0).getId()).isEqualTo(neighborScore.getId());
+	}
+
+	private Room room(Building building, Member member, String name) {
+		return Room.builder()
+		  .building(building)
+		  .name(name)
+		  .floor("1")
+		  .area(84F)
+		  .usage(Usage.OFFICES)
+		  .member(member)
+		  .build();
+	}
+
+	private Score score(Room room) {
+		return Score.builder()
+		  .score(80)
+		  .comment("good")
+		  .bookmark(false)
+		  .ratingType(RatingType.MANAGEMENT)
+		  .room(room)
+		  .member(user)
+		  .status(Status.REGISTER)
+		  .build();
+	}
+
 }
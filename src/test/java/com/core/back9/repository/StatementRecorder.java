@@ -0,0 +1,91 @@
+package com.core.back9.repository;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/*
+ * Hibernate가 실제로 실행한 조회 SQL과 바인딩 값을 기록하는 DataSource 래퍼
+ * - StatementInspector는 SQL만 전달받으므로 바인딩 값까지 얻기 위해 JDBC 단계(prepareStatement, setXxx, executeQuery)에서 기록
+ * - start ~ stop 구간 밖에서는 기록하지 않음
+ */
+class StatementRecorder implements BeanPostProcessor {
+
+	private final List<RecordedStatement> statements = new CopyOnWriteArrayList<>();
+	private volatile boolean recording;
+
+	void start() {
+		statements.clear();
+		recording = true;
+	}
+
+	List<RecordedStatement> stop() {
+		recording = false;
+		return List.copyOf(statements);
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (bean instanceof DataSource dataSource) {
+			return proxy(DataSource.class, dataSource, (method, args, result) ->
+			  result instanceof Connection connection ? proxyConnection(connection) : result);
+		}
+		return bean;
+	}
+
+	private Connection proxyConnection(Connection connection) {
+		return proxy(Connection.class, connection, (method, args, result) -> {
+			if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+				return proxyStatement(statement, (String) args[0]);
+			}
+			return result;
+		});
+	}
+
+	private PreparedStatement proxyStatement(PreparedStatement statement, String sql) {
+		Map<Integer, Object> parameters = new TreeMap<>();
+		return proxy(PreparedStatement.class, statement, (method, args, result) -> {
+			String name = method.getName();
+			if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+				parameters.put(index, name.equals("setNull") ? null : args[1]);
+			} else if (name.equals("clearParameters")) {
+				parameters.clear();
+			} else if (name.equals("executeQuery") && recording) {
+				statements.add(new RecordedStatement(sql, new ArrayList<>(parameters.values())));
+			}
+			return result;
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, T target, ResultHandler resultHandler) {
+		InvocationHandler handler = (proxy, method, args) -> {
+			try {
+				return resultHandler.handle(method, args, method.invoke(target, args));
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+		};
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+	}
+
+	@FunctionalInterface
+	private interface ResultHandler {
+		Object handle(Method method, Object[] args, Object result) throws Throwable;
+	}
+
+	record RecordedStatement(String sql, List<Object> parameters) {
+	}
+
+}
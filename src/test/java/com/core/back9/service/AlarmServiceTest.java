@@ -0,0 +1,248 @@
+package com.core.back9.service;
+
+import com.core.back9.common.cache.UnreadAlarmCounter;
+import com.core.back9.dto.AlarmDTO;
+import com.core.back9.dto.MemberDTO;
+import com.core.back9.entity.Alarm;
+import com.core.back9.entity.constant.AlarmType;
+import com.core.back9.entity.constant.Status;
+import com.core.back9.exception.ApiErrorCode;
+import com.core.back9.exception.ApiException;
+import com.core.back9.mapper.AlarmMapper;
+import com.core.back9.repository.AlarmRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class AlarmServiceTest {
+
+	@Mock
+	private AlarmRepository alarmRepository;
+
+	@Mock
+	private AlarmMapper alarmMapper;
+
+	@Mock
+	private UnreadAlarmCounter unreadAlarmCounter;
+
+	@InjectMocks
+	private AlarmService alarmService;
+
+	private final MemberDTO.Info member = MemberDTO.Info.builder().id(1L).build();
+
+	@Test
+	@DisplayName("미확인 알림을 생성하면 수신자의 미확인 알림 수가 증가한다.")
+	void createIncreasesUnreadCount() {
+		// given
+		AlarmDTO.Request request = AlarmDTO.Request.createComplaint(1L, "민원이 접수되었습니다.");
+		given(alarmMapper.toEntity(request)).willReturn(Alarm.builder()
+		  .receivedId(1L)
+		  .alarmType(AlarmType.COMPLAINT_PENDING)
+		  .readStatus(false)
+		  .status(Status.REGISTER)
+		  .build());
+
+		// when
+		alarmService.create(request);
+
+		// then
+		then(unreadAlarmCounter).should().add(1L, 1);
+	}
+
+	@Test
+	@DisplayName("알림을 일괄 생성하면 한 번에 저장하고, 수신자별 미확인 알림 수를 한 번씩 증가시킨다.")
+	void createAllIncreasesUnreadCountPerReceiver() {
+		// given
+		AlarmDTO.Request first = AlarmDTO.Request.createContract(1L, AlarmType.CONTRACT_EXPIRED, "101호 계약이 만료되었습니다.");
+		AlarmDTO.Request second = AlarmDTO.Request.createContract(1L, AlarmType.CONTRACT_EXPIRED, "102호 계약이 만료되었습니다.");
+		AlarmDTO.Request other = AlarmDTO.Request.createContract(2L, AlarmType.CONTRACT_EXPIRED, "201호 계약이 만료되었습니다.");
+		given(alarmMapper.toEntity(first)).willReturn(unreadAlarm(1L));
+		given(alarmMapper.toEntity(second)).willReturn(unreadAlarm(1L));
+		given(alarmMapper.toEntity(other)).willReturn(unreadAlarm(2L));
+
+		// when
+		alarmService.createAll(List.of(first, second, other));
+
+		// then
+		then(alarmRepository).should().saveAll(anyList());
+		then(unreadAlarmCounter).should().add(1L, 2);
+		then(unreadAlarmCounter).should().add(2L, 1);
+	}
+
+	@Test
+	@DisplayName("미확인 알림을 확인하면 미확인 알림 수가 감소하고, 이미 확인한 알림은 변경하지 않는다.")
+	void updateReadDecreasesOnlyOnce() {
+		// given
+		given(alarmRepository.updateReadIfUnread(10L, 1L)).willReturn(1, 0);
+		given(alarmRepository.findFirstByIdAndReceivedId(10L, 1L)).willReturn(Optional.of(readAlarm()));
+		given(alarmRepository.getValidAlarmByIdAndMemberId(10L, 1L)).willCallRealMethod();
+
+		// when
+		alarmService.updateRead(member, 10L);
+		alarmService.updateRead(member, 10L);
+
+		// then
+		then(unreadAlarmCounter).should().add(1L, -1);
+	}
+
+	@Test
+	@DisplayName("없는 알림을 확인하면 예외가 발생하고 미확인 알림 수는 변경되지 않는다.")
+	void updateReadNotFound() {
+		// given
+		given(alarmRepository.updateReadIfUnread(10L, 1L)).willReturn(0);
+		given(alarmRepository.findFirstByIdAndReceivedId(10L, 1L)).willReturn(Optional.empty());
+		given(alarmRepository.getValidAlarmByIdAndMemberId(10L, 1L)).willCallRealMethod();
+
+		// when & then
+		assertThatThrownBy(() -> alarmService.updateRead(member, 10L))
+		  .isInstanceOf(ApiException.class)
+		  .extracting("apiErrorCode")
+		  .isEqualTo(ApiErrorCode.NOT_FOUND_VALID_ALARM);
+		then(unreadAlarmCounter).should(never()).add(1L, -1);
+	}
+
+	@Test
+	@DisplayName("이미 확인한 알림을 삭제하면 미확인 알림 수는 변경되지 않는다.")
+	void deleteReadAlarm() {
+		// given
+		Alarm alarm = readAlarm();
+		given(alarmRepository.deleteIfUnread(10L, 1L)).willReturn(0);
+		given(alarmRepository.findFirstByIdAndReceivedId(10L, 1L)).willReturn(Optional.of(alarm));
+		given(alarmRepository.getValidAlarmByIdAndMemberId(10L, 1L)).willCallRealMethod();
+
+		// when
+		alarmService.delete(member, 10L);
+
+		// then
+		assertThat(alarm.getStatus()).isEqualTo(Status.UNREGISTER);
+		then(unreadAlarmCounter).should(never()).add(1L, -1);
+	}
+
+	@Test
+	@DisplayName("새 알림 여부는 알림 테이블을 조회하지 않고 미확인 알림 수로 판단한다.")
+	void hasUnreadAlarmsUsesCounter() {
+		// given
+		given(unreadAlarmCounter.get(1L)).willReturn(2);
+
+		// when
+		boolean result = alarmService.hasUnreadAlarms(member);
+
+		// then
+		assertThat(result).isTrue();
+		then(alarmRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("알림 전체 목록은 수신자의 알림을 그대로 반환한다.")
+	void selectAll() {
+		// given
+		given(alarmRepository.findAllInfoByReceivedId(1L)).willReturn(infos(2, 1));
+
+		// when
+		List<AlarmDTO.Info> alarms = alarmService.selectAllById(member);
+
+		// then
+		assertThat(alarms).extracting(AlarmDTO.Info::getId).containsExactly(2L, 1L);
+	}
+
+	@Test
+	@DisplayName("알림 목록은 요청 크기만큼 최신순으로 조회하고 마지막 알림 id를 다음 커서로 반환한다.")
+	void selectPageWithNextCursor() {
+		// given
+		given(alarmRepository.findInfoPageByReceivedId(1L, 100L, PageRequest.of(0, 3))).willReturn(infos(99, 98, 97));
+
+		// when
+		AlarmDTO.CursorPage page = alarmService.selectPageById(member, 100L, 2);
+
+		// then
+		assertThat(page.getAlarms()).extracting(AlarmDTO.Info::getId).containsExactly(99L, 98L);
+		assertThat(page.isHasNext()).isTrue();
+		assertThat(page.getNextCursor()).isEqualTo(98L);
+	}
+
+	@Test
+	@DisplayName("커서가 없으면 가장 최신 알림부터 조회하고, 남은 알림이 없으면 다음 커서는 null이다.")
+	void selectFirstAndLastPage() {
+		// given
+		given(alarmRepository.findInfoPageByReceivedId(1L, Long.MAX_VALUE, PageRequest.of(0, 21))).willReturn(infos(2, 1));
+
+		// when
+		AlarmDTO.CursorPage page = alarmService.selectPageById(member, null, null);
+
+		// then
+		assertThat(page.getAlarms()).hasSize(2);
+		assertThat(page.isHasNext()).isFalse();
+		assertThat(page.getNextCursor()).isNull();
+	}
+
+	@Test
+	@DisplayName("전체 읽음 처리 시 변경된 알림 수만큼 미확인 알림 수가 감소한다.")
+	void updateAllRead() {
+		// given
+		given(alarmRepository.updateAllRead(1L)).willReturn(5);
+
+		// when
+		alarmService.updateAllRead(member);
+
+		// then
+		then(unreadAlarmCounter).should().add(1L, -5);
+	}
+
+	@Test
+	@DisplayName("기준 시각 이전 알림을 삭제하면 미확인 알림 수를 다시 계산하고, 삭제된 알림이 없으면 계산하지 않는다.")
+	void deleteAllBefore() {
+		// given
+		LocalDateTime before = LocalDateTime.of(2024, 1, 1, 0, 0);
+		given(alarmRepository.deleteAllCreatedBefore(1L, before)).willReturn(3, 0);
+
+		// when
+		alarmService.deleteAllBefore(member, before);
+		alarmService.deleteAllBefore(member, before);
+
+		// then
+		then(unreadAlarmCounter).should().refresh(anyLong());
+	}
+
+	private List<AlarmDTO.Info> infos(long... ids) {
+		return LongStream.of(ids)
+		  .mapToObj(id -> AlarmDTO.Info.builder().id(id).alarmType(AlarmType.COMPLAINT_PENDING).build())
+		  .toList();
+	}
+
+	private Alarm unreadAlarm(Long receivedId) {
+		return Alarm.builder()
+		  .receivedId(receivedId)
+		  .alarmType(AlarmType.CONTRACT_EXPIRED)
+		  .readStatus(false)
+		  .status(Status.REGISTER)
+		  .build();
+	}
+
+	private Alarm readAlarm() {
+		return Alarm.builder()
+		  .receivedId(1L)
+		  .alarmType(AlarmType.COMPLAINT_PENDING)
+		  .readStatus(true)
+		  .status(Status.REGISTER)
+		  .build();
+	}
+
+}
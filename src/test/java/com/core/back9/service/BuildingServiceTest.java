@@ -1,11 +1,14 @@
 package com.core.back9.service;
 
+import com.core.back9.common.cache.DashboardChangedEvent;
 import com.core.back9.dto.BuildingDTO;
 import com.core.back9.dto.MemberDTO;
 import com.core.back9.entity.Building;
+import com.core.back9.entity.BuildingDashboardVersion;
 import com.core.back9.entity.constant.Role;
 import com.core.back9.entity.constant.Status;
 import com.core.back9.mapper.BuildingMapper;
+import com.core.back9.repository.BuildingDashboardVersionRepository;
 import com.core.back9.repository.BuildingRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +17,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -22,8 +26,11 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
@@ -36,9 +43,15 @@ class BuildingServiceTest {
 	@Mock
 	private BuildingRepository buildingRepository;
 
+	@Mock
+	private BuildingDashboardVersionRepository buildingDashboardVersionRepository;
+
 	@Mock
 	private BuildingMapper buildingMapper;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private BuildingService buildingService;
 
@@ -56,7 +69,7 @@ class BuildingServiceTest {
 		owner = MemberDTO.Info.builder().role(Role.OWNER).build();
 		user = MemberDTO.Info.builder().role(Role.USER).build();
 		pageable = PageRequest.of(0, 10);
-		buildingService = new BuildingService(buildingRepository, buildingMapper);
+		buildingService = new BuildingService(buildingRepository, buildingDashboardVersionRepository, buildingMapper, eventPublisher);
 		building = Building.builder()
 		  .name("building name")
 		  .address("building address")
@@ -102,6 +115,7 @@ class BuildingServiceTest {
 		assertThat(result).isEqualTo(response);
 		verify(buildingMapper).toEntity(request);
 		verify(buildingRepository).save(building);
+		verify(buildingDashboardVersionRepository).save(any(BuildingDashboardVersion.class));
 		verify(buildingMapper).toResponse(savedBuilding);
 	}
 
@@ -159,6 +173,7 @@ class BuildingServiceTest {
 		assertThat(building.getAddress()).isEqualTo(updateRequest.getAddress());
 		verify(buildingRepository).getValidBuildingWithIdOrThrow(buildingId, Status.REGISTER);
 		verify(buildingMapper).toInfo(building, pageable);
+		verify(eventPublisher).publishEvent(argThat((DashboardChangedEvent event) -> event.getBuildingIds().equals(Set.of(buildingId))));
 	}
 
 	@DisplayName("빌딩 삭제 성공")
@@ -172,6 +187,7 @@ class BuildingServiceTest {
 		assertThat(result).isTrue();
 		assertThat(building.getStatus()).isEqualTo(Status.UNREGISTER);
 		verify(buildingRepository).getValidBuildingWithIdOrThrow(buildingId, Status.REGISTER);
+		verify(eventPublisher).publishEvent(argThat((DashboardChangedEvent event) -> event.getBuildingIds().equals(Set.of(buildingId))));
 	}
 
 }
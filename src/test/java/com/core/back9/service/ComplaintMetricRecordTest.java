@@ -0,0 +1,192 @@
+package com.core.back9.service;
+
+import com.core.back9.dto.ComplaintDTO;
+import com.core.back9.dto.MemberDTO;
+import com.core.back9.entity.Building;
+import com.core.back9.entity.Member;
+import com.core.back9.entity.Room;
+import com.core.back9.entity.Setting;
+import com.core.back9.entity.constant.Role;
+import com.core.back9.entity.constant.Status;
+import com.core.back9.entity.constant.Usage;
+import com.core.back9.repository.BuildingRepository;
+import com.core.back9.repository.MemberRepository;
+import com.core.back9.repository.RoomRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 민원 등록 / 완료 / 삭제 시 complaint_metrics 집계가 실제 DB에서 갱신되는지 확인
+ * 집계 행은 별도 트랜잭션에서 생성되므로 테스트 트랜잭션(롤백) 없이 실행하고 직접 정리
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+class ComplaintMetricRecordTest {
+
+	@Autowired
+	private ComplaintService complaintService;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private BuildingRepository buildingRepository;
+
+	@Autowired
+	private RoomRepository roomRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate transactionTemplate;
+	private MemberDTO.Info user;
+	private MemberDTO.Info owner;
+	private Long buildingId;
+	private Long roomId;
+
+	@BeforeEach
+	void setUp() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.executeWithoutResult(status -> {
+			Member savedOwner = memberRepository.save(member("owner@test.com", Role.OWNER));
+			Member savedUser = memberRepository.save(member("user@test.com", Role.USER));
+			Building building = buildingRepository.save(Building.builder()
+			  .name("building name")
+			  .address("building address")
+			  .zipCode("12345")
+			  .build());
+			Room room = roomRepository.save(Room.builder()
+			  .building(building)
+			  .member(savedOwner)
+			  .name("101호")
+			  .floor("1")
+			  .area(84F)
+			  .usage(Usage.OFFICES)
+			  .setting(Setting.builder().build())
+			  .build());
+			building.addRoom(room);
+			user = MemberDTO.Info.builder().id(savedUser.getId()).role(Role.USER).build();
+			owner = MemberDTO.Info.builder().id(savedOwner.getId()).role(Role.OWNER).build();
+			buildingId = building.getId();
+			roomId = room.getId();
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM scores WHERE room_id = ?", roomId);
+		jdbcTemplate.update("DELETE FROM complaints WHERE room_id = ?", roomId);
+		jdbcTemplate.update("DELETE FROM complaint_metrics WHERE room_id = ?", roomId);
+		jdbcTemplate.update("DELETE FROM alarms WHERE received_id IN (?, ?)", user.getId(), owner.getId());
+		transactionTemplate.executeWithoutResult(status -> buildingRepository.deleteById(buildingId)); // 호실, 설정까지 함께 삭제
+		jdbcTemplate.update("DELETE FROM members WHERE id IN (?, ?)", user.getId(), owner.getId());
+	}
+
+	@Test
+	@DisplayName("민원을 등록하면 집계 행을 생성하고, 같은 월의 다음 민원은 같은 행의 접수 건수를 증가시킨다.")
+	void recordReceivedOnCreate() {
+		// when
+		complaintService.create(user, registerRequest());
+		complaintService.create(user, registerRequest());
+
+		// then
+		assertThat(metricCount()).isEqualTo(1);
+		assertThat(metric()).containsEntry("received", 2L).containsEntry("completed", 0L);
+	}
+
+	@Test
+	@DisplayName("민원 등록이 롤백되면 접수 건수는 증가하지 않는다.")
+	void skipReceivedWhenRolledBack() {
+		// when
+		transactionTemplate.executeWithoutResult(status -> {
+			complaintService.create(user, registerRequest());
+			status.setRollbackOnly();
+		});
+
+		// then
+		assertThat(metric()).containsEntry("received", 0L);
+	}
+
+	@Test
+	@DisplayName("민원을 완료하면 완료 건수와 처리 시간 분포가 집계된다.")
+	void recordResolvedOnComplete() {
+		// given
+		complaintService.create(user, registerRequest());
+
+		// when
+		complaintService.updateCompleted(owner, complaintId(), "처리했습니다.");
+
+		// then
+		assertThat(metric())
+		  .containsEntry("received", 1L)
+		  .containsEntry("completed", 1L)
+		  .containsEntry("rejected", 0L)
+		  .containsEntry("le_1h", 1L);
+	}
+
+	@Test
+	@DisplayName("민원을 삭제하면 접수 건수에서 제외한다.")
+	void excludeDeletedComplaint() {
+		// given
+		complaintService.create(user, registerRequest());
+		jdbcTemplate.update("UPDATE complaints SET complaint_status = 'PENDING' WHERE room_id = ?", roomId);
+
+		// when
+		complaintService.delete(user, complaintId());
+
+		// then
+		assertThat(metric()).containsEntry("received", 0L);
+	}
+
+	private Long complaintId() {
+		return jdbcTemplate.queryForObject("SELECT MAX(id) FROM complaints WHERE room_id = ?", Long.class, roomId);
+	}
+
+	private int metricCount() {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM complaint_metrics WHERE room_id = ?", Integer.class, roomId);
+	}
+
+	/* 월이 바뀌는 시점에 실행되어도 같은 결과가 되도록 호실 전체 합계로 비교 */
+	private Map<String, Object> metric() {
+		return jdbcTemplate.queryForMap("""
+		  SELECT CAST(COALESCE(SUM(received_count), 0) AS BIGINT) AS received,
+		         CAST(COALESCE(SUM(completed_count), 0) AS BIGINT) AS completed,
+		         CAST(COALESCE(SUM(rejected_count), 0) AS BIGINT) AS rejected,
+		         CAST(COALESCE(SUM(le_1h_count), 0) AS BIGINT) AS le_1h
+		  FROM complaint_metrics WHERE room_id = ?
+		  """, roomId);
+	}
+
+	private ComplaintDTO.RegisterRequest registerRequest() {
+		return ComplaintDTO.RegisterRequest.builder()
+		  .roomId(roomId)
+		  .complaintMessage("누수가 있습니다.")
+		  .build();
+	}
+
+	private Member member(String email, Role role) {
+		return Member.builder()
+		  .email(email)
+		  .password("password")
+		  .role(role)
+		  .phoneNumber("010-0000-0000")
+		  .status(Status.REGISTER)
+		  .build();
+	}
+
+}
@@ -0,0 +1,195 @@
+package com.core.back9.service;
+
+import com.core.back9.dto.ComplaintDTO;
+import com.core.back9.dto.MemberDTO;
+import com.core.back9.entity.Building;
+import com.core.back9.entity.Complaint;
+import com.core.back9.entity.ComplaintMetric;
+import com.core.back9.entity.Room;
+import com.core.back9.entity.constant.ComplaintStatus;
+import com.core.back9.entity.constant.Role;
+import com.core.back9.exception.ApiErrorCode;
+import com.core.back9.exception.ApiException;
+import com.core.back9.repository.ComplaintMetricRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class ComplaintMetricServiceTest {
+
+	@Mock
+	private ComplaintMetricRepository complaintMetricRepository;
+
+	@Mock
+	private ComplaintMetricCreator complaintMetricCreator;
+
+	@InjectMocks
+	private ComplaintMetricService complaintMetricService;
+
+	private final MemberDTO.Info owner = MemberDTO.Info.builder().id(1L).role(Role.OWNER).build();
+
+	@Test
+	@DisplayName("해당 월의 집계 행이 없으면 생성한 뒤 접수 건수를 증가시킨다.")
+	void recordReceivedCreatesMetric() {
+		// given
+		Room room = room();
+		given(complaintMetricRepository.existsByRoomIdAndMetricMonth(10L, 202401)).willReturn(false);
+
+		// when
+		complaintMetricService.recordReceived(room, LocalDateTime.of(2024, 1, 31, 10, 0));
+
+		// then
+		InOrder inOrder = inOrder(complaintMetricCreator, complaintMetricRepository);
+		inOrder.verify(complaintMetricCreator).create(10L, 100L, 202401);
+		inOrder.verify(complaintMetricRepository).addReceived(10L, 202401, 1);
+	}
+
+	@Test
+	@DisplayName("다른 트랜잭션이 같은 집계 행을 먼저 생성해도 접수 건수를 증가시킨다.")
+	void recordReceivedWhenCreatedConcurrently() {
+		// given
+		Room room = room();
+		given(complaintMetricRepository.existsByRoomIdAndMetricMonth(10L, 202401)).willReturn(false);
+		willThrow(new DataIntegrityViolationException("uc_complaint_metrics_room_month"))
+		  .given(complaintMetricCreator).create(10L, 100L, 202401);
+
+		// when
+		complaintMetricService.recordReceived(room, LocalDateTime.of(2024, 1, 31, 10, 0));
+
+		// then
+		then(complaintMetricRepository).should().addReceived(10L, 202401, 1);
+	}
+
+	@Test
+	@DisplayName("민원을 삭제하면 등록한 월의 접수 건수를 감소시킨다.")
+	void recordDeleted() {
+		// given
+		Room room = mock(Room.class);
+		given(room.getId()).willReturn(10L);
+		Complaint complaint = mock(Complaint.class);
+		given(complaint.getRoom()).willReturn(room);
+		given(complaint.getCreatedAt()).willReturn(LocalDateTime.of(2024, 1, 31, 10, 0));
+
+		// when
+		complaintMetricService.recordDeleted(complaint);
+
+		// then
+		then(complaintMetricRepository).should().addReceived(10L, 202401, -1);
+		then(complaintMetricCreator).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("민원을 완료하면 처리한 월의 완료 건수와 처리 시간이 집계된다.")
+	void recordResolvedCompleted() {
+		// given
+		Complaint complaint = complaint(ComplaintStatus.COMPLETED, LocalDateTime.of(2024, 1, 31, 10, 0));
+		given(complaintMetricRepository.existsByRoomIdAndMetricMonth(10L, 202401)).willReturn(false);
+
+		// when
+		complaintMetricService.recordResolved(complaint, LocalDateTime.of(2024, 1, 31, 10, 30));
+
+		// then
+		then(complaintMetricCreator).should().create(10L, 100L, 202401);
+		then(complaintMetricRepository).should().addResolved(10L, 202401, 1, 0, 1800L);
+	}
+
+	@Test
+	@DisplayName("민원을 반려하면 처리한 월의 반려 건수와 처리 시간이 집계된다.")
+	void recordResolvedRejected() {
+		// given
+		Complaint complaint = complaint(ComplaintStatus.REJECTED, LocalDateTime.of(2024, 1, 31, 10, 0));
+		given(complaintMetricRepository.existsByRoomIdAndMetricMonth(10L, 202402)).willReturn(true);
+
+		// when
+		complaintMetricService.recordResolved(complaint, LocalDateTime.of(2024, 2, 1, 12, 0));
+
+		// then
+		then(complaintMetricRepository).should().addResolved(10L, 202402, 0, 1, 26 * 3600L);
+		then(complaintMetricCreator).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("통계 조회는 호실 / 월별 집계와 기간 합계, 평균 처리 시간을 반환한다.")
+	void selectAnalytics() {
+		// given
+		given(complaintMetricRepository.findAllByOwnerIdAndBuildingId(1L, 100L, 202401, 202402))
+		  .willReturn(List.of(
+			ComplaintMetric.builder().roomId(10L).buildingId(100L).metricMonth(202401)
+			  .receivedCount(3).completedCount(1).resolutionSecondsSum(1800).le1hCount(1).build(),
+			ComplaintMetric.builder().roomId(10L).buildingId(100L).metricMonth(202402)
+			  .receivedCount(1).completedCount(1).rejectedCount(1).resolutionSecondsSum(5 * 86400L)
+			  .le1dCount(1).le7dCount(1).build()
+		  ));
+
+		// when
+		ComplaintDTO.Analytics analytics = complaintMetricService.selectAnalytics(
+		  owner, 100L, YearMonth.of(2024, 1), YearMonth.of(2024, 2));
+
+		// then
+		assertThat(analytics.getRooms()).extracting(ComplaintDTO.Metric::getMonth)
+		  .containsExactly(YearMonth.of(2024, 1), YearMonth.of(2024, 2));
+		ComplaintDTO.Metric total = analytics.getTotal();
+		assertThat(total.getReceivedCount()).isEqualTo(4);
+		assertThat(total.getCompletedCount()).isEqualTo(2);
+		assertThat(total.getRejectedCount()).isEqualTo(1);
+		assertThat(total.getAverageResolutionHours()).isEqualTo((1800 + 5 * 86400) / 3600.0 / 3);
+		assertThat(total.getResolutionHistogram())
+		  .containsEntry("1h", 1L).containsEntry("1d", 1L).containsEntry("7d", 1L).containsEntry("+Inf", 0L);
+	}
+
+	@Test
+	@DisplayName("조회 기간이 24개월을 넘으면 통계를 조회할 수 없다.")
+	void selectAnalyticsWithTooLongPeriod() {
+		// when & then
+		assertThatThrownBy(() -> complaintMetricService.selectAnalytics(
+		  owner, 100L, YearMonth.of(2022, 1), YearMonth.of(2024, 1)))
+		  .isInstanceOf(ApiException.class)
+		  .extracting("apiErrorCode")
+		  .isEqualTo(ApiErrorCode.INVALID_REQUEST_CONTENT);
+	}
+
+	private Complaint complaint(ComplaintStatus complaintStatus, LocalDateTime createdAt) {
+		Room room = mock(Room.class);
+		given(room.getId()).willReturn(10L);
+		lenient().when(room.getBuilding()).thenReturn(building()); // 집계 행을 생성할 때만 사용
+
+		Complaint complaint = mock(Complaint.class);
+		given(complaint.getRoom()).willReturn(room);
+		given(complaint.getCreatedAt()).willReturn(createdAt);
+		given(complaint.getComplaintStatus()).willReturn(complaintStatus);
+		return complaint;
+	}
+
+	private Room room() {
+		Room room = mock(Room.class);
+		given(room.getId()).willReturn(10L);
+		given(room.getBuilding()).willReturn(building());
+		return room;
+	}
+
+	private Building building() {
+		Building building = mock(Building.class);
+		lenient().when(building.getId()).thenReturn(100L);
+		return building;
+	}
+
+}
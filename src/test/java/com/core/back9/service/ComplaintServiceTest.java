@@ -0,0 +1,155 @@
+package com.core.back9.service;
+
+import com.core.back9.dto.ComplaintDTO;
+import com.core.back9.dto.MemberDTO;
+import com.core.back9.entity.Complaint;
+import com.core.back9.entity.constant.ComplaintStatus;
+import com.core.back9.entity.constant.Role;
+import com.core.back9.exception.ApiErrorCode;
+import com.core.back9.exception.ApiException;
+import com.core.back9.mapper.ComplaintMapper;
+import com.core.back9.repository.ComplaintRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class ComplaintServiceTest {
+
+	@Mock
+	private ComplaintRepository complaintRepository;
+
+	@Mock
+	private ComplaintMapper complaintMapper;
+
+	@InjectMocks
+	private ComplaintService complaintService;
+
+	private final MemberDTO.Info owner = MemberDTO.Info.builder().id(1L).role(Role.OWNER).build();
+
+	@Test
+	@DisplayName("소유자 민원 목록은 id 페이지 순서대로 호실 / 건물 정보와 함께 조회된다.")
+	void selectOwnerPageKeepsIdOrder() {
+		// given
+		ComplaintDTO.OwnerSearchCondition condition = ComplaintDTO.OwnerSearchCondition.builder()
+		  .complaintStatus(ComplaintStatus.PENDING)
+		  .from(LocalDate.of(2024, 1, 1))
+		  .to(LocalDate.of(2024, 1, 31))
+		  .build();
+		given(complaintRepository.findIdPageByOwnerId(
+		  1L, null, null, ComplaintStatus.PENDING,
+		  LocalDate.of(2024, 1, 1).atStartOfDay(), LocalDate.of(2024, 2, 1).atStartOfDay(),
+		  PageRequest.of(0, 2)))
+		  .willReturn(new PageImpl<>(List.of(5L, 3L), PageRequest.of(0, 2), 3));
+		givenOwnerInfos(3L, 5L);
+
+		// when
+		Page<ComplaintDTO.OwnerInfo> page = complaintService.selectOwnerPage(owner, condition, PageRequest.of(0, 2));
+
+		// then
+		assertThat(page.getContent()).extracting(ComplaintDTO.OwnerInfo::getId).containsExactly(5L, 3L);
+		assertThat(page.getTotalElements()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("커서 조회는 size + 1건을 조회하여 다음 페이지 여부와 다음 커서를 반환한다.")
+	void selectOwnerCursorPageWithNextCursor() {
+		// given
+		ComplaintDTO.OwnerSearchCondition condition = ComplaintDTO.OwnerSearchCondition.builder().buildingId(10L).build();
+		given(complaintRepository.findIdsByOwnerIdAfterCursor(
+		  1L, 10L, null, null, null, null, 100L, PageRequest.of(0, 3)))
+		  .willReturn(List.of(9L, 7L, 4L));
+		givenOwnerInfos(9L, 7L);
+
+		// when
+		ComplaintDTO.CursorPage page = complaintService.selectOwnerCursorPage(owner, condition, 100L, 2);
+
+		// then
+		assertThat(page.getComplaints()).extracting(ComplaintDTO.OwnerInfo::getId).containsExactly(9L, 7L);
+		assertThat(page.isHasNext()).isTrue();
+		assertThat(page.getNextCursor()).isEqualTo(7L);
+		then(complaintRepository).should().findAllWithRoomAndBuildingByIdIn(List.of(9L, 7L));
+	}
+
+	@Test
+	@DisplayName("id 조회 이후 삭제되어 2단계에서 조회되지 않은 민원은 목록에서 제외한다.")
+	void skipComplaintsRemovedBetweenQueries() {
+		// given
+		ComplaintDTO.OwnerSearchCondition condition = new ComplaintDTO.OwnerSearchCondition();
+		given(complaintRepository.findIdPageByOwnerId(1L, null, null, null, null, null, PageRequest.of(0, 3)))
+		  .willReturn(new PageImpl<>(List.of(8L, 6L, 2L), PageRequest.of(0, 3), 3));
+		givenOwnerInfos(8L, 2L);
+
+		// when
+		Page<ComplaintDTO.OwnerInfo> page = complaintService.selectOwnerPage(owner, condition, PageRequest.of(0, 3));
+
+		// then
+		assertThat(page.getContent()).extracting(ComplaintDTO.OwnerInfo::getId).containsExactly(8L, 2L);
+		assertThat(page.getContent()).doesNotContainNull();
+	}
+
+	@Test
+	@DisplayName("조회된 id가 없으면 2단계 조회를 하지 않는다.")
+	void skipFetchWhenEmpty() {
+		// given
+		given(complaintRepository.findIdsByOwnerIdAfterCursor(
+		  1L, null, null, null, null, null, Long.MAX_VALUE, PageRequest.of(0, 21)))
+		  .willReturn(List.of());
+
+		// when
+		ComplaintDTO.CursorPage page = complaintService.selectOwnerCursorPage(
+		  owner, new ComplaintDTO.OwnerSearchCondition(), null, null);
+
+		// then
+		assertThat(page.getComplaints()).isEmpty();
+		assertThat(page.isHasNext()).isFalse();
+		assertThat(page.getNextCursor()).isNull();
+		then(complaintRepository).should(never()).findAllWithRoomAndBuildingByIdIn(anyList());
+	}
+
+	@Test
+	@DisplayName("소유자가 아니면 받은 민원 목록을 조회할 수 없다.")
+	void selectOwnerPageWithoutPermission() {
+		// given
+		MemberDTO.Info user = MemberDTO.Info.builder().id(2L).role(Role.USER).build();
+
+		// when & then
+		assertThatThrownBy(() -> complaintService.selectOwnerPage(
+		  user, new ComplaintDTO.OwnerSearchCondition(), PageRequest.of(0, 20)))
+		  .isInstanceOf(ApiException.class)
+		  .extracting("apiErrorCode")
+		  .isEqualTo(ApiErrorCode.DO_NOT_HAVE_PERMISSION);
+	}
+
+	/* 2단계 조회는 id 내림차순과 다른 순서로 반환되어도 1단계 순서를 따름 */
+	private void givenOwnerInfos(Long... ids) {
+		List<Complaint> complaints = Arrays.stream(ids)
+		  .map(id -> {
+			  Complaint complaint = mock(Complaint.class);
+			  given(complaintMapper.toOwnerInfo(complaint)).willReturn(ComplaintDTO.OwnerInfo.builder().id(id).build());
+			  return complaint;
+		  })
+		  .toList();
+		given(complaintRepository.findAllWithRoomAndBuildingByIdIn(any())).willReturn(complaints);
+	}
+
+}
@@ -1,5 +1,7 @@
 package com.core.back9.service;
 
+import com.core.back9.common.performance.PerformanceBudget;
+import com.core.back9.common.performance.PerformanceBudgetConfig;
 import com.core.back9.dto.ContractDTO;
 import com.core.back9.dto.MemberDTO;
 import com.core.back9.entity.Contract;
@@ -14,6 +16,7 @@ import com.core.back9.service.fixture.ContractServiceFixture;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -23,6 +26,7 @@ import java.util.stream.IntStream;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+@Import(PerformanceBudgetConfig.class)
 public class ContractServiceTest extends ContractServiceFixture {
 
     @Autowired
@@ -31,6 +35,9 @@ public class ContractServiceTest extends ContractServiceFixture {
     @Autowired
     private ContractRepository contractRepository;
 
+    @Autowired
+    private PerformanceBudget performanceBudget;
+
     @Test
     @DisplayName("계약 대기 상태의 Contract를 완료 상태로 변경할 수 있다.")
     void completeContract() {
@@ -1476,6 +1483,43 @@ public class ContractServiceTest extends ContractServiceFixture {
     }
 
 
+    @Test
+    @DisplayName("재계약률 조회는 계약 수와 무관하게 정해진 SQL 수 안에서 처리된다.")
+    void getRenewalContractRateInfoWithinBudget() {
+        // given
+        MemberDTO.Info member = MemberDTO.Info.builder()
+                .id(2L)
+                .role(Role.OWNER)
+                .build();
+
+        for (Room room : List.of(room1, room2, room3)) {
+            IntStream.range(0, 10).forEach(i -> {
+                ContractType contractType = (i % 2 == 0) ? ContractType.INITIAL : ContractType.RENEWAL;
+                Contract savedContract = contractRepository.save(assumeContract(
+                        LocalDate.now().plusDays(10L * i + 1),
+                        LocalDate.now().plusDays(10L * (i + 1)),
+                        100000000L,
+                        200000L,
+                        contractType,
+                        room,
+                        tenant1
+                ));
+                savedContract.contractComplete();
+                savedContract.contractInProgress();
+                savedContract.contractExpire();
+            });
+        }
+
+        // when & then - 호실 검증 1 + (계약 목록 1 + 재계약 실패 집계 1) x (내 호실, 비교 호실)
+        PerformanceBudget.Measurement measurement = performanceBudget.expect()
+                .maxStatements(5)
+                .maxAllocatedBytes(4 * PerformanceBudget.MB)
+                .run(() -> contractService.getRenewalContractRateInfo(member, 1L, room1.getId()));
+
+        assertThat(measurement.collectionFetchCount()).isZero();
+
+    }
+
     private Contract assumeContract(
             LocalDate startDate,
             LocalDate endDate,
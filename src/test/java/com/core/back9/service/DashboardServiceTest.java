@@ -0,0 +1,165 @@
+package com.core.back9.service;
+
+import com.core.back9.common.cache.DashboardCache;
+import com.core.back9.dto.ContractDTO;
+import com.core.back9.dto.DashboardDTO;
+import com.core.back9.dto.MemberDTO;
+import com.core.back9.dto.ScoreDTO;
+import com.core.back9.entity.Room;
+import com.core.back9.entity.constant.Role;
+import com.core.back9.entity.constant.Status;
+import com.core.back9.exception.ApiException;
+import com.core.back9.repository.RoomRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DashboardServiceTest {
+
+	@Mock
+	private ScoreService scoreService;
+
+	@Mock
+	private ContractService contractService;
+
+	@Mock
+	private RoomRepository roomRepository;
+
+	private ExecutorService executor;
+	private DashboardService dashboardService;
+	private MemberDTO.Info owner;
+	private Room room;
+
+	@BeforeEach
+	void setUp() {
+		executor = Executors.newFixedThreadPool(6);
+		DashboardCache dashboardCache = new DashboardCache(new SimpleMeterRegistry(), Duration.ofMinutes(10), 100, Duration.ZERO);
+		dashboardService = new DashboardService(scoreService, contractService, roomRepository, dashboardCache, executor, Duration.ofMillis(300));
+
+		owner = MemberDTO.Info.builder()
+		  .id(1L)
+		  .role(Role.OWNER)
+		  .build();
+		room = mock(Room.class);
+		given(room.getId()).willReturn(10L);
+		given(roomRepository.findAllByBuildingIdAndMemberIdAndStatus(1L, 1L, Status.REGISTER)).willReturn(List.of(room));
+
+		given(scoreService.selectScoresByQuarterOfRooms(anyList(), anyInt(), anyInt())).willReturn(new ScoreDTO.AvgByQuarter());
+		given(scoreService.selectQuarterlyScoreOfRooms(anyList(), anyInt(), anyInt())).willReturn(new ScoreDTO.CurrentAndBeforeQuarterlyTotalAvg());
+		given(scoreService.selectYearScoreOfRooms(anyList(), any(YearMonth.class))).willReturn(List.of());
+		given(contractService.getContractCostInfo(anyLong(), anyLong())).willReturn(new ContractDTO.CostInfo());
+		given(contractService.getRenewalContractRateInfo(anyLong(), anyLong())).willReturn(new ContractDTO.RenewalContractRateInfo());
+		given(contractService.getContractVacancyRateInfo(anyLong(), anyLong(), any(LocalDate.class))).willReturn(new ContractDTO.VacancyRateInfo());
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("모든 섹션이 제한 시간 안에 조회되면 전체 결과를 반환하고, 호실 목록은 1회만 조회하여 섹션에는 식별자만 전달한다.")
+	void selectDashboardWithAllSections() {
+		// when
+		DashboardDTO.Info dashboard = dashboardService.selectDashboard(owner, 1L, null, 2024, 2);
+
+		// then
+		assertThat(dashboard.isComplete()).isTrue();
+		assertThat(dashboard.getRoomId()).isEqualTo(10L);
+		verify(roomRepository).findAllByBuildingIdAndMemberIdAndStatus(1L, 1L, Status.REGISTER);
+		verify(scoreService).selectScoresByQuarterOfRooms(List.of(10L), 2024, 2);
+		verify(contractService).getContractCostInfo(1L, 10L);
+	}
+
+	@Test
+	@DisplayName("제한 시간을 넘긴 섹션은 TIMEOUT으로, 나머지 섹션은 정상 결과로 부분 응답한다.")
+	void selectDashboardWithTimedOutSection() {
+		// given
+		willAnswer(invocation -> {
+			Thread.sleep(2_000);
+			return List.of();
+		}).given(scoreService).selectYearScoreOfRooms(anyList(), any(YearMonth.class));
+
+		// when
+		DashboardDTO.Info dashboard = dashboardService.selectDashboard(owner, 1L, null, 2024, 2);
+
+		// then
+		assertThat(dashboard.isComplete()).isFalse();
+		assertThat(dashboard.getRoomsYearScore().getStatus()).isEqualTo(DashboardDTO.SectionStatus.TIMEOUT);
+		assertThat(dashboard.getQuarterlyScore().getStatus()).isEqualTo(DashboardDTO.SectionStatus.OK);
+		assertThat(dashboard.getContractCost().getStatus()).isEqualTo(DashboardDTO.SectionStatus.OK);
+	}
+
+	@Test
+	@DisplayName("제한 시간까지 실행되지 못하고 대기 중인 섹션은 취소되어 이후에도 집계하지 않는다.")
+	void cancelQueuedSectionsOnTimeout() throws InterruptedException {
+		// given
+		ExecutorService singleThread = Executors.newSingleThreadExecutor();
+		DashboardService singleThreadService = new DashboardService(scoreService, contractService, roomRepository,
+		  new DashboardCache(new SimpleMeterRegistry(), Duration.ofMinutes(10), 100, Duration.ZERO), singleThread, Duration.ofMillis(300));
+		willAnswer(invocation -> {
+			Thread.sleep(600);
+			return new ScoreDTO.AvgByQuarter();
+		}).given(scoreService).selectScoresByQuarterOfRooms(anyList(), anyInt(), anyInt());
+
+		// when
+		DashboardDTO.Info dashboard = singleThreadService.selectDashboard(owner, 1L, null, 2024, 2);
+		singleThread.shutdown();
+		boolean terminated = singleThread.awaitTermination(5, TimeUnit.SECONDS);
+
+		// then
+		assertThat(terminated).isTrue();
+		assertThat(dashboard.getQuarterlyScore().getStatus()).isEqualTo(DashboardDTO.SectionStatus.TIMEOUT);
+		assertThat(dashboard.getVacancyRate().getStatus()).isEqualTo(DashboardDTO.SectionStatus.TIMEOUT);
+		verify(contractService, never()).getContractVacancyRateInfo(anyLong(), anyLong(), any(LocalDate.class));
+	}
+
+	@Test
+	@DisplayName("섹션 조회 중 오류가 발생하면 해당 섹션만 FAILED로 응답한다.")
+	void selectDashboardWithFailedSection() {
+		// given
+		given(contractService.getContractCostInfo(anyLong(), anyLong())).willThrow(new IllegalStateException("db error"));
+
+		// when
+		DashboardDTO.Info dashboard = dashboardService.selectDashboard(owner, 1L, null, 2024, 2);
+
+		// then
+		assertThat(dashboard.getContractCost().getStatus()).isEqualTo(DashboardDTO.SectionStatus.FAILED);
+		assertThat(dashboard.getVacancyRate().getStatus()).isEqualTo(DashboardDTO.SectionStatus.OK);
+	}
+
+	@Test
+	@DisplayName("소유하지 않은 호실을 지정하면 예외가 발생한다.")
+	void selectDashboardWithNotOwnedRoom() {
+		// when & then
+		assertThatThrownBy(() -> dashboardService.selectDashboard(owner, 1L, 99L, 2024, 2))
+		  .isInstanceOf(ApiException.class);
+	}
+
+}
@@ -0,0 +1,129 @@
+package com.core.back9.service;
+
+import com.core.back9.common.cache.DashboardChangedEvent;
+import com.core.back9.entity.BuildingDashboardVersion;
+import com.core.back9.repository.BuildingDashboardVersionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardVersionServiceTest {
+
+	private static final LocalDateTime SETTLED = LocalDateTime.now().minusHours(1);
+
+	@Mock
+	private BuildingDashboardVersionRepository buildingDashboardVersionRepository;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	private DashboardVersionService dashboardVersionService;
+
+	@BeforeEach
+	void setUp() {
+		dashboardVersionService = new DashboardVersionService(buildingDashboardVersionRepository, eventPublisher, Duration.ofSeconds(5));
+	}
+
+	@Test
+	@DisplayName("빌딩의 대시보드 버전이 그대로면 같은 ETag를, 버전이 증가하면 다른 ETag를 반환한다.")
+	void eTagChangesOnlyWhenVersionChanges() {
+		// given
+		Optional<BuildingDashboardVersion> current = version(3L, SETTLED);
+		Optional<BuildingDashboardVersion> increased = version(4L, SETTLED);
+		given(buildingDashboardVersionRepository.findById(1L)).willReturn(current, current, increased);
+
+		// when
+		String first = dashboardVersionService.getETag(1L, 10L, "my-quarterly-score", 2024, 2);
+		String unchanged = dashboardVersionService.getETag(1L, 10L, "my-quarterly-score", 2024, 2);
+		String changed = dashboardVersionService.getETag(1L, 10L, "my-quarterly-score", 2024, 2);
+
+		// then
+		assertThat(first).startsWith("\"").endsWith("\"");
+		assertThat(unchanged).isEqualTo(first);
+		assertThat(changed).isNotEqualTo(first);
+	}
+
+	@Test
+	@DisplayName("같은 버전이라도 소유자나 조회 조건이 다르면 다른 ETag를 반환한다.")
+	void eTagDependsOnMemberAndQualifiers() {
+		// given
+		Optional<BuildingDashboardVersion> current = version(3L, SETTLED);
+		given(buildingDashboardVersionRepository.findById(1L)).willReturn(current);
+
+		// when
+		String base = dashboardVersionService.getETag(1L, 10L, "my-quarterly-score", 2024, 2);
+		String otherMember = dashboardVersionService.getETag(1L, 11L, "my-quarterly-score", 2024, 2);
+		String otherQuarter = dashboardVersionService.getETag(1L, 10L, "my-quarterly-score", 2024, 3);
+
+		// then
+		assertThat(otherMember).isNotEqualTo(base);
+		assertThat(otherQuarter).isNotEqualTo(base);
+	}
+
+	@Test
+	@DisplayName("변경 직후 복제 지연 구간에는 구간이 지난 뒤와 다른 ETag를 반환한다.")
+	void eTagChangesAfterReplicaLagWindow() {
+		// given
+		Optional<BuildingDashboardVersion> justChanged = version(4L, LocalDateTime.now());
+		Optional<BuildingDashboardVersion> settled = version(4L, SETTLED);
+		given(buildingDashboardVersionRepository.findById(1L)).willReturn(justChanged, settled);
+
+		// when
+		String replicating = dashboardVersionService.getETag(1L, 10L, "my-quarterly-score", 2024, 2);
+		String afterWindow = dashboardVersionService.getETag(1L, 10L, "my-quarterly-score", 2024, 2);
+
+		// then
+		assertThat(replicating).isNotEqualTo(afterWindow);
+	}
+
+	@Test
+	@DisplayName("빌딩 단위 변경 이벤트는 해당 빌딩의 버전만, 전체 변경 이벤트는 모든 빌딩의 버전을 증가시킨다.")
+	void increaseOnDashboardChanged() {
+		// when
+		dashboardVersionService.onDashboardChanged(DashboardChangedEvent.ofBuildings(List.of(1L, 2L)));
+		dashboardVersionService.onDashboardChanged(DashboardChangedEvent.all());
+
+		// then
+		then(buildingDashboardVersionRepository).should().increase(eq(Set.of(1L, 2L)), any(LocalDateTime.class));
+		then(buildingDashboardVersionRepository).should().increaseAll(any(LocalDateTime.class));
+	}
+
+	@Test
+	@DisplayName("여러 빌딩의 변경은 해당 빌딩만 대상으로 하는 이벤트로 발행하고, 변경된 빌딩이 없으면 발행하지 않는다.")
+	void markChangedOnlyTouchedBuildings() {
+		// when
+		dashboardVersionService.markChanged(List.of(1L, 2L));
+		dashboardVersionService.markChanged(List.of());
+
+		// then
+		then(eventPublisher).should().publishEvent(argThat((DashboardChangedEvent event) -> event.getBuildingIds().equals(Set.of(1L, 2L))));
+		then(eventPublisher).should().publishEvent(any(Object.class)); // 빈 목록은 발행하지 않으므로 한 번만 발행
+	}
+
+	private Optional<BuildingDashboardVersion> version(long version, LocalDateTime changedAt) {
+		BuildingDashboardVersion dashboardVersion = mock(BuildingDashboardVersion.class);
+		given(dashboardVersion.getVersion()).willReturn(version);
+		given(dashboardVersion.getChangedAt()).willReturn(changedAt);
+		return Optional.of(dashboardVersion);
+	}
+
+}
@@ -1,26 +1,28 @@
 package com.core.back9.service;
 
+import com.core.back9.common.cache.DashboardChangedEvent;
+import com.core.back9.common.performance.PerformanceBudget;
+import com.core.back9.common.performance.PerformanceBudgetConfig;
 import com.core.back9.dto.MemberDTO;
 import com.core.back9.dto.RoomDTO;
-import com.core.back9.entity.Building;
-import com.core.back9.entity.Member;
-import com.core.back9.entity.Room;
-import com.core.back9.entity.Setting;
+import com.core.back9.entity.*;
+import com.core.back9.entity.constant.ContractType;
 import com.core.back9.entity.constant.Role;
 import com.core.back9.entity.constant.Status;
 import com.core.back9.entity.constant.Usage;
 import com.core.back9.mapper.RoomMapper;
-import com.core.back9.repository.BuildingRepository;
-import com.core.back9.repository.MemberRepository;
-import com.core.back9.repository.RoomRepository;
-import com.core.back9.repository.SettingRepository;
+import com.core.back9.repository.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -28,10 +30,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
@@ -39,6 +44,7 @@ import static org.mockito.Mockito.verify;
 @ActiveProfiles("test")
 @SpringBootTest
 @Transactional
+@Import(PerformanceBudgetConfig.class)
 class RoomServiceTest {
 
 	@Mock
@@ -56,6 +62,9 @@ class RoomServiceTest {
 	@Mock
 	private MemberRepository memberRepository;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private RoomService roomService;
 
@@ -73,7 +82,7 @@ class RoomServiceTest {
 	@BeforeEach
 	public void initSetting() {
 		roomService = new RoomService(buildingRepository, roomRepository,
-		  roomMapper, settingRepository, memberRepository);
+		  roomMapper, settingRepository, memberRepository, eventPublisher);
 		setting = roomService.createSetting();
 		building = Building.builder()
 		  .name("building name")
@@ -162,6 +171,7 @@ class RoomServiceTest {
 		assertThat(result).isEqualTo(updateInfo);
 		verify(roomRepository).getValidRoomWithIdOrThrow(selectedBuildingId, updateId, Status.REGISTER);
 		verify(roomMapper).toInfo(room);
+		verify(eventPublisher).publishEvent(argThat((DashboardChangedEvent event) -> event.getBuildingIds().equals(Set.of(selectedBuildingId))));
 	}
 
 	@DisplayName("호실 삭제 성공")
@@ -177,6 +187,7 @@ class RoomServiceTest {
 		assertThat(result).isTrue();
 		verify(buildingRepository).getValidBuildingWithIdOrThrow(selectedBuildingId, Status.REGISTER);
 		verify(roomRepository).getValidRoomWithIdOrThrow(selectedBuildingId, deleteId, Status.REGISTER);
+		verify(eventPublisher).publishEvent(argThat((DashboardChangedEvent event) -> event.getBuildingIds().equals(Set.of(selectedBuildingId))));
 	}
 
 	@DisplayName("전체 호실 조회 성공")
@@ -226,4 +237,68 @@ class RoomServiceTest {
 		verify(roomRepository).getValidRoomWithIdOrThrow(selectedBuildingId, selectedRoomId, Status.REGISTER);
 	}
 
+	@Nested
+	@DisplayName("성능 예산")
+	class PerformanceBudgetTest {
+
+		private static final int ROOM_COUNT = 10;
+
+		@Autowired
+		private RoomService roomService;
+
+		@Autowired
+		private BuildingRepository buildingRepository;
+
+		@Autowired
+		private MemberRepository memberRepository;
+
+		@Autowired
+		private RoomRepository roomRepository;
+
+		@Autowired
+		private TenantRepository tenantRepository;
+
+		@Autowired
+		private ContractRepository contractRepository;
+
+		@Autowired
+		private PerformanceBudget performanceBudget;
+
+		@DisplayName("내 호실 목록 조회는 호실 수와 무관하게 설정/계약/입주사를 한 번씩만 조회한다.")
+		@Test
+		public void givenRoomsWithContractsWhenSelectAllThenWithinBudget() {
+			Building savedBuilding = buildingRepository.save(Building.builder().name("building").address("address").zipCode("zipCode").build());
+			Member savedOwner = memberRepository.save(Member.builder().email("owner@gmail.com").role(Role.OWNER).status(Status.REGISTER).build());
+			for (int i = 0; i < ROOM_COUNT; i++) {
+				Room savedRoom = roomRepository.save(Room.builder()
+				  .building(savedBuilding)
+				  .name("room name " + i)
+				  .floor("room floor " + i)
+				  .area(84F)
+				  .usage(Usage.OFFICES)
+				  .member(savedOwner)
+				  .setting(Setting.builder().build())
+				  .build());
+				Tenant savedTenant = tenantRepository.save(Tenant.builder().name("tenant " + i).companyNumber("02-000-000" + i).build());
+				contractRepository.save(Contract.builder()
+				  .startDate(LocalDate.now().plusDays(1))
+				  .endDate(LocalDate.now().plusYears(1))
+				  .deposit(100000000L)
+				  .rentalPrice(200000L)
+				  .contractType(ContractType.INITIAL)
+				  .room(savedRoom)
+				  .tenant(savedTenant)
+				  .build());
+			}
+			MemberDTO.Info ownerInfo = MemberDTO.Info.builder().id(savedOwner.getId()).role(Role.OWNER).build();
+
+			// 호실 목록 1 + 설정 batch 1 + 계약 batch 1 + 입주사 batch 1
+			performanceBudget.expect()
+			  .maxStatements(4)
+			  .maxAllocatedBytes(4 * PerformanceBudget.MB)
+			  .run(() -> roomService.selectAll(ownerInfo, savedBuilding.getId(), PageRequest.of(0, 20)));
+		}
+
+	}
+
 }
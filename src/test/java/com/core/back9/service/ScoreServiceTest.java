@@ -1,15 +1,199 @@
 package com.core.back9.service;
 
+import com.core.back9.common.performance.PerformanceBudget;
+import com.core.back9.common.performance.PerformanceBudgetConfig;
+import com.core.back9.dto.MemberDTO;
+import com.core.back9.dto.ScoreDTO;
+import com.core.back9.entity.*;
+import com.core.back9.entity.constant.RatingType;
+import com.core.back9.entity.constant.Role;
+import com.core.back9.entity.constant.Status;
+import com.core.back9.entity.constant.Usage;
+import com.core.back9.mapper.ScoreMapper;
+import com.core.back9.repository.BuildingRepository;
+import com.core.back9.repository.MemberRepository;
+import com.core.back9.repository.RoomRepository;
+import com.core.back9.repository.ScoreRepository;
+import com.core.back9.util.DateUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
 @SpringBootTest
 @Transactional
+@Import(PerformanceBudgetConfig.class)
 class ScoreServiceTest {
 
+	private static final int ROOM_COUNT = 10;
+
+	@Autowired
+	private ScoreService scoreService;
+
+	@Autowired
+	private ScoreMapper scoreMapper;
+
+	@Autowired
+	private PerformanceBudget performanceBudget;
+
+	@Autowired
+	private BuildingRepository buildingRepository;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private RoomRepository roomRepository;
+
+	@Autowired
+	private ScoreRepository scoreRepository;
+
+	static LongStream seeds() {
+		return LongStream.rangeClosed(1, 50);
+	}
+
+	@ParameterizedTest(name = "seed {0}")
+	@MethodSource("seeds")
+	@DisplayName("월별 구간 집계 결과는 월마다 전체 목록을 필터링하던 기존 계산과 동일하다.")
+	void yearlyScoreListMatchesMonthlyFiltering(long seed) {
+		// given
+		Random random = new Random(seed);
+		YearMonth selectedMonth = YearMonth.of(2020 + random.nextInt(6), 1 + random.nextInt(12));
+		List<Score> scores = randomScores(random, selectedMonth, random.nextInt(500));
+
+		// when
+		List<ScoreDTO.AllAvgByMonth> result = scoreService.getYearlyScoreListOfMyOrOthers(selectedMonth, scores);
+
+		// then
+		assertThat(result)
+		  .usingRecursiveFieldByFieldElementComparator()
+		  .containsExactlyElementsOf(filterByMonth(selectedMonth, scores));
+	}
+
+	@Test
+	@DisplayName("월의 시작/끝 시각에 생성된 평가는 해당 월에 집계되고, 12개월 범위 밖의 평가는 제외된다.")
+	void yearlyScoreListBoundary() {
+		// given
+		YearMonth selectedMonth = YearMonth.of(2024, 5);
+		List<Score> scores = List.of(
+		  score(80, RatingType.FACILITY, selectedMonth.atDay(1).atStartOfDay()),
+		  score(60, RatingType.FACILITY, selectedMonth.atEndOfMonth().atTime(LocalTime.MAX)),
+		  score(10, RatingType.FACILITY, selectedMonth.minusMonths(11).atDay(1).atStartOfDay()),
+		  score(100, RatingType.FACILITY, selectedMonth.minusMonths(12).atEndOfMonth().atTime(LocalTime.MAX)),
+		  score(100, RatingType.FACILITY, selectedMonth.plusMonths(1).atDay(1).atStartOfDay())
+		);
+
+		// when
+		List<ScoreDTO.AllAvgByMonth> result = scoreService.getYearlyScoreListOfMyOrOthers(selectedMonth, scores);
+
+		// then
+		assertThat(result).hasSize(12);
+		assertThat(result.get(0).getSelectedMonth()).isEqualTo(selectedMonth);
+		assertThat(result.get(0).getTotalAvg()).isEqualTo(70f);
+		assertThat(result.get(11).getSelectedMonth()).isEqualTo(selectedMonth.minusMonths(11));
+		assertThat(result.get(11).getTotalAvg()).isEqualTo(10f);
+	}
+
+	@Test
+	@DisplayName("내 호실별 분기 평균 조회는 호실 수와 무관하게 정해진 SQL 수 안에서 처리된다.")
+	void quarterlyScoreOfMyRoomsWithinBudget() {
+		// given
+		Building building = buildingRepository.save(Building.builder().name("빌딩").address("주소").zipCode("우편번호").build());
+		Member owner = memberRepository.save(Member.builder().email("owner@test.com").role(Role.OWNER).status(Status.REGISTER).build());
+		Member user = memberRepository.save(Member.builder().email("user@test.com").role(Role.USER).status(Status.REGISTER).build());
+		for (int i = 0; i < ROOM_COUNT; i++) {
+			Room room = roomRepository.save(Room.builder()
+			  .building(building)
+			  .name("호실" + i)
+			  .floor(i + "층")
+			  .usage(Usage.OFFICES)
+			  .member(owner)
+			  .setting(Setting.builder().build())
+			  .build());
+			for (RatingType ratingType : RatingType.values()) {
+				scoreRepository.save(Score.builder()
+				  .score(50 + i)
+				  .comment("평가")
+				  .ratingType(ratingType)
+				  .room(room)
+				  .member(user)
+				  .status(Status.REGISTER)
+				  .build());
+			}
+		}
+
+		DateUtils dateUtils = new DateUtils();
+		MemberDTO.Info member = MemberDTO.Info.builder().id(owner.getId()).role(Role.OWNER).build();
+
+		// when & then - 호실 목록 1 + 설정 batch 1 + 현재/이전 분기 평가 2
+		PerformanceBudget.Measurement measurement = performanceBudget.expect()
+		  .maxStatements(4)
+		  .maxAllocatedBytes(4 * PerformanceBudget.MB)
+		  .run(() -> scoreService.selectQuarterlyScoreOfMyRooms(member, building.getId(), dateUtils.getYear(), dateUtils.getQuarter()));
+
+		assertThat(measurement.collectionFetchCount()).isZero();
+	}
+
+	/* 월별 구간 집계 도입 이전의 계산 - 12개월마다 전체 목록 필터링 */
+	private List<ScoreDTO.AllAvgByMonth> filterByMonth(YearMonth yearMonth, List<Score> scoreList) {
+		List<ScoreDTO.AllAvgByMonth> allAvgByMonthList = new ArrayList<>();
+		for (int i = 0; i < 12; i++) {
+			YearMonth current = yearMonth.minusMonths(i);
+			LocalDateTime startDayOfMonth = current.atDay(1).atStartOfDay();
+			LocalDateTime endDayOfMonth = current.atEndOfMonth().atTime(LocalTime.MAX);
+
+			List<Score> scoresOfMonth = scoreList.stream()
+			  .filter(score -> !score.getCreatedAt().isBefore(startDayOfMonth) && !score.getCreatedAt().isAfter(endDayOfMonth))
+			  .toList();
+
+			allAvgByMonthList.add(scoreMapper.toAllAvgWithMonth(current, scoresOfMonth));
+		}
+		return allAvgByMonthList;
+	}
+
+	/* 선택 월 기준 앞뒤 18개월 범위에 생성된 평가 (월 경계 시각 포함) */
+	private List<Score> randomScores(Random random, YearMonth selectedMonth, int size) {
+		RatingType[] ratingTypes = RatingType.values();
+		List<Score> scores = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			YearMonth month = selectedMonth.plusMonths(random.nextInt(37) - 18);
+			LocalDateTime createdAt = switch (random.nextInt(3)) {
+				case 0 -> month.atDay(1).atStartOfDay();
+				case 1 -> month.atEndOfMonth().atTime(LocalTime.MAX);
+				default -> month.atDay(1 + random.nextInt(month.lengthOfMonth())).atTime(random.nextInt(24), random.nextInt(60));
+			};
+			int value = random.nextInt(4) == 0 ? -1 : random.nextInt(101);
+			scores.add(score(value, ratingTypes[random.nextInt(ratingTypes.length)], createdAt));
+		}
+		return scores;
+	}
+
+	private Score score(int value, RatingType ratingType, LocalDateTime createdAt) {
+		Score score = Score.builder()
+		  .score(value)
+		  .ratingType(ratingType)
+		  .build();
+		ReflectionTestUtils.setField(score, "createdAt", createdAt);
+		return score;
+	}
 
 }
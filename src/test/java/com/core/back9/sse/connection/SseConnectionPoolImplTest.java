@@ -0,0 +1,72 @@
+package com.core.back9.sse.connection;
+
+import com.core.back9.sse.connection.model.SseMemberConnection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class SseConnectionPoolImplTest {
+
+	private final SseConnectionPoolImpl sseConnectionPool = new SseConnectionPoolImpl();
+
+	@Test
+	@DisplayName("연결이 완료되면 풀에서 제거하고 종료 건수를 증가시킨다.")
+	void removeOnCompletion() {
+		// given
+		SseMemberConnection connection = connection("1");
+		sseConnectionPool.addSession("1", connection);
+
+		// when
+		sseConnectionPool.onCompletionCallback(connection);
+
+		// then
+		assertThat(sseConnectionPool.getSession("1")).isNull();
+		assertThat(sseConnectionPool.getConnectionCount()).isZero();
+		assertThat(sseConnectionPool.getOpenedCount()).isEqualTo(1);
+		assertThat(sseConnectionPool.getClosedCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("같은 회원이 재연결한 뒤 이전 연결이 완료되면 새 연결은 유지된다.")
+	void keepReconnectedSession() {
+		// given
+		SseMemberConnection previous = connection("1");
+		SseMemberConnection reconnected = connection("1");
+		sseConnectionPool.addSession("1", previous);
+		sseConnectionPool.addSession("1", reconnected);
+
+		// when
+		sseConnectionPool.onCompletionCallback(previous);
+
+		// then
+		assertThat(sseConnectionPool.getSession("1")).isSameAs(reconnected);
+		assertThat(sseConnectionPool.getConnectionCount()).isEqualTo(1);
+		assertThat(sseConnectionPool.getOpenedCount()).isEqualTo(2);
+		assertThat(sseConnectionPool.getClosedCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("완료 콜백이 중복 호출되어도 종료 건수는 한 번만 증가한다.")
+	void countCompletionOnce() {
+		// given
+		SseMemberConnection connection = connection("1");
+		sseConnectionPool.addSession("1", connection);
+
+		// when
+		sseConnectionPool.onCompletionCallback(connection);
+		sseConnectionPool.onCompletionCallback(connection);
+
+		// then
+		assertThat(sseConnectionPool.getClosedCount()).isEqualTo(1);
+	}
+
+	private SseMemberConnection connection(String uniqueKey) {
+		SseMemberConnection connection = mock(SseMemberConnection.class);
+		given(connection.getUniqueKey()).willReturn(uniqueKey);
+		return connection;
+	}
+
+}
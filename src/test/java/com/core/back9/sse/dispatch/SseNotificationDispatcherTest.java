@@ -0,0 +1,138 @@
+package com.core.back9.sse.dispatch;
+
+import com.core.back9.sse.connection.SseConnectionPoolImpl;
+import com.core.back9.sse.connection.model.SseMemberConnection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+
+@ExtendWith(MockitoExtension.class)
+class SseNotificationDispatcherTest {
+
+	@Mock
+	private SseConnectionPoolImpl sseConnectionPool;
+
+	@Mock
+	private SseMemberConnection connection;
+
+	@Mock
+	private SseMemberConnection reconnected;
+
+	private SimpleMeterRegistry meterRegistry;
+	private SseNotificationDispatcher dispatcher;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		dispatcher = new SseNotificationDispatcher(
+		  sseConnectionPool, meterRegistry, 100, 10, Duration.ofMillis(20), 2, Duration.ofMillis(50));
+	}
+
+	@AfterEach
+	void tearDown() {
+		dispatcher.stop();
+	}
+
+	@Test
+	@DisplayName("커밋된 알림은 대상 회원별로 대기열에 추가되어 전송된다.")
+	void dispatchToEachMember() {
+		// given
+		dispatcher.start();
+		given(sseConnectionPool.getSession("1")).willReturn(connection);
+		given(sseConnectionPool.getSession("2")).willReturn(connection);
+		given(connection.sendMessage("민원 접수")).willReturn(true);
+
+		// when
+		dispatcher.enqueue(SseNotificationEvent.of(List.of(1L, 2L), "민원 접수"));
+
+		// then
+		then(connection).should(timeout(1000).times(2)).sendMessage("민원 접수");
+		assertThat(dispatcher.getQueueSize()).isZero();
+	}
+
+	@Test
+	@DisplayName("첫 전송 시 연결이 없는 회원의 알림은 재시도 없이 바로 버린다.")
+	void dropWhenOffline() {
+		// given
+		dispatcher.start();
+		given(sseConnectionPool.getSession("1")).willReturn(null);
+
+		// when
+		dispatcher.enqueue(SseNotificationEvent.of(List.of(1L), "민원 접수"));
+
+		// then
+		then(sseConnectionPool).should(after(300).times(1)).getSession("1");
+		assertThat(meterRegistry.get("sse.dispatch").tag("result", "offline").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("sse.dispatch").tag("result", "retried").counter().count()).isZero();
+	}
+
+	@Test
+	@DisplayName("전송에 실패한 알림은 최대 시도 횟수까지 재시도 후 버린다.")
+	void retryUntilMaxAttempts() {
+		// given
+		dispatcher.start();
+		given(sseConnectionPool.getSession("1")).willReturn(connection);
+		given(connection.sendMessage("민원 접수")).willReturn(false);
+
+		// when
+		dispatcher.enqueue(SseNotificationEvent.of(List.of(1L), "민원 접수"));
+
+		// then
+		then(connection).should(after(500).times(2)).sendMessage("민원 접수");
+		assertThat(meterRegistry.get("sse.dispatch").tag("result", "retried").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("sse.dispatch").tag("result", "dropped").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("일시적으로 전송에 실패한 알림은 재시도로 전송된다.")
+	void deliverOnRetry() {
+		// given
+		dispatcher.start();
+		given(sseConnectionPool.getSession("1")).willReturn(connection);
+		given(connection.sendMessage("민원 접수")).willReturn(false, true);
+
+		// when
+		dispatcher.enqueue(SseNotificationEvent.of(List.of(1L), "민원 접수"));
+
+		// then
+		then(connection).should(timeout(1000).times(2)).sendMessage("민원 접수");
+		assertThat(meterRegistry.get("sse.dispatch").tag("result", "sent").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("전송 실패로 연결이 종료된 회원이 재시도 전에 다시 접속하면 새 연결로 전송된다.")
+	void deliverToReconnectedSession() {
+		// given
+		dispatcher = new SseNotificationDispatcher(
+		  sseConnectionPool, meterRegistry, 100, 10, Duration.ofMillis(20), 3, Duration.ofMillis(50));
+		dispatcher.start();
+		given(sseConnectionPool.getSession("1")).willReturn(connection, null, reconnected); // 실패 후 연결 제거 -> 재접속
+		given(connection.sendMessage("민원 접수")).willReturn(false);
+		given(reconnected.sendMessage("민원 접수")).willReturn(true);
+
+		// when
+		dispatcher.enqueue(SseNotificationEvent.of(List.of(1L), "민원 접수"));
+
+		// then
+		then(reconnected).should(timeout(1000)).sendMessage("민원 접수");
+		assertThat(meterRegistry.get("sse.dispatch").tag("result", "sent").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("sse.dispatch").tag("result", "retried").counter().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("sse.dispatch").tag("result", "offline").counter().count()).isZero();
+		assertThat(meterRegistry.get("sse.dispatch").tag("result", "dropped").counter().count()).isZero();
+	}
+
+}
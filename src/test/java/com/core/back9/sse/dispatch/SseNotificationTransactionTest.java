@@ -0,0 +1,177 @@
+package com.core.back9.sse.dispatch;
+
+import com.core.back9.dto.ComplaintDTO;
+import com.core.back9.dto.MemberDTO;
+import com.core.back9.entity.Building;
+import com.core.back9.entity.Member;
+import com.core.back9.entity.Room;
+import com.core.back9.entity.Setting;
+import com.core.back9.entity.constant.AlarmType;
+import com.core.back9.entity.constant.Role;
+import com.core.back9.entity.constant.Status;
+import com.core.back9.entity.constant.Usage;
+import com.core.back9.repository.BuildingRepository;
+import com.core.back9.repository.MemberRepository;
+import com.core.back9.repository.RoomRepository;
+import com.core.back9.service.ComplaintMetricService;
+import com.core.back9.service.ComplaintService;
+import com.core.back9.sse.connection.SseConnectionPoolImpl;
+import com.core.back9.sse.connection.model.SseMemberConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+
+/*
+ * 민원 등록 트랜잭션의 커밋 / 롤백에 따라 SSE 알림이 전송되는지 확인
+ * 커밋 이후에만 대기열에 추가되는지 확인하기 위해 테스트 트랜잭션(롤백) 없이 실행
+ * 민원 집계는 알림 전송과 무관하므로 Mock으로 대체
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+class SseNotificationTransactionTest {
+
+	private static final String MESSAGE = AlarmType.COMPLAINT_PENDING.getDescription();
+
+	@MockBean
+	private SseConnectionPoolImpl sseConnectionPool;
+
+	@MockBean
+	private ComplaintMetricService complaintMetricService;
+
+	@Autowired
+	private ComplaintService complaintService;
+
+	@Autowired
+	private SseNotificationDispatcher sseNotificationDispatcher;
+
+	@Autowired
+	private MemberRepository memberRepository;
+
+	@Autowired
+	private BuildingRepository buildingRepository;
+
+	@Autowired
+	private RoomRepository roomRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate transactionTemplate;
+	private SseMemberConnection userConnection;
+	private SseMemberConnection ownerConnection;
+	private MemberDTO.Info user;
+	private Long ownerId;
+	private Long buildingId;
+	private Long roomId;
+
+	@BeforeEach
+	void setUp() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.executeWithoutResult(status -> {
+			Member owner = memberRepository.save(member("owner@test.com", Role.OWNER));
+			Member tenant = memberRepository.save(member("user@test.com", Role.USER));
+			Building building = buildingRepository.save(Building.builder()
+			  .name("building name")
+			  .address("building address")
+			  .zipCode("12345")
+			  .build());
+			Room room = roomRepository.save(Room.builder()
+			  .building(building)
+			  .member(owner)
+			  .name("101호")
+			  .floor("1")
+			  .area(84F)
+			  .usage(Usage.OFFICES)
+			  .setting(Setting.builder().build())
+			  .build());
+			building.addRoom(room);
+			user = MemberDTO.Info.builder().id(tenant.getId()).role(Role.USER).build();
+			ownerId = owner.getId();
+			buildingId = building.getId();
+			roomId = room.getId();
+		});
+
+		userConnection = mock(SseMemberConnection.class);
+		ownerConnection = mock(SseMemberConnection.class);
+		given(sseConnectionPool.getSession(user.getId().toString())).willReturn(userConnection);
+		given(sseConnectionPool.getSession(ownerId.toString())).willReturn(ownerConnection);
+		given(userConnection.sendMessage(anyString())).willReturn(true);
+		given(ownerConnection.sendMessage(anyString())).willReturn(true);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM complaints WHERE room_id = ?", roomId);
+		jdbcTemplate.update("DELETE FROM alarms WHERE received_id IN (?, ?)", user.getId(), ownerId);
+		transactionTemplate.executeWithoutResult(status -> buildingRepository.deleteById(buildingId)); // 호실, 설정까지 함께 삭제
+		jdbcTemplate.update("DELETE FROM members WHERE id IN (?, ?)", user.getId(), ownerId);
+	}
+
+	@Test
+	@DisplayName("민원 등록이 커밋되면 입주자와 소유자에게 알림이 한 번씩 전송된다.")
+	void sendOnceAfterCommit() {
+		// given
+		ComplaintDTO.RegisterRequest request = ComplaintDTO.RegisterRequest.builder()
+		  .roomId(roomId)
+		  .complaintMessage("누수가 있습니다.")
+		  .build();
+
+		// when
+		complaintService.create(user, request);
+
+		// then
+		then(userConnection).should(after(500).times(1)).sendMessage(MESSAGE);
+		then(ownerConnection).should(after(0).times(1)).sendMessage(MESSAGE);
+		assertThat(sseNotificationDispatcher.getQueueSize()).isZero();
+	}
+
+	@Test
+	@DisplayName("민원 등록 트랜잭션이 롤백되면 알림을 대기열에 추가하지 않는다.")
+	void skipWhenRolledBack() {
+		// given
+		ComplaintDTO.RegisterRequest request = ComplaintDTO.RegisterRequest.builder()
+		  .roomId(roomId)
+		  .complaintMessage("누수가 있습니다.")
+		  .build();
+
+		// when
+		transactionTemplate.executeWithoutResult(status -> {
+			complaintService.create(user, request);
+			status.setRollbackOnly();
+		});
+
+		// then
+		assertThat(sseNotificationDispatcher.getQueueSize()).isZero();
+		then(userConnection).should(after(500).never()).sendMessage(anyString());
+		then(ownerConnection).should(after(0).never()).sendMessage(anyString());
+	}
+
+	private Member member(String email, Role role) {
+		return Member.builder()
+		  .email(email)
+		  .password("password")
+		  .role(role)
+		  .phoneNumber("010-0000-0000")
+		  .status(Status.REGISTER)
+		  .build();
+	}
+
+}
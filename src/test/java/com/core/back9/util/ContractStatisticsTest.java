@@ -0,0 +1,148 @@
+package com.core.back9.util;
+
+import com.core.back9.entity.Contract;
+import com.core.back9.entity.Room;
+import com.core.back9.entity.constant.ContractType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContractStatisticsTest {
+
+	private static final LocalDate START_DATE = LocalDate.of(2023, 1, 1);
+	private static final LocalDate LAST_DATE = LocalDate.of(2023, 12, 31);
+
+	@Test
+	@DisplayName("계약이 없으면 재계약률은 0%, 호실 공실률은 100%, 호실별 평균은 0%이다.")
+	void noContracts() {
+		// given
+		List<Contract> contracts = List.of();
+
+		// when
+		double renewalRate = ContractStatistics.renewalRate(ContractStatistics.countPerType(contracts), 0L);
+		double averageRenewalRate = ContractStatistics.averageRenewalRate(contracts, 0L);
+		double vacancyRate = ContractStatistics.vacancyRate(contracts, START_DATE, LAST_DATE);
+		double averageVacancyRate = ContractStatistics.averageVacancyRate(contracts, START_DATE, LAST_DATE);
+
+		// then
+		assertThat(renewalRate).isEqualTo(0.0);
+		assertThat(averageRenewalRate).isEqualTo(0.0);
+		assertThat(vacancyRate).isEqualTo(100.0);
+		assertThat(averageVacancyRate).isEqualTo(0.0);
+	}
+
+	@Test
+	@DisplayName("최초 계약만 있으면 재계약 대상이 없으므로 재계약률은 0%이다.")
+	void onlyInitialContract() {
+		// given
+		Room room = Room.builder().name("101호").build();
+		List<Contract> contracts = List.of(expired(room, ContractType.INITIAL, LocalDate.of(2021, 1, 1), LocalDate.of(2021, 12, 31)));
+
+		// when
+		double renewalRate = ContractStatistics.renewalRate(ContractStatistics.countPerType(contracts), 0L);
+
+		// then
+		assertThat(renewalRate).isEqualTo(0.0);
+	}
+
+	@Test
+	@DisplayName("최초 계약 이후 모든 계약이 재계약이면 재계약률은 100%이고, 호실별 평균도 100%이다.")
+	void allRenewed() {
+		// given
+		Room first = Room.builder().name("101호").build();
+		Room second = Room.builder().name("102호").build();
+		List<Contract> contracts = List.of(
+		  expired(first, ContractType.INITIAL, LocalDate.of(2021, 1, 1), LocalDate.of(2021, 12, 31)),
+		  expired(first, ContractType.RENEWAL, LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31)),
+		  inProgress(first, ContractType.RENEWAL, LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31)),
+		  expired(second, ContractType.INITIAL, LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31)),
+		  inProgress(second, ContractType.RENEWAL, LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31))
+		);
+
+		// when
+		double renewalRate = ContractStatistics.renewalRate(ContractStatistics.countPerType(contracts.subList(0, 3)), 0L);
+		double averageRenewalRate = ContractStatistics.averageRenewalRate(contracts, 0L);
+
+		// then
+		assertThat(renewalRate).isEqualTo(100.0);
+		assertThat(averageRenewalRate).isEqualTo(100.0);
+	}
+
+	@Test
+	@DisplayName("이전 계약 퇴실일 다음날 시작한 계약은 하루 간격을 점유로 보정하고, 간격이 있으면 그만큼 공실로 계산한다.")
+	void gapBetweenContracts() {
+		// given
+		Room room = Room.builder().name("101호").build();
+		Contract firstHalf = expired(room, ContractType.INITIAL, START_DATE, LocalDate.of(2023, 6, 30));
+		Contract nextDay = inProgress(room, ContractType.RENEWAL, LocalDate.of(2023, 7, 1), LocalDate.of(2024, 6, 30));
+		Contract afterOneMonth = inProgress(room, ContractType.RENEWAL, LocalDate.of(2023, 8, 1), LocalDate.of(2024, 7, 31));
+
+		// when
+		double contiguous = ContractStatistics.vacancyRate(List.of(nextDay, firstHalf), START_DATE, LAST_DATE);
+		double withGap = ContractStatistics.vacancyRate(List.of(afterOneMonth, firstHalf), START_DATE, LAST_DATE);
+
+		// then
+		assertThat(contiguous).isEqualTo(0.3); // 점유 364일 (퇴실일 당일 제외)
+		assertThat(withGap).isEqualTo(9.0);    // 점유 332일
+	}
+
+	@Test
+	@DisplayName("조회 기간 시작 전에 시작한 계약은 기간 시작일부터의 점유만 계산한다.")
+	void contractStartedBeforePeriod() {
+		// given
+		Room room = Room.builder().name("101호").build();
+		Contract beforeStart = expired(room, ContractType.INITIAL, LocalDate.of(2022, 10, 1), LocalDate.of(2023, 3, 31));
+		Contract current = inProgress(room, ContractType.RENEWAL, LocalDate.of(2023, 4, 1), LocalDate.of(2024, 3, 31));
+		Contract longLast = expired(room, ContractType.INITIAL, LocalDate.of(2022, 1, 1), LocalDate.of(2023, 3, 31));
+
+		// when
+		double withPreviousContract = ContractStatistics.vacancyRate(List.of(beforeStart, current), START_DATE, LAST_DATE);
+		double lastContractOnly = ContractStatistics.vacancyRate(List.of(longLast), START_DATE, LAST_DATE);
+
+		// then
+		assertThat(withPreviousContract).isEqualTo(0.3); // 89일 + 보정 1일 + 274일
+		assertThat(lastContractOnly).isEqualTo(75.6);    // 2023-01-01 ~ 2023-03-31 의 89일만 점유
+	}
+
+	@Test
+	@DisplayName("이행 중인 계약의 점유 기간은 1년을 넘지 않고, 호실별 평균은 계약이 있는 호실만으로 계산한다.")
+	void inProgressContractIsCappedAndAveragedPerRoom() {
+		// given
+		Room fullRoom = Room.builder().name("101호").build();
+		Room halfRoom = Room.builder().name("102호").build();
+		List<Contract> contracts = List.of(
+		  inProgress(fullRoom, ContractType.INITIAL, LocalDate.of(2022, 1, 1), LocalDate.of(2024, 12, 31)),
+		  inProgress(halfRoom, ContractType.INITIAL, LocalDate.of(2023, 7, 1), LocalDate.of(2024, 6, 30))
+		);
+
+		// when
+		double fullRoomVacancyRate = ContractStatistics.vacancyRate(contracts.subList(0, 1), START_DATE, LAST_DATE);
+		double averageVacancyRate = ContractStatistics.averageVacancyRate(contracts, START_DATE, LAST_DATE);
+
+		// then
+		assertThat(fullRoomVacancyRate).isEqualTo(0.0);
+		assertThat(averageVacancyRate).isEqualTo(24.9); // (0% + 49.86%) / 2
+	}
+
+	private Contract inProgress(Room room, ContractType contractType, LocalDate startDate, LocalDate endDate) {
+		return Contract.builder()
+		  .room(room)
+		  .contractType(contractType)
+		  .startDate(startDate)
+		  .endDate(endDate)
+		  .deposit(10_000_000L)
+		  .rentalPrice(500_000L)
+		  .build()
+		  .contractComplete()
+		  .contractInProgress();
+	}
+
+	private Contract expired(Room room, ContractType contractType, LocalDate startDate, LocalDate endDate) {
+		return inProgress(room, contractType, startDate, endDate).contractExpire();
+	}
+
+}